@@ -53,6 +53,8 @@ public class AmplExportConfig {
 
     private boolean exportSorted;
 
+    private boolean parallelExport = false;
+
     public AmplExportConfig(ExportScope exportScope, boolean exportXNodes, ExportActionType actionType) {
         this(exportScope, exportXNodes, actionType, false, false, AmplExportVersion.defaultVersion(), false);
     }
@@ -144,4 +146,18 @@ public class AmplExportConfig {
         return this;
     }
 
+    public boolean isParallelExport() {
+        return parallelExport;
+    }
+
+    /**
+     * Write the independent tables of the network concurrently. The data source and the AMPL columns exporter of the
+     * export version must then support being used from several threads, which is the case for the exporters of this
+     * module.
+     */
+    public AmplExportConfig setParallelExport(boolean parallelExport) {
+        this.parallelExport = parallelExport;
+        return this;
+    }
+
 }
@@ -38,6 +38,7 @@ public class AmplExporter implements Exporter {
     public static final String TWT_SPLIT_SHUNT_ADMITTANCE = "iidm.export.ampl.twt-split-shunt-admittance";
     public static final String EXPORT_VERSION = "iidm.export.ampl.export-version";
     public static final String EXPORT_SORTED = "iidm.export.ampl.export-sorted";
+    public static final String EXPORT_PARALLEL = "iidm.export.ampl.export-parallel";
 
     private static final Parameter EXPORT_SCOPE_PARAMETER = new Parameter(EXPORT_SCOPE, ParameterType.STRING, "Export scope",
             AmplExportConfig.ExportScope.ALL.name(),
@@ -62,9 +63,11 @@ public class AmplExporter implements Exporter {
 
     private static final Parameter EXPORT_SORTED_PARAMETER = new Parameter(EXPORT_SORTED, ParameterType.BOOLEAN, "Export alphabetically sorted by equipment id", Boolean.FALSE);
 
+    private static final Parameter EXPORT_PARALLEL_PARAMETER = new Parameter(EXPORT_PARALLEL, ParameterType.BOOLEAN, "Export the tables concurrently", Boolean.FALSE);
+
     private static final List<Parameter> STATIC_PARAMETERS = List.of(EXPORT_SCOPE_PARAMETER, EXPORT_XNODES_PARAMETER,
         EXPORT_ACTION_TYPE_PARAMETER, EXPORT_RATIOTAPCHANGER_VT_PARAMETER, TWT_SPLIT_SHUNT_ADMITTANCE_PARAMETER,
-        EXPORT_VERSION_PARAMETER, EXPORT_SORTED_PARAMETER);
+        EXPORT_VERSION_PARAMETER, EXPORT_SORTED_PARAMETER, EXPORT_PARALLEL_PARAMETER);
 
     private final ParameterDefaultValueConfig defaultValueConfig;
 
@@ -100,9 +103,11 @@ public class AmplExporter implements Exporter {
             AmplExportVersion exportVersion = AmplExportVersion.fromExporterId(
                 Parameter.readString(getFormat(), parameters, EXPORT_VERSION_PARAMETER, defaultValueConfig));
             boolean exportSorted = Parameter.readBoolean(getFormat(), parameters, EXPORT_SORTED_PARAMETER, defaultValueConfig);
+            boolean exportParallel = Parameter.readBoolean(getFormat(), parameters, EXPORT_PARALLEL_PARAMETER, defaultValueConfig);
 
             AmplExportConfig config = new AmplExportConfig(scope, exportXnodes, actionType,
-                exportRatioTapChangerVoltageTarget, twtSplitShuntAdmittance, exportVersion, exportSorted);
+                exportRatioTapChangerVoltageTarget, twtSplitShuntAdmittance, exportVersion, exportSorted)
+                .setParallelExport(exportParallel);
 
             new AmplNetworkWriter(network, dataSource, config).write();
         } catch (IOException e) {
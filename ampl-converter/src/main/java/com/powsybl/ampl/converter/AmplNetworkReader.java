@@ -19,9 +19,11 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -49,6 +51,8 @@ public class AmplNetworkReader {
 
     private final OutputFileFormat format;
 
+    private final Map<AmplReadableElement, List<String[]>> parsedLines = new ConcurrentHashMap<>();
+
     public AmplNetworkReader(ReadOnlyDataSource dataSource, Network network, int variantIndex,
                              StringToIntMapper<AmplSubset> mapper, AmplNetworkUpdaterFactory networkUpdater,
                              OutputFileFormat format) {
@@ -91,9 +95,35 @@ public class AmplNetworkReader {
         return tokens;
     }
 
-    private void read(String suffix, int expectedTokenCount, Consumer<String[]> handler) throws IOException {
+    /**
+     * Parse concurrently the result files of the given elements. The tokens are kept until the corresponding read
+     * methods are called, so that they only have to update the network, which is done sequentially. A file which
+     * does not exist is not parsed: its read method then reports the error.
+     *
+     * @throws IOException if a result file cannot be read
+     */
+    public AmplNetworkReader parseFiles(Collection<AmplReadableElement> elements) throws IOException {
+        Objects.requireNonNull(elements);
+        List<AmplTasks.Task> tasks = elements.stream()
+                .distinct()
+                .<AmplTasks.Task>map(element -> () -> parseFile(element))
+                .toList();
+        AmplTasks.runAll("ampl-import", tasks);
+        return this;
+    }
+
+    private void parseFile(AmplReadableElement element) throws IOException {
+        if (!dataSource.exists(element.getFileSuffix(), format.getFileExtension())) {
+            return;
+        }
+        List<String[]> lines = new ArrayList<>();
+        readLines(element, lines::add);
+        parsedLines.put(element, lines);
+    }
+
+    private void readLines(AmplReadableElement element, Consumer<String[]> tokensConsumer) throws IOException {
         try (BufferedReader reader = new BufferedReader(new InputStreamReader(
-                dataSource.newInputStream(suffix, format.getFileExtension()), format.getFileEncoding()))) {
+                dataSource.newInputStream(element.getFileSuffix(), format.getFileExtension()), format.getFileEncoding()))) {
             String line;
             while ((line = reader.readLine()) != null) {
                 String trimedLine = line.trim();
@@ -103,16 +133,27 @@ public class AmplNetworkReader {
                     continue;
                 }
 
-                String[] tokens = trimedLine.split(format.getTokenSeparator());
-                if (tokens.length != expectedTokenCount) {
-                    throw createWrongNumberOfColumnException(expectedTokenCount, tokens.length);
-                }
+                tokensConsumer.accept(trimedLine.split(format.getTokenSeparator()));
+            }
+        }
+    }
 
-                //check if it is the right network
-                if (variantIndex == Integer.parseInt(tokens[0])) {
-                    handler.accept(tokens);
-                }
+    private void read(AmplReadableElement element, int expectedTokenCount, Consumer<String[]> handler) throws IOException {
+        Consumer<String[]> tokensHandler = tokens -> {
+            if (tokens.length != expectedTokenCount) {
+                throw createWrongNumberOfColumnException(expectedTokenCount, tokens.length);
+            }
+
+            //check if it is the right network
+            if (variantIndex == Integer.parseInt(tokens[0])) {
+                handler.accept(tokens);
             }
+        };
+        List<String[]> lines = parsedLines.remove(element);
+        if (lines != null) {
+            lines.forEach(tokensHandler);
+        } else {
+            readLines(element, tokensHandler);
         }
     }
 
@@ -123,7 +164,7 @@ public class AmplNetworkReader {
             g.setTargetV(g.getTerminal().getVoltageLevel().getNominalV());
         }
 
-        read("_generators", 9, this::readGenerator);
+        read(AmplReadableElement.GENERATOR, 9, this::readGenerator);
 
         return this;
     }
@@ -146,7 +187,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readBatteries() throws IOException {
-        read("_batteries", 7, this::readBattery);
+        read(AmplReadableElement.BATTERY, 7, this::readBattery);
 
         return this;
     }
@@ -168,7 +209,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readLoads() throws IOException {
-        read("_loads", 7, this::readLoad);
+        read(AmplReadableElement.LOAD, 7, this::readLoad);
 
         return this;
     }
@@ -186,7 +227,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readRatioTapChangers() throws IOException {
-        read("_rtc", 3, this::readRatioTapChanger);
+        read(AmplReadableElement.RATIO_TAP_CHANGER, 3, this::readRatioTapChanger);
 
         return this;
     }
@@ -199,7 +240,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readPhaseTapChangers() throws IOException {
-        read("_ptc", 3, this::readPhaseTapChanger);
+        read(AmplReadableElement.PHASE_TAP_CHANGER, 3, this::readPhaseTapChanger);
 
         return this;
     }
@@ -212,7 +253,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readShunts() throws IOException {
-        read("_shunts", 6, this::readShunt);
+        read(AmplReadableElement.SHUNT, 6, this::readShunt);
 
         return this;
     }
@@ -233,7 +274,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readBuses() throws IOException {
-        read("_buses", 4, this::readBus);
+        read(AmplReadableElement.BUS, 4, this::readBus);
 
         return this;
     }
@@ -252,7 +293,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readBranches() throws IOException {
-        read("_branches", 8, this::readBranch);
+        read(AmplReadableElement.BRANCH, 8, this::readBranch);
 
         return this;
     }
@@ -272,7 +313,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readHvdcLines() throws IOException {
-        read("_hvdc", 4, this::readHvdcLine);
+        read(AmplReadableElement.HVDCLINE, 4, this::readHvdcLine);
 
         return this;
     }
@@ -291,7 +332,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readStaticVarcompensator() throws IOException {
-        read("_static_var_compensators", 6, this::readSvc);
+        read(AmplReadableElement.STATIC_VAR_COMPENSATOR, 6, this::readSvc);
 
         return this;
     }
@@ -312,7 +353,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readLccConverterStations() throws IOException {
-        read("_lcc_converter_stations", 5, this::readLcc);
+        read(AmplReadableElement.LCC_CONVERTER_STATION, 5, this::readLcc);
 
         return this;
     }
@@ -332,7 +373,7 @@ public class AmplNetworkReader {
     }
 
     public AmplNetworkReader readVscConverterStations() throws IOException {
-        read("_vsc_converter_stations", 8, this::readVsc);
+        read(AmplReadableElement.VSC_CONVERTER_STATION, 8, this::readVsc);
 
         return this;
     }
@@ -54,6 +54,12 @@ public class AmplNetworkWriter {
 
     private final AmplColumnsExporter columnsExporter;
 
+    @FunctionalInterface
+    private interface TableWriter {
+
+        void write(Map<String, List<AmplExtension>> extensions) throws IOException;
+    }
+
     private static final class AmplExportContext {
 
         private int otherCcNum = Integer.MAX_VALUE;
@@ -166,7 +172,7 @@ public class AmplNetworkWriter {
         return getTableTitle(network, tableName);
     }
 
-    private void writeSubstations() throws IOException {
+    private void writeSubstations(Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_substations", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -177,24 +183,24 @@ public class AmplNetworkWriter {
                  columnsExporter.getSubstationsColumns())) {
             for (VoltageLevel vl : getSortedIdentifiables(network.getVoltageLevelStream())) {
                 columnsExporter.writeVoltageLevelToFormatter(formatter, vl);
-                addExtensions(mapper.getInt(AmplSubset.VOLTAGE_LEVEL, vl.getId()), vl);
+                addExtensions(extensions, mapper.getInt(AmplSubset.VOLTAGE_LEVEL, vl.getId()), vl);
             }
             // voltage level associated to 3 windings transformers middle bus
             for (ThreeWindingsTransformer twt : getSortedIdentifiables(network.getThreeWindingsTransformerStream())) {
                 columnsExporter.writeThreeWindingsTransformerVoltageLevelToFormatter(formatter, twt);
-                addExtensions(mapper.getInt(AmplSubset.VOLTAGE_LEVEL,
+                addExtensions(extensions, mapper.getInt(AmplSubset.VOLTAGE_LEVEL,
                     AmplUtil.getThreeWindingsTransformerMiddleVoltageLevelId(twt)), twt);
             }
             // voltage level associated to boundary lines middle bus
             for (BoundaryLine dl : getSortedIdentifiables(network.getBoundaryLineStream(BoundaryLineFilter.UNPAIRED))) {
                 columnsExporter.writeBoundaryLineVoltageLevelToFormatter(formatter, dl);
-                addExtensions(mapper.getInt(AmplSubset.VOLTAGE_LEVEL, AmplUtil.getBoundaryLineMiddleVoltageLevelId(dl)),
+                addExtensions(extensions, mapper.getInt(AmplSubset.VOLTAGE_LEVEL, AmplUtil.getBoundaryLineMiddleVoltageLevelId(dl)),
                     dl);
             }
             if (config.isExportXNodes()) {
                 for (TieLine tieLine : getSortedIdentifiables(network.getTieLineStream())) {
                     columnsExporter.writeTieLineVoltageLevelToFormatter(formatter, tieLine);
-                    addExtensions(mapper.getInt(AmplSubset.VOLTAGE_LEVEL, AmplUtil.getXnodeVoltageLevelId(tieLine)),
+                    addExtensions(extensions, mapper.getInt(AmplSubset.VOLTAGE_LEVEL, AmplUtil.getXnodeVoltageLevelId(tieLine)),
                         tieLine);
                 }
             }
@@ -213,7 +219,7 @@ public class AmplNetworkWriter {
         return !(isOnlyMainCc() && numCC != ComponentConstants.MAIN_NUM);
     }
 
-    private void writeBuses(AmplExportContext context) throws IOException {
+    private void writeBuses(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_buses", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -223,7 +229,7 @@ public class AmplNetworkWriter {
                  AmplConstants.LOCALE,
                  columnsExporter.getBusesColumns())) {
 
-            writeBuses(context, formatter);
+            writeBuses(context, formatter, extensions);
 
             writeThreeWindingsTransformerMiddleBuses(context, formatter);
 
@@ -235,28 +241,27 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBuses(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeBuses(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (Bus b : AmplUtil.getBuses(network)) {
             int ccNum = ConnectedComponents.getCcNum(b);
             if (connectedComponentToExport(ccNum)) {
                 context.busIdsToExport.add(b.getId());
                 columnsExporter.writeBusesColumnsToFormatter(formatter, b);
-                addExtensions(mapper.getInt(AmplSubset.BUS, b.getId()), b);
+                addExtensions(extensions, mapper.getInt(AmplSubset.BUS, b.getId()), b);
             }
         }
     }
 
-    private <E> void addExtensions(int extendedNum, Extendable<E> extendable) {
+    private static <E> void addExtensions(Map<String, List<AmplExtension>> extensions, int extendedNum, Extendable<E> extendable) {
         for (Extension<E> ext : extendable.getExtensions()) {
-            List<AmplExtension> extList = extensionMap.computeIfAbsent(ext.getName(), k -> new ArrayList<>());
-            extList.add(new AmplExtension(extendedNum, extendable, ext));
-            extensionMap.put(ext.getName(), extList);
+            extensions.computeIfAbsent(ext.getName(), k -> new ArrayList<>())
+                .add(new AmplExtension(extendedNum, extendable, ext));
         }
     }
 
     private void addNetworkExtensions() {
         int networkNum = mapper.getInt(AmplSubset.NETWORK, network.getId());
-        addExtensions(networkNum, network);
+        addExtensions(extensionMap, networkNum, network);
     }
 
     private void exportExtensions() throws IOException {
@@ -301,7 +306,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBranches(AmplExportContext context) throws IOException {
+    private void writeBranches(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_branches", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -312,25 +317,25 @@ public class AmplNetworkWriter {
                  columnsExporter.getBranchesColumns()
              )) {
 
-            writeLines(context, formatter);
+            writeLines(context, formatter, extensions);
 
-            writeTieLines(context, formatter);
+            writeTieLines(context, formatter, extensions);
 
-            writeTwoWindingsTransformers(context, formatter);
+            writeTwoWindingsTransformers(context, formatter, extensions);
 
-            writeThreeWindingsTransformers(context, formatter);
+            writeThreeWindingsTransformers(context, formatter, extensions);
 
-            writeBoundaryLines(context, formatter);
+            writeBoundaryLines(context, formatter, extensions);
         }
     }
 
-    private void writeLines(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeLines(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (Line l : getSortedIdentifiables(network.getLineStream())) {
             Terminal t1 = l.getTerminal1();
             Terminal t2 = l.getTerminal2();
             if (addVoltageLevelIdsToExport(context, t1, t2, l.getId())) {
                 columnsExporter.writeLinesToFormatter(formatter, l);
-                addExtensions(mapper.getInt(AmplSubset.BRANCH, l.getId()), l);
+                addExtensions(extensions, mapper.getInt(AmplSubset.BRANCH, l.getId()), l);
             }
         }
     }
@@ -352,18 +357,18 @@ public class AmplNetworkWriter {
         return true;
     }
 
-    private void writeTieLines(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeTieLines(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (TieLine l : getSortedIdentifiables(network.getTieLineStream())) {
             Terminal t1 = l.getBoundaryLine1().getTerminal();
             Terminal t2 = l.getBoundaryLine2().getTerminal();
             if (addVoltageLevelIdsToExport(context, t1, t2, l.getId())) {
                 columnsExporter.writeTieLineToFormatter(formatter, l);
-                addExtensions(mapper.getInt(AmplSubset.BRANCH, l.getId()), l);
+                addExtensions(extensions, mapper.getInt(AmplSubset.BRANCH, l.getId()), l);
             }
         }
     }
 
-    private void writeTwoWindingsTransformers(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeTwoWindingsTransformers(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (TwoWindingsTransformer twt : getSortedIdentifiables(network.getTwoWindingsTransformerStream())) {
             Terminal t1 = twt.getTerminal1();
             Terminal t2 = twt.getTerminal2();
@@ -375,12 +380,12 @@ public class AmplNetworkWriter {
                 context.voltageLevelIdsToExport.add(t1.getVoltageLevel().getId());
                 context.voltageLevelIdsToExport.add(t2.getVoltageLevel().getId());
                 columnsExporter.writeTwoWindingsTranformerToFormatter(formatter, twt);
-                addExtensions(mapper.getInt(AmplSubset.BRANCH, twt.getId()), twt);
+                addExtensions(extensions, mapper.getInt(AmplSubset.BRANCH, twt.getId()), twt);
             }
         }
     }
 
-    private void writeThreeWindingsTransformers(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeThreeWindingsTransformers(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (ThreeWindingsTransformer twt : getSortedIdentifiables(network.getThreeWindingsTransformerStream())) {
             Terminal t1 = twt.getLeg1().getTerminal();
             Terminal t2 = twt.getLeg2().getTerminal();
@@ -413,22 +418,22 @@ public class AmplNetworkWriter {
             if (!isOnlyMainCc() || isBusExported(context, middleBusId) || isBusExported(context, bus1Id)) {
                 columnsExporter.writeThreeWindingsTransformerLegToFormatter(formatter, twt, middleBusNum, middleVlNum,
                     ThreeSides.ONE);
-                addExtensions(num1, twt);
+                addExtensions(extensions, num1, twt);
             }
             if (!isOnlyMainCc() || isBusExported(context, middleBusId) || isBusExported(context, bus2Id)) {
                 columnsExporter.writeThreeWindingsTransformerLegToFormatter(formatter, twt, middleBusNum, middleVlNum,
                     ThreeSides.TWO);
-                addExtensions(num2, twt);
+                addExtensions(extensions, num2, twt);
             }
             if (!isOnlyMainCc() || isBusExported(context, middleBusId) || isBusExported(context, bus3Id)) {
                 columnsExporter.writeThreeWindingsTransformerLegToFormatter(formatter, twt, middleBusNum, middleVlNum,
                     ThreeSides.THREE);
-                addExtensions(num3, twt);
+                addExtensions(extensions, num3, twt);
             }
         }
     }
 
-    private void writeBoundaryLines(AmplExportContext context, TableFormatter formatter) throws IOException {
+    private void writeBoundaryLines(AmplExportContext context, TableFormatter formatter, Map<String, List<AmplExtension>> extensions) throws IOException {
         for (BoundaryLine dl : getSortedIdentifiables(network.getBoundaryLineStream(BoundaryLineFilter.UNPAIRED))) {
             Terminal t = dl.getTerminal();
             Bus bus1 = AmplUtil.getBus(t);
@@ -440,7 +445,7 @@ public class AmplNetworkWriter {
                 context.voltageLevelIdsToExport.add(vl.getId());
                 context.voltageLevelIdsToExport.add(middleVlId);
                 columnsExporter.writeBoundaryLineToFormatter(formatter, dl);
-                addExtensions(mapper.getInt(AmplSubset.BRANCH, dl.getId()), dl);
+                addExtensions(extensions, mapper.getInt(AmplSubset.BRANCH, dl.getId()), dl);
             }
         }
     }
@@ -506,7 +511,7 @@ public class AmplNetworkWriter {
         };
     }
 
-    private void writeLoads(AmplExportContext context) throws IOException {
+    private void writeLoads(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_loads", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -528,7 +533,7 @@ public class AmplNetworkWriter {
                 } else {
                     context.loadsToExport.add(l.getId());
                     columnsExporter.writeLoadtoFormatter(formatter, l);
-                    addExtensions(mapper.getInt(AmplSubset.LOAD, l.getId()), l);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.LOAD, l.getId()), l);
                 }
             }
             for (BoundaryLine dl : getSortedIdentifiables(network.getBoundaryLineStream(BoundaryLineFilter.UNPAIRED))) {
@@ -554,7 +559,7 @@ public class AmplNetworkWriter {
         };
     }
 
-    private void writeShunts(AmplExportContext context) throws IOException {
+    private void writeShunts(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_shunts", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -581,7 +586,7 @@ public class AmplNetworkWriter {
                     skipped.add(sc.getId());
                 } else {
                     columnsExporter.writeShuntCompensatorToFormatter(formatter, sc);
-                    addExtensions(mapper.getInt(AmplSubset.SHUNT, sc.getId()), sc);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.SHUNT, sc.getId()), sc);
                 }
             }
             if (!skipped.isEmpty()) {
@@ -590,7 +595,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeStaticVarCompensators() throws IOException {
+    private void writeStaticVarCompensators(Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(
             dataSource.newOutputStream("_network_static_var_compensators", "txt", append), StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -602,7 +607,7 @@ public class AmplNetworkWriter {
             List<String> skipped = new ArrayList<>();
             for (StaticVarCompensator svc : getSortedIdentifiables(network.getStaticVarCompensatorStream())) {
                 columnsExporter.writeStaticVarCompensatorToFormatter(formatter, svc);
-                addExtensions(mapper.getInt(AmplSubset.STATIC_VAR_COMPENSATOR, svc.getId()), svc);
+                addExtensions(extensions, mapper.getInt(AmplSubset.STATIC_VAR_COMPENSATOR, svc.getId()), svc);
             }
             if (!skipped.isEmpty()) {
                 LOGGER.trace("Skip static VAR compensators {} because not connected and not connectable", skipped);
@@ -610,7 +615,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeGenerators(AmplExportContext context) throws IOException {
+    private void writeGenerators(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_generators", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -638,7 +643,7 @@ public class AmplNetworkWriter {
                 } else {
                     context.generatorIdsToExport.add(g.getId());
                     columnsExporter.writeGeneratorToFormatter(formatter, g);
-                    addExtensions(mapper.getInt(AmplSubset.GENERATOR, g.getId()), g);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.GENERATOR, g.getId()), g);
                 }
             }
             if (!skipped.isEmpty()) {
@@ -647,7 +652,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeBatteries(AmplExportContext context) throws IOException {
+    private void writeBatteries(AmplExportContext context, Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_batteries", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -670,7 +675,7 @@ public class AmplNetworkWriter {
                 } else {
                     context.batteryIdsToExport.add(b.getId());
                     columnsExporter.writeBatteryToFormatter(formatter, b);
-                    addExtensions(mapper.getInt(AmplSubset.BATTERY, b.getId()), b);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.BATTERY, b.getId()), b);
                 }
             }
             if (!skipped.isEmpty()) {
@@ -693,7 +698,7 @@ public class AmplNetworkWriter {
         }
     }
 
-    private void writeHvdcLines() throws IOException {
+    private void writeHvdcLines(Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(dataSource.newOutputStream("_network_hvdc", "txt", append),
             StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -704,12 +709,12 @@ public class AmplNetworkWriter {
                  columnsExporter.getHvdcLinesColumns())) {
             for (HvdcLine hvdcLine : getSortedIdentifiables(network.getHvdcLineStream())) {
                 columnsExporter.writeHvdcToFormatter(formatter, hvdcLine);
-                addExtensions(mapper.getInt(AmplSubset.HVDC_LINE, hvdcLine.getId()), hvdcLine);
+                addExtensions(extensions, mapper.getInt(AmplSubset.HVDC_LINE, hvdcLine.getId()), hvdcLine);
             }
         }
     }
 
-    private void writeLccConverterStations() throws IOException {
+    private void writeLccConverterStations(Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(
             dataSource.newOutputStream("_network_lcc_converter_stations", "txt", append), StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -723,13 +728,13 @@ public class AmplNetworkWriter {
                 if (hvdcStation.getHvdcType().equals(HvdcType.LCC)) {
                     LccConverterStation lccStation = (LccConverterStation) hvdcStation;
                     columnsExporter.writeLccConverterStationToFormatter(formatter, lccStation);
-                    addExtensions(mapper.getInt(AmplSubset.LCC_CONVERTER_STATION, lccStation.getId()), lccStation);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.LCC_CONVERTER_STATION, lccStation.getId()), lccStation);
                 }
             }
         }
     }
 
-    private void writeVscConverterStations() throws IOException {
+    private void writeVscConverterStations(Map<String, List<AmplExtension>> extensions) throws IOException {
         try (Writer writer = new OutputStreamWriter(
             dataSource.newOutputStream("_network_vsc_converter_stations", "txt", append), StandardCharsets.UTF_8);
              TableFormatter formatter = new AmplDatTableFormatter(writer,
@@ -743,7 +748,7 @@ public class AmplNetworkWriter {
                 if (hvdcStation.getHvdcType().equals(HvdcType.VSC)) {
                     VscConverterStation vscStation = (VscConverterStation) hvdcStation;
                     columnsExporter.writeVscConverterStationToFormatter(formatter, vscStation);
-                    addExtensions(mapper.getInt(AmplSubset.VSC_CONVERTER_STATION, vscStation.getId()), vscStation);
+                    addExtensions(extensions, mapper.getInt(AmplSubset.VSC_CONVERTER_STATION, vscStation.getId()), vscStation);
 
                 }
             }
@@ -756,27 +761,67 @@ public class AmplNetworkWriter {
 
     public void write(AmplExportContext context) throws IOException {
         extensionMap.clear();
-        writeBuses(context);
-        writeTapChangerTable();
-        writeRatioTapChangers();
-        writePhaseTapChangers();
-        writeBranches(context);
-        writeCurrentLimits();
-        writeGenerators(context);
-        writeBatteries(context);
-        writeLoads(context);
-        writeShunts(context);
-        writeStaticVarCompensators();
-        writeSubstations();
-        writeVscConverterStations();
-        writeLccConverterStations();
-        writeHvdcLines();
-        writeHeaders();
+        // buses are written first as the other tables only export the elements connected to an exported bus
+        writeBuses(context, extensionMap);
+        List<TableWriter> tableWriters = List.of(
+            extensions -> writeTapChangerTable(),
+            extensions -> writeRatioTapChangers(),
+            extensions -> writePhaseTapChangers(),
+            extensions -> writeBranches(context, extensions),
+            extensions -> writeCurrentLimits(),
+            extensions -> writeGenerators(context, extensions),
+            extensions -> writeBatteries(context, extensions),
+            extensions -> writeLoads(context, extensions),
+            extensions -> writeShunts(context, extensions),
+            this::writeStaticVarCompensators,
+            this::writeSubstations,
+            this::writeVscConverterStations,
+            this::writeLccConverterStations,
+            this::writeHvdcLines,
+            extensions -> writeHeaders());
+        if (config.isParallelExport()) {
+            writeTablesInParallel(tableWriters);
+        } else {
+            for (TableWriter tableWriter : tableWriters) {
+                tableWriter.write(extensionMap);
+            }
+        }
 
         addNetworkExtensions();
         exportExtensions();
     }
 
+    /**
+     * Write each table in its own task. The tables only read the network and the buses to export, and each of them
+     * writes to its own file and to its own subset of the context, so they do not interfere. Extensions are collected
+     * per table and merged in the order of the sequential export, so that the extension files are identical.
+     */
+    private void writeTablesInParallel(List<TableWriter> tableWriters) throws IOException {
+        // bus views and components are computed lazily: compute them before the tasks read them concurrently
+        for (Bus bus : AmplUtil.getBuses(network)) {
+            bus.getConnectedComponent();
+            bus.getSynchronousComponent();
+        }
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        List<Map<String, List<AmplExtension>>> tableExtensions = new ArrayList<>(tableWriters.size());
+        List<AmplTasks.Task> tasks = new ArrayList<>(tableWriters.size());
+        for (TableWriter tableWriter : tableWriters) {
+            Map<String, List<AmplExtension>> extensions = new HashMap<>();
+            tableExtensions.add(extensions);
+            tasks.add(() -> {
+                if (variantManager.isVariantMultiThreadAccessAllowed()) {
+                    variantManager.setWorkingVariant(variantId);
+                }
+                tableWriter.write(extensions);
+            });
+        }
+        AmplTasks.runAll("ampl-export", tasks);
+        for (Map<String, List<AmplExtension>> extensions : tableExtensions) {
+            extensions.forEach((name, list) -> extensionMap.computeIfAbsent(name, k -> new ArrayList<>()).addAll(list));
+        }
+    }
+
     private void writeHeaders() throws IOException {
         try (Writer writer = new OutputStreamWriter(
             dataSource.newOutputStream("_headers", "txt", append), StandardCharsets.UTF_8)
@@ -10,29 +10,37 @@ package com.powsybl.ampl.converter;
 import java.io.IOException;
 
 /**
- * This enum maps elements to their reading function in {@link AmplNetworkReader}
+ * This enum maps elements to their result file suffix and their reading function in {@link AmplNetworkReader}
  *
  * @author Nicolas Pierre {@literal < nicolas.pierre@artelys.com >}
  */
 public enum AmplReadableElement {
-    BATTERY(AmplNetworkReader::readBatteries),
-    BUS(AmplNetworkReader::readBuses),
-    BRANCH(AmplNetworkReader::readBranches),
-    GENERATOR(AmplNetworkReader::readGenerators),
-    HVDCLINE(AmplNetworkReader::readHvdcLines),
-    LCC_CONVERTER_STATION(AmplNetworkReader::readLccConverterStations),
-    LOAD(AmplNetworkReader::readLoads),
-    PHASE_TAP_CHANGER(AmplNetworkReader::readPhaseTapChangers),
-    RATIO_TAP_CHANGER(AmplNetworkReader::readRatioTapChangers),
-    SHUNT(AmplNetworkReader::readShunts),
-    STATIC_VAR_COMPENSATOR(AmplNetworkReader::readStaticVarcompensator),
-    VSC_CONVERTER_STATION(AmplNetworkReader::readVscConverterStations);
+    BATTERY("_batteries", AmplNetworkReader::readBatteries),
+    BUS("_buses", AmplNetworkReader::readBuses),
+    BRANCH("_branches", AmplNetworkReader::readBranches),
+    GENERATOR("_generators", AmplNetworkReader::readGenerators),
+    HVDCLINE("_hvdc", AmplNetworkReader::readHvdcLines),
+    LCC_CONVERTER_STATION("_lcc_converter_stations", AmplNetworkReader::readLccConverterStations),
+    LOAD("_loads", AmplNetworkReader::readLoads),
+    PHASE_TAP_CHANGER("_ptc", AmplNetworkReader::readPhaseTapChangers),
+    RATIO_TAP_CHANGER("_rtc", AmplNetworkReader::readRatioTapChangers),
+    SHUNT("_shunts", AmplNetworkReader::readShunts),
+    STATIC_VAR_COMPENSATOR("_static_var_compensators", AmplNetworkReader::readStaticVarcompensator),
+    VSC_CONVERTER_STATION("_vsc_converter_stations", AmplNetworkReader::readVscConverterStations);
+
+    private final String fileSuffix;
+
     private final AmplElementReader readElementConsumer;
 
-    AmplReadableElement(AmplElementReader readElementConsumer) {
+    AmplReadableElement(String fileSuffix, AmplElementReader readElementConsumer) {
+        this.fileSuffix = fileSuffix;
         this.readElementConsumer = readElementConsumer;
     }
 
+    public String getFileSuffix() {
+        return fileSuffix;
+    }
+
     public void readElement(AmplNetworkReader reader) throws IOException {
         this.readElementConsumer.read(reader);
     }
@@ -0,0 +1,84 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.ampl.converter;
+
+import com.powsybl.commons.PowsyblException;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Runs the tasks of a concurrent AMPL export or import on a dedicated thread pool, bounded by the number of
+ * available processors, rather than on the common fork-join pool shared with the rest of the application.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class AmplTasks {
+
+    @FunctionalInterface
+    interface Task {
+
+        void run() throws IOException;
+    }
+
+    private AmplTasks() {
+    }
+
+    /**
+     * Run the tasks concurrently and wait for all of them, even if one of them fails, so that no file is still being
+     * read or written when this method returns. The first failure is then rethrown.
+     */
+    static void runAll(String poolName, List<Task> tasks) throws IOException {
+        int threadCount = Math.max(1, Math.min(tasks.size(), Runtime.getRuntime().availableProcessors()));
+        AtomicInteger threadNum = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount, runnable -> {
+            Thread thread = new Thread(runnable, poolName + "-" + threadNum.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Void>> futures = new ArrayList<>(tasks.size());
+            for (Task task : tasks) {
+                futures.add(executor.submit(() -> {
+                    task.run();
+                    return null;
+                }));
+            }
+            Throwable failure = null;
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new PowsyblException("Interrupted while waiting for AMPL tasks", e);
+                }
+            }
+            if (failure instanceof IOException ioException) {
+                throw ioException;
+            } else if (failure instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            } else if (failure instanceof Error error) {
+                throw error;
+            } else if (failure != null) {
+                throw new PowsyblException(failure);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -1600,9 +1600,9 @@ public class BasicAmplExporter implements AmplColumnsExporter {
     }
 
     /**
-     * Cache the computation of the map.
+     * Cache the computation of the map, shared by the converter station tables which may be written concurrently.
      */
-    private HashMap<String, HvdcLine> getHvdcLinesMap() {
+    private synchronized HashMap<String, HvdcLine> getHvdcLinesMap() {
         if (hvdcLinesMap == null) {
             hvdcLinesMap = computeHvdcLinesMap();
         }
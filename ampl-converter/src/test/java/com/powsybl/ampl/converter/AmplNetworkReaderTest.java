@@ -18,6 +18,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -50,6 +51,31 @@ class AmplNetworkReaderTest {
         testBranches(network, reader);
     }
 
+    @Test
+    void readEurostagParsedFiles() throws IOException {
+        Network network = EurostagTutorialExample1Factory.create();
+        StringToIntMapper<AmplSubset> mapper = AmplUtil.createMapper(network);
+
+        ReadOnlyDataSource dataSource = new ResourceDataSource("eurostag-tutorial-example1",
+                new ResourceSet("/outputs/", "eurostag-tutorial-example1_generators.txt",
+                        "eurostag-tutorial-example1_loads.txt",
+                        "eurostag-tutorial-example1_rtc.txt",
+                        "eurostag-tutorial-example1_indic.txt",
+                        "eurostag-tutorial-example1_buses.txt",
+                        "eurostag-tutorial-example1_branches.txt"));
+
+        // the shunts result file does not exist, the error is reported when reading the shunts
+        AmplNetworkReader reader = new AmplNetworkReader(dataSource, network, mapper)
+                .parseFiles(List.of(AmplReadableElement.GENERATOR, AmplReadableElement.LOAD, AmplReadableElement.RATIO_TAP_CHANGER,
+                        AmplReadableElement.BUS, AmplReadableElement.BRANCH, AmplReadableElement.SHUNT));
+        testGenerators(network, reader);
+        testLoads(network, reader);
+        testRatioTapChanger(network, reader);
+        testBuses(network, reader);
+        testBranches(network, reader);
+        assertThrows(IllegalArgumentException.class, reader::readShunts);
+    }
+
     @Test
     void readThreeWindingTransformers() throws IOException {
         Network network = ThreeWindingsTransformerNetworkFactory.create();
@@ -203,7 +203,7 @@ class AmplNetworkWriterTest extends AbstractAmplExporterTest {
         AmplExporter exporter = new AmplExporter();
         assertEquals("AMPL", exporter.getFormat());
         assertEquals("IIDM to AMPL converter", exporter.getComment());
-        assertEquals(7, exporter.getParameters().size());
+        assertEquals(8, exporter.getParameters().size());
     }
 
     @Test
@@ -223,6 +223,31 @@ class AmplNetworkWriterTest extends AbstractAmplExporterTest {
         assertEqualsToRef(dataSource, "_network_limits", "inputs/eurostag-tutorial-example1-limits.txt");
     }
 
+    private void assertSameParallelExport(Network network) throws IOException {
+        MemDataSource dataSource = new MemDataSource();
+        export(network, properties, dataSource);
+
+        Properties parallelProperties = new Properties();
+        parallelProperties.putAll(properties);
+        parallelProperties.put(AmplExporter.EXPORT_PARALLEL, "true");
+        MemDataSource parallelDataSource = new MemDataSource();
+        export(network, parallelProperties, parallelDataSource);
+
+        assertEquals(dataSource.listNames(".*"), parallelDataSource.listNames(".*"));
+        for (String name : dataSource.listNames(".*")) {
+            assertArrayEquals(dataSource.getData(name), parallelDataSource.getData(name), name);
+        }
+    }
+
+    @Test
+    void writeInParallel() throws IOException {
+        assertSameParallelExport(EurostagTutorialExample1Factory.createWithMoreGenerators());
+
+        Network network = HvdcTestNetwork.createLcc();
+        network.getHvdcLine("L").addExtension(FooExtension.class, new FooExtension());
+        assertSameParallelExport(network);
+    }
+
     @Test
     void writeNetworkWithExtension() throws IOException {
         Network network = Network.create("sim1", "test");
@@ -146,6 +146,12 @@ public class AmplModelExecutionHandler extends AbstractExecutionHandler<AmplResu
     }
 
     private void readNetworkElements(AmplNetworkReader reader) {
+        try {
+            reader.parseFiles(this.model.getAmplReadableElement());
+        } catch (IOException e) {
+            LOGGER.error("Failed to parse network element outputs", e);
+            throw new UncheckedIOException(e);
+        }
         for (AmplReadableElement element : this.model.getAmplReadableElement()) {
             try {
                 element.readElement(reader);
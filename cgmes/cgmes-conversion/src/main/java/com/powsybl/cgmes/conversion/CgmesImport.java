@@ -30,6 +30,7 @@ import com.powsybl.commons.parameters.Parameter;
 import com.powsybl.commons.parameters.ParameterDefaultValueConfig;
 import com.powsybl.commons.parameters.ParameterScope;
 import com.powsybl.commons.parameters.ParameterType;
+import com.powsybl.commons.report.PowsyblCoreReportResourceBundle;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.util.ServiceLoaderCache;
 import com.powsybl.iidm.network.Importer;
@@ -63,6 +64,10 @@ import java.util.Optional;
 import java.util.Properties;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.zip.ZipInputStream;
@@ -179,14 +184,70 @@ public class CgmesImport implements Importer {
                             p, IMPORT_CGM_WITH_SUBNETWORKS_DEFINED_BY_PARAMETER, defaultValueConfig));
             Set<ReadOnlyDataSource> dss = new MultipleGridModelChecker(ds).separate(separatingBy);
             if (dss.size() > 1) {
-                return Network.merge(dss.stream()
-                        .map(ds1 -> importData1(ds1, networkFactory, p, reportNode))
-                        .toArray(Network[]::new));
+                int threadCount = Parameter.readInteger(getFormat(), p, IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT_PARAMETER, defaultValueConfig);
+                Network[] igms = threadCount > 1
+                        ? importIgmsConcurrently(List.copyOf(dss), networkFactory, p, reportNode, threadCount)
+                        : dss.stream().map(ds1 -> importData1(ds1, networkFactory, p, reportNode)).toArray(Network[]::new);
+                return Network.merge(igms);
             }
         }
         return importData1(ds, networkFactory, p, reportNode);
     }
 
+    /**
+     * Convert the IGMs in parallel, with at most the given number of threads. As a report node is not thread-safe, each
+     * IGM is reported in its own tree, whose nodes are then copied in the given report node in the order of the IGMs.
+     */
+    private Network[] importIgmsConcurrently(List<ReadOnlyDataSource> dss, NetworkFactory networkFactory, Properties p,
+                                             ReportNode reportNode, int threadCount) {
+        List<ReportNode> igmReportNodes = dss.stream().map(ds1 -> newIgmReportNode(reportNode, ds1.getBaseName())).toList();
+        List<Future<Network>> futures = new ArrayList<>(dss.size());
+        try (ExecutorService executor = Executors.newFixedThreadPool(Math.min(threadCount, dss.size()))) {
+            for (int i = 0; i < dss.size(); i++) {
+                ReadOnlyDataSource ds1 = dss.get(i);
+                ReportNode igmReportNode = igmReportNodes.get(i);
+                futures.add(executor.submit(() -> importData1(ds1, networkFactory, p, igmReportNode)));
+            }
+            Network[] igms = new Network[dss.size()];
+            for (int i = 0; i < dss.size(); i++) {
+                igms[i] = getIgm(futures.get(i));
+            }
+            return igms;
+        } finally {
+            if (reportNode != ReportNode.NO_OP) {
+                for (ReportNode igmReportNode : igmReportNodes) {
+                    igmReportNode.getChildren().forEach(reportNode::addCopy);
+                }
+            }
+        }
+    }
+
+    private static ReportNode newIgmReportNode(ReportNode reportNode, String basename) {
+        if (reportNode == ReportNode.NO_OP) {
+            return ReportNode.NO_OP;
+        }
+        return ReportNode.newRootReportNode()
+                .withResourceBundles(PowsyblCoreReportResourceBundle.BASE_NAME)
+                .withLocale(reportNode.getTreeContext().getLocale())
+                .withMessageTemplate("core.cgmes.conversion.CGMESConversion")
+                .withUntypedValue("basename", basename)
+                .build();
+    }
+
+    private static Network getIgm(Future<Network> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
     private Network importData1(ReadOnlyDataSource ds, NetworkFactory networkFactory, Properties p, ReportNode reportNode) {
         CgmesModel cgmes = readCgmes(ds, p, reportNode);
         ReportNode conversionReportNode = CgmesReports.importingCgmesFileReport(reportNode, ds.getBaseName());
@@ -701,6 +762,7 @@ public class CgmesImport implements Importer {
     public static final String MISSING_PERMANENT_LIMIT_PERCENTAGE = "iidm.import.cgmes.missing-permanent-limit-percentage";
     public static final String IMPORT_CGM_WITH_SUBNETWORKS = "iidm.import.cgmes.cgm-with-subnetworks";
     public static final String IMPORT_CGM_WITH_SUBNETWORKS_DEFINED_BY = "iidm.import.cgmes.cgm-with-subnetworks-defined-by";
+    public static final String IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT = "iidm.import.cgmes.cgm-with-subnetworks-thread-count";
     public static final String CREATE_FICTITIOUS_VOLTAGE_LEVEL_FOR_EVERY_NODE = "iidm.import.cgmes.create-fictitious-voltage-level-for-every-node";
     public static final String USE_PREVIOUS_VALUES_DURING_UPDATE = "iidm.import.cgmes.use-previous-values-during-update";
     public static final String REMOVE_PROPERTIES_AND_ALIASES_AFTER_IMPORT = "iidm.import.cgmes.remove-properties-and-aliases-after-import";
@@ -805,6 +867,11 @@ public class CgmesImport implements Importer {
             "Choose how subnetworks from CGM must be imported: defined by filenames or by modeling authority",
             SubnetworkDefinedBy.MODELING_AUTHORITY.name(),
             Arrays.stream(SubnetworkDefinedBy.values()).map(Enum::name).collect(Collectors.toList()));
+    private static final Parameter IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT_PARAMETER = new Parameter(
+            IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT,
+            ParameterType.INTEGER,
+            "Maximum number of IGMs of a CGM imported in parallel",
+            1);
 
     public static final Parameter MISSING_PERMANENT_LIMIT_PERCENTAGE_PARAMETER = new Parameter(
             MISSING_PERMANENT_LIMIT_PERCENTAGE,
@@ -861,6 +928,7 @@ public class CgmesImport implements Importer {
             DISCONNECT_BOUNDARY_LINE_IF_BOUNDARY_SIDE_IS_DISCONNECTED_PARAMETER,
             IMPORT_CGM_WITH_SUBNETWORKS_PARAMETER,
             IMPORT_CGM_WITH_SUBNETWORKS_DEFINED_BY_PARAMETER,
+            IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT_PARAMETER,
             MISSING_PERMANENT_LIMIT_PERCENTAGE_PARAMETER,
             CREATE_FICTITIOUS_VOLTAGE_LEVEL_FOR_EVERY_NODE_PARAMETER,
             USE_PREVIOUS_VALUES_DURING_UPDATE_PARAMETER,
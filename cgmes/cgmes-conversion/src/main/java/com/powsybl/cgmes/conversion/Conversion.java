@@ -17,6 +17,8 @@ import com.powsybl.cgmes.conversion.naming.NamingStrategy;
 import com.powsybl.cgmes.extensions.*;
 import com.powsybl.cgmes.model.*;
 import com.powsybl.cgmes.model.triplestore.CgmesModelTripleStore;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.iidm.network.*;
 import com.powsybl.triplestore.api.PropertyBag;
@@ -40,6 +42,7 @@ import static com.powsybl.cgmes.conversion.Update.*;
 import static com.powsybl.cgmes.conversion.elements.AbstractConductingEquipmentConversion.isBoundaryTerminalConnected;
 import static com.powsybl.cgmes.model.CgmesNames.*;
 import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toUnmodifiableMap;
 
 /**
  * TwoWindingsTransformer Interpretation
@@ -496,40 +499,54 @@ public class Conversion {
 
     private void convert(PropertyBags elements, String elementType, Context context) {
         context.pushReportNode(CgmesReports.convertingElementTypeReport(context.getReportNode(), elementType));
-        for (PropertyBag element : elements) {
-            if (LOG.isTraceEnabled()) {
-                LOG.trace(element.tabulateLocals(elementType));
-            }
-            AbstractObjectConversion c = switch (elementType) {
-                case CgmesNames.SUBSTATION -> new SubstationConversion(element, context);
-                case CgmesNames.VOLTAGE_LEVEL -> new VoltageLevelConversion(element, context);
-                case CgmesNames.CONNECTIVITY_NODE, CgmesNames.TOPOLOGICAL_NODE -> new NodeConversion(elementType, element, context);
-                case CgmesNames.BUSBAR_SECTION -> new BusbarSectionConversion(element, context);
-                case CgmesNames.GROUND -> new GroundConversion(element, context);
-                case CgmesNames.ENERGY_CONSUMER -> new EnergyConsumerConversion(element, context);
-                case CgmesNames.ENERGY_SOURCE -> new EnergySourceConversion(element, context);
-                case CgmesNames.EQUIVALENT_INJECTION -> new EquivalentInjectionConversion(element, context);
-                case CgmesNames.EXTERNAL_NETWORK_INJECTION -> new ExternalNetworkInjectionConversion(element, context);
-                case CgmesNames.SHUNT_COMPENSATOR -> new ShuntConversion(element, context);
-                case CgmesNames.EQUIVALENT_SHUNT -> new EquivalentShuntConversion(element, context);
-                case CgmesNames.STATIC_VAR_COMPENSATOR -> new StaticVarCompensatorConversion(element, context);
-                case CgmesNames.ASYNCHRONOUS_MACHINE -> new AsynchronousMachineConversion(element, context);
-                case CgmesNames.SYNCHRONOUS_MACHINE -> new SynchronousMachineConversion(element, context);
-                case CgmesNames.SERIES_COMPENSATOR -> new SeriesCompensatorConversion(element, context);
-                case CgmesNames.OPERATIONAL_LIMIT -> new OperationalLimitConversion(element, context);
-                case CgmesNames.CONTROL_AREA -> new ControlAreaConversion(element, context);
-                case CgmesNames.TIE_FLOW -> new TieFlowConversion(element, context);
-                default -> throw new IllegalArgumentException("Invalid elementType.");
-            };
-            if (c.insideBoundary()) {
-                c.convertInsideBoundary();
-            } else if (c.valid()) {
-                c.convert();
+        try (Timer.Sample sample = Metrics.timer(getConversionMetricName(elementType)).start()) {
+            for (PropertyBag element : elements) {
+                convert(element, elementType, context);
             }
         }
         context.popReportNode();
     }
 
+    private static String getConversionMetricName(String elementType) {
+        String metricName = CONVERSION_METRIC_NAMES.get(elementType);
+        if (metricName == null) {
+            throw new IllegalArgumentException("Invalid elementType.");
+        }
+        return metricName;
+    }
+
+    private static void convert(PropertyBag element, String elementType, Context context) {
+        if (LOG.isTraceEnabled()) {
+            LOG.trace(element.tabulateLocals(elementType));
+        }
+        AbstractObjectConversion c = switch (elementType) {
+            case CgmesNames.SUBSTATION -> new SubstationConversion(element, context);
+            case CgmesNames.VOLTAGE_LEVEL -> new VoltageLevelConversion(element, context);
+            case CgmesNames.CONNECTIVITY_NODE, CgmesNames.TOPOLOGICAL_NODE -> new NodeConversion(elementType, element, context);
+            case CgmesNames.BUSBAR_SECTION -> new BusbarSectionConversion(element, context);
+            case CgmesNames.GROUND -> new GroundConversion(element, context);
+            case CgmesNames.ENERGY_CONSUMER -> new EnergyConsumerConversion(element, context);
+            case CgmesNames.ENERGY_SOURCE -> new EnergySourceConversion(element, context);
+            case CgmesNames.EQUIVALENT_INJECTION -> new EquivalentInjectionConversion(element, context);
+            case CgmesNames.EXTERNAL_NETWORK_INJECTION -> new ExternalNetworkInjectionConversion(element, context);
+            case CgmesNames.SHUNT_COMPENSATOR -> new ShuntConversion(element, context);
+            case CgmesNames.EQUIVALENT_SHUNT -> new EquivalentShuntConversion(element, context);
+            case CgmesNames.STATIC_VAR_COMPENSATOR -> new StaticVarCompensatorConversion(element, context);
+            case CgmesNames.ASYNCHRONOUS_MACHINE -> new AsynchronousMachineConversion(element, context);
+            case CgmesNames.SYNCHRONOUS_MACHINE -> new SynchronousMachineConversion(element, context);
+            case CgmesNames.SERIES_COMPENSATOR -> new SeriesCompensatorConversion(element, context);
+            case CgmesNames.OPERATIONAL_LIMIT -> new OperationalLimitConversion(element, context);
+            case CgmesNames.CONTROL_AREA -> new ControlAreaConversion(element, context);
+            case CgmesNames.TIE_FLOW -> new TieFlowConversion(element, context);
+            default -> throw new IllegalArgumentException("Invalid elementType.");
+        };
+        if (c.insideBoundary()) {
+            c.convertInsideBoundary();
+        } else if (c.valid()) {
+            c.convert();
+        }
+    }
+
     private Network createNetwork() {
         String networkId = cgmes.modelId();
         String sourceFormat = "CGMES";
@@ -1155,6 +1172,12 @@ public class Conversion {
 
     private static final Logger LOG = LoggerFactory.getLogger(Conversion.class);
 
+    private static final Map<String, String> CONVERSION_METRIC_NAMES = Stream.of(SUBSTATION, VOLTAGE_LEVEL, CONNECTIVITY_NODE,
+                    TOPOLOGICAL_NODE, BUSBAR_SECTION, GROUND, ENERGY_CONSUMER, ENERGY_SOURCE, EQUIVALENT_INJECTION,
+                    EXTERNAL_NETWORK_INJECTION, SHUNT_COMPENSATOR, EQUIVALENT_SHUNT, STATIC_VAR_COMPENSATOR, ASYNCHRONOUS_MACHINE,
+                    SYNCHRONOUS_MACHINE, SERIES_COMPENSATOR, OPERATIONAL_LIMIT, CONTROL_AREA, TIE_FLOW)
+            .collect(toUnmodifiableMap(Function.identity(), elementType -> "cgmes.conversion." + elementType));
+
     public static final String CGMES_PREFIX_ALIAS_PROPERTIES = "CGMES.";
 
     public static final String ALIAS_DC_LINE_SEGMENT2 = CGMES_PREFIX_ALIAS_PROPERTIES + DC_LINE_SEGMENT2;
@@ -13,6 +13,9 @@ import com.powsybl.cgmes.conversion.export.CgmesExportContext;
 import com.powsybl.cgmes.conversion.export.StateVariablesExport;
 import com.powsybl.cgmes.conversion.test.ConversionUtil;
 import com.powsybl.cgmes.model.CgmesNamespace;
+import com.powsybl.commons.report.PowsyblCoreReportResourceBundle;
+import com.powsybl.commons.report.ReportNode;
+import com.powsybl.commons.test.PowsyblTestReportResourceBundle;
 import com.powsybl.commons.xml.XmlUtil;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.TieLine;
@@ -20,6 +23,8 @@ import org.junit.jupiter.api.Test;
 
 import javax.xml.stream.*;
 import java.io.*;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Properties;
@@ -104,6 +109,47 @@ class CgmesConformity3ConversionTest {
         checkExportSvTerminals(n);
     }
 
+    @Test
+    void microGridBaseCaseAssembledImportingIgmsInParallel() throws IOException {
+        ReportNode reportNode = ReportNode.newRootReportNode()
+                .withResourceBundles(PowsyblTestReportResourceBundle.TEST_BASE_NAME, PowsyblCoreReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("test")
+                .build();
+        Network n = Network.read(CgmesConformity3Catalog.microGridBaseCaseAssembled().dataSource(), new Properties(), reportNode);
+
+        Properties params = new Properties();
+        params.put(CgmesImport.IMPORT_CGM_WITH_SUBNETWORKS_THREAD_COUNT, "2");
+        ReportNode parallelReportNode = ReportNode.newRootReportNode()
+                .withResourceBundles(PowsyblTestReportResourceBundle.TEST_BASE_NAME, PowsyblCoreReportResourceBundle.BASE_NAME)
+                .withMessageTemplate("test")
+                .build();
+        Network parallel = Network.read(CgmesConformity3Catalog.microGridBaseCaseAssembled().dataSource(), params, parallelReportNode);
+
+        assertEquals(2, parallel.getSubnetworks().size());
+        assertEquals(n.getSubnetworks().stream().map(Network::getId).sorted().toList(),
+                parallel.getSubnetworks().stream().map(Network::getId).sorted().toList());
+        assertEquals(n.getSubstationCount(), parallel.getSubstationCount());
+        assertEquals(n.getTieLineStream().map(TieLine::getId).sorted().toList(),
+                parallel.getTieLineStream().map(TieLine::getId).sorted().toList());
+        assertEquals(n.getBoundaryLineCount(), parallel.getBoundaryLineCount());
+
+        // each IGM is reported in the same way as with a sequential import. The IGMs are separated in a set, so their
+        // order may change from one import to another
+        assertEquals(printChildrenSorted(reportNode), printChildrenSorted(parallelReportNode));
+        checkExportSvTerminals(parallel);
+    }
+
+    private static List<String> printChildrenSorted(ReportNode reportNode) throws IOException {
+        List<String> printedChildren = new ArrayList<>();
+        for (ReportNode child : reportNode.getChildren()) {
+            StringWriter writer = new StringWriter();
+            child.print(writer);
+            printedChildren.add(writer.toString());
+        }
+        Collections.sort(printedChildren);
+        return printedChildren;
+    }
+
     private void checkExportSvTerminals(Network network) {
         CgmesExportContext context = new CgmesExportContext(network);
         context.setExportBoundaryPowerFlows(true);
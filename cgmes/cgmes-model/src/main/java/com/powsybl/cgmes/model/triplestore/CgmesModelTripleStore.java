@@ -12,6 +12,7 @@ import com.google.re2j.Matcher;
 import com.google.re2j.Pattern;
 import com.powsybl.cgmes.model.*;
 import com.powsybl.commons.datasource.DataSource;
+import com.powsybl.commons.metrics.Metrics;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.triplestore.api.*;
 import org.apache.commons.lang3.EnumUtils;
@@ -32,6 +33,7 @@ import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 
 import static com.powsybl.cgmes.model.CgmesNamespace.CGMES_EQ_3_OR_GREATER_PREFIX;
@@ -635,12 +637,13 @@ public class CgmesModelTripleStore extends AbstractCgmesModel {
         // to maintain independence of the triple store engine,
         // instead of using native query parameters
         queryText = injectParams(queryText, params);
-        final long t0 = System.currentTimeMillis();
+        final long t0 = System.nanoTime();
         PropertyBags r = query(queryText);
-        final long t1 = System.currentTimeMillis();
+        final long t1 = System.nanoTime();
+        Metrics.timer("cgmes.query." + name).record(t1 - t0, TimeUnit.NANOSECONDS);
         if (LOG.isDebugEnabled()) {
             LOG.debug("results query {}{}{}", name, System.lineSeparator(), r.tabulateLocals());
-            LOG.debug("dt query {} {} ms, result set size = {}", name, t1 - t0, r.size());
+            LOG.debug("dt query {} {} ms, result set size = {}", name, TimeUnit.NANOSECONDS.toMillis(t1 - t0), r.size());
         }
         return r;
     }
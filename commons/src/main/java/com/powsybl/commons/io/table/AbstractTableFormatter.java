@@ -25,15 +25,28 @@ public abstract class AbstractTableFormatter implements TableFormatter {
 
     protected int column;
 
+    private final GeneralNumberFormatter numberFormatter;
+
+    private final char[] numberBuffer = new char[GeneralNumberFormatter.MAX_LENGTH];
+
     protected AbstractTableFormatter(Writer writer, TableFormatterConfig config, Column... columns) {
         this.writer = Objects.requireNonNull(writer);
         this.config = Objects.requireNonNull(config);
         this.columns = Objects.requireNonNull(columns);
         this.column = 0;
+        this.numberFormatter = new GeneralNumberFormatter(config.getLocale());
     }
 
     protected abstract TableFormatter write(String value) throws IOException;
 
+    /**
+     * Write a value stored in a char buffer. The buffer is reused after the call, so its content must not be kept.
+     * The default implementation creates a string.
+     */
+    protected TableFormatter write(char[] buffer, int offset, int length) throws IOException {
+        return write(new String(buffer, offset, length));
+    }
+
     @Override
     public TableFormatter writeCell(String s) throws IOException {
         return write(s);
@@ -77,12 +90,20 @@ public abstract class AbstractTableFormatter implements TableFormatter {
 
     @Override
     public TableFormatter writeCell(float f) throws IOException {
-        return write(Float.isNaN(f) ? config.getInvalidString() : format(f));
+        if (Float.isNaN(f)) {
+            return write(config.getInvalidString());
+        }
+        int length = formatWithoutNumberFormat(f);
+        return length >= 0 ? write(numberBuffer, 0, length) : write(format(f));
     }
 
     @Override
     public TableFormatter writeCell(double d) throws IOException {
-        return write(Double.isNaN(d) ? config.getInvalidString() : format(d));
+        if (Double.isNaN(d)) {
+            return write(config.getInvalidString());
+        }
+        int length = formatWithoutNumberFormat(d);
+        return length >= 0 ? write(numberBuffer, 0, length) : write(format(d));
     }
 
     @Override
@@ -90,6 +111,18 @@ public abstract class AbstractTableFormatter implements TableFormatter {
         return write(Boolean.toString(b));
     }
 
+    /**
+     * Format a number into the number buffer when the column has no specific format, to avoid creating a string.
+     *
+     * @return the length of the formatted number, or -1 if it has to be formatted with {@link #format(Object)}
+     */
+    private int formatWithoutNumberFormat(double value) {
+        if (columns[column].getNumberFormat() != null) {
+            return -1;
+        }
+        return numberFormatter.format(value, numberBuffer);
+    }
+
     private <T> String format(T value) {
         NumberFormat format = columns[column].getNumberFormat();
         if (format == null) {
@@ -66,6 +66,17 @@ public class CsvTableFormatter extends AbstractTableFormatter {
     protected TableFormatter write(String value) throws IOException {
         writeHeaderIfNotDone();
         writer.append(value);
+        return endCell();
+    }
+
+    @Override
+    protected TableFormatter write(char[] buffer, int offset, int length) throws IOException {
+        writeHeaderIfNotDone();
+        writer.write(buffer, offset, length);
+        return endCell();
+    }
+
+    private TableFormatter endCell() throws IOException {
         if (column < columns.length - 1) {
             writer.append(config.getCsvSeparator());
         }
@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io.table;
+
+import java.text.DecimalFormatSymbols;
+import java.util.Locale;
+
+/**
+ * Format a double into a char buffer as {@code String.format(locale, "%g", value)} does, without allocating any
+ * object.
+ *
+ * <p>{@link java.util.Formatter} rounds half up the shortest decimal representation of the value to 6 significant
+ * digits. Here the value is scaled by a power of ten and rounded with double arithmetic, which gives the same result
+ * unless the scaled value is very close to a rounding tie or the power of ten is not exactly representable. In
+ * those rare cases, {@link #format(double, char[])} returns -1 and the value has to be formatted with
+ * {@link String#format(Locale, String, Object...)}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class GeneralNumberFormatter {
+
+    /**
+     * Maximum length of a formatted value, for instance "-1.00000e-300".
+     */
+    static final int MAX_LENGTH = 16;
+
+    private static final int PRECISION = 6;
+
+    private static final long MIN_DIGITS = 100_000L;
+
+    private static final long MAX_DIGITS = 1_000_000L;
+
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /**
+     * Scaled values closer than this margin to a rounding tie are delegated to {@link java.util.Formatter}. It is
+     * much larger than the rounding errors of the scaling (about 1e-10 for a scaled value lower than 1e6).
+     */
+    private static final double TIE_MARGIN = 1e-6;
+
+    private final char zeroDigit;
+
+    private final char decimalSeparator;
+
+    private final char[] digits = new char[PRECISION];
+
+    GeneralNumberFormatter(Locale locale) {
+        // same localization as java.util.Formatter
+        if (locale == null || locale.equals(Locale.US)) {
+            zeroDigit = '0';
+            decimalSeparator = '.';
+        } else {
+            DecimalFormatSymbols symbols = DecimalFormatSymbols.getInstance(locale);
+            zeroDigit = symbols.getZeroDigit();
+            decimalSeparator = symbols.getDecimalSeparator();
+        }
+    }
+
+    /**
+     * Format the given value into the buffer, from index 0.
+     *
+     * @param value the value to format
+     * @param buffer the buffer, of at least {@link #MAX_LENGTH} chars
+     * @return the number of chars written, or -1 if the value could not be formatted
+     */
+    int format(double value, char[] buffer) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return -1;
+        }
+        int length = 0;
+        if (Double.compare(value, 0.0) < 0) {
+            buffer[length++] = '-';
+        }
+        double abs = Math.abs(value);
+        if (abs == 0) {
+            buffer[length++] = zeroDigit;
+            buffer[length++] = decimalSeparator;
+            for (int i = 1; i < PRECISION; i++) {
+                buffer[length++] = zeroDigit;
+            }
+            return length;
+        }
+
+        // find the exponent so that the value scaled to 6 significant digits is in [1e5, 1e6[
+        int exponent = (int) Math.floor(Math.log10(abs));
+        double scaled = scale(abs, exponent);
+        if (scaled < MIN_DIGITS) {
+            exponent--;
+            scaled = scale(abs, exponent);
+        } else if (scaled >= MAX_DIGITS) {
+            exponent++;
+            scaled = scale(abs, exponent);
+        }
+        if (Double.isNaN(scaled) || scaled < MIN_DIGITS || scaled >= MAX_DIGITS) {
+            return -1;
+        }
+
+        // round half up
+        double floor = Math.floor(scaled);
+        double fraction = scaled - floor;
+        if (Math.abs(fraction - 0.5) < TIE_MARGIN) {
+            return -1;
+        }
+        long rounded = (long) floor + (fraction > 0.5 ? 1 : 0);
+        if (rounded == MAX_DIGITS) {
+            rounded = MIN_DIGITS;
+            exponent++;
+        }
+        for (int i = PRECISION - 1; i >= 0; i--) {
+            digits[i] = (char) (zeroDigit + (int) (rounded % 10));
+            rounded /= 10;
+        }
+
+        if (exponent >= -4 && exponent < PRECISION) {
+            return writeDecimal(exponent, buffer, length);
+        }
+        return writeScientific(exponent, buffer, length);
+    }
+
+    /**
+     * Scale the value so that its 6 significant digits are in the integer part, or return NaN if the power of ten
+     * is not exactly representable.
+     */
+    private static double scale(double abs, int exponent) {
+        int power = PRECISION - 1 - exponent;
+        if (power >= 0 && power < POWERS_OF_TEN.length) {
+            return abs * POWERS_OF_TEN[power];
+        } else if (power < 0 && -power < POWERS_OF_TEN.length) {
+            return abs / POWERS_OF_TEN[-power];
+        }
+        return Double.NaN;
+    }
+
+    private int writeDecimal(int exponent, char[] buffer, int offset) {
+        int length = offset;
+        if (exponent >= 0) {
+            for (int i = 0; i <= exponent; i++) {
+                buffer[length++] = digits[i];
+            }
+            if (exponent < PRECISION - 1) {
+                buffer[length++] = decimalSeparator;
+                for (int i = exponent + 1; i < PRECISION; i++) {
+                    buffer[length++] = digits[i];
+                }
+            }
+        } else {
+            buffer[length++] = zeroDigit;
+            buffer[length++] = decimalSeparator;
+            for (int i = exponent + 1; i < 0; i++) {
+                buffer[length++] = zeroDigit;
+            }
+            for (char digit : digits) {
+                buffer[length++] = digit;
+            }
+        }
+        return length;
+    }
+
+    private int writeScientific(int exponent, char[] buffer, int offset) {
+        int length = offset;
+        buffer[length++] = digits[0];
+        buffer[length++] = decimalSeparator;
+        for (int i = 1; i < PRECISION; i++) {
+            buffer[length++] = digits[i];
+        }
+        buffer[length++] = 'e';
+        buffer[length++] = exponent < 0 ? '-' : '+';
+        int absExponent = Math.abs(exponent);
+        if (absExponent >= 100) {
+            buffer[length++] = (char) (zeroDigit + absExponent / 100);
+        }
+        buffer[length++] = (char) (zeroDigit + absExponent / 10 % 10);
+        buffer[length++] = (char) (zeroDigit + absExponent % 10);
+        return length;
+    }
+}
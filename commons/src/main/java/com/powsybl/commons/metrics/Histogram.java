@@ -0,0 +1,18 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+/**
+ * Distribution of recorded values, for instance a number of elements per processed object.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface Histogram {
+
+    void record(double value);
+}
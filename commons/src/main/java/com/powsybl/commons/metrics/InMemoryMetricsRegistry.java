@@ -0,0 +1,213 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.json.JsonUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.DoubleAccumulator;
+import java.util.concurrent.atomic.DoubleAdder;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A metrics registry keeping aggregated statistics in memory (count, total, minimum and maximum of the recorded values),
+ * which can be written to JSON.
+ *
+ * <p>Metrics are updated without locking, so that they can be shared by several threads.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class InMemoryMetricsRegistry implements MetricsRegistry {
+
+    /**
+     * Aggregated statistics of recorded values.
+     */
+    public static class Statistics {
+
+        private final LongAdder count = new LongAdder();
+        private final DoubleAdder sum = new DoubleAdder();
+        private final DoubleAccumulator min = new DoubleAccumulator(Math::min, Double.POSITIVE_INFINITY);
+        private final DoubleAccumulator max = new DoubleAccumulator(Math::max, Double.NEGATIVE_INFINITY);
+
+        void add(double value) {
+            count.increment();
+            sum.add(value);
+            min.accumulate(value);
+            max.accumulate(value);
+        }
+
+        public long getCount() {
+            return count.sum();
+        }
+
+        public double getSum() {
+            return sum.sum();
+        }
+
+        public double getMin() {
+            return getCount() > 0 ? min.get() : Double.NaN;
+        }
+
+        public double getMax() {
+            return getCount() > 0 ? max.get() : Double.NaN;
+        }
+
+        public double getMean() {
+            long n = getCount();
+            return n > 0 ? getSum() / n : Double.NaN;
+        }
+
+        private void writeJson(JsonGenerator generator, String name) throws IOException {
+            generator.writeObjectFieldStart(name);
+            generator.writeNumberField("count", getCount());
+            JsonUtil.writeOptionalDoubleField(generator, "sum", getSum());
+            JsonUtil.writeOptionalDoubleField(generator, "min", getMin());
+            JsonUtil.writeOptionalDoubleField(generator, "max", getMax());
+            JsonUtil.writeOptionalDoubleField(generator, "mean", getMean());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Statistics of the durations recorded by a timer, in milliseconds.
+     */
+    private static final class InMemoryTimer extends Statistics implements Timer {
+
+        @Override
+        public void record(long duration, TimeUnit unit) {
+            add(unit.toNanos(duration) / 1e6);
+        }
+
+        @Override
+        public Sample start() {
+            long startTime = System.nanoTime();
+            return () -> record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static final class InMemoryHistogram extends Statistics implements Histogram {
+
+        @Override
+        public void record(double value) {
+            add(value);
+        }
+    }
+
+    private static final class InMemoryCounter implements Counter {
+
+        private final LongAdder count = new LongAdder();
+
+        @Override
+        public void increment(long amount) {
+            count.add(amount);
+        }
+    }
+
+    private final Map<String, InMemoryTimer> timers = new ConcurrentHashMap<>();
+
+    private final Map<String, InMemoryCounter> counters = new ConcurrentHashMap<>();
+
+    private final Map<String, InMemoryHistogram> histograms = new ConcurrentHashMap<>();
+
+    @Override
+    public Timer timer(String name) {
+        return timers.computeIfAbsent(Objects.requireNonNull(name), k -> new InMemoryTimer());
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return counters.computeIfAbsent(Objects.requireNonNull(name), k -> new InMemoryCounter());
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return histograms.computeIfAbsent(Objects.requireNonNull(name), k -> new InMemoryHistogram());
+    }
+
+    /**
+     * @return the statistics of the durations recorded by each timer, in milliseconds, sorted by name
+     */
+    public Map<String, Statistics> getTimers() {
+        return Collections.unmodifiableMap(new TreeMap<>(timers));
+    }
+
+    /**
+     * @return the value of each counter, sorted by name
+     */
+    public Map<String, Long> getCounters() {
+        Map<String, Long> values = new TreeMap<>();
+        counters.forEach((name, counter) -> values.put(name, counter.count.sum()));
+        return Collections.unmodifiableMap(values);
+    }
+
+    /**
+     * @return the statistics of the values recorded by each histogram, sorted by name
+     */
+    public Map<String, Statistics> getHistograms() {
+        return Collections.unmodifiableMap(new TreeMap<>(histograms));
+    }
+
+    /**
+     * Remove all the metrics.
+     */
+    public void clear() {
+        timers.clear();
+        counters.clear();
+        histograms.clear();
+    }
+
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeObjectFieldStart("timers");
+        for (Map.Entry<String, Statistics> e : getTimers().entrySet()) {
+            e.getValue().writeJson(generator, e.getKey());
+        }
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("counters");
+        for (Map.Entry<String, Long> e : getCounters().entrySet()) {
+            generator.writeNumberField(e.getKey(), e.getValue());
+        }
+        generator.writeEndObject();
+        generator.writeObjectFieldStart("histograms");
+        for (Map.Entry<String, Statistics> e : getHistograms().entrySet()) {
+            e.getValue().writeJson(generator, e.getKey());
+        }
+        generator.writeEndObject();
+        generator.writeEndObject();
+    }
+
+    private void writeJsonUnchecked(JsonGenerator generator) {
+        try {
+            writeJson(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public void writeJson(Writer writer) {
+        JsonUtil.writeJson(writer, this::writeJsonUnchecked);
+    }
+
+    public void writeJson(Path file) {
+        JsonUtil.writeJson(file, this::writeJsonUnchecked);
+    }
+
+    public String toJson() {
+        return JsonUtil.toJson(this::writeJsonUnchecked);
+    }
+}
@@ -0,0 +1,78 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.util.ServiceLoaderCache;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Access point to the {@link MetricsRegistry} used by the instrumented code.
+ *
+ * <p>The registry is either set with {@link #setRegistry(MetricsRegistry)}, or created by the single
+ * {@link MetricsRegistryProvider} found in the classpath. If no provider is found, metrics are disabled: the
+ * {@link MetricsRegistry#NO_OP} registry is used.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class Metrics {
+
+    private static final ServiceLoaderCache<MetricsRegistryProvider> PROVIDERS = new ServiceLoaderCache<>(MetricsRegistryProvider.class);
+
+    private static volatile MetricsRegistry registry;
+
+    private Metrics() {
+    }
+
+    public static MetricsRegistry getRegistry() {
+        MetricsRegistry r = registry;
+        if (r == null) {
+            synchronized (Metrics.class) {
+                r = registry;
+                if (r == null) {
+                    r = createDefaultRegistry(PROVIDERS.getServices());
+                    registry = r;
+                }
+            }
+        }
+        return r;
+    }
+
+    static MetricsRegistry createDefaultRegistry(List<MetricsRegistryProvider> providers) {
+        if (providers.isEmpty()) {
+            return MetricsRegistry.NO_OP;
+        }
+        if (providers.size() > 1) {
+            throw new PowsyblException("Several metrics registry providers found: "
+                    + providers.stream().map(MetricsRegistryProvider::getName).toList());
+        }
+        return Objects.requireNonNull(providers.get(0).create());
+    }
+
+    /**
+     * Set the registry to use from now on, for instance an {@link InMemoryMetricsRegistry} to collect the metrics of
+     * a run.
+     */
+    public static void setRegistry(MetricsRegistry registry) {
+        Metrics.registry = Objects.requireNonNull(registry);
+    }
+
+    public static Timer timer(String name) {
+        return getRegistry().timer(name);
+    }
+
+    public static Counter counter(String name) {
+        return getRegistry().counter(name);
+    }
+
+    public static Histogram histogram(String name) {
+        return getRegistry().histogram(name);
+    }
+}
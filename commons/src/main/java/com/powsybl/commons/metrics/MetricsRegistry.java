@@ -0,0 +1,27 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+/**
+ * Provides the metrics, identified by their name. Implementations have to be thread-safe.
+ *
+ * <p>Names are dot-separated lowercase words, prefixed by the module they are related to, for instance
+ * {@code iidm.serde.read}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface MetricsRegistry {
+
+    MetricsRegistry NO_OP = new NoOpMetricsRegistry();
+
+    Timer timer(String name);
+
+    Counter counter(String name);
+
+    Histogram histogram(String name);
+}
@@ -0,0 +1,20 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+/**
+ * Service provider interface used by {@link Metrics} to create the default {@link MetricsRegistry}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface MetricsRegistryProvider {
+
+    String getName();
+
+    MetricsRegistry create();
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A metrics registry ignoring all the recorded values. The same stateless instances are returned for all the names,
+ * so that instrumented code does not allocate anything when metrics are disabled.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class NoOpMetricsRegistry implements MetricsRegistry {
+
+    private static final Timer.Sample SAMPLE = () -> {
+        // No-op
+    };
+
+    private static final Timer TIMER = new Timer() {
+        @Override
+        public void record(long duration, TimeUnit unit) {
+            // No-op
+        }
+
+        @Override
+        public Sample start() {
+            return SAMPLE;
+        }
+    };
+
+    private static final Counter COUNTER = amount -> {
+        // No-op
+    };
+
+    private static final Histogram HISTOGRAM = value -> {
+        // No-op
+    };
+
+    NoOpMetricsRegistry() {
+    }
+
+    @Override
+    public Timer timer(String name) {
+        return TIMER;
+    }
+
+    @Override
+    public Counter counter(String name) {
+        return COUNTER;
+    }
+
+    @Override
+    public Histogram histogram(String name) {
+        return HISTOGRAM;
+    }
+}
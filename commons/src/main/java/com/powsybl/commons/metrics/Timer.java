@@ -0,0 +1,55 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Distribution of durations of a processing stage.
+ *
+ * <p>A duration is either recorded directly, or measured with a {@link Sample} started before the stage and closed
+ * after it:
+ * <pre>{@code
+ * try (Timer.Sample sample = Metrics.getRegistry().timer("stage").start()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface Timer {
+
+    /**
+     * A running measure of a duration, recorded to its timer when closed.
+     */
+    interface Sample extends AutoCloseable {
+
+        @Override
+        void close();
+    }
+
+    void record(long duration, TimeUnit unit);
+
+    /**
+     * Start measuring a duration.
+     */
+    Sample start();
+
+    default void record(Runnable runnable) {
+        try (Sample sample = start()) {
+            runnable.run();
+        }
+    }
+
+    default <T> T record(Supplier<T> supplier) {
+        try (Sample sample = start()) {
+            return supplier.get();
+        }
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+
+/**
+ * Metrics API (timers, counters and histograms) used to instrument the main processing stages, with a no-op default
+ * implementation and an in-memory implementation.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+package com.powsybl.commons.metrics;
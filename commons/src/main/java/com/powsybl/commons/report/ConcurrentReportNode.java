@@ -0,0 +1,308 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.PowsyblException;
+import org.apache.commons.text.StringSubstitutor;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * A thread-safe in-memory implementation of {@link ReportNode}, which can be shared by several threads reporting
+ * into the same tree.
+ *
+ * <p>Children are appended to a lock-free queue, values are replaced atomically (copy-on-write, as values are
+ * rarely added after the node creation) and the dictionary of the {@link TreeContextImpl} is a concurrent map.
+ * Children added concurrently to the same node are kept in their order of insertion, which therefore depends on
+ * the threads scheduling. Reading a node while it is modified by other threads (for instance to print or serialize
+ * it) gives a weakly consistent snapshot.
+ *
+ * <p>The JSON serialization is the same as {@link ReportNodeImpl} one: a serialized tree is read back as a
+ * {@link ReportNodeImpl} tree by {@link ReportNodeDeserializer}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ConcurrentReportNode implements ReportNode {
+
+    private final String messageKey;
+    private final ConcurrentReportNode parent;
+    private final Queue<ConcurrentReportNode> children = new ConcurrentLinkedQueue<>();
+    private final AtomicReference<Map<String, TypedValue>> values;
+    private final MessageTemplateProvider messageTemplateProvider;
+    private final AtomicBoolean isRoot;
+    private volatile TreeContext treeContext;
+    private volatile ConcurrentReportNode includingNode;
+
+    /**
+     * Create a builder for the root of a new thread-safe tree.
+     */
+    public static ReportNodeBuilder newRootReportNode() {
+        return new ConcurrentReportNodeRootBuilder();
+    }
+
+    static ConcurrentReportNode createRootReportNode(String messageKey, Map<String, TypedValue> values, TreeContext treeContext,
+                                                     MessageTemplateProvider messageTemplateProvider) {
+        return new ConcurrentReportNode(messageKey, values, null, Objects.requireNonNull(treeContext), messageTemplateProvider);
+    }
+
+    static ConcurrentReportNode createChildReportNode(String messageKey, Map<String, TypedValue> values, ConcurrentReportNode parent,
+                                                      MessageTemplateProvider messageTemplateProvider) {
+        ConcurrentReportNode child = new ConcurrentReportNode(messageKey, values, parent, null, messageTemplateProvider);
+        parent.children.add(child);
+        return child;
+    }
+
+    private ConcurrentReportNode(String messageKey, Map<String, TypedValue> values, ConcurrentReportNode parent,
+                                 TreeContext treeContext, MessageTemplateProvider messageTemplateProvider) {
+        this.messageKey = Objects.requireNonNull(messageKey);
+        Objects.requireNonNull(values).forEach((k, v) -> {
+            Objects.requireNonNull(k);
+            Objects.requireNonNull(v);
+        });
+        this.values = new AtomicReference<>(Collections.unmodifiableMap(new LinkedHashMap<>(values)));
+        this.parent = parent;
+        this.treeContext = treeContext;
+        this.messageTemplateProvider = Objects.requireNonNull(messageTemplateProvider);
+        this.isRoot = new AtomicBoolean(parent == null);
+    }
+
+    private ConcurrentReportNode getRoot() {
+        ConcurrentReportNode node = this;
+        while (true) {
+            while (node.parent != null) {
+                node = node.parent;
+            }
+            ConcurrentReportNode next = node.includingNode;
+            if (next == null) {
+                return node;
+            }
+            node = next;
+        }
+    }
+
+    @Override
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return getTreeContext().getDictionary().get(messageKey);
+    }
+
+    @Override
+    public Map<String, TypedValue> getValues() {
+        return values.get();
+    }
+
+    @Override
+    public String getMessage(ReportFormatter formatter) {
+        String messageTemplate = getMessageTemplate();
+        String pattern = messageTemplate != null ? messageTemplate : messageKey;
+        return new StringSubstitutor(vk -> getValue(vk).map(formatter::format).orElse(null)).replace(pattern);
+    }
+
+    /**
+     * Look for the value in this node, then in its ancestors. As for {@link ReportNodeImpl}, the values of the node
+     * including a tree are not inherited by the included tree.
+     */
+    @Override
+    public Optional<TypedValue> getValue(String valueKey) {
+        for (ConcurrentReportNode node = this; node != null; node = node.parent) {
+            TypedValue value = node.values.get().get(valueKey);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * @return a snapshot of the children added so far
+     */
+    @Override
+    public List<ReportNode> getChildren() {
+        return List.copyOf(children);
+    }
+
+    @Override
+    public ReportNodeAdder newReportNode() {
+        return new ConcurrentReportNodeChildAdder(this, messageTemplateProvider);
+    }
+
+    @Override
+    public TreeContext getTreeContext() {
+        return getRoot().treeContext;
+    }
+
+    @Override
+    public void include(ReportNode reportRoot) {
+        if (!(reportRoot instanceof ConcurrentReportNode concurrentReportNode)) {
+            throw new PowsyblException("Cannot mix implementations of ReportNode, included reportNode should be a ConcurrentReportNode");
+        }
+        if (getRoot() == concurrentReportNode) {
+            throw new PowsyblException("The given reportNode cannot be included as it is the root of the reportNode");
+        }
+        if (!concurrentReportNode.isRoot.compareAndSet(true, false)) {
+            throw new PowsyblException("Cannot include non-root reportNode");
+        }
+
+        getTreeContext().merge(concurrentReportNode.treeContext);
+        concurrentReportNode.includingNode = this;
+        children.add(concurrentReportNode);
+    }
+
+    /**
+     * Copy the given node and its descendants as a child of this node. As for {@link ReportNodeImpl}, the inherited
+     * values of the copied node are not kept.
+     */
+    @Override
+    public void addCopy(ReportNode reportNode) {
+        Objects.requireNonNull(reportNode);
+        getTreeContext().merge(reportNode.getTreeContext());
+        addCopy(reportNode, this);
+    }
+
+    private static void addCopy(ReportNode reportNode, ConcurrentReportNode parent) {
+        ConcurrentReportNode copy = new ConcurrentReportNode(reportNode.getMessageKey(), reportNode.getValues(), parent,
+                null, parent.messageTemplateProvider);
+        for (ReportNode child : reportNode.getChildren()) {
+            addCopy(child, copy);
+        }
+        parent.children.add(copy);
+    }
+
+    private ConcurrentReportNode putValue(String key, TypedValue value) {
+        Objects.requireNonNull(key);
+        values.updateAndGet(previousValues -> {
+            Map<String, TypedValue> newValues = new LinkedHashMap<>(previousValues);
+            newValues.put(key, value);
+            return Collections.unmodifiableMap(newValues);
+        });
+        return this;
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, String value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, String value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, double value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, double value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, float value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, float value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, int value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, int value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, long value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, long value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addTypedValue(String key, boolean value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public ConcurrentReportNode addUntypedValue(String key, boolean value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public ConcurrentReportNode addSeverity(TypedValue severity) {
+        TypedValue.checkSeverityType(severity);
+        return putValue(ReportConstants.SEVERITY_KEY, severity);
+    }
+
+    @Override
+    public ConcurrentReportNode addSeverity(String severity) {
+        return putValue(ReportConstants.SEVERITY_KEY, TypedValue.of(severity, TypedValue.SEVERITY));
+    }
+
+    @Override
+    public void print(Writer writer, ReportFormatter formatter) throws IOException {
+        print(writer, "", formatter);
+    }
+
+    private void print(Writer writer, String indentationStart, ReportFormatter formatter) throws IOException {
+        List<ConcurrentReportNode> childrenSnapshot = List.copyOf(children);
+        if (childrenSnapshot.isEmpty()) {
+            print(writer, indentationStart, "", formatter);
+        } else {
+            print(writer, indentationStart, "+ ", formatter);
+            String childrenIndent = indentationStart + "   ";
+            for (ConcurrentReportNode child : childrenSnapshot) {
+                child.print(writer, childrenIndent, formatter);
+            }
+        }
+    }
+
+    private void print(Writer writer, String indent, String prefix, ReportFormatter formatter) throws IOException {
+        writer.append(indent).append(prefix).append(getMessage(formatter)).append(System.lineSeparator());
+    }
+
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        generator.writeStringField("messageKey", getMessageKey());
+        Map<String, TypedValue> valuesSnapshot = values.get();
+        if (!valuesSnapshot.isEmpty()) {
+            generator.writeObjectField("values", valuesSnapshot);
+        }
+        List<ConcurrentReportNode> childrenSnapshot = List.copyOf(children);
+        if (!childrenSnapshot.isEmpty()) {
+            generator.writeFieldName("children");
+            generator.writeStartArray();
+            for (ConcurrentReportNode child : childrenSnapshot) {
+                generator.writeStartObject();
+                child.writeJson(generator);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import java.util.Objects;
+
+/**
+ * Adder of the children of a {@link ConcurrentReportNode}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ConcurrentReportNodeChildAdder extends AbstractReportNodeAdderOrBuilder<ReportNodeAdder>
+        implements ReportNodeAdder {
+
+    private final ConcurrentReportNode parent;
+
+    ConcurrentReportNodeChildAdder(ConcurrentReportNode parent, MessageTemplateProvider messageTemplateProvider) {
+        this.parent = Objects.requireNonNull(parent);
+        this.messageTemplateProvider = messageTemplateProvider;
+    }
+
+    @Override
+    public ConcurrentReportNode add() {
+        TreeContext treeContext = parent.getTreeContext();
+        if (withTimestamp) {
+            addTimeStampValue(treeContext);
+        }
+        updateTreeDictionary(treeContext);
+        return ConcurrentReportNode.createChildReportNode(key, values, parent, messageTemplateProvider);
+    }
+
+    @Override
+    public ConcurrentReportNodeChildAdder self() {
+        return this;
+    }
+}
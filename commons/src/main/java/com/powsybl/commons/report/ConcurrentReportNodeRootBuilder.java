@@ -0,0 +1,51 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import java.util.Locale;
+
+/**
+ * Builder of the root of a {@link ConcurrentReportNode} tree.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ConcurrentReportNodeRootBuilder extends AbstractReportNodeAdderOrBuilder<ReportNodeBuilder> implements ReportNodeBuilder {
+
+    private String defaultTimestampPattern;
+    private Locale locale;
+
+    ConcurrentReportNodeRootBuilder() {
+    }
+
+    @Override
+    public ReportNodeBuilder withDefaultTimestampPattern(String timestampPattern) {
+        this.defaultTimestampPattern = timestampPattern;
+        return this;
+    }
+
+    @Override
+    public ReportNodeBuilder withLocale(Locale locale) {
+        this.locale = locale;
+        return this;
+    }
+
+    @Override
+    public ConcurrentReportNode build() {
+        TreeContext treeContext = new TreeContextImpl(locale, defaultTimestampPattern);
+        if (withTimestamp) {
+            addTimeStampValue(treeContext);
+        }
+        updateTreeDictionary(treeContext);
+        return ConcurrentReportNode.createRootReportNode(key, values, treeContext, messageTemplateProvider);
+    }
+
+    @Override
+    public ReportNodeBuilder self() {
+        return this;
+    }
+}
@@ -0,0 +1,132 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * A {@link ReportNodeSink} writing one JSON object per line:
+ * <ul>
+ *     <li>for each node: <code>{"id":2,"parentId":1,"messageKey":"key","values":{...}}</code>,
+ *     the <code>parentId</code> field being absent for the root node and the <code>values</code> field being absent
+ *     if the node has no value;</li>
+ *     <li>a last line with the summary: <code>{"version":"3.0","dictionaries":{"default":{...}},"severities":{...},"nodeCount":12}</code>.</li>
+ * </ul>
+ *
+ * <p>When created on a file, the nodes written can be read back with {@link #replay(ReportNodeSink)}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class JsonLinesReportNodeSink implements ReportNodeSink {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper().registerModule(new ReportNodeJsonModule());
+
+    private static final TypeReference<LinkedHashMap<String, TypedValue>> VALUES_TYPE = new TypeReference<>() {
+    };
+
+    private final JsonGenerator generator;
+
+    private final Path file;
+
+    public JsonLinesReportNodeSink(Path file) throws IOException {
+        this(OBJECT_MAPPER.getFactory().createGenerator(Files.newOutputStream(Objects.requireNonNull(file))), file);
+    }
+
+    public JsonLinesReportNodeSink(OutputStream outputStream) throws IOException {
+        this(OBJECT_MAPPER.getFactory().createGenerator(Objects.requireNonNull(outputStream)), null);
+    }
+
+    public JsonLinesReportNodeSink(Writer writer) throws IOException {
+        this(OBJECT_MAPPER.getFactory().createGenerator(Objects.requireNonNull(writer)), null);
+    }
+
+    private JsonLinesReportNodeSink(JsonGenerator generator, Path file) {
+        this.generator = generator;
+        this.generator.setPrettyPrinter(new MinimalPrettyPrinter("\n"));
+        this.file = file;
+    }
+
+    @Override
+    public void writeNode(long id, long parentId, String messageKey, Map<String, TypedValue> values) throws IOException {
+        generator.writeStartObject();
+        generator.writeNumberField("id", id);
+        if (parentId >= 0) {
+            generator.writeNumberField("parentId", parentId);
+        }
+        generator.writeStringField("messageKey", messageKey);
+        if (!values.isEmpty()) {
+            generator.writeObjectField("values", values);
+        }
+        generator.writeEndObject();
+    }
+
+    @Override
+    public void writeSummary(Map<String, String> dictionary, Map<String, Long> severityCounts, long nodeCount) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("version", ReportConstants.CURRENT_VERSION.toString());
+        generator.writeFieldName("dictionaries");
+        generator.writeStartObject();
+        generator.writeObjectField("default", dictionary);
+        generator.writeEndObject();
+        generator.writeObjectField("severities", severityCounts);
+        generator.writeNumberField("nodeCount", nodeCount);
+        generator.writeEndObject();
+        generator.writeRaw('\n');
+    }
+
+    /**
+     * Read back the nodes written so far, which is only possible if this sink has been created on a file.
+     */
+    @Override
+    public boolean replay(ReportNodeSink target) throws IOException {
+        Objects.requireNonNull(target);
+        if (file == null) {
+            return false;
+        }
+        if (!generator.isClosed()) {
+            generator.flush();
+        }
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                JsonNode node = OBJECT_MAPPER.readTree(line);
+                if (node == null || !node.has("messageKey")) {
+                    // empty line or summary
+                    continue;
+                }
+                JsonNode parentId = node.get("parentId");
+                JsonNode values = node.get("values");
+                target.writeNode(node.get("id").asLong(), parentId != null ? parentId.asLong() : -1,
+                        node.get("messageKey").asText(),
+                        values != null ? OBJECT_MAPPER.readerFor(VALUES_TYPE).readValue(values) : Collections.emptyMap());
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
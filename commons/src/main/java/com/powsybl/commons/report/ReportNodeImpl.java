@@ -35,6 +35,7 @@ import static com.powsybl.commons.report.ReportNodeDeserializer.checkToken;
  * As such, a <code>ReportNodeImpl</code> is not meant to be shared with other threads.
  * Therefore, it should not be saved as a class parameter of an object which could be used by separate threads.
  * In those cases it should instead be passed on in methods through their arguments.
+ * If a tree has to be shared by several threads, a {@link ConcurrentReportNode} should be used instead.
  *
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
  */
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.util.Map;
+
+/**
+ * Destination of the nodes of a {@link StreamingReportNode} tree, written one by one when they are closed.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface ReportNodeSink extends Closeable {
+
+    /**
+     * Write a closed node.
+     * @param id the identifier of the node, unique within the tree
+     * @param parentId the identifier of the parent node, or -1 for the root node
+     * @param messageKey the key of the message template of the node
+     * @param values the values of the node itself, without the inherited ones
+     */
+    void writeNode(long id, long parentId, String messageKey, Map<String, TypedValue> values) throws IOException;
+
+    /**
+     * Write the summary of the tree, once all its nodes have been written.
+     * @param dictionary the message templates of the tree indexed by their key
+     * @param severityCounts the number of nodes per severity
+     * @param nodeCount the total number of nodes of the tree
+     */
+    void writeSummary(Map<String, String> dictionary, Map<String, Long> severityCounts, long nodeCount) throws IOException;
+
+    /**
+     * Read back the nodes written so far, and write them in the same order to the given sink, without the summary.
+     * This is used to print or serialize a {@link StreamingReportNode} tree.
+     * @param target the sink the nodes are written to
+     * @return false if the nodes cannot be read back from this sink, in which case nothing is written to the target
+     */
+    default boolean replay(ReportNodeSink target) throws IOException {
+        return false;
+    }
+}
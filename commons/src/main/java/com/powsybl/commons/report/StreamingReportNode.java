@@ -0,0 +1,453 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.powsybl.commons.PowsyblException;
+import org.apache.commons.text.StringSubstitutor;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.*;
+
+/**
+ * A {@link ReportNode} implementation which does not keep the report tree in memory: nodes are written to a
+ * {@link ReportNodeSink} as soon as they are closed, and only a bounded summary (node count and number of nodes per
+ * severity) is kept.
+ *
+ * <p>A node is closed when a new child is added to its parent (that is, when a sibling is created), when it is
+ * explicitly closed, or when the root node is closed. Closing a node closes its descendants first, so the children
+ * of a node are written before it. Values cannot be added to a closed node, but children can still be added to it:
+ * they are written with a reference to their parent.
+ *
+ * <p>The root node has to be closed with {@link #close()} to write the remaining nodes and the summary, and to close
+ * the sink. As {@link ReportNodeBuilder#build()} returns a {@link ReportNode}, the built root has to be cast:
+ * <pre>{@code
+ * try (StreamingReportNode root = (StreamingReportNode) StreamingReportNode.newRootReportNode(sink)
+ *         .withMessageTemplate("key")
+ *         .build()) {
+ *     ...
+ * }
+ * }</pre>
+ *
+ * <p>Printing or serializing a node requires to read back its written descendants from the sink, which is only
+ * possible with a sink supporting {@link ReportNodeSink#replay(ReportNodeSink)}, like a {@link JsonLinesReportNodeSink}
+ * created on a file.
+ *
+ * <p>Message keys and value keys are interned per tree, so that the many nodes sharing the same message template do
+ * not hold copies of the same strings. As {@link ReportNodeImpl}, instances are not thread-safe.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class StreamingReportNode implements ReportNode, AutoCloseable {
+
+    private final StreamingContext context;
+    private final StreamingReportNode parent;
+    private final long id;
+    private final String messageKey;
+    private final Map<String, TypedValue> values;
+    private final MessageTemplateProvider messageTemplateProvider;
+    private StreamingReportNode openChild;
+    private boolean closed = false;
+
+    /**
+     * State shared by all the nodes of a tree.
+     */
+    private static final class StreamingContext {
+
+        private final ReportNodeSink sink;
+        private final TreeContext treeContext;
+        private final Map<String, String> internedKeys = new HashMap<>();
+        private final Map<String, Long> severityCounts = new TreeMap<>();
+        private final Set<StreamingReportNode> detachedNodes = new LinkedHashSet<>();
+        private long nextId = 0;
+        private long nodeCount = 0;
+        private boolean closed = false;
+
+        private StreamingContext(ReportNodeSink sink, TreeContext treeContext) {
+            this.sink = Objects.requireNonNull(sink);
+            this.treeContext = Objects.requireNonNull(treeContext);
+        }
+
+        private String intern(String key) {
+            return internedKeys.computeIfAbsent(key, k -> k);
+        }
+
+        private Map<String, TypedValue> internKeys(Map<String, TypedValue> values) {
+            Map<String, TypedValue> internedValues = new LinkedHashMap<>(Math.max(2, values.size() * 2));
+            values.forEach((k, v) -> internedValues.put(intern(Objects.requireNonNull(k)), Objects.requireNonNull(v)));
+            return internedValues;
+        }
+
+        private void write(long id, long parentId, String messageKey, Map<String, TypedValue> values) {
+            TypedValue severity = values.get(ReportConstants.SEVERITY_KEY);
+            if (severity != null) {
+                severityCounts.merge(severity.getValue().toString(), 1L, Long::sum);
+            }
+            nodeCount++;
+            try {
+                sink.writeNode(id, parentId, messageKey, values);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private void checkNotClosed() {
+            if (closed) {
+                throw new PowsyblException("The report tree has already been closed");
+            }
+        }
+    }
+
+    /**
+     * Create a builder for the root of a new tree, whose nodes are written to the given sink.
+     */
+    public static ReportNodeBuilder newRootReportNode(ReportNodeSink sink) {
+        return new StreamingReportNodeRootBuilder(sink);
+    }
+
+    static StreamingReportNode createRootReportNode(String messageKey, Map<String, TypedValue> values, TreeContext treeContext,
+                                                    ReportNodeSink sink, MessageTemplateProvider messageTemplateProvider) {
+        return new StreamingReportNode(new StreamingContext(sink, treeContext), null, messageKey, values, messageTemplateProvider);
+    }
+
+    static StreamingReportNode createChildReportNode(String messageKey, Map<String, TypedValue> values, StreamingReportNode parent,
+                                                     MessageTemplateProvider messageTemplateProvider) {
+        parent.context.checkNotClosed();
+        if (parent.openChild != null) {
+            parent.openChild.closeNode();
+        }
+        StreamingReportNode child = new StreamingReportNode(parent.context, parent, messageKey, values, messageTemplateProvider);
+        parent.openChild = child;
+        if (parent.closed) {
+            parent.context.detachedNodes.add(child);
+        }
+        return child;
+    }
+
+    private StreamingReportNode(StreamingContext context, StreamingReportNode parent, String messageKey,
+                                Map<String, TypedValue> values, MessageTemplateProvider messageTemplateProvider) {
+        this.context = context;
+        this.parent = parent;
+        this.id = context.nextId++;
+        this.messageKey = context.intern(Objects.requireNonNull(messageKey));
+        this.values = context.internKeys(values);
+        this.messageTemplateProvider = Objects.requireNonNull(messageTemplateProvider);
+    }
+
+    private void closeNode() {
+        if (closed) {
+            return;
+        }
+        if (openChild != null) {
+            openChild.closeNode();
+        }
+        context.write(id, parent != null ? parent.id : -1, messageKey, values);
+        closed = true;
+        context.detachedNodes.remove(this);
+        if (parent != null && parent.openChild == this) {
+            parent.openChild = null;
+        }
+    }
+
+    /**
+     * Close this node and its descendants, which are written to the sink. If this node is the root node, the whole
+     * tree is closed: all the remaining nodes and the summary are written, and the sink is closed.
+     */
+    @Override
+    public void close() {
+        if (parent != null) {
+            closeNode();
+            return;
+        }
+        if (context.closed) {
+            return;
+        }
+        closeNode();
+        for (StreamingReportNode detachedNode : new ArrayList<>(context.detachedNodes)) {
+            detachedNode.closeNode();
+        }
+        context.closed = true;
+        try (ReportNodeSink sink = context.sink) {
+            sink.writeSummary(context.treeContext.getDictionary(), context.severityCounts, context.nodeCount);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * @return the number of nodes of the tree written so far, per severity
+     */
+    public Map<String, Long> getSeverityCounts() {
+        return Collections.unmodifiableMap(context.severityCounts);
+    }
+
+    /**
+     * @return the number of nodes of the tree written so far
+     */
+    public long getNodeCount() {
+        return context.nodeCount;
+    }
+
+    @Override
+    public String getMessageKey() {
+        return messageKey;
+    }
+
+    @Override
+    public String getMessageTemplate() {
+        return getTreeContext().getDictionary().get(messageKey);
+    }
+
+    @Override
+    public String getMessage(ReportFormatter formatter) {
+        String messageTemplate = getMessageTemplate();
+        String pattern = messageTemplate != null ? messageTemplate : messageKey;
+        return new StringSubstitutor(vk -> getValue(vk).map(formatter::format).orElse(null)).replace(pattern);
+    }
+
+    @Override
+    public Map<String, TypedValue> getValues() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    @Override
+    public Optional<TypedValue> getValue(String valueKey) {
+        for (StreamingReportNode node = this; node != null; node = node.parent) {
+            TypedValue value = node.values.get(valueKey);
+            if (value != null) {
+                return Optional.of(value);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Children are not kept in memory once written: only the child which has not been closed yet, if any, is returned.
+     */
+    @Override
+    public List<ReportNode> getChildren() {
+        return openChild != null ? List.of(openChild) : Collections.emptyList();
+    }
+
+    @Override
+    public ReportNodeAdder newReportNode() {
+        return new StreamingReportNodeChildAdder(this, messageTemplateProvider);
+    }
+
+    @Override
+    public TreeContext getTreeContext() {
+        return context.treeContext;
+    }
+
+    /**
+     * Write the whole given tree as a subtree of this node. The given tree is not modified.
+     */
+    @Override
+    public void include(ReportNode reportRoot) {
+        Objects.requireNonNull(reportRoot);
+        if (reportRoot instanceof StreamingReportNode) {
+            throw new PowsyblException("Cannot include a streamed reportNode, as its nodes are not kept in memory");
+        }
+        context.checkNotClosed();
+        if (openChild != null) {
+            openChild.closeNode();
+        }
+        context.treeContext.merge(reportRoot.getTreeContext());
+        writeSubtree(reportRoot, id);
+    }
+
+    @Override
+    public void addCopy(ReportNode reportNode) {
+        include(reportNode);
+    }
+
+    private void writeSubtree(ReportNode node, long parentId) {
+        long nodeId = context.nextId++;
+        for (ReportNode child : node.getChildren()) {
+            writeSubtree(child, nodeId);
+        }
+        context.write(nodeId, parentId, context.intern(node.getMessageKey()), context.internKeys(node.getValues()));
+    }
+
+    /**
+     * Write this node and its descendants. The descendants already written are read back from the sink, which therefore
+     * has to support {@link ReportNodeSink#replay(ReportNodeSink)}.
+     */
+    @Override
+    public void writeJson(JsonGenerator generator) throws IOException {
+        replaySubtree(false).writeJson(generator);
+    }
+
+    /**
+     * Print this node and its descendants. The descendants already written are read back from the sink, which therefore
+     * has to support {@link ReportNodeSink#replay(ReportNodeSink)}.
+     */
+    @Override
+    public void print(Writer writer, ReportFormatter formatter) throws IOException {
+        replaySubtree(true).print(writer, formatter);
+    }
+
+    private record ReplayedNode(String messageKey, Map<String, TypedValue> values) {
+    }
+
+    /**
+     * Rebuild in memory the subtree of this node, from the nodes written to the sink and the ones not written yet.
+     */
+    private ReportNodeImpl replaySubtree(boolean withInheritedValues) throws IOException {
+        Map<Long, ReplayedNode> nodes = new HashMap<>();
+        Map<Long, List<Long>> childrenIds = new HashMap<>();
+        ReportNodeSink collector = new ReportNodeSink() {
+            @Override
+            public void writeNode(long nodeId, long parentId, String key, Map<String, TypedValue> nodeValues) {
+                nodes.put(nodeId, new ReplayedNode(key, nodeValues));
+                childrenIds.computeIfAbsent(parentId, k -> new ArrayList<>()).add(nodeId);
+            }
+
+            @Override
+            public void writeSummary(Map<String, String> dictionary, Map<String, Long> severityCounts, long nodeCount) {
+                // not replayed
+            }
+
+            @Override
+            public void close() {
+                // nothing to close
+            }
+        };
+        if (!context.sink.replay(collector)) {
+            throw new PowsyblException("The written nodes of report node '" + messageKey + "' cannot be read back from its sink");
+        }
+
+        // add the nodes not written yet
+        StreamingReportNode root = this;
+        while (root.parent != null) {
+            root = root.parent;
+        }
+        collectOpenNodes(root, collector);
+        for (StreamingReportNode detachedNode : context.detachedNodes) {
+            collectOpenNodes(detachedNode, collector);
+        }
+
+        Map<String, TypedValue> subtreeRootValues = new LinkedHashMap<>();
+        if (withInheritedValues) {
+            Deque<StreamingReportNode> ancestors = new ArrayDeque<>();
+            for (StreamingReportNode ancestor = parent; ancestor != null; ancestor = ancestor.parent) {
+                ancestors.push(ancestor);
+            }
+            ancestors.forEach(ancestor -> subtreeRootValues.putAll(ancestor.values));
+        }
+        subtreeRootValues.putAll(values);
+        ReportNodeImpl subtreeRoot = ReportNodeImpl.createRootReportNode(messageKey, subtreeRootValues, context.treeContext, messageTemplateProvider);
+        addReplayedChildren(subtreeRoot, id, nodes, childrenIds);
+        return subtreeRoot;
+    }
+
+    private static void collectOpenNodes(StreamingReportNode node, ReportNodeSink collector) throws IOException {
+        for (StreamingReportNode openNode = node; openNode != null; openNode = openNode.openChild) {
+            if (!openNode.closed) {
+                collector.writeNode(openNode.id, openNode.parent != null ? openNode.parent.id : -1, openNode.messageKey, openNode.values);
+            }
+        }
+    }
+
+    private void addReplayedChildren(ReportNodeImpl node, long nodeId, Map<Long, ReplayedNode> nodes, Map<Long, List<Long>> childrenIds) {
+        List<Long> ids = childrenIds.getOrDefault(nodeId, Collections.emptyList());
+        // node ids are allocated in creation order
+        ids.sort(null);
+        for (long childId : ids) {
+            ReplayedNode child = nodes.get(childId);
+            ReportNodeImpl childNode = ReportNodeImpl.createChildReportNode(child.messageKey(), new LinkedHashMap<>(child.values()),
+                    node, messageTemplateProvider);
+            addReplayedChildren(childNode, childId, nodes, childrenIds);
+        }
+    }
+
+    private StreamingReportNode putValue(String key, TypedValue value) {
+        if (closed) {
+            throw new PowsyblException("Cannot add a value to report node '" + messageKey + "': it has already been written");
+        }
+        values.put(context.intern(Objects.requireNonNull(key)), value);
+        return this;
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, String value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, String value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, double value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, double value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, float value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, float value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, int value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, int value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, long value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, long value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addTypedValue(String key, boolean value, String type) {
+        return putValue(key, TypedValue.of(value, type));
+    }
+
+    @Override
+    public StreamingReportNode addUntypedValue(String key, boolean value) {
+        return putValue(key, TypedValue.untyped(value));
+    }
+
+    @Override
+    public StreamingReportNode addSeverity(TypedValue severity) {
+        TypedValue.checkSeverityType(severity);
+        return putValue(ReportConstants.SEVERITY_KEY, severity);
+    }
+
+    @Override
+    public StreamingReportNode addSeverity(String severity) {
+        return putValue(ReportConstants.SEVERITY_KEY, TypedValue.of(severity, TypedValue.SEVERITY));
+    }
+}
@@ -0,0 +1,54 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * Builder of the root of a {@link StreamingReportNode} tree.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class StreamingReportNodeRootBuilder extends AbstractReportNodeAdderOrBuilder<ReportNodeBuilder> implements ReportNodeBuilder {
+
+    private final ReportNodeSink sink;
+    private String defaultTimestampPattern;
+    private Locale locale;
+
+    StreamingReportNodeRootBuilder(ReportNodeSink sink) {
+        this.sink = Objects.requireNonNull(sink);
+    }
+
+    @Override
+    public ReportNodeBuilder withDefaultTimestampPattern(String timestampPattern) {
+        this.defaultTimestampPattern = timestampPattern;
+        return this;
+    }
+
+    @Override
+    public ReportNodeBuilder withLocale(Locale locale) {
+        this.locale = locale;
+        return this;
+    }
+
+    @Override
+    public StreamingReportNode build() {
+        TreeContext treeContext = new TreeContextImpl(locale, defaultTimestampPattern);
+        if (withTimestamp) {
+            addTimeStampValue(treeContext);
+        }
+        updateTreeDictionary(treeContext);
+        return StreamingReportNode.createRootReportNode(key, values, treeContext, sink, messageTemplateProvider);
+    }
+
+    @Override
+    public ReportNodeBuilder self() {
+        return this;
+    }
+}
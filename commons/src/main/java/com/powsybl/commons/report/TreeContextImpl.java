@@ -12,13 +12,19 @@ import org.slf4j.LoggerFactory;
 
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListMap;
 
 /**
+ * Default {@link TreeContext} implementation.
+ *
+ * <p>The dictionary is a concurrent sorted map whose entries are added atomically, so that a tree context can be
+ * shared by nodes created concurrently, see {@link ConcurrentReportNode}.
+ *
  * @author Florian Dupuy {@literal <florian.dupuy at rte-france.com>}
  */
 public class TreeContextImpl implements TreeContext {
     private static final Logger LOGGER = LoggerFactory.getLogger(TreeContextImpl.class);
-    private final SortedMap<String, String> dictionary = new TreeMap<>();
+    private final SortedMap<String, String> dictionary = new ConcurrentSkipListMap<>();
     private final Locale locale;
     private final DateTimeFormatter timestampFormatter;
 
@@ -60,7 +66,7 @@ public class TreeContextImpl implements TreeContext {
     }
 
     @Override
-    public synchronized void merge(TreeContext otherContext) {
+    public void merge(TreeContext otherContext) {
         otherContext.getDictionary().forEach(this::addDictionaryEntry);
     }
 
@@ -73,16 +79,12 @@ public class TreeContextImpl implements TreeContext {
         }
     }
 
-    public synchronized void addDictionaryEntry(String key, String messageTemplate) {
+    public void addDictionaryEntry(String key, String messageTemplate) {
         Objects.requireNonNull(key);
         Objects.requireNonNull(messageTemplate);
-        dictionary.merge(key, messageTemplate, (prevMsg, newMsg) -> mergeEntries(key, prevMsg, newMsg));
-    }
-
-    private static String mergeEntries(String key, String previousMessageTemplate, String newMessageTemplate) {
-        if (!previousMessageTemplate.equals(newMessageTemplate)) {
-            LOGGER.warn("Same key {} for two non-equal message templates: '{}' / '{}'. Keeping the first one.", key, previousMessageTemplate, newMessageTemplate);
+        String previousMessageTemplate = dictionary.putIfAbsent(key, messageTemplate);
+        if (previousMessageTemplate != null && !previousMessageTemplate.equals(messageTemplate)) {
+            LOGGER.warn("Same key {} for two non-equal message templates: '{}' / '{}'. Keeping the first one.", key, previousMessageTemplate, messageTemplate);
         }
-        return previousMessageTemplate;
     }
 }
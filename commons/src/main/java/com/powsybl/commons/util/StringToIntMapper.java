@@ -8,8 +8,6 @@
  */
 package com.powsybl.commons.util;
 
-import com.google.common.collect.BiMap;
-import com.google.common.collect.HashBiMap;
 import com.powsybl.commons.PowsyblException;
 
 import java.io.BufferedReader;
@@ -19,30 +17,85 @@ import java.io.Writer;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
+ * A mapping between string ids and integer numbers, numbers being allocated sequentially per subset.
+ *
+ * <p>Lookups ({@link #getInt}, {@link #getId}, {@link #isMapped}) do not take any lock, so that the mapper can be
+ * shared by threads reading it concurrently. Numbers are stored in a concurrent map, ids in an array indexed by
+ * number. Only the allocation of a new number locks the subset it belongs to.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class StringToIntMapper<S extends Enum<S> & IntCounter> {
 
-    private final Class<S> clazz;
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Mapping of a subset. The id of a number is stored before the counter is incremented (volatile write) and before
+     * the number is associated to the id, so that a thread reading the counter or the number of an id also sees the
+     * ids of all the numbers lower than the counter.
+     */
+    private static final class SubsetMapping {
+
+        private final int initialValue;
+
+        private final Map<String, Integer> numbers = new ConcurrentHashMap<>();
+
+        private volatile String[] ids = new String[INITIAL_CAPACITY];
 
-    private final Map<S, BiMap<String, Integer>> id2num;
+        private volatile int counter;
 
-    private final Map<S, Integer> counter;
+        private SubsetMapping(int initialValue) {
+            this.initialValue = initialValue;
+            counter = initialValue;
+        }
+
+        // the following methods have to be called while holding the lock on the mapping
 
-    private boolean modified = false;
+        private void put(String id, int num) {
+            int index = num - initialValue;
+            String[] newIds = ids;
+            if (index >= newIds.length) {
+                newIds = Arrays.copyOf(newIds, Math.max(index + 1, newIds.length * 2));
+            }
+            String oldId = newIds[index];
+            if (oldId != null && !oldId.equals(id)) {
+                throw new IllegalArgumentException("Number " + num + " is already mapped to '" + oldId + "'");
+            }
+            Integer oldNum = numbers.get(id);
+            if (oldNum != null && oldNum != num) {
+                newIds[oldNum - initialValue] = null;
+            }
+            newIds[index] = id;
+            ids = newIds;
+            // the number is visible from the id only once the id is visible from the number
+            counter = Math.max(counter, num + 1);
+            numbers.put(id, num);
+        }
+
+        private void clear() {
+            numbers.clear();
+            ids = new String[INITIAL_CAPACITY];
+            counter = initialValue;
+        }
+    }
+
+    private final Class<S> clazz;
+
+    private final Map<S, SubsetMapping> mappings;
+
+    private volatile boolean modified = false;
 
     public StringToIntMapper(Class<S> clazz) {
         this.clazz = clazz;
-        id2num = new EnumMap<>(clazz);
-        counter = new EnumMap<>(clazz);
+        mappings = new EnumMap<>(clazz);
         for (S s : clazz.getEnumConstants()) {
-            id2num.put(s, HashBiMap.create());
-            counter.put(s, s.getInitialValue());
+            mappings.put(s, new SubsetMapping(s.getInitialValue()));
         }
     }
 
@@ -50,63 +103,72 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
         return new IllegalArgumentException("subset is null");
     }
 
-    public synchronized int newInt(S subset, String id) {
+    public int newInt(S subset, String id) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
         if (id == null) {
             throw new IllegalArgumentException("id is null");
         }
-        Integer num = id2num.get(subset).get(id);
+        SubsetMapping mapping = mappings.get(subset);
+        Integer num = mapping.numbers.get(id);
         if (num == null) {
-            num = counter.get(subset);
-            counter.put(subset, num + 1);
-            id2num.get(subset).put(id, num);
-            modified = true;
+            synchronized (mapping) {
+                num = mapping.numbers.get(id);
+                if (num == null) {
+                    num = mapping.counter;
+                    mapping.put(id, num);
+                    modified = true;
+                }
+            }
         }
         return num;
     }
 
-    public synchronized int getInt(S subset, String id) {
+    public int getInt(S subset, String id) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
         if (id == null) {
             throw new IllegalArgumentException("id is null");
         }
-        Integer num = id2num.get(subset).get(id);
+        Integer num = mappings.get(subset).numbers.get(id);
         if (num == null) {
             throw new IllegalStateException("No mapping found for id '" + id + "'");
         }
         return num;
     }
 
-    public synchronized String getId(S subset, int num) {
+    public String getId(S subset, int num) {
         if (subset == null) {
             throw createSubsetIsNullException();
         }
-        if (num < subset.getInitialValue() || num >= counter.get(subset)) {
+        SubsetMapping mapping = mappings.get(subset);
+        if (num < subset.getInitialValue() || num >= mapping.counter) {
             throw new IllegalArgumentException("invalid num " + num);
         }
-        return id2num.get(subset).inverse().get(num);
+        return mapping.ids[num - mapping.initialValue];
     }
 
-    public synchronized boolean isMapped(S subset, String id) {
-        Map<String, Integer> numbers = id2num.get(subset);
-        return numbers.containsKey(id);
+    public boolean isMapped(S subset, String id) {
+        return mappings.get(subset).numbers.containsKey(id);
     }
 
-    public synchronized boolean isModified() {
+    public boolean isModified() {
         return modified;
     }
 
-    public synchronized void dump(Writer writer) throws IOException {
-        for (Map.Entry<S, BiMap<String, Integer>> entry : id2num.entrySet()) {
+    public void dump(Writer writer) throws IOException {
+        for (Map.Entry<S, SubsetMapping> entry : mappings.entrySet()) {
             S subset = entry.getKey();
-            for (Map.Entry<String, Integer> entry1 : entry.getValue().entrySet()) {
-                String id = entry1.getKey();
-                Integer num = entry1.getValue();
-                writer.write(subset + ";" + id + ";" + num + System.lineSeparator());
+            SubsetMapping mapping = entry.getValue();
+            int counter = mapping.counter;
+            String[] ids = mapping.ids;
+            for (int num = mapping.initialValue; num < counter; num++) {
+                String id = ids[num - mapping.initialValue];
+                if (id != null) {
+                    writer.write(subset + ";" + id + ";" + num + System.lineSeparator());
+                }
             }
         }
     }
@@ -117,7 +179,7 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
         }
     }
 
-    public synchronized void load(BufferedReader reader) throws IOException {
+    public void load(BufferedReader reader) throws IOException {
         String line;
         while ((line = reader.readLine()) != null) {
             if (line.trim().isEmpty()) {
@@ -130,8 +192,15 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
             S subset = Enum.valueOf(clazz, tokens[0]);
             String id = tokens[1];
             int num = Integer.parseInt(tokens[2]);
-            id2num.get(subset).put(id, num);
-            counter.put(subset, Math.max(counter.get(subset), num) + 1);
+            SubsetMapping mapping = mappings.get(subset);
+            if (num < mapping.initialValue) {
+                throw new PowsyblException("Bad number: " + line);
+            }
+            synchronized (mapping) {
+                int counter = mapping.counter;
+                mapping.put(id, num);
+                mapping.counter = Math.max(counter, num) + 1;
+            }
         }
     }
 
@@ -141,12 +210,14 @@ public class StringToIntMapper<S extends Enum<S> & IntCounter> {
         }
     }
 
-    public synchronized void reset(S subset) {
+    public void reset(S subset) {
         if (subset == null) {
             throw new IllegalArgumentException("subset is null");
         }
-        id2num.put(subset, HashBiMap.create());
-        counter.put(subset, subset.getInitialValue());
+        SubsetMapping mapping = mappings.get(subset);
+        synchronized (mapping) {
+            mapping.clear();
+        }
     }
 
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.io.table;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class GeneralNumberFormatterTest {
+
+    private static final List<Locale> LOCALES = List.of(Locale.US, Locale.FRANCE, Locale.GERMANY, Locale.ROOT,
+            Locale.forLanguageTag("ar-EG"), Locale.forLanguageTag("hi-IN-u-nu-deva"));
+
+    private static final double[] VALUES = {
+        0.0, -0.0, 1.0, -1.0, 0.5, 2.4, 4.2, 607.0, -302.4440612792969, 123456.7, 999999.4, 999999.6, 1e6, 9.99999e5,
+        1e-4, 9.999996e-5, 0.000123456, 1e-5, 123456789.0, 1e21, 1e-17, 0.1, 0.2, 0.3, 1.0 / 3, 2.0 / 3,
+        Double.MIN_VALUE, Double.MAX_VALUE, Double.POSITIVE_INFINITY, Double.NEGATIVE_INFINITY,
+        // rounding ties of the shortest decimal representation
+        1.000005, 2.0000005, 1234565.0, 0.1234565, 9.999995, 999999.5
+    };
+
+    private static int checkSameFormat(GeneralNumberFormatter formatter, Locale locale, double value, char[] buffer) {
+        int length = formatter.format(value, buffer);
+        if (length >= 0) {
+            assertEquals(String.format(locale, "%g", value), new String(buffer, 0, length), () -> "value " + value + ", locale " + locale);
+        }
+        return length;
+    }
+
+    @Test
+    void testSameFormat() {
+        char[] buffer = new char[GeneralNumberFormatter.MAX_LENGTH];
+        for (Locale locale : LOCALES) {
+            GeneralNumberFormatter formatter = new GeneralNumberFormatter(locale);
+            for (double value : VALUES) {
+                checkSameFormat(formatter, locale, value, buffer);
+                checkSameFormat(formatter, locale, (float) value, buffer);
+            }
+        }
+    }
+
+    @Test
+    void testRandomValues() {
+        Random random = new Random(42);
+        char[] buffer = new char[GeneralNumberFormatter.MAX_LENGTH];
+        GeneralNumberFormatter formatter = new GeneralNumberFormatter(Locale.US);
+        int fallbackCount = 0;
+        int count = 200_000;
+        for (int i = 0; i < count; i++) {
+            double value = (random.nextBoolean() ? 1 : -1) * Math.pow(10, random.nextDouble() * 30 - 15);
+            if (checkSameFormat(formatter, Locale.US, value, buffer) < 0) {
+                fallbackCount++;
+            }
+            // values with a few decimals, as in network data
+            double rounded = Math.round(value * 1000) / 1000.0;
+            if (checkSameFormat(formatter, Locale.US, rounded, buffer) < 0) {
+                fallbackCount++;
+            }
+            checkSameFormat(formatter, Locale.US, (float) value, buffer);
+            checkSameFormat(formatter, Locale.US, Double.longBitsToDouble(random.nextLong()), buffer);
+        }
+        // nearly all the values are formatted without fallback
+        assertTrue(fallbackCount < count / 100, "Too many fallbacks: " + fallbackCount);
+    }
+
+    @Test
+    void testFallback() {
+        char[] buffer = new char[GeneralNumberFormatter.MAX_LENGTH];
+        GeneralNumberFormatter formatter = new GeneralNumberFormatter(Locale.US);
+        assertEquals(-1, formatter.format(Double.NaN, buffer));
+        assertEquals(-1, formatter.format(Double.POSITIVE_INFINITY, buffer));
+        assertEquals(-1, formatter.format(1e-30, buffer));
+        assertEquals(-1, formatter.format(1.000005, buffer));
+        int length = formatter.format(-1.5e-7, buffer);
+        assertEquals("-1.50000e-07", new String(buffer, 0, length));
+    }
+}
@@ -0,0 +1,117 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.metrics;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class MetricsTest {
+
+    private static MetricsRegistryProvider provider(String name, MetricsRegistry registry) {
+        return new MetricsRegistryProvider() {
+            @Override
+            public String getName() {
+                return name;
+            }
+
+            @Override
+            public MetricsRegistry create() {
+                return registry;
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        Metrics.setRegistry(MetricsRegistry.NO_OP);
+    }
+
+    @Test
+    void testNoOp() {
+        MetricsRegistry registry = MetricsRegistry.NO_OP;
+        assertSame(registry.timer("a"), registry.timer("b"));
+        assertSame(registry.timer("a").start(), registry.timer("b").start());
+        assertSame(registry.counter("a"), registry.counter("b"));
+        assertSame(registry.histogram("a"), registry.histogram("b"));
+        assertEquals(3, registry.timer("a").record(() -> 3));
+        assertDoesNotThrow(() -> {
+            registry.counter("a").increment();
+            registry.histogram("a").record(1);
+            registry.timer("a").record(1, TimeUnit.SECONDS);
+        });
+    }
+
+    @Test
+    void testDefaultRegistry() {
+        assertSame(MetricsRegistry.NO_OP, Metrics.createDefaultRegistry(Collections.emptyList()));
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        assertSame(registry, Metrics.createDefaultRegistry(List.of(provider("memory", registry))));
+        List<MetricsRegistryProvider> providers = List.of(provider("a", registry), provider("b", registry));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> Metrics.createDefaultRegistry(providers));
+        assertEquals("Several metrics registry providers found: [a, b]", e.getMessage());
+
+        Metrics.setRegistry(registry);
+        assertSame(registry, Metrics.getRegistry());
+        Metrics.counter("counter").increment();
+        assertEquals(Map.of("counter", 1L), registry.getCounters());
+    }
+
+    @Test
+    void testInMemory() throws IOException {
+        InMemoryMetricsRegistry registry = new InMemoryMetricsRegistry();
+        IntStream.range(0, 1000).parallel().forEach(i -> {
+            registry.counter("counter").increment(2);
+            registry.histogram("histogram").record(i);
+        });
+        registry.timer("timer").record(2, TimeUnit.MILLISECONDS);
+        registry.timer("timer").record(4000, TimeUnit.MICROSECONDS);
+        try (Timer.Sample sample = registry.timer("other.timer").start()) {
+            registry.counter("counter").increment();
+        }
+
+        assertEquals(Map.of("counter", 2001L), registry.getCounters());
+        InMemoryMetricsRegistry.Statistics histogram = registry.getHistograms().get("histogram");
+        assertEquals(1000, histogram.getCount());
+        assertEquals(0, histogram.getMin(), 0);
+        assertEquals(999, histogram.getMax(), 0);
+        assertEquals(499.5, histogram.getMean(), 0);
+        InMemoryMetricsRegistry.Statistics timer = registry.getTimers().get("timer");
+        assertEquals(2, timer.getCount());
+        assertEquals(6, timer.getSum(), 1e-9);
+        assertEquals(2, timer.getMin(), 1e-9);
+        assertEquals(4, timer.getMax(), 1e-9);
+        assertEquals(List.of("other.timer", "timer"), List.copyOf(registry.getTimers().keySet()));
+        assertEquals(1, registry.getTimers().get("other.timer").getCount());
+
+        JsonNode json = new ObjectMapper().readTree(registry.toJson());
+        assertEquals(2001, json.get("counters").get("counter").asLong());
+        assertEquals(1000, json.get("histograms").get("histogram").get("count").asLong());
+        assertEquals(3, json.get("timers").get("timer").get("mean").asDouble(), 1e-9);
+
+        registry.clear();
+        assertTrue(registry.getCounters().isEmpty());
+        assertTrue(registry.getTimers().isEmpty());
+        assertTrue(registry.getHistograms().isEmpty());
+        assertTrue(Double.isNaN(new InMemoryMetricsRegistry.Statistics().getMean()));
+    }
+}
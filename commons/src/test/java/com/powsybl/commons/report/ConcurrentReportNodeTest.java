@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static com.powsybl.commons.test.PowsyblTestReportResourceBundle.TEST_BASE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ConcurrentReportNodeTest {
+
+    @Test
+    void testConcurrentChildren() throws IOException {
+        ReportNode root = ConcurrentReportNode.newRootReportNode()
+                .withResourceBundles(TEST_BASE_NAME)
+                .withLocale(Locale.ENGLISH)
+                .withMessageTemplate("rootWithValue")
+                .withUntypedValue("value", 3)
+                .build();
+        assertInstanceOf(ConcurrentReportNode.class, root);
+
+        int taskCount = 8;
+        int childCount = 1000;
+        IntStream.range(0, taskCount).parallel().forEach(task -> {
+            ReportNode taskNode = root.newReportNode()
+                    .withMessageTemplate("child")
+                    .withTypedValue("stringTyped", "task" + task, TypedValue.FILENAME)
+                    .withSeverity(TypedValue.WARN_SEVERITY)
+                    .add();
+            IntStream.range(0, childCount).parallel().forEach(i -> {
+                taskNode.newReportNode()
+                        .withMessageTemplate(i % 2 == 0 ? "grandChild" : "simpleChild")
+                        .withSeverity(TypedValue.DETAIL_SEVERITY)
+                        .add();
+                root.addUntypedValue("value" + task, i);
+            });
+        });
+
+        assertEquals(taskCount, root.getChildren().size());
+        var taskValues = ConcurrentHashMap.<String>newKeySet();
+        for (ReportNode taskNode : root.getChildren()) {
+            assertEquals(childCount, taskNode.getChildren().size());
+            taskValues.add(taskNode.getValue("stringTyped").orElseThrow().getValue().toString());
+            assertEquals(3, taskNode.getValue("value").orElseThrow().getValue());
+        }
+        assertEquals(taskCount, taskValues.size());
+        assertEquals(1 + taskCount, root.getValues().size());
+        assertEquals("Root english message with value 3", root.getMessage());
+        assertTrue(root.getTreeContext().getDictionary().keySet().containsAll(List.of("rootWithValue", "child", "grandChild", "simpleChild")));
+
+        // the serialization is the same as the default implementation one
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        new ObjectMapper().registerModule(new ReportNodeJsonModule()).writeValue(os, root);
+        ReportNode read = ReportNodeDeserializer.read(new ByteArrayInputStream(os.toByteArray()));
+        assertInstanceOf(ReportNodeImpl.class, read);
+        StringWriter expected = new StringWriter();
+        root.print(expected);
+        StringWriter actual = new StringWriter();
+        read.print(actual);
+        assertEquals(expected.toString(), actual.toString());
+        assertEquals(1 + taskCount * (1 + childCount), actual.toString().split(System.lineSeparator()).length);
+    }
+
+    @Test
+    void testIncludeAndCopy() throws IOException {
+        ReportNode root = ConcurrentReportNode.newRootReportNode()
+                .withResourceBundles(TEST_BASE_NAME)
+                .withMessageTemplate("root")
+                .build();
+        ReportNode otherRoot = ConcurrentReportNode.newRootReportNode()
+                .withResourceBundles(TEST_BASE_NAME)
+                .withMessageTemplate("includedRoot")
+                .build();
+        ReportNode includedChild = otherRoot.newReportNode().withMessageTemplate("includedChild").add();
+
+        root.include(otherRoot);
+        assertSame(root.getTreeContext(), includedChild.getTreeContext());
+        assertEquals("Included child message", root.getTreeContext().getDictionary().get("includedChild"));
+        assertThrows(PowsyblException.class, () -> root.include(otherRoot));
+        assertThrows(PowsyblException.class, () -> otherRoot.include(root));
+        ReportNode defaultImplRoot = ReportNode.newRootReportNode().withMessageTemplate("key").build();
+        assertThrows(PowsyblException.class, () -> root.include(defaultImplRoot));
+
+        ReportNode toCopy = ReportNode.newRootReportNode()
+                .withResourceBundles(TEST_BASE_NAME)
+                .withMessageTemplate("rootWithValue")
+                .withUntypedValue("value", 4)
+                .build();
+        toCopy.newReportNode().withMessageTemplate("simpleChild").add();
+        root.addCopy(toCopy);
+
+        StringWriter sw = new StringWriter();
+        root.print(sw);
+        assertEquals(String.join(System.lineSeparator(),
+                "+ " + root.getMessage(),
+                "   + " + otherRoot.getMessage(),
+                "      " + includedChild.getMessage(),
+                "   + " + toCopy.getMessage(),
+                "      " + toCopy.getChildren().get(0).getMessage()) + System.lineSeparator(), sw.toString());
+        assertEquals("Included child message", includedChild.getMessage());
+    }
+}
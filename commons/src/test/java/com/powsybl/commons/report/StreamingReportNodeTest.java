@@ -0,0 +1,190 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.commons.report;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.jimfs.Configuration;
+import com.google.common.jimfs.Jimfs;
+import com.powsybl.commons.PowsyblException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.FileSystem;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+import static com.powsybl.commons.test.PowsyblTestReportResourceBundle.TEST_BASE_NAME;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class StreamingReportNodeTest {
+
+    private static List<JsonNode> readLines(StringWriter writer) throws IOException {
+        ObjectMapper mapper = new ObjectMapper();
+        String[] lines = writer.toString().split("\n");
+        JsonNode[] nodes = new JsonNode[lines.length];
+        for (int i = 0; i < lines.length; i++) {
+            nodes[i] = mapper.readTree(lines[i]);
+        }
+        return List.of(nodes);
+    }
+
+    @Test
+    void testStreaming() throws IOException {
+        StringWriter writer = new StringWriter();
+        StreamingReportNode root;
+        try (StreamingReportNode r = (StreamingReportNode) StreamingReportNode.newRootReportNode(new JsonLinesReportNodeSink(writer))
+                .withResourceBundles(TEST_BASE_NAME)
+                .withLocale(Locale.ENGLISH)
+                .withMessageTemplate("rootWithValue")
+                .withUntypedValue("value", 3)
+                .build()) {
+            root = r;
+            StreamingReportNode child1 = (StreamingReportNode) root.newReportNode()
+                    .withMessageTemplate("child")
+                    .withTypedValue("stringTyped", "parentValue", TypedValue.FILENAME)
+                    .withSeverity(TypedValue.WARN_SEVERITY)
+                    .add();
+            StreamingReportNode grandChild = (StreamingReportNode) child1.newReportNode()
+                    .withMessageTemplate("grandChild")
+                    .withSeverity(TypedValue.WARN_SEVERITY)
+                    .add();
+            assertEquals("Child message with parent value parentValue and own severity 'WARN'", child1.getMessage());
+            assertEquals("Root english message with value 3", root.getMessage());
+            assertEquals(Map.of(), root.getSeverityCounts());
+            assertEquals(List.of(child1), root.getChildren());
+
+            // adding a sibling closes the previous one and its descendants
+            StreamingReportNode child2 = (StreamingReportNode) root.newReportNode()
+                    .withMessageTemplate("rootChild")
+                    .add();
+            child2.addSeverity(TypedValue.ERROR_SEVERITY);
+            assertTrue(child1.isClosed());
+            assertTrue(grandChild.isClosed());
+            assertFalse(child2.isClosed());
+            assertEquals(2, root.getNodeCount());
+            assertEquals(Map.of("WARN", 2L), root.getSeverityCounts());
+            assertThrows(PowsyblException.class, () -> child1.addUntypedValue("other", 1));
+
+            // children can still be added to a closed node
+            child1.newReportNode().withMessageTemplate("simpleChild").add();
+
+            // the nodes written to a writer cannot be read back
+            assertThrows(PowsyblException.class, () -> root.print(new StringWriter()));
+        }
+        assertTrue(root.isClosed());
+        assertEquals(5, root.getNodeCount());
+        assertEquals(Map.of("WARN", 2L, "ERROR", 1L), root.getSeverityCounts());
+        assertThrows(PowsyblException.class, () -> root.newReportNode().withMessageTemplate("simpleChild").add());
+
+        List<JsonNode> lines = readLines(writer);
+        assertEquals(6, lines.size());
+        // grand child is written first, with its parent id
+        assertEquals("grandChild", lines.get(0).get("messageKey").asText());
+        assertEquals(1, lines.get(0).get("parentId").asInt());
+        assertEquals("child", lines.get(1).get("messageKey").asText());
+        assertEquals("parentValue", lines.get(1).get("values").get("stringTyped").get("value").asText());
+        assertEquals("FILENAME", lines.get(1).get("values").get("stringTyped").get("type").asText());
+        assertEquals("rootChild", lines.get(2).get("messageKey").asText());
+        assertEquals("rootWithValue", lines.get(3).get("messageKey").asText());
+        assertNull(lines.get(3).get("parentId"));
+        assertEquals("simpleChild", lines.get(4).get("messageKey").asText());
+        assertEquals(1, lines.get(4).get("parentId").asInt());
+        JsonNode summary = lines.get(5);
+        assertEquals(5, summary.get("nodeCount").asInt());
+        assertEquals(2, summary.get("severities").get("WARN").asInt());
+        assertEquals("Grandchild message", summary.get("dictionaries").get("default").get("grandChild").asText());
+    }
+
+    @Test
+    void testReplay() throws IOException {
+        try (FileSystem fileSystem = Jimfs.newFileSystem(Configuration.unix())) {
+            Path file = fileSystem.getPath("/report.jsonl");
+            try (StreamingReportNode root = (StreamingReportNode) StreamingReportNode.newRootReportNode(new JsonLinesReportNodeSink(file))
+                    .withResourceBundles(TEST_BASE_NAME)
+                    .withLocale(Locale.ENGLISH)
+                    .withMessageTemplate("rootWithValue")
+                    .withUntypedValue("value", 3)
+                    .build()) {
+                StreamingReportNode child1 = (StreamingReportNode) root.newReportNode()
+                        .withMessageTemplate("child")
+                        .withTypedValue("stringTyped", "parentValue", TypedValue.FILENAME)
+                        .withSeverity(TypedValue.WARN_SEVERITY)
+                        .add();
+                child1.newReportNode().withMessageTemplate("grandChild").add();
+                root.newReportNode().withMessageTemplate("rootChild").add();
+                // child added to a closed node
+                child1.newReportNode().withMessageTemplate("simpleChild").add();
+                assertTrue(child1.isClosed());
+
+                // written and not yet written nodes are printed in creation order
+                String expected = String.join(System.lineSeparator(),
+                        "+ Root english message with value 3",
+                        "   + Child message with parent value parentValue and own severity 'WARN'",
+                        "      Grandchild message",
+                        "      Child message",
+                        "   Another child",
+                        "");
+                StringWriter writer = new StringWriter();
+                root.print(writer);
+                assertEquals(expected, writer.toString());
+
+                // printing a subtree uses the values inherited from the ancestors
+                StringWriter childWriter = new StringWriter();
+                child1.print(childWriter);
+                assertTrue(childWriter.toString().startsWith("+ Child message with parent value parentValue and own severity 'WARN'"));
+
+                String json = writeJson(root);
+                assertTrue(json.contains("\"messageKey\":\"simpleChild\""));
+            }
+        }
+    }
+
+    private static String writeJson(ReportNode reportNode) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (JsonGenerator generator = new ObjectMapper().registerModule(new ReportNodeJsonModule()).getFactory().createGenerator(writer)) {
+            generator.writeStartObject();
+            reportNode.writeJson(generator);
+            generator.writeEndObject();
+        }
+        return writer.toString();
+    }
+
+    @Test
+    void testInclude() throws IOException {
+        ReportNode otherRoot = ReportNode.newRootReportNode()
+                .withResourceBundles(TEST_BASE_NAME)
+                .withMessageTemplate("includedRoot")
+                .build();
+        otherRoot.newReportNode().withMessageTemplate("includedChild").add();
+
+        StringWriter writer = new StringWriter();
+        try (StreamingReportNode root = (StreamingReportNode) StreamingReportNode.newRootReportNode(new JsonLinesReportNodeSink(writer))
+                .withResourceBundles(TEST_BASE_NAME)
+                .withMessageTemplate("root")
+                .build()) {
+            root.include(otherRoot);
+            assertEquals(2, root.getNodeCount());
+            assertEquals("Included child message", root.getTreeContext().getDictionary().get("includedChild"));
+            assertThrows(PowsyblException.class, () -> root.include(root));
+        }
+        List<JsonNode> lines = readLines(writer);
+        assertEquals(4, lines.size());
+        assertEquals("includedChild", lines.get(0).get("messageKey").asText());
+        assertEquals(lines.get(1).get("id").asInt(), lines.get(0).get("parentId").asInt());
+        assertEquals("includedRoot", lines.get(1).get("messageKey").asText());
+        assertEquals(0, lines.get(1).get("parentId").asInt());
+    }
+}
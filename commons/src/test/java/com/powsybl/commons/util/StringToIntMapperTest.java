@@ -17,6 +17,14 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import static com.powsybl.commons.test.ComparisonUtils.assertTxtEquals;
 import static org.junit.Assert.assertThrows;
@@ -111,6 +119,56 @@ class StringToIntMapperTest {
         }
     }
 
+    @Test
+    void testLoadWithGaps() throws IOException {
+        StringToIntMapper<TestSubset> mapper = new StringToIntMapper<>(TestSubset.class);
+        mapper.load(new BufferedReader(new StringReader(String.join(System.lineSeparator(), "TYPE;value3;3", "TYPE;value40;40"))));
+        assertEquals(40, mapper.getInt(TestSubset.TYPE, "value40"));
+        assertEquals("value3", mapper.getId(TestSubset.TYPE, 3));
+        assertNull(mapper.getId(TestSubset.TYPE, 2));
+        assertFalse(mapper.isModified());
+        assertEquals(41, mapper.newInt(TestSubset.TYPE, "value41"));
+        assertTrue(mapper.isModified());
+
+        BufferedReader reader = new BufferedReader(new StringReader("TYPE;other;3"));
+        assertThrows(IllegalArgumentException.class, () -> mapper.load(reader));
+    }
+
+    @Test
+    void testConcurrentMapping() throws InterruptedException, ExecutionException {
+        StringToIntMapper<TestSubset> mapper = new StringToIntMapper<>(TestSubset.class);
+        int idCount = 10_000;
+        int threadCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threadCount; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < idCount; i++) {
+                        String id = "id" + i;
+                        int num = mapper.newInt(TestSubset.TYPE, id);
+                        assertEquals(id, mapper.getId(TestSubset.TYPE, num));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // each id has been mapped once
+        Set<Integer> nums = new HashSet<>();
+        for (int i = 0; i < idCount; i++) {
+            int num = mapper.getInt(TestSubset.TYPE, "id" + i);
+            assertEquals("id" + i, mapper.getId(TestSubset.TYPE, num));
+            nums.add(num);
+        }
+        assertEquals(idCount, nums.size());
+        assertEquals(idCount + 1, mapper.newInt(TestSubset.TYPE, "last"));
+    }
+
     private void testAddMapping(StringToIntMapper<TestSubset> mapper) throws IOException {
         String value = "value1";
         assertFalse(mapper.isMapped(TestSubset.TYPE, value));
@@ -30,10 +30,14 @@ public class LocalComputationConfig {
 
     private static final int DEFAULT_AVAILABLE_CORE = 1;
 
+    private static final boolean DEFAULT_WARM_WORKERS = false;
+
     private final Path localDir;
 
     private final int availableCore;
 
+    private final boolean warmWorkers;
+
     public static LocalComputationConfig load() {
         return load(PlatformConfig.defaultConfig());
     }
@@ -72,7 +76,9 @@ public class LocalComputationConfig {
         if (availableCore <= 0) {
             availableCore = Runtime.getRuntime().availableProcessors();
         }
-        return new LocalComputationConfig(localDir, availableCore);
+        boolean warmWorkers = config.map(c -> c.getBooleanProperty("warm-workers", DEFAULT_WARM_WORKERS))
+                .orElse(DEFAULT_WARM_WORKERS);
+        return new LocalComputationConfig(localDir, availableCore, warmWorkers);
     }
 
     public LocalComputationConfig(Path localDir) {
@@ -80,8 +86,13 @@ public class LocalComputationConfig {
     }
 
     public LocalComputationConfig(Path localDir, int availableCore) {
+        this(localDir, availableCore, DEFAULT_WARM_WORKERS);
+    }
+
+    public LocalComputationConfig(Path localDir, int availableCore, boolean warmWorkers) {
         this.localDir = localDir;
         this.availableCore = availableCore;
+        this.warmWorkers = warmWorkers;
     }
 
     public Path getLocalDir() {
@@ -92,10 +103,21 @@ public class LocalComputationConfig {
         return availableCore;
     }
 
+    /**
+     * In warm workers mode, the executor threads and the working directories are reused from one execution
+     * to another (common files are still copied into the working directory). The command executions are run
+     * in sequence, except the ones which opted in with {@link com.powsybl.computation.CommandExecution#isConcurrent()},
+     * which are run concurrently with the previous ones unless they need one of their output files.
+     */
+    public boolean isWarmWorkers() {
+        return warmWorkers;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [localDir=" + localDir +
                 ", availableCore=" + availableCore +
+                ", warmWorkers=" + warmWorkers +
                 "]";
     }
 }
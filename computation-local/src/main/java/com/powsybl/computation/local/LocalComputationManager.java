@@ -10,6 +10,7 @@ package com.powsybl.computation.local;
 
 import com.google.common.base.Stopwatch;
 import com.google.common.io.ByteStreams;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.io.FileUtil;
@@ -32,6 +33,7 @@ import java.util.stream.IntStream;
 import java.util.zip.GZIPInputStream;
 import java.util.zip.GZIPOutputStream;
 
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
 import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
 
 /**
@@ -54,6 +56,13 @@ public class LocalComputationManager implements ComputationManager {
 
     private final LocalCommandExecutor localCommandExecutor;
 
+    /**
+     * Long-lived execution threads and pooled working directories, only used in warm workers mode.
+     */
+    private final ExecutorService workerPool;
+
+    private final WorkingDirectoryPool workingDirectoryPool;
+
     private static final Lock LOCK = new ReentrantLock();
 
     private static LocalComputationManager defaultInstance;
@@ -118,6 +127,16 @@ public class LocalComputationManager implements ComputationManager {
         //make sure the localdir exists
         Files.createDirectories(config.getLocalDir());
         commonDir = new WorkingDirectory(config.getLocalDir(), "itools_common_", false);
+        if (config.isWarmWorkers()) {
+            workerPool = Executors.newFixedThreadPool(config.getAvailableCore(), new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("local-computation-worker-%d")
+                .build());
+            workingDirectoryPool = new WorkingDirectoryPool(config.getLocalDir(), config.getAvailableCore());
+        } else {
+            workerPool = null;
+            workingDirectoryPool = null;
+        }
         if (LOGGER.isInfoEnabled()) {
             LOGGER.info(config.toString());
         }
@@ -148,8 +167,12 @@ public class LocalComputationManager implements ComputationManager {
                                     Map<String, String> variables, ComputationParameters computationParameters,
                                     ExecutionMonitor monitor)
             throws InterruptedException {
-        // TODO concurrent
-        List<ExecutionError> errors = new ArrayList<>();
+        List<ExecutionError> errors = Collections.synchronizedList(new ArrayList<>());
+
+        if (workerPool != null) {
+            executeWarm(workingDir, dumpDir, commandExecutionList, variables, computationParameters, monitor, errors);
+            return new DefaultExecutionReport(workingDir, errors);
+        }
 
         try (AutoCloseableExecutorService executionSubmitter = new AutoCloseableExecutorService(Executors.newCachedThreadPool(), getTimeout())) {
             for (CommandExecution commandExecution : commandExecutionList) {
@@ -168,6 +191,67 @@ public class LocalComputationManager implements ComputationManager {
         return new DefaultExecutionReport(workingDir, errors);
     }
 
+    /**
+     * Warm workers mode: executions are run on the long-lived worker pool, and command executions which opted in with
+     * {@link CommandExecution#isConcurrent()} are run concurrently with the previous ones when independent.
+     */
+    private void executeWarm(Path workingDir, Path dumpDir, List<CommandExecution> commandExecutionList,
+                             Map<String, String> variables, ComputationParameters computationParameters,
+                             ExecutionMonitor monitor, List<ExecutionError> errors) throws InterruptedException {
+        List<Future<?>> futures = new ArrayList<>();
+        try {
+            for (List<CommandExecution> independentExecutions : splitIntoIndependentExecutions(commandExecutionList)) {
+                int executionCount = independentExecutions.stream().mapToInt(CommandExecution::getExecutionCount).sum();
+                CountDownLatch latch = new CountDownLatch(executionCount);
+                for (CommandExecution commandExecution : independentExecutions) {
+                    ExecutionParameters executionParameters =
+                        new ExecutionParameters(workingDir, dumpDir, commandExecution, variables, computationParameters,
+                            workerPool, commandExecution.getCommand(), latch, errors, monitor);
+                    for (int idx = 0; idx < commandExecution.getExecutionCount(); idx++) {
+                        int executionIndex = idx;
+                        futures.add(workerPool.submit(() -> singleExecution(executionParameters, executionIndex)));
+                    }
+                }
+                latch.await();
+            }
+        } catch (InterruptedException e) {
+            futures.forEach(future -> future.cancel(true));
+            throw e;
+        }
+    }
+
+    /**
+     * Split the command executions in consecutive groups of executions which can be run concurrently: a new group is
+     * started each time a command execution has not opted in for concurrency, or needs, as input file, an output file
+     * of a command of the current group.
+     */
+    static List<List<CommandExecution>> splitIntoIndependentExecutions(List<CommandExecution> commandExecutionList) {
+        List<List<CommandExecution>> groups = new ArrayList<>();
+        List<CommandExecution> currentGroup = new ArrayList<>();
+        Set<String> currentGroupOutputFiles = new HashSet<>();
+        for (CommandExecution commandExecution : commandExecutionList) {
+            Command command = commandExecution.getCommand();
+            int executionCount = commandExecution.getExecutionCount();
+            boolean dependent = !commandExecution.isConcurrent() || command.getInputFiles().stream()
+                .anyMatch(file -> IntStream.range(0, executionCount).anyMatch(idx -> currentGroupOutputFiles.contains(file.getName(idx))));
+            if (dependent && !currentGroup.isEmpty()) {
+                groups.add(currentGroup);
+                currentGroup = new ArrayList<>();
+                currentGroupOutputFiles.clear();
+            }
+            currentGroup.add(commandExecution);
+            for (OutputFile file : command.getOutputFiles()) {
+                for (int idx = 0; idx < executionCount; idx++) {
+                    currentGroupOutputFiles.add(file.getName(idx));
+                }
+            }
+        }
+        if (!currentGroup.isEmpty()) {
+            groups.add(currentGroup);
+        }
+        return groups;
+    }
+
     /**
      * Method overridden in the tests to change the timeout value. It should not have to be overridden otherwise.
      * @return the timeout value
@@ -365,12 +449,29 @@ public class LocalComputationManager implements ComputationManager {
                 throw new PowsyblException("Input file '" + fileName + "' not found in the working and common directory");
             }
             if (file.getPreProcessor() == null) {
-                Files.copy(path, workingDir.resolve(path.getFileName()));
+                if (workerPool != null) {
+                    copyCommonFile(path, workingDir.resolve(path.getFileName().toString()));
+                } else {
+                    Files.copy(path, workingDir.resolve(path.getFileName()));
+                }
             }
         }
         return path;
     }
 
+    private static void copyCommonFile(Path commonFile, Path target) throws IOException {
+        // common files are copied and not linked, so that a command modifying its input file in place does not
+        // corrupt the common one. The copy is atomically moved to the target, so that a concurrent execution never
+        // sees a partially copied file.
+        Path tmpFile = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            Files.copy(commonFile, tmpFile, REPLACE_EXISTING);
+            Files.move(tmpFile, target, ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+    }
+
     private void enter() throws InterruptedException {
         permits.acquire();
         status.incrementNumberOfBusyCores();
@@ -400,26 +501,39 @@ public class LocalComputationManager implements ComputationManager {
      * execution will be stopped.
      */
     private <R> R doExecute(ExecutionEnvironment environment, ExecutionHandler<R> handler, ComputationParameters parameters) throws IOException, InterruptedException {
+        // in debug mode, working directories must be kept so they cannot be reused
+        if (workingDirectoryPool != null && !environment.isDebug()) {
+            String prefix = environment.getWorkingDirPrefix();
+            Path workingDir = workingDirectoryPool.acquire(prefix);
+            try {
+                return doExecute(workingDir, environment, handler, parameters);
+            } finally {
+                workingDirectoryPool.release(prefix, workingDir);
+            }
+        }
 
         try (WorkingDirectory workingDir = new WorkingDirectory(config.getLocalDir(), environment.getWorkingDirPrefix(), environment.isDebug())) {
+            return doExecute(workingDir.toPath(), environment, handler, parameters);
+        }
+    }
 
-            List<CommandExecution> commandExecutionList = handler.before(workingDir.toPath());
+    private <R> R doExecute(Path workingDir, ExecutionEnvironment environment, ExecutionHandler<R> handler, ComputationParameters parameters) throws IOException, InterruptedException {
+        List<CommandExecution> commandExecutionList = handler.before(workingDir);
 
-            ExecutionReport report;
+        ExecutionReport report;
 
-            try {
-                report = execute(workingDir.toPath(),
-                        environment.getDumpDir() != null ? config.getLocalDir().getFileSystem().getPath(environment.getDumpDir()) : null,
-                        commandExecutionList,
-                        environment.getVariables(),
-                        parameters,
-                        handler::onExecutionCompletion);
-            } catch (InterruptedException exc) {
-                localCommandExecutor.stop(workingDir.toPath());
-                throw exc;
-            }
-            return handler.after(workingDir.toPath(), report);
+        try {
+            report = execute(workingDir,
+                    environment.getDumpDir() != null ? config.getLocalDir().getFileSystem().getPath(environment.getDumpDir()) : null,
+                    commandExecutionList,
+                    environment.getVariables(),
+                    parameters,
+                    handler::onExecutionCompletion);
+        } catch (InterruptedException exc) {
+            localCommandExecutor.stop(workingDir);
+            throw exc;
         }
+        return handler.after(workingDir, report);
     }
 
     @Override
@@ -435,6 +549,10 @@ public class LocalComputationManager implements ComputationManager {
     @Override
     public void close() {
         try {
+            if (workerPool != null) {
+                new AutoCloseableExecutorService(workerPool, getTimeout()).close();
+                workingDirectoryPool.close();
+            }
             commonDir.close();
         } catch (IOException e) {
             throw new UncheckedIOException(e);
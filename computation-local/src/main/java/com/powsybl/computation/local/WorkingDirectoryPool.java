@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.computation.local;
+
+import com.powsybl.commons.io.FileUtil;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * Bounded pool of working directories, used by the {@link LocalComputationManager} in warm workers mode.
+ * A released directory is emptied and kept for a next execution using the same prefix, instead of being deleted.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class WorkingDirectoryPool implements AutoCloseable {
+
+    private final Path parentDir;
+
+    private final int maxIdleDirectories;
+
+    private final Map<String, Deque<Path>> idleDirectoriesByPrefix = new HashMap<>();
+
+    private int idleDirectoryCount = 0;
+
+    private boolean closed = false;
+
+    WorkingDirectoryPool(Path parentDir, int maxIdleDirectories) {
+        this.parentDir = Objects.requireNonNull(parentDir);
+        if (maxIdleDirectories < 0) {
+            throw new IllegalArgumentException("Invalid maximum number of idle directories: " + maxIdleDirectories);
+        }
+        this.maxIdleDirectories = maxIdleDirectories;
+    }
+
+    Path acquire(String prefix) throws IOException {
+        synchronized (this) {
+            if (closed) {
+                throw new IllegalStateException("Working directory pool is closed");
+            }
+            Deque<Path> idleDirectories = idleDirectoriesByPrefix.get(prefix);
+            if (idleDirectories != null && !idleDirectories.isEmpty()) {
+                idleDirectoryCount--;
+                return idleDirectories.pop();
+            }
+        }
+        return Files.createTempDirectory(parentDir, prefix);
+    }
+
+    void release(String prefix, Path directory) throws IOException {
+        clear(directory);
+        synchronized (this) {
+            if (!closed && idleDirectoryCount < maxIdleDirectories) {
+                idleDirectoriesByPrefix.computeIfAbsent(prefix, k -> new ArrayDeque<>()).push(directory);
+                idleDirectoryCount++;
+                return;
+            }
+        }
+        FileUtil.removeDir(directory);
+    }
+
+    synchronized int getIdleDirectoryCount() {
+        return idleDirectoryCount;
+    }
+
+    private static void clear(Path directory) throws IOException {
+        try (Stream<Path> children = Files.list(directory)) {
+            children.forEach(child -> {
+                try {
+                    if (Files.isDirectory(child)) {
+                        FileUtil.removeDir(child);
+                    } else {
+                        Files.delete(child);
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        List<Path> directories = new ArrayList<>();
+        synchronized (this) {
+            closed = true;
+            idleDirectoriesByPrefix.values().forEach(directories::addAll);
+            idleDirectoriesByPrefix.clear();
+            idleDirectoryCount = 0;
+        }
+        for (Path directory : directories) {
+            FileUtil.removeDir(directory);
+        }
+    }
+}
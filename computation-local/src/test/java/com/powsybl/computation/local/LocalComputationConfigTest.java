@@ -20,7 +20,7 @@ import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.util.Arrays;
 
-import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -51,6 +51,7 @@ class LocalComputationConfigTest {
         LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
         assertEquals(fileSystem.getPath("/tmp"), config.getLocalDir());
         assertEquals(2, config.getAvailableCore());
+        assertFalse(config.isWarmWorkers());
     }
 
     @Test
@@ -58,6 +59,15 @@ class LocalComputationConfigTest {
         LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
         assertEquals(fileSystem.getPath(LocalComputationConfig.DEFAULT_LOCAL_DIR), config.getLocalDir());
         assertEquals(1, config.getAvailableCore());
+        assertFalse(config.isWarmWorkers());
+    }
+
+    @Test
+    void testWarmWorkers() {
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("computation-local");
+        moduleConfig.setStringProperty("warm-workers", "true");
+        LocalComputationConfig config = LocalComputationConfig.load(platformConfig, fileSystem);
+        assertTrue(config.isWarmWorkers());
     }
 
     @Test
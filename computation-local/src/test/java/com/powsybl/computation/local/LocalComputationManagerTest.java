@@ -221,6 +221,108 @@ class LocalComputationManagerTest {
         }
     }
 
+    @Test
+    void testWarmWorkers() throws Exception {
+        LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
+            @Override
+            void nonZeroLog(List<String> cmdLs, int exitCode) {
+            }
+
+            @Override
+            public int execute(String program, List<String> args, Path outFile, Path errFile, Path workingDir, Map<String, String> env) throws IOException {
+                // common file has been brought into the working directory
+                Path file1 = workingDir.resolve("file1");
+                assertEquals(0, Files.size(file1));
+                // modifying an input file in place must not corrupt the common file
+                Files.writeString(file1, "modified");
+                Files.createFile(workingDir.resolve(program + ".out"));
+                return 0;
+            }
+        };
+        LocalComputationConfig warmConfig = new LocalComputationConfig(localDir, 2, true);
+        assertTrue(warmConfig.isWarmWorkers());
+        Path[] workingDirs = new Path[2];
+        try (ComputationManager computationManager = new LocalComputationManager(warmConfig, localCommandExecutor, ForkJoinPool.commonPool())) {
+            computationManager.newCommonFile("file1").close();
+
+            for (int i = 0; i < 2; i++) {
+                int execution = i;
+                computationManager.execute(new ExecutionEnvironment(ImmutableMap.of(), PREFIX, false),
+                        new AbstractExecutionHandler<Object>() {
+                            @Override
+                            public List<CommandExecution> before(Path workingDir) throws IOException {
+                                workingDirs[execution] = workingDir;
+                                // working directory has been emptied after previous execution
+                                try (var files = Files.list(workingDir)) {
+                                    assertEquals(0, files.count());
+                                }
+                                Command command = new SimpleCommandBuilder()
+                                        .id("prog_cmd")
+                                        .program("prog")
+                                        .inputFiles(new InputFile("file1"))
+                                        .build();
+                                return Collections.singletonList(new CommandExecution(command, 1));
+                            }
+
+                            @Override
+                            public Object after(Path workingDir, ExecutionReport report) {
+                                assertTrue(report.getErrors().isEmpty());
+                                assertTrue(Files.exists(workingDir.resolve("prog.out")));
+                                return null;
+                            }
+                        }).join();
+            }
+            // working directory has been reused
+            assertEquals(workingDirs[0], workingDirs[1]);
+        }
+        // pooled working directories are removed when the computation manager is closed
+        assertFalse(Files.exists(workingDirs[0]));
+    }
+
+    @Test
+    void testSplitIntoIndependentExecutions() {
+        CommandExecution a = new CommandExecution(new SimpleCommandBuilder().id("a").program("a")
+                .outputFiles(new OutputFile("a.out")).build(), 1);
+        CommandExecution b = new CommandExecution(new SimpleCommandBuilder().id("b").program("b")
+                .inputFiles(new InputFile("common")).build(), 2, Integer.MAX_VALUE, null, null, true);
+        CommandExecution c = new CommandExecution(new SimpleCommandBuilder().id("c").program("c")
+                .inputFiles(new InputFile("a.out")).build(), 1, Integer.MAX_VALUE, null, null, true);
+        CommandExecution d = new CommandExecution(new SimpleCommandBuilder().id("d").program("d").build(), 1, Integer.MAX_VALUE, null, null, true);
+        CommandExecution e = new CommandExecution(new SimpleCommandBuilder().id("e").program("e").build(), 1);
+        assertFalse(a.isConcurrent());
+        assertTrue(b.isConcurrent());
+        assertEquals(List.of(List.of(a, b), List.of(c, d)), LocalComputationManager.splitIntoIndependentExecutions(List.of(a, b, c, d)));
+        assertEquals(List.of(List.of(a, d)), LocalComputationManager.splitIntoIndependentExecutions(List.of(a, d)));
+        // sequential order is kept for the command executions which have not opted in
+        assertEquals(List.of(List.of(a), List.of(e)), LocalComputationManager.splitIntoIndependentExecutions(List.of(a, e)));
+        assertEquals(List.of(List.of(d), List.of(e, b)), LocalComputationManager.splitIntoIndependentExecutions(List.of(d, e, b)));
+        assertEquals(List.of(), LocalComputationManager.splitIntoIndependentExecutions(List.of()));
+    }
+
+    @Test
+    void testWorkingDirectoryPool() throws IOException {
+        Files.createDirectories(localDir);
+        try (WorkingDirectoryPool pool = new WorkingDirectoryPool(localDir, 1)) {
+            Path dir1 = pool.acquire(PREFIX);
+            Path dir2 = pool.acquire(PREFIX);
+            assertNotEquals(dir1, dir2);
+            Files.createDirectories(dir1.resolve("sub"));
+            Files.createFile(dir1.resolve("sub").resolve("file"));
+            pool.release(PREFIX, dir1);
+            // only one idle directory is kept
+            pool.release(PREFIX, dir2);
+            assertEquals(1, pool.getIdleDirectoryCount());
+            assertFalse(Files.exists(dir2));
+            assertTrue(Files.exists(dir1));
+            assertFalse(Files.exists(dir1.resolve("sub")));
+            assertEquals(dir1, pool.acquire(PREFIX));
+            pool.release(PREFIX, dir1);
+        }
+        try (var files = Files.list(localDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
     @Test
     void hangingIssue() throws Exception {
         LocalCommandExecutor localCommandExecutor = new AbstractLocalCommandExecutor() {
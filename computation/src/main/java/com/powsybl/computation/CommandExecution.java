@@ -48,6 +48,8 @@ public class CommandExecution {
 
     private final Map<String, String> overloadedVariables; // variables overloaded for this execution
 
+    private final boolean concurrent;
+
     public CommandExecution(Command command, int executionCount) {
         this(command, executionCount, Integer.MAX_VALUE);
     }
@@ -61,6 +63,16 @@ public class CommandExecution {
     }
 
     public CommandExecution(Command command, int executionCount, int priority, Map<String, String> tags, Map<String, String> overloadedVariables) {
+        this(command, executionCount, priority, tags, overloadedVariables, false);
+    }
+
+    /**
+     * @param concurrent true if this command execution may be run concurrently with the previous command execution of
+     *                   the list, which means it does not read any file written by the previous one other than its
+     *                   declared input files, and does not modify its input files.
+     */
+    public CommandExecution(Command command, int executionCount, int priority, Map<String, String> tags, Map<String, String> overloadedVariables,
+                            boolean concurrent) {
         this.command = Objects.requireNonNull(command, "command is null");
         if (executionCount < 1) {
             throw new IllegalArgumentException("execution count must be > 0");
@@ -69,6 +81,7 @@ public class CommandExecution {
         this.priority = priority;
         this.tags = tags;
         this.overloadedVariables = overloadedVariables;
+        this.concurrent = concurrent;
     }
 
     public Command getCommand() {
@@ -90,4 +103,12 @@ public class CommandExecution {
     public Map<String, String> getOverloadedVariables() {
         return overloadedVariables;
     }
+
+    /**
+     * Whether this command execution may be run concurrently with the previous command execution of the list. A
+     * computation manager is free to ignore this hint and run the command executions sequentially.
+     */
+    public boolean isConcurrent() {
+        return concurrent;
+    }
 }
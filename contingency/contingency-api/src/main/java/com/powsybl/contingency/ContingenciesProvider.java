@@ -11,6 +11,7 @@ import com.powsybl.iidm.network.Network;
 
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
@@ -23,6 +24,18 @@ public interface ContingenciesProvider {
         return getContingencies(network);
     }
 
+    /**
+     * Return the contingencies for the given network as a stream. Contingencies may be created or read while the
+     * stream is consumed, so that a large number of contingencies does not have to be kept in memory: the stream then
+     * has to be closed to release the underlying resources. The spliterator of the stream reports the number of
+     * contingencies when it is known in advance.
+     *
+     * <p>The default implementation streams the list returned by {@link #getContingencies(Network)}.
+     */
+    default Stream<Contingency> getContingencyStream(Network network) {
+        return getContingencies(network).stream();
+    }
+
     default String asScript() {
         throw new UnsupportedOperationException("Serialization not supported for contingencies provider of type " + this.getClass().getName());
     }
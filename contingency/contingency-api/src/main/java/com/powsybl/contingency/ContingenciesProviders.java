@@ -10,6 +10,10 @@ package com.powsybl.contingency;
 import com.powsybl.commons.config.ComponentDefaultConfig;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.computation.Partition;
+import com.powsybl.contingency.list.ContingencyList;
+import com.powsybl.iidm.criteria.IdentifiableCriterionIndex;
+
+import java.util.List;
 
 /**
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
@@ -50,4 +54,23 @@ public final class ContingenciesProviders {
         return new SubContingenciesProvider(provider, subPart);
     }
 
+    /**
+     * Returns a contingencies provider expanding the given contingency lists on the network it is asked for, sharing
+     * a single {@link IdentifiableCriterionIndex} of the network. The lists are expanded one after the other, while
+     * the stream of contingencies is consumed.
+     */
+    public static ContingenciesProvider newProvider(List<ContingencyList> contingencyLists) {
+        return newProvider(contingencyLists, false);
+    }
+
+    /**
+     * Returns a contingencies provider expanding the given contingency lists on the network it is asked for, sharing
+     * a single {@link IdentifiableCriterionIndex} of the network. If {@code parallel} is true, the lists are expanded
+     * concurrently on the common fork-join pool, and all the contingencies are created before being streamed:
+     * the contingency lists then have to support concurrent expansions.
+     */
+    public static ContingenciesProvider newProvider(List<ContingencyList> contingencyLists, boolean parallel) {
+        return new ContingencyListsProvider(contingencyLists, parallel);
+    }
+
 }
@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency;
+
+import com.google.common.collect.ImmutableList;
+import com.powsybl.contingency.list.ContingencyList;
+import com.powsybl.iidm.criteria.IdentifiableCriterionIndex;
+import com.powsybl.iidm.network.Network;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * A contingencies provider expanding contingency lists on the network it is asked for, all the lists sharing a single
+ * {@link IdentifiableCriterionIndex} of the network. Contingencies are returned in the order of the lists.
+ *
+ * <p>By default, the lists are expanded one after the other while the stream returned by
+ * {@link #getContingencyStream(Network)} is consumed, so that only the contingencies of the current list are kept in
+ * memory. When parallel expansion has been requested, all the lists are expanded concurrently on the common fork-join
+ * pool before the stream is returned.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class ContingencyListsProvider implements ContingenciesProvider {
+
+    private final List<ContingencyList> contingencyLists;
+
+    private final boolean parallel;
+
+    ContingencyListsProvider(List<ContingencyList> contingencyLists, boolean parallel) {
+        this.contingencyLists = ImmutableList.copyOf(Objects.requireNonNull(contingencyLists));
+        this.parallel = parallel;
+    }
+
+    @Override
+    public List<Contingency> getContingencies(Network network) {
+        try (Stream<Contingency> contingencies = getContingencyStream(network)) {
+            return contingencies.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
+        IdentifiableCriterionIndex index = new IdentifiableCriterionIndex(network);
+        if (parallel) {
+            return contingencyLists.parallelStream()
+                    .map(contingencyList -> contingencyList.getContingencies(index))
+                    .toList()
+                    .stream()
+                    .flatMap(List::stream);
+        }
+        return contingencyLists.stream()
+                .flatMap(contingencyList -> contingencyList.getContingencies(index).stream());
+    }
+}
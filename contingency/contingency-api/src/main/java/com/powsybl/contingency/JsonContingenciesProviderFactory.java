@@ -8,7 +8,9 @@
 package com.powsybl.contingency;
 
 import com.google.auto.service.AutoService;
+import com.powsybl.contingency.json.JsonContingenciesProvider;
 import com.powsybl.contingency.list.ContingencyList;
+import org.apache.commons.io.FilenameUtils;
 
 import java.io.InputStream;
 import java.nio.file.Path;
@@ -25,9 +27,17 @@ public class JsonContingenciesProviderFactory implements ContingenciesProviderFa
         return ContingenciesProviders.emptyProvider();
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>A JSON file is read again, with a streaming parser, each time contingencies are requested.
+     */
     @Override
     public ContingenciesProvider create(Path contingenciesFile) {
         Objects.requireNonNull(contingenciesFile);
+        if ("json".equals(FilenameUtils.getExtension(contingenciesFile.getFileName().toString()))) {
+            return new JsonContingenciesProvider(contingenciesFile);
+        }
         return ContingencyList.load(contingenciesFile)::getContingencies;
     }
 
@@ -10,9 +10,13 @@ package com.powsybl.contingency;
 import com.powsybl.computation.Partition;
 import com.powsybl.iidm.network.Network;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A contingencies provider which provides a subset of another provider,
@@ -36,11 +40,89 @@ public class SubContingenciesProvider implements ContingenciesProvider {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
-        List<Contingency> fullList = delegate.getContingencies(network);
-        int fullSize = fullList.size();
-        int start = partition.startIndex(fullSize);
-        int end = partition.endIndex(fullSize);
-        return new ArrayList<>(fullList.subList(start, end));
+        try (Stream<Contingency> contingencies = getContingencyStream(network)) {
+            return contingencies.collect(Collectors.toList());
+        }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The contingencies before the partition are skipped and the ones after the partition are never created. When
+     * the number of contingencies of the other provider is not known in advance, its contingencies are first counted,
+     * without being kept, then asked for again: the other provider then has to return the same contingencies each
+     * time it is asked for.
+     */
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
+        Stream<Contingency> fullStream = delegate.getContingencyStream(network);
+        Spliterator<Contingency> spliterator = fullStream.spliterator();
+        long fullSize = spliterator.getExactSizeIfKnown();
+        if (fullSize < 0) {
+            fullSize = count(fullStream, spliterator);
+            fullStream = delegate.getContingencyStream(network);
+            spliterator = fullStream.spliterator();
+        }
+        int start = partition.startIndex(Math.toIntExact(fullSize));
+        int end = partition.endIndex(Math.toIntExact(fullSize));
+        Stream<Contingency> rangeStream = fullStream;
+        return StreamSupport.stream(new RangeSpliterator(spliterator, start, end), false)
+                .onClose(rangeStream::close);
+    }
+
+    private static long count(Stream<Contingency> stream, Spliterator<Contingency> spliterator) {
+        try (stream) {
+            return StreamSupport.stream(spliterator, false).count();
+        }
+    }
+
+    /**
+     * Spliterator over the elements of index in [start, end) of a sized spliterator.
+     */
+    private static final class RangeSpliterator implements Spliterator<Contingency> {
+
+        private final Spliterator<Contingency> delegate;
+
+        private int toSkip;
+
+        private int remaining;
+
+        private RangeSpliterator(Spliterator<Contingency> delegate, int start, int end) {
+            this.delegate = delegate;
+            this.toSkip = start;
+            this.remaining = end - start;
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super Contingency> action) {
+            while (toSkip > 0) {
+                toSkip--;
+                if (!delegate.tryAdvance(c -> { })) {
+                    remaining = 0;
+                    return false;
+                }
+            }
+            if (remaining > 0 && delegate.tryAdvance(action)) {
+                remaining--;
+                return true;
+            }
+            remaining = 0;
+            return false;
+        }
+
+        @Override
+        public Spliterator<Contingency> trySplit() {
+            return null;
+        }
+
+        @Override
+        public long estimateSize() {
+            return remaining;
+        }
+
+        @Override
+        public int characteristics() {
+            return ORDERED | SIZED | NONNULL;
+        }
+    }
 }
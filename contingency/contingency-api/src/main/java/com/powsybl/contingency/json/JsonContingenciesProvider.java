@@ -0,0 +1,208 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.contingency.json;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.powsybl.commons.json.JsonUtil;
+import com.powsybl.contingency.ContingenciesProvider;
+import com.powsybl.contingency.Contingency;
+import com.powsybl.contingency.SubContingenciesProvider;
+import com.powsybl.contingency.list.ContingencyList;
+import com.powsybl.contingency.list.DefaultContingencyList;
+import com.powsybl.iidm.network.Network;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * A contingencies provider reading a JSON contingency list file each time contingencies are requested.
+ *
+ * <p>Contingencies of a {@link DefaultContingencyList} file are read one by one with a streaming parser while the stream
+ * returned by {@link #getContingencyStream(Network)} is consumed, so that they do not have to be kept in memory and
+ * the first contingency is available as soon as it is read. As the contingencies which are not valid on the network
+ * are skipped, their number is not known in advance: the stream is not {@link Spliterator#SIZED sized}, and a
+ * {@link SubContingenciesProvider} reads the file once more to count them. The file must not be modified while the
+ * stream is consumed. Other types of contingency lists are fully loaded before being expanded on the network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class JsonContingenciesProvider implements ContingenciesProvider {
+
+    private static final String CONTINGENCIES = "contingencies";
+
+    private final Path file;
+
+    private final ObjectMapper objectMapper;
+
+    public JsonContingenciesProvider(Path file) {
+        this.file = Objects.requireNonNull(file);
+        objectMapper = JsonUtil.createObjectMapper();
+        objectMapper.registerModule(new ContingencyJsonModule());
+    }
+
+    @Override
+    public List<Contingency> getContingencies(Network network) {
+        try (Stream<Contingency> contingencies = getContingencyStream(network)) {
+            return contingencies.collect(Collectors.toList());
+        }
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
+        Objects.requireNonNull(network);
+        ContingencyIterator iterator = createIterator(network);
+        if (iterator == null) {
+            return ContingencyList.load(file).getContingencies(network).stream();
+        }
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                .onClose(iterator::close);
+    }
+
+    /**
+     * Create an iterator over the contingencies of the file which are valid on the network, or return null if the file
+     * is not a {@link DefaultContingencyList}.
+     */
+    private ContingencyIterator createIterator(Network network) {
+        JsonParser parser = null;
+        try {
+            parser = objectMapper.createParser(Files.newInputStream(file));
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IllegalStateException("Contingency list object expected");
+            }
+            String version = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                switch (parser.currentName()) {
+                    case "version" -> version = parser.nextTextValue();
+                    case "type" -> {
+                        if (!DefaultContingencyList.TYPE.equals(parser.nextTextValue())) {
+                            parser.close();
+                            return null;
+                        }
+                    }
+                    case CONTINGENCIES -> {
+                        if (parser.nextToken() != JsonToken.START_ARRAY) {
+                            throw new IllegalStateException("Array of contingencies expected");
+                        }
+                        ObjectReader reader = objectMapper.readerFor(Contingency.class);
+                        if (version != null) {
+                            reader = reader.withAttribute(ContingencyListDeserializer.VERSION, version);
+                        }
+                        return new ContingencyIterator(parser, reader, network);
+                    }
+                    default -> {
+                        parser.nextToken();
+                        parser.skipChildren();
+                    }
+                }
+            }
+            // no contingencies
+            return new ContingencyIterator(parser, null, network);
+        } catch (IOException e) {
+            closeQuietly(parser, e);
+            throw new UncheckedIOException(e);
+        } catch (IllegalStateException | UncheckedIOException e) {
+            closeQuietly(parser, e);
+            throw e;
+        }
+    }
+
+    private static void closeQuietly(JsonParser parser, Exception e) {
+        if (parser != null) {
+            try {
+                parser.close();
+            } catch (IOException closeException) {
+                e.addSuppressed(closeException);
+            }
+        }
+    }
+
+    /**
+     * Iterator over the valid contingencies of the array the parser is positioned at, closing the parser at the end of
+     * the array.
+     */
+    private static final class ContingencyIterator implements Iterator<Contingency>, AutoCloseable {
+
+        private final JsonParser parser;
+
+        private final ObjectReader reader;
+
+        private final Network network;
+
+        private Contingency next;
+
+        private ContingencyIterator(JsonParser parser, ObjectReader reader, Network network) {
+            this.parser = parser;
+            this.reader = reader;
+            this.network = network;
+            if (reader != null) {
+                next = advance();
+            } else {
+                close();
+            }
+        }
+
+        private Contingency advance() {
+            try {
+                JsonToken token = parser.nextToken();
+                while (token == JsonToken.START_OBJECT) {
+                    Contingency contingency = reader.readValue(parser);
+                    if (contingency.isValid(network)) {
+                        return contingency;
+                    }
+                    token = parser.nextToken();
+                }
+                if (token != JsonToken.END_ARRAY) {
+                    throw new IllegalStateException("Contingency object expected");
+                }
+                // other fields of the list are not needed
+                parser.close();
+                return null;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next != null;
+        }
+
+        @Override
+        public Contingency next() {
+            if (next == null) {
+                throw new NoSuchElementException();
+            }
+            Contingency contingency = next;
+            next = advance();
+            return contingency;
+        }
+
+        @Override
+        public void close() {
+            try {
+                parser.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
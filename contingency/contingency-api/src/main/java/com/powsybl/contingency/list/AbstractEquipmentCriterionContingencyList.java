@@ -11,11 +11,13 @@ import com.google.common.collect.ImmutableList;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.ContingencyElementFactory;
 import com.powsybl.iidm.criteria.Criterion;
+import com.powsybl.iidm.criteria.IdentifiableCriterionIndex;
 import com.powsybl.iidm.criteria.PropertyCriterion;
 import com.powsybl.iidm.criteria.RegexCriterion;
 import com.powsybl.iidm.network.IdentifiableType;
 import com.powsybl.iidm.network.Network;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
@@ -43,11 +45,23 @@ public abstract class AbstractEquipmentCriterionContingencyList implements Conti
 
     @Override
     public List<Contingency> getContingencies(Network network) {
-        return network.getIdentifiableStream(getIdentifiableType())
-                .filter(identifiable -> getCountryCriterion() == null || getCountryCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getNominalVoltageCriterion() == null || getNominalVoltageCriterion().filter(identifiable, getIdentifiableType()))
-                .filter(identifiable -> getPropertyCriteria().stream().allMatch(propertyCriterion -> propertyCriterion.filter(identifiable, getIdentifiableType())))
-                .filter(identifiable -> getRegexCriterion() == null || getRegexCriterion().filter(identifiable, getIdentifiableType()))
+        return getContingencies(new IdentifiableCriterionIndex(network));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Country, nominal voltage and voltage level or substation property criteria are evaluated once per location
+     * bucket of the index.
+     */
+    @Override
+    public List<Contingency> getContingencies(IdentifiableCriterionIndex index) {
+        List<Criterion> criteria = new ArrayList<>(getPropertyCriteria().size() + 3);
+        criteria.add(getCountryCriterion());
+        criteria.add(getNominalVoltageCriterion());
+        criteria.addAll(getPropertyCriteria());
+        criteria.add(getRegexCriterion());
+        return index.filter(getIdentifiableType(), criteria)
                 .map(identifiable -> new Contingency(identifiable.getId(), ContingencyElementFactory.create(identifiable)))
                 .collect(Collectors.toList());
     }
@@ -9,6 +9,7 @@
 package com.powsybl.contingency.list;
 
 import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.criteria.IdentifiableCriterionIndex;
 import com.powsybl.iidm.network.Network;
 import org.apache.commons.io.FilenameUtils;
 
@@ -50,6 +51,14 @@ public interface ContingencyList {
      */
     List<Contingency> getContingencies(Network network);
 
+    /**
+     * Return a list of contingency for the network of the given index. The index can be shared by several contingency
+     * lists, to evaluate criteria on a large network more efficiently.
+     */
+    default List<Contingency> getContingencies(IdentifiableCriterionIndex index) {
+        return getContingencies(index.getNetwork());
+    }
+
     /**
      * Load a {@link ContingencyList} from a path
      *
@@ -9,6 +9,7 @@ package com.powsybl.contingency.list;
 
 import com.google.common.collect.ImmutableList;
 import com.powsybl.contingency.Contingency;
+import com.powsybl.iidm.criteria.IdentifiableCriterionIndex;
 import com.powsybl.iidm.network.Network;
 
 import java.util.List;
@@ -45,8 +46,20 @@ public class ListOfContingencyLists implements ContingencyList {
 
     @Override
     public List<Contingency> getContingencies(Network network) {
+        return getContingencies(new IdentifiableCriterionIndex(network));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Contingency lists are expanded one after the other, sharing the index, and contingencies are returned in the
+     * order of the contingency lists. See {@link com.powsybl.contingency.ContingenciesProviders#newProvider(List, boolean)}
+     * for a parallel expansion.
+     */
+    @Override
+    public List<Contingency> getContingencies(IdentifiableCriterionIndex index) {
         return contingencyLists.stream()
-                .flatMap(contingencyList -> contingencyList.getContingencies(network).stream())
+                .flatMap(contingencyList -> contingencyList.getContingencies(index).stream())
                 .collect(Collectors.toList());
     }
 
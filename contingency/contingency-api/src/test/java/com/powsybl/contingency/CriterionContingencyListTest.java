@@ -21,6 +21,7 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -558,4 +559,64 @@ class CriterionContingencyListTest {
         assertEquals(new Contingency("S1VL2_BBS2", new BusbarSectionContingency("S1VL2_BBS2")), contingencies.get(1));
         assertEquals(new Contingency("S3VL1_BBS", new BusbarSectionContingency("S3VL1_BBS")), contingencies.get(2));
     }
+
+    @Test
+    void testSharedIndex() {
+        List<ContingencyList> contingencyLists = new ArrayList<>();
+        for (Country country : List.of(Country.FR, Country.BE, Country.LU)) {
+            SingleCountryCriterion countryCriterion = new SingleCountryCriterion(Collections.singletonList(country));
+            contingencyLists.add(new InjectionCriterionContingencyList("switches" + country, IdentifiableType.SWITCH,
+                    countryCriterion, null, Collections.emptyList(), new RegexCriterion(".*BREAKER")));
+            contingencyLists.add(new InjectionCriterionContingencyList("generators" + country, IdentifiableType.GENERATOR,
+                    countryCriterion, null, List.of(new PropertyCriterion("property", List.of("valueA", "valueB"),
+                    PropertyCriterion.EquipmentToCheck.SUBSTATION)), null));
+            contingencyLists.add(new LineCriterionContingencyList("lines" + country,
+                    new TwoCountriesCriterion(Collections.singletonList(country)), null, Collections.emptyList(), null));
+            contingencyLists.add(new TwoWindingsTransformerCriterionContingencyList("transformers" + country,
+                    countryCriterion, null, Collections.emptyList(), null));
+        }
+        for (VoltageInterval voltageInterval : List.of(VoltageInterval.between(200.0, 230.0, true, true),
+                VoltageInterval.between(380.0, 400.0, true, true), VoltageInterval.between(0.0, 10.0, true, true))) {
+            contingencyLists.add(new InjectionCriterionContingencyList("loads" + voltageInterval, IdentifiableType.LOAD,
+                    null, new SingleNominalVoltageCriterion(voltageInterval), Collections.emptyList(), null));
+            contingencyLists.add(new InjectionCriterionContingencyList("frenchGenerators" + voltageInterval, IdentifiableType.GENERATOR,
+                    new SingleCountryCriterion(Collections.singletonList(Country.FR)), new SingleNominalVoltageCriterion(voltageInterval),
+                    Collections.emptyList(), null));
+        }
+        List<Contingency> expected = contingencyLists.stream()
+                .flatMap(contingencyList -> contingencyList.getContingencies(fourSubstationNetwork).stream())
+                .toList();
+        assertFalse(expected.isEmpty());
+
+        // same contingencies in the same order when the lists share an index
+        IdentifiableCriterionIndex index = new IdentifiableCriterionIndex(fourSubstationNetwork);
+        assertEquals(expected, contingencyLists.stream()
+                .flatMap(contingencyList -> contingencyList.getContingencies(index).stream())
+                .toList());
+        assertEquals(expected, new ListOfContingencyLists("list", contingencyLists).getContingencies(fourSubstationNetwork));
+        assertEquals(expected, ContingenciesProviders.newProvider(contingencyLists).getContingencies(fourSubstationNetwork));
+        assertEquals(expected, ContingenciesProviders.newProvider(contingencyLists, true).getContingencies(fourSubstationNetwork));
+
+        // lists are expanded while the contingencies are consumed
+        ContingencyList notExpandedList = new ContingencyList() {
+            @Override
+            public String getName() {
+                return "notExpanded";
+            }
+
+            @Override
+            public String getType() {
+                return "test";
+            }
+
+            @Override
+            public List<Contingency> getContingencies(Network network) {
+                throw new IllegalStateException("List should not be expanded");
+            }
+        };
+        ContingenciesProvider provider = ContingenciesProviders.newProvider(List.of(contingencyLists.get(0), notExpandedList));
+        try (Stream<Contingency> contingencies = provider.getContingencyStream(fourSubstationNetwork)) {
+            assertEquals(expected.get(0), contingencies.findFirst().orElseThrow());
+        }
+    }
 }
@@ -7,6 +7,8 @@
  */
 package com.powsybl.contingency;
 
+import com.powsybl.computation.Partition;
+import com.powsybl.contingency.list.ContingencyList;
 import com.powsybl.iidm.network.Network;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,15 @@ import org.junit.jupiter.api.io.TempDir;
 import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Samir Romdhani {@literal <samir.romdhani_externe at rte-france.com>}
@@ -68,4 +75,51 @@ class JsonContingenciesProviderFactoryTest {
             assertEquals("contingency2", contingencies.get(1).getId());
         }
     }
+
+    @Test
+    void createFromPathStreamsContingencies(@TempDir Path tmpDir) throws Exception {
+        //Given
+        Path jsonFile = tmpDir.resolve("contingencies.json");
+        try (InputStream is = getClass().getResourceAsStream("/contingencies.json")) {
+            assertNotNull(is);
+            Files.copy(is, jsonFile);
+        }
+        ContingenciesProvider provider = new JsonContingenciesProviderFactory().create(jsonFile);
+        Network network = EurostagTutorialExample1Factory.create();
+        //When
+        try (Stream<Contingency> contingencies = provider.getContingencyStream(network)) {
+            Iterator<Contingency> it = contingencies.iterator();
+            //Then
+            assertTrue(it.hasNext());
+            Contingency contingency = it.next();
+            assertEquals("contingency", contingency.getId());
+            assertEquals(2, contingency.getElements().size());
+        }
+        // the file is not read in advance to count the contingencies
+        try (Stream<Contingency> contingencies = provider.getContingencyStream(network)) {
+            Spliterator<Contingency> spliterator = contingencies.spliterator();
+            assertEquals(-1, spliterator.getExactSizeIfKnown());
+            assertEquals(2, StreamSupport.stream(spliterator, false).count());
+        }
+        // invalid contingencies are filtered out
+        network.getGenerator("GEN").remove();
+        assertEquals(List.of("contingency"), provider.getContingencies(network).stream().map(Contingency::getId).toList());
+        assertEquals(List.of("contingency"), new SubContingenciesProvider(provider, new Partition(1, 1)).getContingencies(network)
+                .stream().map(Contingency::getId).toList());
+    }
+
+    @Test
+    void createFromPathReadsOtherContingencyLists(@TempDir Path tmpDir) throws Exception {
+        //Given
+        Path jsonFile = tmpDir.resolve("contingencyListsList.json");
+        try (InputStream is = getClass().getResourceAsStream("/contingencyListsList.json")) {
+            assertNotNull(is);
+            Files.copy(is, jsonFile);
+        }
+        Network network = EurostagTutorialExample1Factory.create();
+        //When
+        List<Contingency> contingencies = new JsonContingenciesProviderFactory().create(jsonFile).getContingencies(network);
+        //Then
+        assertEquals(ContingencyList.load(jsonFile).getContingencies(network), contingencies);
+    }
 }
@@ -16,10 +16,14 @@ import org.mockito.Mockito;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
  * @author Sylvain Leclerc {@literal <sylvain.leclerc at rte-france.com>}
@@ -89,4 +93,67 @@ class SubContingenciesProviderTest {
         assertEquals(Collections.emptyList(), subList1);
     }
 
+    @Test
+    void testStream() {
+        AtomicInteger createdCount = new AtomicInteger();
+        ContingenciesProvider provider = new ContingenciesProvider() {
+            @Override
+            public List<Contingency> getContingencies(Network network) {
+                return getContingencyStream(network).collect(Collectors.toList());
+            }
+
+            @Override
+            public Stream<Contingency> getContingencyStream(Network network) {
+                return IntStream.range(1, 5)
+                    .mapToObj(i -> {
+                        createdCount.incrementAndGet();
+                        return new Contingency("contingency-" + i);
+                    });
+            }
+        };
+
+        Network network = Mockito.mock(Network.class);
+
+        try (Stream<Contingency> contingencies = new SubContingenciesProvider(provider, new Partition(1, 2)).getContingencyStream(network)) {
+            assertEquals(List.of("contingency-1", "contingency-2"), contingencies.map(Contingency::getId).toList());
+        }
+        // contingencies after the partition are not created
+        assertEquals(2, createdCount.get());
+
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Contingency> contingencies = new SubContingenciesProvider(provider, new Partition(2, 2)).getContingencyStream(network)
+                .onClose(() -> closed.set(true))) {
+            assertEquals(2, contingencies.spliterator().getExactSizeIfKnown());
+        }
+        assertTrue(closed.get());
+        assertEquals(List.of("contingency-3", "contingency-4"), new SubContingenciesProvider(provider, new Partition(2, 2))
+            .getContingencies(network).stream().map(Contingency::getId).toList());
+    }
+
+    @Test
+    void testUnsizedStream() {
+        AtomicInteger streamCount = new AtomicInteger();
+        ContingenciesProvider provider = new ContingenciesProvider() {
+            @Override
+            public List<Contingency> getContingencies(Network network) {
+                return getContingencyStream(network).collect(Collectors.toList());
+            }
+
+            @Override
+            public Stream<Contingency> getContingencyStream(Network network) {
+                streamCount.incrementAndGet();
+                // the size of an iterated stream is not known in advance
+                return Stream.iterate(1, i -> i <= 5, i -> i + 1)
+                    .map(i -> new Contingency("contingency-" + i));
+            }
+        };
+
+        Network network = Mockito.mock(Network.class);
+
+        // contingencies are counted, then asked for again
+        try (Stream<Contingency> contingencies = new SubContingenciesProvider(provider, new Partition(2, 2)).getContingencyStream(network)) {
+            assertEquals(List.of("contingency-3", "contingency-4", "contingency-5"), contingencies.map(Contingency::getId).toList());
+        }
+        assertEquals(2, streamCount.get());
+    }
 }
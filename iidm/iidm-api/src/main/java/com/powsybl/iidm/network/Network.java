@@ -9,6 +9,7 @@ package com.powsybl.iidm.network;
 
 import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.datasource.*;
+import com.powsybl.commons.metrics.Metrics;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.computation.local.LocalComputationManager;
@@ -125,7 +126,8 @@ public interface Network extends Container<Network> {
         ReadOnlyDataSource dataSource = DataSource.fromPath(file);
         Importer importer = Importer.find(dataSource, loader, computationManager, config);
         if (importer != null) {
-            return importer.importData(dataSource, networkFactory, parameters, reportNode);
+            return Metrics.timer("iidm.import." + importer.getFormat())
+                    .record(() -> importer.importData(dataSource, networkFactory, parameters, reportNode));
         }
         throw new PowsyblException(Importers.UNSUPPORTED_FILE_FORMAT_OR_INVALID_FILE);
     }
@@ -208,7 +210,8 @@ public interface Network extends Container<Network> {
         dataSource.putData(filename, data);
         Importer importer = Importer.find(dataSource, loader, computationManager, config);
         if (importer != null) {
-            return importer.importData(dataSource, networkFactory, parameters, reportNode);
+            return Metrics.timer("iidm.import." + importer.getFormat())
+                    .record(() -> importer.importData(dataSource, networkFactory, parameters, reportNode));
         }
         throw new PowsyblException(Importers.UNSUPPORTED_FILE_FORMAT_OR_INVALID_FILE);
     }
@@ -330,7 +333,8 @@ public interface Network extends Container<Network> {
                         NetworkFactory networkFactory, ImportersLoader loader, ReportNode reportNode) {
         Importer importer = Importer.find(dataSource, loader, computationManager, config);
         if (importer != null) {
-            return importer.importData(dataSource, networkFactory, parameters, reportNode);
+            return Metrics.timer("iidm.import." + importer.getFormat())
+                    .record(() -> importer.importData(dataSource, networkFactory, parameters, reportNode));
         }
         throw new PowsyblException(Importers.UNSUPPORTED_FILE_FORMAT_OR_INVALID_FILE);
     }
@@ -1738,6 +1742,20 @@ public interface Network extends Container<Network> {
      */
     void removeListener(NetworkListener listener);
 
+    /**
+     * <p>Run the given modifications as a batch.</p>
+     * <p>Implementations may defer the notification of the {@link NetworkListener listeners} to the end of the batch,
+     * successive updates of the same attribute being then notified once, so that many modifications can be applied at
+     * a lower cost. Removal notifications are never deferred: {@link NetworkListener#beforeRemoval(Identifiable)} is
+     * always received before the removal, after the deferred notifications of the changes preceding it. Batches can be
+     * nested: deferred notifications are sent at the end of the outermost one. The network must not be modified by
+     * other threads during a batch. The default implementation runs the modifications.</p>
+     * @param modifications the modifications to run
+     */
+    default void runBatch(Runnable modifications) {
+        modifications.run();
+    }
+
     @Override
     default IdentifiableType getType() {
         return IdentifiableType.NETWORK;
@@ -1841,7 +1859,7 @@ public interface Network extends Container<Network> {
         if (exporter == null) {
             throw new PowsyblException("Export format " + format + " not supported");
         }
-        exporter.export(this, parameters, dataSource, reportNode);
+        Metrics.timer("iidm.export." + format).record(() -> exporter.export(this, parameters, dataSource, reportNode));
     }
 
     default void write(ExportersLoader loader, String format, Properties parameters, DataSource dataSource) {
@@ -92,7 +92,7 @@ public final class LinkData {
         return admittance;
     }
 
-    static Complex kronAntenna(Complex y11, Complex y12, Complex y21, Complex y22, boolean isOpenFrom) {
+    public static Complex kronAntenna(Complex y11, Complex y12, Complex y21, Complex y22, boolean isOpenFrom) {
         Complex ysh = Complex.ZERO;
 
         if (isOpenFrom) {
@@ -136,7 +136,7 @@ public final class LinkData {
         return flow;
     }
 
-    static double getPhaseAngleClockDegrees(int phaseAngleClock) {
+    public static double getPhaseAngleClockDegrees(int phaseAngleClock) {
         double phaseAngleClockDegree = Math.IEEEremainder(phaseAngleClock * 30.0, 360.0);
         if (phaseAngleClockDegree > 180.0) {
             phaseAngleClockDegree -= 360.0;
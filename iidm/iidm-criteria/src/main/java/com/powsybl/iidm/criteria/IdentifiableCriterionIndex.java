@@ -0,0 +1,252 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.criteria;
+
+import com.powsybl.iidm.network.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Index of the identifiables of a network, to answer {@link Criterion criteria} queries on the identifiables of a type
+ * without evaluating the criteria on each identifiable of the network.
+ *
+ * <p>For each type, identifiables are grouped in buckets of identifiables located in the same voltage levels (and the
+ * same substation for transformers), hence with the same countries and nominal voltages. The buckets are themselves
+ * indexed by country and by nominal voltage. A query first restricts the buckets to the ones located in the countries
+ * and nominal voltages of its country and nominal voltage criteria, then evaluates the criteria depending only on the
+ * location (country, nominal voltage and voltage level or substation property criteria) once per remaining bucket,
+ * and finally the other criteria (identifiable property and regex criteria) on the identifiables of the accepted
+ * buckets only.
+ *
+ * <p>The index of a type is built once, on the first query for this type, so an index has to be shared to answer
+ * many queries on the same network. The network is supposed not to be modified while the index is used. An index
+ * can be used by several threads.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class IdentifiableCriterionIndex {
+
+    /**
+     * Index of the identifiables of a type.
+     *
+     * @param identifiables the identifiables, in the network order
+     * @param bucketStart the start of the members of each bucket in {@code bucketMembers}, plus the member count
+     * @param bucketMembers the indexes of the identifiables of each bucket, in the network order
+     * @param bucketsByCountry the buckets having at least one location in each country
+     * @param bucketsByNominalVoltage the buckets having at least one voltage level of each nominal voltage
+     * @param unlocatedBuckets the buckets whose location is unknown, which cannot be excluded by their location
+     */
+    private record TypeIndex(List<Identifiable<?>> identifiables, int[] bucketStart, int[] bucketMembers,
+                             Map<Country, BitSet> bucketsByCountry, Map<Double, BitSet> bucketsByNominalVoltage,
+                             BitSet unlocatedBuckets) {
+
+        int getBucketCount() {
+            return bucketStart.length - 1;
+        }
+
+        /**
+         * Return the buckets which may be accepted by the criterion, or null if the criterion does not restrict them.
+         */
+        BitSet getCandidateBuckets(Criterion criterion) {
+            List<Country> countries = switch (criterion) {
+                case SingleCountryCriterion c -> c.getCountries();
+                case AtLeastOneCountryCriterion c -> c.getCountries();
+                default -> Collections.emptyList();
+            };
+            if (!countries.isEmpty()) {
+                BitSet candidates = (BitSet) unlocatedBuckets.clone();
+                for (Country country : countries) {
+                    BitSet buckets = bucketsByCountry.get(country);
+                    if (buckets != null) {
+                        candidates.or(buckets);
+                    }
+                }
+                return candidates;
+            }
+            VoltageInterval voltageInterval = switch (criterion) {
+                case SingleNominalVoltageCriterion c -> c.getVoltageInterval();
+                case AtLeastOneNominalVoltageCriterion c -> c.getVoltageInterval();
+                default -> null;
+            };
+            if (voltageInterval != null) {
+                BitSet candidates = (BitSet) unlocatedBuckets.clone();
+                bucketsByNominalVoltage.forEach((nominalVoltage, buckets) -> {
+                    if (voltageInterval.checkIsBetweenBound(nominalVoltage)) {
+                        candidates.or(buckets);
+                    }
+                });
+                return candidates;
+            }
+            return null;
+        }
+    }
+
+    private final Network network;
+
+    private final Map<IdentifiableType, TypeIndex> typeIndexes = new ConcurrentHashMap<>();
+
+    public IdentifiableCriterionIndex(Network network) {
+        this.network = Objects.requireNonNull(network);
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    /**
+     * Return the identifiables of the given type matching all the given criteria, in the same order as
+     * {@link Network#getIdentifiableStream(IdentifiableType)}.
+     *
+     * @param type the type of the identifiables
+     * @param criteria the criteria to check, null criteria are ignored
+     */
+    public Stream<Identifiable<?>> filter(IdentifiableType type, List<? extends Criterion> criteria) {
+        Objects.requireNonNull(type);
+        List<Criterion> locationCriteria = new ArrayList<>();
+        List<Criterion> otherCriteria = new ArrayList<>();
+        for (Criterion criterion : Objects.requireNonNull(criteria)) {
+            if (criterion != null) {
+                (isLocationCriterion(criterion) ? locationCriteria : otherCriteria).add(criterion);
+            }
+        }
+        TypeIndex typeIndex = typeIndexes.computeIfAbsent(type, this::createTypeIndex);
+
+        // restrict the buckets with the country and nominal voltage indexes
+        BitSet candidateBuckets = new BitSet(typeIndex.getBucketCount());
+        candidateBuckets.set(0, typeIndex.getBucketCount());
+        for (Criterion criterion : locationCriteria) {
+            BitSet buckets = typeIndex.getCandidateBuckets(criterion);
+            if (buckets != null) {
+                candidateBuckets.and(buckets);
+            }
+        }
+
+        // evaluate the location criteria once per candidate bucket, on its first identifiable
+        BitSet accepted = new BitSet(typeIndex.identifiables().size());
+        for (int bucket = candidateBuckets.nextSetBit(0); bucket >= 0; bucket = candidateBuckets.nextSetBit(bucket + 1)) {
+            int first = typeIndex.bucketStart()[bucket];
+            int last = typeIndex.bucketStart()[bucket + 1];
+            Identifiable<?> representative = typeIndex.identifiables().get(typeIndex.bucketMembers()[first]);
+            if (locationCriteria.stream().allMatch(criterion -> criterion.filter(representative, type))) {
+                for (int m = first; m < last; m++) {
+                    accepted.set(typeIndex.bucketMembers()[m]);
+                }
+            }
+        }
+
+        return accepted.stream()
+                .<Identifiable<?>>mapToObj(i -> typeIndex.identifiables().get(i))
+                .filter(identifiable -> otherCriteria.stream().allMatch(criterion -> criterion.filter(identifiable, type)));
+    }
+
+    private TypeIndex createTypeIndex(IdentifiableType type) {
+        List<Identifiable<?>> identifiables = network.getIdentifiableStream(type).toList();
+        int[] buckets = new int[identifiables.size()];
+        List<List<Identifiable<?>>> bucketLocations = new ArrayList<>();
+        Map<List<Identifiable<?>>, Integer> bucketByLocation = new HashMap<>();
+        for (int i = 0; i < identifiables.size(); i++) {
+            List<Identifiable<?>> location = getLocation(identifiables.get(i), type);
+            Integer bucket = location != null ? bucketByLocation.get(location) : null;
+            if (bucket == null) {
+                // unknown locations are never shared, the identifiable has its own bucket
+                bucket = bucketLocations.size();
+                bucketLocations.add(location);
+                if (location != null) {
+                    bucketByLocation.put(location, bucket);
+                }
+            }
+            buckets[i] = bucket;
+        }
+
+        // members of each bucket, in the network order
+        int bucketCount = bucketLocations.size();
+        int[] bucketStart = new int[bucketCount + 1];
+        for (int bucket : buckets) {
+            bucketStart[bucket + 1]++;
+        }
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            bucketStart[bucket + 1] += bucketStart[bucket];
+        }
+        int[] bucketMembers = new int[identifiables.size()];
+        int[] next = Arrays.copyOf(bucketStart, bucketCount);
+        for (int i = 0; i < identifiables.size(); i++) {
+            bucketMembers[next[buckets[i]]++] = i;
+        }
+
+        // buckets by country and by nominal voltage
+        Map<Country, BitSet> bucketsByCountry = new EnumMap<>(Country.class);
+        Map<Double, BitSet> bucketsByNominalVoltage = new HashMap<>();
+        BitSet unlocatedBuckets = new BitSet(bucketCount);
+        for (int bucket = 0; bucket < bucketCount; bucket++) {
+            List<Identifiable<?>> location = bucketLocations.get(bucket);
+            if (location == null) {
+                unlocatedBuckets.set(bucket);
+                continue;
+            }
+            for (Identifiable<?> element : location) {
+                Optional<Country> country = Optional.empty();
+                if (element instanceof VoltageLevel voltageLevel) {
+                    bucketsByNominalVoltage.computeIfAbsent(voltageLevel.getNominalV(), v -> new BitSet()).set(bucket);
+                    country = voltageLevel.getSubstation().flatMap(Substation::getCountry);
+                } else if (element instanceof Substation substation) {
+                    country = substation.getCountry();
+                }
+                int b = bucket;
+                country.ifPresent(c -> bucketsByCountry.computeIfAbsent(c, k -> new BitSet()).set(b));
+            }
+        }
+        return new TypeIndex(identifiables, bucketStart, bucketMembers, bucketsByCountry, bucketsByNominalVoltage, unlocatedBuckets);
+    }
+
+    /**
+     * Return true if the result of the criterion only depends on the location of the identifiable, as computed by
+     * {@link #getLocation(Identifiable, IdentifiableType)}.
+     */
+    static boolean isLocationCriterion(Criterion criterion) {
+        return criterion instanceof SingleCountryCriterion
+                || criterion instanceof TwoCountriesCriterion
+                || criterion instanceof AtLeastOneCountryCriterion
+                || criterion instanceof SingleNominalVoltageCriterion
+                || criterion instanceof TwoNominalVoltageCriterion
+                || criterion instanceof ThreeNominalVoltageCriterion
+                || criterion instanceof AtLeastOneNominalVoltageCriterion
+                || criterion instanceof PropertyCriterion propertyCriterion && propertyCriterion.getEquipmentToCheck() != PropertyCriterion.EquipmentToCheck.SELF;
+    }
+
+    /**
+     * Return the voltage levels (and substation for transformers) read by the location criteria, or null if unknown.
+     */
+    static List<Identifiable<?>> getLocation(Identifiable<?> identifiable, IdentifiableType type) {
+        return switch (type) {
+            case BOUNDARY_LINE, GENERATOR, LOAD, SHUNT_COMPENSATOR, STATIC_VAR_COMPENSATOR, BUSBAR_SECTION, BATTERY, HVDC_CONVERTER_STATION ->
+                List.of(((Injection<?>) identifiable).getTerminal().getVoltageLevel());
+            case SWITCH -> List.of(((Switch) identifiable).getVoltageLevel());
+            case BUS -> List.of(((Bus) identifiable).getVoltageLevel());
+            case LINE, TIE_LINE -> List.of(((Branch<?>) identifiable).getTerminal1().getVoltageLevel(),
+                    ((Branch<?>) identifiable).getTerminal2().getVoltageLevel());
+            case TWO_WINDINGS_TRANSFORMER -> {
+                TwoWindingsTransformer transformer = (TwoWindingsTransformer) identifiable;
+                yield Arrays.asList(transformer.getTerminal1().getVoltageLevel(), transformer.getTerminal2().getVoltageLevel(),
+                        transformer.getNullableSubstation());
+            }
+            case THREE_WINDINGS_TRANSFORMER -> {
+                ThreeWindingsTransformer transformer = (ThreeWindingsTransformer) identifiable;
+                yield Arrays.asList(transformer.getLeg1().getTerminal().getVoltageLevel(),
+                        transformer.getLeg2().getTerminal().getVoltageLevel(),
+                        transformer.getLeg3().getTerminal().getVoltageLevel(),
+                        transformer.getNullableSubstation());
+            }
+            case HVDC_LINE -> List.of(((HvdcLine) identifiable).getConverterStation1().getTerminal().getVoltageLevel(),
+                    ((HvdcLine) identifiable).getConverterStation2().getTerminal().getVoltageLevel());
+            case LINE_COMMUTATED_CONVERTER, VOLTAGE_SOURCE_CONVERTER -> List.of(((AcDcConverter<?>) identifiable).getTerminal1().getVoltageLevel());
+            default -> null;
+        };
+    }
+}
@@ -18,10 +18,22 @@ public class RegexCriterion implements Criterion {
 
     private final String regex;
 
+    private volatile Pattern pattern;
+
     public RegexCriterion(String regex) {
         this.regex = regex;
     }
 
+    private Pattern getPattern() {
+        // compiled on first use, so that an invalid regex only fails when filtering
+        Pattern p = pattern;
+        if (p == null) {
+            p = Pattern.compile(regex);
+            pattern = p;
+        }
+        return p;
+    }
+
     @Override
     public CriterionType getType() {
         return CriterionType.REGEX;
@@ -29,7 +41,7 @@ public class RegexCriterion implements Criterion {
 
     @Override
     public boolean filter(Identifiable<?> identifiable, IdentifiableType type) {
-        return Pattern.compile(regex).matcher(identifiable.getId()).find();
+        return getPattern().matcher(identifiable.getId()).find();
     }
 
     public String getRegex() {
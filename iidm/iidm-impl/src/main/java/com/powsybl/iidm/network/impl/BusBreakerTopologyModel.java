@@ -11,6 +11,7 @@ import com.google.common.base.Functions;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.metrics.Metrics;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.util.Identifiables;
 import com.powsybl.iidm.network.util.Networks;
@@ -226,6 +227,10 @@ class BusBreakerTopologyModel extends AbstractTopologyModel {
             if (variants.get().cache != null) {
                 return;
             }
+            Metrics.timer("iidm.topology.bus-breaker.update-cache").record(this::computeCache);
+        }
+
+        private void computeCache() {
 
             Map<String, MergedBus> mergedBuses = new LinkedHashMap<>();
 
@@ -0,0 +1,22 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkListener;
+
+/**
+ * A listener used by the implementation to keep its own data (extensions for instance) consistent with the network.
+ *
+ * <p>Internal listeners are always notified synchronously, even during a {@link Network#runBatch(Runnable) batch}, so
+ * that the data they maintain is never stale while the batch modifications are applied.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public interface InternalNetworkListener extends NetworkListener {
+}
@@ -146,8 +146,10 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         NetworkImpl mergedNetwork = new NetworkImpl(id, name, networks[0].getSourceFormat());
         setValidationLevels(mergedNetwork, networks);
         setCommonCaseDate(mergedNetwork, networks);
+        // boundary lines of the merged network by pairing key, updated after each merge instead of being rebuilt
+        Map<String, List<BoundaryLine>> dl1byPairingKey = new HashMap<>();
         for (Network other : networks) {
-            mergedNetwork.merge(other);
+            mergedNetwork.merge(other, dl1byPairingKey);
         }
 
         return mergedNetwork;
@@ -1241,7 +1243,7 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         }
     }
 
-    private void merge(Network other) {
+    private void merge(Network other, Map<String, List<BoundaryLine>> dl1byPairingKey) {
         checkIndependentNetwork(other);
         NetworkImpl otherNetwork = (NetworkImpl) other;
 
@@ -1259,15 +1261,17 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
 
         // try to find boundary lines couples
         List<BoundaryLinePair> lines = new ArrayList<>();
-        Map<String, List<BoundaryLine>> dl1byPairingKey = new HashMap<>();
-
-        for (BoundaryLine dl1 : getBoundaryLines(BoundaryLineFilter.ALL)) {
-            if (dl1.getPairingKey() != null) {
-                dl1byPairingKey.computeIfAbsent(dl1.getPairingKey(), k -> new ArrayList<>()).add(dl1);
+        // boundary lines of the merged network paired during this merge, which cannot be paired again
+        Set<BoundaryLine> pairedDl1s = new HashSet<>();
+        List<BoundaryLine> otherDls = new ArrayList<>();
+        for (BoundaryLine dl2 : other.getBoundaryLines(BoundaryLineFilter.ALL)) {
+            if (dl2.getPairingKey() != null) {
+                otherDls.add(dl2);
             }
         }
         for (BoundaryLine dl2 : findCandidateBoundaryLines(other, dl1byPairingKey::containsKey)) {
-            findAndAssociateBoundaryLines(dl2, dl1byPairingKey::get, (dll1, dll2) -> pairBoundaryLines(lines, dll1, dll2, dl1byPairingKey));
+            findAndAssociateBoundaryLines(dl2, pairingKey -> getUnpairedBoundaryLines(dl1byPairingKey, pairingKey, pairedDl1s),
+                (dll1, dll2) -> pairBoundaryLines(lines, dll1, dll2, pairedDl1s));
         }
 
         // create a subnetwork for the other network
@@ -1281,6 +1285,11 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
 
         replaceBoundaryLineByTieLine(lines);
 
+        // boundary lines of the other network are now boundary lines of the merged network
+        for (BoundaryLine dl : otherDls) {
+            dl1byPairingKey.computeIfAbsent(dl.getPairingKey(), k -> new ArrayList<>()).add(dl);
+        }
+
         other.getVoltageAngleLimits().forEach(l -> getVoltageAngleLimitsIndex().put(l.getId(), l));
 
         // update the source format
@@ -1335,11 +1344,18 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         parent.index.checkAndAdd(sn);
     }
 
-    private void pairBoundaryLines(List<BoundaryLinePair> boundaryLinePairs, BoundaryLine dl1, BoundaryLine dl2, Map<String, List<BoundaryLine>> dl1byPairingKey) {
+    private static List<BoundaryLine> getUnpairedBoundaryLines(Map<String, List<BoundaryLine>> dl1byPairingKey, String pairingKey,
+                                                               Set<BoundaryLine> pairedDl1s) {
+        List<BoundaryLine> dl1s = dl1byPairingKey.get(pairingKey);
+        if (dl1s == null || pairedDl1s.isEmpty()) {
+            return dl1s;
+        }
+        return dl1s.stream().filter(dl1 -> !pairedDl1s.contains(dl1)).toList();
+    }
+
+    private void pairBoundaryLines(List<BoundaryLinePair> boundaryLinePairs, BoundaryLine dl1, BoundaryLine dl2, Set<BoundaryLine> pairedDl1s) {
         if (dl1 != null) {
-            if (dl1.getPairingKey() != null) {
-                dl1byPairingKey.get(dl1.getPairingKey()).remove(dl1);
-            }
+            pairedDl1s.add(dl1);
             BoundaryLinePair l = new BoundaryLinePair();
             l.id = buildMergedId(dl1.getId(), dl2.getId());
             l.name = buildMergedName(dl1.getId(), dl2.getId(), dl1.getOptionalName().orElse(null), dl2.getOptionalName().orElse(null));
@@ -1468,6 +1484,17 @@ public class NetworkImpl extends AbstractNetwork implements VariantManagerHolder
         listeners.remove(listener);
     }
 
+    @Override
+    public void runBatch(Runnable modifications) {
+        Objects.requireNonNull(modifications);
+        listeners.startBatch();
+        try {
+            modifications.run();
+        } finally {
+            listeners.endBatch();
+        }
+    }
+
     @Override
     public ValidationLevel runValidationChecks() {
         return runValidationChecks(true);
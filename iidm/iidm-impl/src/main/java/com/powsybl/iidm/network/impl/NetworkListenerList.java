@@ -13,9 +13,14 @@ import com.powsybl.iidm.network.NetworkListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 
 /**
@@ -28,6 +33,55 @@ public class NetworkListenerList {
 
     private final List<NetworkListener> listeners = new CopyOnWriteArrayList<>();
 
+    /**
+     * Key of the updates of an attribute of an identifiable or an extension, compared by identity.
+     */
+    private record UpdateKey(Object source, String attribute, String variantId) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof UpdateKey other && source == other.source
+                && attribute.equals(other.attribute) && Objects.equals(variantId, other.variantId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(System.identityHashCode(source), attribute, variantId);
+        }
+    }
+
+    /**
+     * Updates of the same attribute during a batch, notified once with the first old value and the last new value.
+     */
+    private static final class CoalescedUpdate implements Consumer<NetworkListener> {
+
+        private final Object oldValue;
+
+        private Object newValue;
+
+        private final BiFunction<Object, Object, Consumer<NetworkListener>> notification;
+
+        private CoalescedUpdate(Object oldValue, Object newValue, BiFunction<Object, Object, Consumer<NetworkListener>> notification) {
+            this.oldValue = oldValue;
+            this.newValue = newValue;
+            this.notification = notification;
+        }
+
+        @Override
+        public void accept(NetworkListener listener) {
+            if (!Objects.equals(oldValue, newValue)) {
+                notification.apply(oldValue, newValue).accept(listener);
+            }
+        }
+    }
+
+    private int batchDepth = 0;
+
+    // notifications deferred for the external listeners
+    private final List<Consumer<NetworkListener>> pendingNotifications = new ArrayList<>();
+
+    private final Map<UpdateKey, CoalescedUpdate> pendingUpdates = new HashMap<>();
+
     void add(NetworkListener listener) {
         listeners.add(listener);
     }
@@ -36,6 +90,89 @@ public class NetworkListenerList {
         listeners.remove(listener);
     }
 
+    /**
+     * Start a batch: notifications of the external listeners are deferred until the end of the outermost batch, except
+     * removal notifications, which are sent when the removal occurs after the pending ones. {@link InternalNetworkListener
+     * Internal listeners} are always notified synchronously.
+     */
+    void startBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * End a batch. At the end of the outermost batch, deferred notifications are sent in the order of the changes,
+     * successive updates of the same attribute being notified once, at the position of the first one.
+     */
+    void endBatch() {
+        if (batchDepth <= 0) {
+            throw new IllegalStateException("No batch started");
+        }
+        batchDepth--;
+        if (batchDepth == 0) {
+            flushPendingNotifications();
+        }
+    }
+
+    private void flushPendingNotifications() {
+        if (!pendingNotifications.isEmpty()) {
+            List<Consumer<NetworkListener>> notifications = new ArrayList<>(pendingNotifications);
+            pendingNotifications.clear();
+            pendingUpdates.clear();
+            notifications.forEach(notification -> notifyListeners(notification, false, true));
+        }
+    }
+
+    boolean isBatchStarted() {
+        return batchDepth > 0;
+    }
+
+    private void coalesce(UpdateKey key, Object oldValue, Object newValue, BiFunction<Object, Object, Consumer<NetworkListener>> notification) {
+        CoalescedUpdate update = pendingUpdates.get(key);
+        if (update != null) {
+            update.newValue = newValue;
+        } else {
+            update = new CoalescedUpdate(oldValue, newValue, notification);
+            pendingUpdates.put(key, update);
+            pendingNotifications.add(update);
+        }
+    }
+
+    private boolean hasExternalListeners() {
+        return listeners.stream().anyMatch(listener -> !(listener instanceof InternalNetworkListener));
+    }
+
+    private void notifyListeners(Consumer<NetworkListener> notification) {
+        if (batchDepth > 0) {
+            notifyListeners(notification, true, false);
+            if (hasExternalListeners()) {
+                pendingNotifications.add(notification);
+            }
+        } else {
+            notifyListeners(notification, true, true);
+        }
+    }
+
+    /**
+     * Notify the listeners of a removal, synchronously even during a batch, after the pending notifications so that
+     * external listeners receive the notifications in the order of the changes.
+     */
+    private void notifyRemoval(Consumer<NetworkListener> notification) {
+        flushPendingNotifications();
+        notifyListeners(notification, true, true);
+    }
+
+    private void notifyListeners(Consumer<NetworkListener> notification, boolean internal, boolean external) {
+        for (NetworkListener listener : listeners) {
+            if (listener instanceof InternalNetworkListener ? internal : external) {
+                try {
+                    notification.accept(listener);
+                } catch (Exception t) {
+                    LOGGER.error(t.toString(), t);
+                }
+            }
+        }
+    }
+
     void notifyUpdate(Identifiable<?> identifiable, Supplier<String> attribute, Object oldValue, Object newValue) {
         if (!listeners.isEmpty() && !Objects.equals(oldValue, newValue)) {
             notifyUpdateListeners(identifiable, attribute.get(), null, oldValue, newValue);
@@ -61,43 +198,27 @@ public class NetworkListenerList {
     }
 
     private void notifyUpdateListeners(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onUpdate(identifiable, attribute, variantId, oldValue, newValue);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
+        if (batchDepth > 0) {
+            notifyListeners(listener -> listener.onUpdate(identifiable, attribute, variantId, oldValue, newValue), true, false);
+            if (hasExternalListeners()) {
+                coalesce(new UpdateKey(identifiable, attribute, variantId), oldValue, newValue,
+                    (o, n) -> listener -> listener.onUpdate(identifiable, attribute, variantId, o, n));
             }
+        } else {
+            notifyListeners(listener -> listener.onUpdate(identifiable, attribute, variantId, oldValue, newValue));
         }
     }
 
     public void notifyExtensionCreation(Extension<?> extension) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onExtensionCreation(extension);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onExtensionCreation(extension));
     }
 
     public void notifyExtensionBeforeRemoval(Extension<?> extension) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onExtensionBeforeRemoval(extension);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyRemoval(listener -> listener.onExtensionBeforeRemoval(extension));
     }
 
     public void notifyExtensionAfterRemoval(Identifiable<?> identifiable, String extensionName) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onExtensionAfterRemoval(identifiable, extensionName);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyRemoval(listener -> listener.onExtensionAfterRemoval(identifiable, extensionName));
     }
 
     public void notifyExtensionUpdate(Extension<?> extension, String attribute, String variantId, Object oldValue, Object newValue) {
@@ -107,43 +228,27 @@ public class NetworkListenerList {
     }
 
     private void notifyExtensionUpdateListeners(Extension<?> extension, String attribute, String variantId, Object oldValue, Object newValue) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onExtensionUpdate(extension, attribute, variantId, oldValue, newValue);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
+        if (batchDepth > 0) {
+            notifyListeners(listener -> listener.onExtensionUpdate(extension, attribute, variantId, oldValue, newValue), true, false);
+            if (hasExternalListeners()) {
+                coalesce(new UpdateKey(extension, attribute, variantId), oldValue, newValue,
+                    (o, n) -> listener -> listener.onExtensionUpdate(extension, attribute, variantId, o, n));
             }
+        } else {
+            notifyListeners(listener -> listener.onExtensionUpdate(extension, attribute, variantId, oldValue, newValue));
         }
     }
 
     void notifyCreation(Identifiable<?> identifiable) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onCreation(identifiable);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onCreation(identifiable));
     }
 
     void notifyBeforeRemoval(Identifiable<?> identifiable) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.beforeRemoval(identifiable);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyRemoval(listener -> listener.beforeRemoval(identifiable));
     }
 
     void notifyAfterRemoval(String id) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.afterRemoval(id);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyRemoval(listener -> listener.afterRemoval(id));
     }
 
     void notifyPropertyAdded(Identifiable<?> identifiable, Supplier<String> attribute, Object newValue) {
@@ -153,13 +258,7 @@ public class NetworkListenerList {
     }
 
     void notifyPropertyAdded(Identifiable<?> identifiable, String attribute, Object newValue) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onPropertyAdded(identifiable, attribute, newValue);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onPropertyAdded(identifiable, attribute, newValue));
     }
 
     void notifyPropertyReplaced(Identifiable<?> identifiable, Supplier<String> attribute, Object oldValue, Object newValue) {
@@ -169,13 +268,7 @@ public class NetworkListenerList {
     }
 
     void notifyPropertyReplaced(Identifiable<?> identifiable, String attribute, Object oldValue, Object newValue) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onPropertyReplaced(identifiable, attribute, oldValue, newValue);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onPropertyReplaced(identifiable, attribute, oldValue, newValue));
     }
 
     void notifyPropertyRemoved(Identifiable<?> identifiable, Supplier<String> attribute, Object oldValue) {
@@ -185,42 +278,18 @@ public class NetworkListenerList {
     }
 
     void notifyPropertyRemoved(Identifiable<?> identifiable, String attribute, Object oldValue) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onPropertyRemoved(identifiable, attribute, oldValue);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onPropertyRemoved(identifiable, attribute, oldValue));
     }
 
     void notifyVariantCreated(String sourceVariantId, String targetVariantId) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onVariantCreated(sourceVariantId, targetVariantId);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onVariantCreated(sourceVariantId, targetVariantId));
     }
 
     void notifyVariantOverwritten(String sourceVariantId, String targetVariantId) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onVariantOverwritten(sourceVariantId, targetVariantId);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onVariantOverwritten(sourceVariantId, targetVariantId));
     }
 
     void notifyVariantRemoved(String variantId) {
-        for (NetworkListener listener : listeners) {
-            try {
-                listener.onVariantRemoved(variantId);
-            } catch (Exception t) {
-                LOGGER.error(t.toString(), t);
-            }
-        }
+        notifyListeners(listener -> listener.onVariantRemoved(variantId));
     }
 }
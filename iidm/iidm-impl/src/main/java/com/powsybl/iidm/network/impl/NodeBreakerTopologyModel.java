@@ -12,6 +12,8 @@ import com.google.common.base.Predicates;
 import com.google.common.collect.FluentIterable;
 import com.google.common.collect.Iterables;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.VoltageLevel.NodeBreakerView.InternalConnectionAdder;
 import com.powsybl.iidm.network.VoltageLevel.NodeBreakerView.SwitchAdder;
@@ -313,14 +315,16 @@ class NodeBreakerTopologyModel extends AbstractTopologyModel {
                 return;
             }
             LOGGER.trace("Update bus topology of voltage level {}", voltageLevel.getId());
-            Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
-            CalculatedBus[] node2bus = new CalculatedBus[graph.getVertexCapacity()];
-            boolean[] encountered = new boolean[graph.getVertexCapacity()];
-            for (int v : graph.getVertices()) {
-                traverse(v, encountered, terminate, id2bus, node2bus);
+            try (Timer.Sample sample = Metrics.timer("iidm.topology.node-breaker.update-cache").start()) {
+                Map<String, CalculatedBus> id2bus = new LinkedHashMap<>();
+                CalculatedBus[] node2bus = new CalculatedBus[graph.getVertexCapacity()];
+                boolean[] encountered = new boolean[graph.getVertexCapacity()];
+                for (int v : graph.getVertices()) {
+                    traverse(v, encountered, terminate, id2bus, node2bus);
+                }
+                busCache = new BusCache(node2bus, id2bus);
+                LOGGER.trace("Found buses {}", id2bus.values());
             }
-            busCache = new BusCache(node2bus, id2bus);
-            LOGGER.trace("Found buses {}", id2bus.values());
         }
 
         protected void invalidateCache() {
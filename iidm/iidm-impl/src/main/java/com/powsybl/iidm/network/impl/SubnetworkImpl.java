@@ -1161,6 +1161,11 @@ public class SubnetworkImpl extends AbstractNetwork {
                 " Remove this listener to the parent network '" + getNetwork().getId() + "'");
     }
 
+    @Override
+    public void runBatch(Runnable modifications) {
+        getNetwork().runBatch(modifications);
+    }
+
     @Override
     public ValidationLevel runValidationChecks() {
         return getNetwork().runValidationChecks();
@@ -12,6 +12,7 @@ import com.google.common.collect.FluentIterable;
 import com.google.common.collect.HashBiMap;
 import com.google.common.primitives.Ints;
 import com.powsybl.commons.PowsyblException;
+import com.powsybl.commons.metrics.Metrics;
 import com.powsybl.iidm.network.VariantManager;
 import com.powsybl.iidm.network.VariantManagerConstants;
 import org.slf4j.Logger;
@@ -125,6 +126,10 @@ public class VariantManagerImpl implements VariantManager {
         if (targetVariantIds.isEmpty()) {
             throw new IllegalArgumentException("Empty target variant id list");
         }
+        Metrics.timer("iidm.variant.clone").record(() -> doCloneVariant(sourceVariantId, targetVariantIds, mayOverwrite));
+    }
+
+    private void doCloneVariant(String sourceVariantId, List<String> targetVariantIds, boolean mayOverwrite) {
         LOGGER.debug("Creating variants {}", targetVariantIds);
         if (!mayOverwrite) {
             checkExistingVariantIds(targetVariantIds);
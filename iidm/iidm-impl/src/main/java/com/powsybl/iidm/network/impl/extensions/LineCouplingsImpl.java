@@ -13,6 +13,7 @@ import com.powsybl.iidm.network.*;
 import com.powsybl.iidm.network.extensions.LineCouplings;
 import com.powsybl.iidm.network.extensions.MutualCoupling;
 import com.powsybl.iidm.network.extensions.MutualCouplingAdder;
+import com.powsybl.iidm.network.impl.InternalNetworkListener;
 
 import java.util.*;
 
@@ -80,7 +81,7 @@ public class LineCouplingsImpl extends AbstractExtension<Network> implements Lin
         unsubscribeListener();
         super.setExtendable(network);
 
-        listener = new NetworkListener() {
+        listener = new InternalNetworkListener() {
             @Override
             public void beforeRemoval(Identifiable<?> identifiable) {
                 if (identifiable instanceof Line line) {
@@ -0,0 +1,150 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.network.impl;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class NetworkBatchTest {
+
+    private Network network;
+
+    private final List<String> events = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        network = EurostagTutorialExample1Factory.create();
+        network.addListener(new NetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                events.add("update " + identifiable.getId() + " " + attribute + " " + oldValue + " -> " + newValue);
+            }
+
+            @Override
+            public void onCreation(Identifiable<?> identifiable) {
+                events.add("creation " + identifiable.getId());
+            }
+
+            @Override
+            public void afterRemoval(String id) {
+                events.add("removal " + id);
+            }
+        });
+    }
+
+    @Test
+    void testDeferredAndCoalescedNotifications() {
+        Generator generator = network.getGenerator("GEN");
+        Load load = network.getLoad("LOAD");
+        network.runBatch(() -> {
+            generator.setTargetP(700);
+            load.setP0(650);
+            generator.setTargetP(800);
+            network.getVoltageLevel("VLLOAD").newLoad()
+                    .setId("LOAD2")
+                    .setBus("NLOAD")
+                    .setP0(10)
+                    .setQ0(0)
+                    .add();
+            // back to the initial value: no notification
+            load.setP0(600);
+            assertTrue(events.isEmpty());
+        });
+        assertEquals(List.of("update GEN targetP 607.0 -> 800.0", "creation LOAD2"), events);
+
+        events.clear();
+        generator.setTargetP(810);
+        assertEquals(List.of("update GEN targetP 800.0 -> 810.0"), events);
+    }
+
+    @Test
+    void testNestedBatches() {
+        Generator generator = network.getGenerator("GEN");
+        network.runBatch(() -> {
+            network.runBatch(() -> generator.setTargetP(700));
+            assertTrue(events.isEmpty());
+            network.getLoad("LOAD").remove();
+            generator.setTargetP(750);
+        });
+        // the removal is notified synchronously, after the pending updates
+        assertEquals(List.of("update GEN targetP 607.0 -> 700.0", "removal LOAD", "update GEN targetP 700.0 -> 750.0"), events);
+    }
+
+    @Test
+    void testInternalListenersAndRemovals() {
+        List<String> internalEvents = new ArrayList<>();
+        network.addListener(new InternalNetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                internalEvents.add("update " + identifiable.getId() + " " + attribute + " " + oldValue + " -> " + newValue);
+            }
+
+            @Override
+            public void beforeRemoval(Identifiable<?> identifiable) {
+                // still in the network
+                assertSame(identifiable, network.getIdentifiable(identifiable.getId()));
+                internalEvents.add("before removal " + identifiable.getId());
+            }
+        });
+        Generator generator = network.getGenerator("GEN");
+        network.runBatch(() -> {
+            generator.setTargetP(700);
+            generator.setTargetP(750);
+            assertEquals(List.of("update GEN targetP 607.0 -> 700.0", "update GEN targetP 700.0 -> 750.0"), internalEvents);
+            network.getLoad("LOAD").remove();
+            assertEquals("before removal LOAD", internalEvents.get(2));
+            assertEquals(List.of("update GEN targetP 607.0 -> 750.0", "removal LOAD"), events);
+        });
+        assertEquals(List.of("update GEN targetP 607.0 -> 750.0", "removal LOAD"), events);
+    }
+
+    @Test
+    void testBatchEndedOnException() {
+        Generator generator = network.getGenerator("GEN");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> network.runBatch(() -> {
+            generator.setTargetP(700);
+            throw new IllegalStateException("Modification failure");
+        }));
+        assertEquals("Modification failure", e.getMessage());
+        assertEquals(List.of("update GEN targetP 607.0 -> 700.0"), events);
+
+        // batch has been ended
+        events.clear();
+        generator.setTargetP(710);
+        assertEquals(List.of("update GEN targetP 700.0 -> 710.0"), events);
+    }
+
+    @Test
+    void testSubnetworkBatch() {
+        Network parent = Network.create("parent", "test");
+        Network subnetwork = parent.createSubnetwork("sub", "sub", "test");
+        List<String> created = new ArrayList<>();
+        parent.addListener(new NetworkListener() {
+            @Override
+            public void onCreation(Identifiable<?> identifiable) {
+                created.add(identifiable.getId());
+            }
+        });
+        subnetwork.runBatch(() -> {
+            subnetwork.newSubstation().setId("S1").add();
+            subnetwork.newSubstation().setId("S2").add();
+            assertTrue(created.isEmpty());
+        });
+        assertEquals(List.of("S1", "S2"), created);
+    }
+}
@@ -25,8 +25,21 @@ public class NetworkModificationList extends AbstractNetworkModification {
 
     private final List<NetworkModification> modificationList;
 
+    private final boolean batch;
+
     public NetworkModificationList(List<NetworkModification> modificationList) {
+        this(modificationList, false);
+    }
+
+    /**
+     * @param modificationList the modifications to apply
+     * @param batch if true, modifications are applied in a {@link Network#runBatch(Runnable) batch}: update and
+     *              creation notifications of the network listeners are sent once all the modifications have been
+     *              applied, removals being notified as they occur
+     */
+    public NetworkModificationList(List<NetworkModification> modificationList, boolean batch) {
         this.modificationList = Objects.requireNonNull(modificationList);
+        this.batch = batch;
     }
 
     public NetworkModificationList(NetworkModification... modificationList) {
@@ -38,10 +51,19 @@ public class NetworkModificationList extends AbstractNetworkModification {
         return "NetworkModificationList";
     }
 
+    public boolean isBatch() {
+        return batch;
+    }
+
     @Override
     public void apply(Network network, NamingStrategy namingStrategy, boolean throwException,
                       ComputationManager computationManager, ReportNode reportNode) {
-        modificationList.forEach(modification -> modification.apply(network, namingStrategy, throwException, computationManager, reportNode));
+        Runnable modifications = () -> modificationList.forEach(modification -> modification.apply(network, namingStrategy, throwException, computationManager, reportNode));
+        if (batch) {
+            network.runBatch(modifications);
+        } else {
+            modifications.run();
+        }
     }
 
     @Override
@@ -185,7 +185,7 @@ public class LoadScalable extends AbstractInjectionScalable {
      * @param newP       scaled active power
      * @return the new reactive power, respecting the minimum power factor constraint
      */
-    private static double applyPowerFactorLimit(ScalingParameters parameters, double oldQ, double oldP, double newP) {
+    static double applyPowerFactorLimit(ScalingParameters parameters, double oldQ, double oldP, double newP) {
         double newQ = newP * oldQ / oldP;
         double minPowerFactor = parameters.getLoadMinPowerFactor();
         if (minPowerFactor == 0 || minPowerFactor < Math.cos(Math.atan(oldQ / oldP))) {
@@ -204,7 +204,7 @@ public class LoadScalable extends AbstractInjectionScalable {
      * @param newQ       reactive power after power-factor limiting
      * @return the reactive power limited to the configured rate limits
      */
-    private static double applyRelativeQRateLimits(ScalingParameters parameters, double oldQ, double newQ) {
+    static double applyRelativeQRateLimits(ScalingParameters parameters, double oldQ, double newQ) {
         double limitedQ = newQ;
         if (parameters.getLoadMinQRate().isPresent()) {
             double minQ = oldQ * parameters.getLoadMinQRate().getAsDouble();
@@ -346,6 +346,15 @@ public class ProportionalScalable extends AbstractCompoundScalable {
         return asked * resizingPercentage.get();
     }
 
+    /**
+     * Compile this scalable for the given network and parameters, to scale the network many times at a lower cost.
+     *
+     * @see ProportionalScalingPlan
+     */
+    public ProportionalScalingPlan compile(Network network, ScalingParameters parameters) {
+        return new ProportionalScalingPlan(this, scalablePercentageList, network, parameters);
+    }
+
     @Override
     public double getSteadyStatePower(Network network, double asked, ScalingConvention scalingConvention) {
         return scalablePercentageList.stream().mapToDouble(scalablePercentage -> scalablePercentage.getScalable().getSteadyStatePower(network, asked, scalingConvention)).sum();
@@ -0,0 +1,407 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.modification.scalable;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.modification.ConnectGenerator;
+import com.powsybl.iidm.network.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.GENERATOR;
+import static com.powsybl.iidm.modification.scalable.Scalable.ScalingConvention.LOAD;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.RESPECT_OF_DISTRIBUTION;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.RESPECT_OF_VOLUME_ASKED;
+
+/**
+ * A {@link ProportionalScalable} compiled for a network and scaling parameters, to scale the network many times.
+ *
+ * <p>Injections are resolved once, when the plan is created, and percentages and limits are stored in primitive
+ * arrays. With the {@link ScalingParameters.Priority#RESPECT_OF_VOLUME_ASKED RESPECT_OF_VOLUME_ASKED} priority, the
+ * volume left by saturated injections is redistributed in a single pass, by finding the proportional share that
+ * saturates the right injections, instead of iterating on the scalables. The result is the one the iterations converge
+ * to, without their tolerance.
+ *
+ * <p>Only proportional scalables of {@link GeneratorScalable}, {@link LoadScalable}, {@link BoundaryLineScalable}
+ * and {@link Scalable#scalable(String) scalable adapters} can be compiled. Injections not found in the network when
+ * the plan is created are ignored. Scaled values are read and written in the working variant of the network, and
+ * changes are not logged injection by injection.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class ProportionalScalingPlan {
+
+    private static final double EPSILON = 1e-2;
+
+    private final ProportionalScalable scalable;
+
+    private final Network network;
+
+    private final ScalingParameters parameters;
+
+    private final Injection<?>[] injections;
+
+    /**
+     * Percentage of the asked power for each injection.
+     */
+    private final double[] percentages;
+
+    /**
+     * Minimum and maximum values of each injection, in the natural convention of the injection (generator convention
+     * for generators, load convention for loads and boundary lines).
+     */
+    private final double[] minValues;
+
+    private final double[] maxValues;
+
+    /**
+     * 1 if the natural convention of the injection is the scaling convention, -1 otherwise.
+     */
+    private final double[] directions;
+
+    /**
+     * True if the injection is ignored by the parameters: it is kept to compute the steady state power.
+     */
+    private final boolean[] ignored;
+
+    /**
+     * True if the injection is not scaled when its initial value is out of its limits.
+     */
+    private final boolean[] rangeChecked;
+
+    ProportionalScalingPlan(ProportionalScalable scalable, List<ProportionalScalable.ScalablePercentage> scalablePercentages,
+                            Network network, ScalingParameters parameters) {
+        this.scalable = Objects.requireNonNull(scalable);
+        this.network = Objects.requireNonNull(network);
+        this.parameters = Objects.requireNonNull(parameters);
+
+        List<Injection<?>> resolvedInjections = new ArrayList<>(scalablePercentages.size());
+        List<double[]> resolvedValues = new ArrayList<>(scalablePercentages.size());
+        for (ProportionalScalable.ScalablePercentage scalablePercentage : scalablePercentages) {
+            Scalable s = scalablePercentage.getScalable();
+            if (s instanceof ScalableAdapter adapter) {
+                if (network.getIdentifiable(adapter.getId()) == null) {
+                    continue;
+                }
+                s = adapter.getScalable(network);
+            }
+            Injection<?> injection = resolve(s, network);
+            if (injection != null) {
+                AbstractInjectionScalable injectionScalable = (AbstractInjectionScalable) s;
+                double minValue = injectionScalable.minValue;
+                double maxValue = injectionScalable.maxValue;
+                if (injection instanceof Generator generator) {
+                    minValue = Math.max(generator.getMinP(), minValue);
+                    maxValue = Math.min(generator.getMaxP(), maxValue);
+                }
+                resolvedInjections.add(injection);
+                resolvedValues.add(new double[] {scalablePercentage.getPercentage(), minValue, maxValue});
+            }
+        }
+
+        int size = resolvedInjections.size();
+        injections = resolvedInjections.toArray(new Injection<?>[0]);
+        percentages = new double[size];
+        minValues = new double[size];
+        maxValues = new double[size];
+        directions = new double[size];
+        ignored = new boolean[size];
+        rangeChecked = new boolean[size];
+        for (int i = 0; i < size; i++) {
+            Injection<?> injection = injections[i];
+            double[] values = resolvedValues.get(i);
+            percentages[i] = values[0];
+            minValues[i] = values[1];
+            maxValues[i] = values[2];
+            Scalable.ScalingConvention naturalConvention = injection instanceof Generator ? GENERATOR : LOAD;
+            directions[i] = parameters.getScalingConvention() == naturalConvention ? 1 : -1;
+            ignored[i] = parameters.getIgnoredInjectionIds().contains(injection.getId());
+            rangeChecked[i] = !(injection instanceof Generator) || !parameters.isAllowsGeneratorOutOfActivePowerLimits();
+            checkPercentage(injection, percentages[i]);
+        }
+    }
+
+    private void checkPercentage(Injection<?> injection, double percentage) {
+        if (parameters.getPriority() == RESPECT_OF_DISTRIBUTION && !(injection instanceof Generator)) {
+            throw new PowsyblException(String.format("RESPECT_OF_DISTRIBUTION mode can only be used with a Generator, not %s",
+                injection.getClass()));
+        }
+        if (parameters.getPriority() == RESPECT_OF_VOLUME_ASKED && percentage < 0) {
+            throw new PowsyblException("Negative percentage of " + injection.getId() + " cannot be redistributed");
+        }
+    }
+
+    private static Injection<?> resolve(Scalable scalable, Network network) {
+        Class<?> scalableClass = scalable.getClass();
+        if (scalableClass == GeneratorScalable.class) {
+            return network.getGenerator(((GeneratorScalable) scalable).id);
+        } else if (scalableClass == LoadScalable.class) {
+            return network.getLoad(((LoadScalable) scalable).id);
+        } else if (scalableClass == BoundaryLineScalable.class) {
+            return network.getBoundaryLine(((BoundaryLineScalable) scalable).id);
+        } else {
+            throw new PowsyblException("Unable to compile a scaling plan with a scalable of type " + scalableClass.getName());
+        }
+    }
+
+    public Network getNetwork() {
+        return network;
+    }
+
+    public ScalingParameters getParameters() {
+        return parameters;
+    }
+
+    private static double getValue(Injection<?> injection) {
+        if (injection instanceof Generator generator) {
+            return generator.getTargetP();
+        } else if (injection instanceof Load load) {
+            return load.getP0();
+        } else {
+            return ((BoundaryLine) injection).getP0();
+        }
+    }
+
+    private static void setValue(Injection<?> injection, double value) {
+        if (injection instanceof Generator generator) {
+            generator.setTargetP(value);
+        } else if (injection instanceof Load load) {
+            load.setP0(value);
+        } else {
+            ((BoundaryLine) injection).setP0(value);
+        }
+    }
+
+    /**
+     * Check if the injection can be scaled, reconnecting it if needed and allowed by the parameters.
+     */
+    private boolean isScalable(int i, double value) {
+        if (ignored[i] || percentages[i] == 0) {
+            return false;
+        }
+        Injection<?> injection = injections[i];
+        if (!injection.getTerminal().isConnected()) {
+            if (!parameters.isReconnect()) {
+                return false;
+            }
+            if (injection instanceof Generator) {
+                new ConnectGenerator(injection.getId()).apply(network);
+            } else {
+                injection.getTerminal().connect();
+            }
+        }
+        return !rangeChecked[i] || value >= minValues[i] && value <= maxValues[i];
+    }
+
+    /**
+     * Scale the working variant of the network, as {@link ProportionalScalable#scale(Network, double, ScalingParameters)}
+     * would do with the parameters of the plan.
+     *
+     * @param asked value asked to adjust the scalable active power
+     * @return the actual value of the scalable active power adjustment
+     */
+    public double scale(double asked) {
+        int size = injections.length;
+        double[] values = new double[size];
+        double currentGlobalPower = 0;
+        for (int i = 0; i < size; i++) {
+            values[i] = getValue(injections[i]);
+            currentGlobalPower += directions[i] * values[i];
+        }
+
+        double variationAsked = Scalable.getVariationAsked(parameters, asked, currentGlobalPower);
+        double boundedVariation = scalable.getBoundedVariation(variationAsked, currentGlobalPower, parameters.getScalingConvention());
+        if (parameters.getPriority() == RESPECT_OF_DISTRIBUTION) {
+            boundedVariation *= getResizingFactor(values, boundedVariation);
+        }
+
+        // available power of each injection in the direction of the asked variation, or NaN if not scalable
+        double[] available = new double[size];
+        for (int i = 0; i < size; i++) {
+            if (isScalable(i, values[i])) {
+                double availableUp = directions[i] > 0 ? maxValues[i] - values[i] : values[i] - minValues[i];
+                double availableDown = directions[i] > 0 ? values[i] - minValues[i] : maxValues[i] - values[i];
+                available[i] = boundedVariation > 0 ? availableUp : availableDown;
+            } else {
+                available[i] = Double.NaN;
+            }
+        }
+
+        double[] done;
+        if (parameters.getPriority() == RESPECT_OF_VOLUME_ASKED) {
+            done = Math.abs(boundedVariation) > EPSILON ? redistribute(available, boundedVariation) : new double[size];
+        } else {
+            done = new double[size];
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(available[i])) {
+                    double askedOnInjection = percentages[i] / 100 * boundedVariation;
+                    done[i] = askedOnInjection > 0 ? Math.min(askedOnInjection, available[i]) : -Math.min(-askedOnInjection, available[i]);
+                }
+            }
+        }
+
+        double totalDone = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(available[i])) {
+                double newValue = values[i] + directions[i] * done[i];
+                if (done[i] != 0) {
+                    setValue(injections[i], newValue);
+                }
+                if (injections[i] instanceof Load load && parameters.isConstantPowerFactor() && values[i] != 0) {
+                    double oldQ0 = load.getQ0();
+                    load.setQ0(LoadScalable.applyRelativeQRateLimits(parameters, oldQ0,
+                            LoadScalable.applyPowerFactorLimit(parameters, oldQ0, values[i], newValue)));
+                }
+                totalDone += done[i];
+            }
+        }
+        return totalDone;
+    }
+
+    /**
+     * Scale several variants of the network, the working variant being restored at the end.
+     *
+     * @param variantIds the variants to scale
+     * @param asked values asked for each variant
+     * @return the actual value of the scalable active power adjustment of each variant
+     */
+    public double[] scale(List<String> variantIds, double[] asked) {
+        Objects.requireNonNull(variantIds);
+        Objects.requireNonNull(asked);
+        if (variantIds.size() != asked.length) {
+            throw new IllegalArgumentException("variant and asked value lists must have the same size");
+        }
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        double[] done = new double[asked.length];
+        try {
+            for (int k = 0; k < asked.length; k++) {
+                variantManager.setWorkingVariant(variantIds.get(k));
+                done[k] = scale(asked[k]);
+            }
+        } finally {
+            variantManager.setWorkingVariant(workingVariantId);
+        }
+        return done;
+    }
+
+    /**
+     * Compute the factor applied to the asked power to keep the distribution of every generator, as
+     * {@link ProportionalScalable#resizeAskedForFixedDistribution(Network, double, ScalingParameters)} does.
+     */
+    private double getResizingFactor(double[] values, double asked) {
+        double factor = 1.0;
+        for (int i = 0; i < injections.length; i++) {
+            double askedPower = asked * percentages[i] / 100;
+            if (parameters.getScalingConvention() == LOAD) {
+                askedPower = -askedPower;
+            }
+            double ratio;
+            if (askedPower >= 0) {
+                double availablePower = maxValues[i] - values[i];
+                ratio = askedPower > availablePower ? availablePower / askedPower : 100.0;
+            } else {
+                double availablePower = minValues[i] - values[i];
+                ratio = askedPower < availablePower ? availablePower / askedPower : 100.0;
+            }
+            factor = Math.min(factor, ratio);
+        }
+        return factor;
+    }
+
+    /**
+     * Distribute the asked power proportionally to the percentages, the share of saturated injections being
+     * redistributed to the other ones.
+     *
+     * <p>Each injection receives min(p * lambda, available), lambda being the share of the asked power per percent.
+     * The total is a piecewise linear increasing function of lambda, whose breakpoints are the saturation shares
+     * available / p. The segment containing the asked power is found by a binary search on the sorted breakpoints, then
+     * the share is computed on this segment.
+     */
+    private double[] redistribute(double[] available, double asked) {
+        int size = injections.length;
+        double sign = Math.signum(asked);
+        double volume = Math.abs(asked);
+
+        // saturation share of each injection, NaN if not scaled
+        double[] saturationShares = new double[size];
+        int count = 0;
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(available[i]) && percentages[i] > 0) {
+                saturationShares[i] = Math.max(0, available[i] / percentages[i]);
+                count++;
+            } else {
+                saturationShares[i] = Double.NaN;
+            }
+        }
+        double[] done = new double[size];
+        if (count == 0) {
+            return done;
+        }
+        double[] breakpoints = new double[count];
+        int k = 0;
+        for (double share : saturationShares) {
+            if (!Double.isNaN(share)) {
+                breakpoints[k++] = share;
+            }
+        }
+        Arrays.sort(breakpoints);
+
+        double share;
+        double lastBreakpoint = breakpoints[count - 1];
+        if (distributed(available, saturationShares, lastBreakpoint) <= volume) {
+            // every injection is saturated
+            share = lastBreakpoint;
+        } else {
+            // first breakpoint where more than the volume is distributed
+            int low = 0;
+            int high = count - 1;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (distributed(available, saturationShares, breakpoints[mid]) > volume) {
+                    high = mid;
+                } else {
+                    low = mid + 1;
+                }
+            }
+            double lower = low == 0 ? 0 : breakpoints[low - 1];
+            double saturatedSum = 0;
+            double unsaturatedPercentageSum = 0;
+            for (int i = 0; i < size; i++) {
+                if (!Double.isNaN(saturationShares[i])) {
+                    if (saturationShares[i] <= lower) {
+                        saturatedSum += available[i];
+                    } else {
+                        unsaturatedPercentageSum += percentages[i];
+                    }
+                }
+            }
+            share = (volume - saturatedSum) / unsaturatedPercentageSum;
+        }
+
+        for (int i = 0; i < size; i++) {
+            if (!Double.isNaN(saturationShares[i])) {
+                done[i] = sign * Math.min(percentages[i] * share, available[i]);
+            }
+        }
+        return done;
+    }
+
+    private double distributed(double[] available, double[] saturationShares, double share) {
+        double sum = 0;
+        for (int i = 0; i < injections.length; i++) {
+            if (!Double.isNaN(saturationShares[i])) {
+                sum += Math.min(percentages[i] * share, available[i]);
+            }
+        }
+        return sum;
+    }
+}
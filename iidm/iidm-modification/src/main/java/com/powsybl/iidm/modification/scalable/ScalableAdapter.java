@@ -34,7 +34,11 @@ class ScalableAdapter extends AbstractScalable {
         this.id = injection.getId();
     }
 
-    private Scalable getScalable(Network n) {
+    String getId() {
+        return id;
+    }
+
+    Scalable getScalable(Network n) {
         Objects.requireNonNull(n);
         Identifiable<?> identifiable = n.getIdentifiable(id);
         boolean withValues = minValue != null && maxValue != null;
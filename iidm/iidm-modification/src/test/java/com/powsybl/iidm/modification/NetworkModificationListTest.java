@@ -17,13 +17,17 @@ import com.powsybl.iidm.modification.topology.DefaultNamingStrategy;
 import com.powsybl.iidm.modification.topology.RemoveFeederBay;
 import com.powsybl.iidm.modification.topology.RemoveFeederBayBuilder;
 import com.powsybl.iidm.modification.tripping.BranchTripping;
+import com.powsybl.iidm.network.Identifiable;
 import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.NetworkListener;
 import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -143,4 +147,26 @@ class NetworkModificationListTest {
         NetworkModificationList modificationList3 = new NetworkModificationList(modification5, modification4);
         assertEquals(NetworkModificationImpact.NO_IMPACT_ON_NETWORK, modificationList3.hasImpactOnNetwork(network));
     }
+
+    @Test
+    void testBatch() {
+        List<String> updates = new ArrayList<>();
+        network.addListener(new NetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                updates.add(identifiable.getId() + " " + attribute + " " + oldValue + " -> " + newValue);
+            }
+        });
+        LoadModification modification1 = new LoadModification("LOAD", false, 650.0, null);
+        LoadModification modification2 = new LoadModification("LOAD", false, 700.0, null);
+        NetworkModificationList modificationList = new NetworkModificationList(List.of(modification1, modification2), true);
+        assertTrue(modificationList.isBatch());
+        modificationList.apply(network);
+        assertEquals(700.0, network.getLoad("LOAD").getP0());
+        assertEquals(List.of("LOAD p0 600.0 -> 700.0"), updates);
+
+        updates.clear();
+        new NetworkModificationList(modification1, modification2).apply(network);
+        assertEquals(List.of("LOAD p0 700.0 -> 650.0", "LOAD p0 650.0 -> 700.0"), updates);
+    }
 }
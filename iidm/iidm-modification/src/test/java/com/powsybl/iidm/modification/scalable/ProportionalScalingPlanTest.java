@@ -0,0 +1,182 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.iidm.modification.scalable;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.powsybl.iidm.modification.scalable.ScalableTestNetwork.createNetworkwithBoundaryLineAndBattery;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.Priority.*;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.ScalingType.DELTA_P;
+import static com.powsybl.iidm.modification.scalable.ScalingParameters.ScalingType.TARGET_P;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ProportionalScalingPlanTest {
+
+    private static final double EPSILON = 1e-2;
+
+    private static final List<String> GENERATORS = List.of("g1", "g2", "g3");
+
+    private static ProportionalScalable createGeneratorsScalable() {
+        return Scalable.proportional(List.of(50.0, 30.0, 20.0),
+                List.of(Scalable.onGenerator("g1"), Scalable.onGenerator("g2"), Scalable.scalable("g3")));
+    }
+
+    private static ProportionalScalable createMixedScalable() {
+        return Scalable.proportional(List.of(40.0, 10.0, 20.0, 20.0, 10.0),
+                List.of(Scalable.onGenerator("g1", 0, 120), Scalable.onGenerator("g2"), Scalable.onLoad("l1", 60, 130),
+                        Scalable.onBoundaryLine("dl1", 20, 80), Scalable.onGenerator("unknown")));
+    }
+
+    private static Stream<Arguments> provideParameters() {
+        List<Arguments> arguments = new ArrayList<>();
+        for (ScalingParameters.Priority priority : List.of(ONESHOT, RESPECT_OF_VOLUME_ASKED)) {
+            for (Scalable.ScalingConvention convention : Scalable.ScalingConvention.values()) {
+                for (double asked : new double[] {-200, -40, 0, 30, 90, 500}) {
+                    arguments.add(Arguments.of(priority, convention, asked));
+                }
+            }
+        }
+        return arguments.stream();
+    }
+
+    private static void assertSameScaling(Supplier<ProportionalScalable> scalableSupplier, ScalingParameters parameters,
+                                          double asked, double delta) {
+        Network expectedNetwork = createNetworkwithBoundaryLineAndBattery();
+        double expectedDone = scalableSupplier.get().scale(expectedNetwork, asked, parameters);
+
+        Network network = createNetworkwithBoundaryLineAndBattery();
+        ProportionalScalingPlan plan = scalableSupplier.get().compile(network, parameters);
+        assertSame(network, plan.getNetwork());
+        assertSame(parameters, plan.getParameters());
+        double done = plan.scale(asked);
+
+        assertEquals(expectedDone, done, delta);
+        for (String id : GENERATORS) {
+            assertEquals(expectedNetwork.getGenerator(id).getTargetP(), network.getGenerator(id).getTargetP(), delta);
+        }
+        assertEquals(expectedNetwork.getLoad("l1").getP0(), network.getLoad("l1").getP0(), delta);
+        assertEquals(expectedNetwork.getLoad("l1").getQ0(), network.getLoad("l1").getQ0(), delta);
+        assertEquals(expectedNetwork.getBoundaryLine("dl1").getP0(), network.getBoundaryLine("dl1").getP0(), delta);
+    }
+
+    @ParameterizedTest
+    @MethodSource("provideParameters")
+    void testSameScaling(ScalingParameters.Priority priority, Scalable.ScalingConvention convention, double asked) {
+        ScalingParameters parameters = new ScalingParameters()
+                .setPriority(priority)
+                .setScalingConvention(convention);
+        assertSameScaling(ProportionalScalingPlanTest::createGeneratorsScalable, parameters, asked, EPSILON);
+        assertSameScaling(ProportionalScalingPlanTest::createMixedScalable, parameters, asked, EPSILON);
+    }
+
+    @Test
+    void testSameScalingWithOtherParameters() {
+        ScalingParameters parameters = new ScalingParameters()
+                .setPriority(RESPECT_OF_VOLUME_ASKED)
+                .setScalingType(TARGET_P)
+                .setIgnoredInjectionIds(Set.of("g2"));
+        assertSameScaling(ProportionalScalingPlanTest::createMixedScalable, parameters, 200, EPSILON);
+
+        // limits of the compound scalable
+        Supplier<ProportionalScalable> boundedScalable = () -> Scalable.proportional(List.of(60.0, 40.0),
+                List.of(Scalable.onGenerator("g1"), Scalable.onGenerator("g2")), 0, 150);
+        assertSameScaling(boundedScalable, new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED), 100, EPSILON);
+
+        // reactive power of loads
+        parameters = new ScalingParameters()
+                .setScalingConvention(Scalable.ScalingConvention.LOAD)
+                .setConstantPowerFactor(true);
+        assertSameScaling(ProportionalScalingPlanTest::createMixedScalable, parameters, 50, 1e-9);
+
+        // fixed distribution
+        parameters = new ScalingParameters().setPriority(RESPECT_OF_DISTRIBUTION);
+        assertSameScaling(ProportionalScalingPlanTest::createGeneratorsScalable, parameters, 150, 1e-9);
+    }
+
+    @Test
+    void testDisconnectedInjection() {
+        Network network = createNetworkwithBoundaryLineAndBattery();
+        network.getGenerator("g1").getTerminal().disconnect();
+        ScalingParameters parameters = new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED);
+        ProportionalScalingPlan plan = createGeneratorsScalable().compile(network, parameters);
+        // g2 and g3 are saturated
+        assertEquals(100, plan.scale(200), 1e-9);
+        assertEquals(80, network.getGenerator("g1").getTargetP(), 0);
+        assertEquals(100, network.getGenerator("g2").getTargetP(), 1e-9);
+        assertEquals(80, network.getGenerator("g3").getTargetP(), 1e-9);
+
+        parameters.setReconnect(true);
+        plan = createGeneratorsScalable().compile(network, parameters);
+        assertEquals(70, plan.scale(100), 1e-9);
+        assertTrue(network.getGenerator("g1").getTerminal().isConnected());
+        assertEquals(150, network.getGenerator("g1").getTargetP(), 1e-9);
+    }
+
+    @Test
+    void testVariants() {
+        Network network = createNetworkwithBoundaryLineAndBattery();
+        VariantManager variantManager = network.getVariantManager();
+        List<String> variantIds = List.of("h1", "h2", "h3");
+        variantManager.cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantIds);
+        ScalingParameters parameters = new ScalingParameters()
+                .setPriority(RESPECT_OF_VOLUME_ASKED)
+                .setScalingType(TARGET_P);
+        double[] targets = {150, 200, 250};
+        double[] done = createGeneratorsScalable().compile(network, parameters).scale(variantIds, targets);
+
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, variantManager.getWorkingVariantId());
+        assertEquals(160, GENERATORS.stream().mapToDouble(id -> network.getGenerator(id).getTargetP()).sum(), 1e-9);
+        ProportionalScalable scalable = createGeneratorsScalable();
+        for (int k = 0; k < variantIds.size(); k++) {
+            variantManager.setWorkingVariant(variantIds.get(k));
+            assertEquals(targets[k] - 160, done[k], 1e-9);
+            assertEquals(targets[k], scalable.getSteadyStatePower(network, 0, Scalable.ScalingConvention.GENERATOR), 1e-9);
+        }
+
+        ProportionalScalingPlan plan = createGeneratorsScalable().compile(network, parameters);
+        List<String> oneVariant = List.of("h1");
+        double[] twoValues = {1, 2};
+        assertThrows(IllegalArgumentException.class, () -> plan.scale(oneVariant, twoValues));
+    }
+
+    @Test
+    void testUnsupportedScalables() {
+        Network network = createNetworkwithBoundaryLineAndBattery();
+        ScalingParameters parameters = new ScalingParameters();
+        ProportionalScalable stackScalable = Scalable.proportional(100, Scalable.stack("g1", "g2"));
+        PowsyblException e = assertThrows(PowsyblException.class, () -> stackScalable.compile(network, parameters));
+        assertEquals("Unable to compile a scaling plan with a scalable of type com.powsybl.iidm.modification.scalable.StackScalable", e.getMessage());
+
+        ProportionalScalable loadScalable = Scalable.proportional(100, Scalable.onLoad("l1"));
+        ScalingParameters distributionParameters = new ScalingParameters().setPriority(RESPECT_OF_DISTRIBUTION);
+        e = assertThrows(PowsyblException.class, () -> loadScalable.compile(network, distributionParameters));
+        assertEquals("RESPECT_OF_DISTRIBUTION mode can only be used with a Generator, not class com.powsybl.iidm.network.impl.LoadImpl", e.getMessage());
+
+        ProportionalScalable negativeScalable = Scalable.proportional(List.of(120.0, -20.0), Scalable.scalables("g1", "g2"));
+        ScalingParameters volumeParameters = new ScalingParameters().setPriority(RESPECT_OF_VOLUME_ASKED);
+        e = assertThrows(PowsyblException.class, () -> negativeScalable.compile(network, volumeParameters));
+        assertEquals("Negative percentage of g2 cannot be redistributed", e.getMessage());
+        assertEquals(DELTA_P, volumeParameters.getScalingType());
+    }
+}
@@ -12,7 +12,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague at rte-france.com>}
@@ -23,56 +24,91 @@ public abstract class AbstractNetworkReducer implements NetworkReducer {
 
     private final NetworkPredicate predicate;
 
+    private final boolean parallelMarking;
+
     private final Set<String> vlIds = new HashSet<>();
 
     protected AbstractNetworkReducer(NetworkPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * @param predicate the predicate of the substations and voltage levels to keep
+     * @param parallelMarking if true, the elements to remove are searched for in parallel. The predicate and the
+     *                        {@code test} methods have then to be thread safe.
+     */
+    protected AbstractNetworkReducer(NetworkPredicate predicate, boolean parallelMarking) {
         this.predicate = Objects.requireNonNull(predicate);
+        this.parallelMarking = parallelMarking;
     }
 
     public final void reduce(Network network) {
         buildVoltageLevelIdSet(network);
 
-        // Remove all unwanted lines
-        List<Line> lines = network.getLineStream()
-                .filter(l -> !test(l))
-                .toList();
-        lines.forEach(this::reduce);
-
-        // Remove all unwanted tie lines
-        List<TieLine> tieLines = network.getTieLineStream()
-                .filter(l -> !test(l))
-                .toList();
-        tieLines.forEach(this::reduce);
-
-        // Remove all unwanted two windings transformers
-        List<TwoWindingsTransformer> twoWindingsTransformers = network.getTwoWindingsTransformerStream()
-                .filter(t -> !test(t))
-                .toList();
-        twoWindingsTransformers.forEach(this::reduce);
+        // Mark all the elements to remove before modifying the network, so that they are searched for only once
+        List<Line> lines = filterRemoved(network.getLineStream(), this::test);
+        List<TieLine> tieLines = filterRemoved(network.getTieLineStream(), this::test);
+        List<TwoWindingsTransformer> twoWindingsTransformers = filterRemoved(network.getTwoWindingsTransformerStream(), this::test);
+        List<ThreeWindingsTransformer> threeWindingsTransformers = filterRemoved(network.getThreeWindingsTransformerStream(), this::test);
+        List<HvdcLine> hvdcLines = filterRemoved(network.getHvdcLineStream(), this::test);
+        List<VoltageLevel> voltageLevels = filterRemoved(network.getVoltageLevelStream(), this::test);
+        List<Substation> substations = filterRemoved(network.getSubstationStream(), this::test);
+
+        prepareReduction(network, getBoundaryTerminals(lines, twoWindingsTransformers, threeWindingsTransformers, hvdcLines));
+        try {
+            // Removals are notified as they occur, other notifications once all the elements have been removed
+            network.runBatch(() -> {
+                lines.forEach(this::reduce);
+                tieLines.forEach(this::reduce);
+                twoWindingsTransformers.forEach(this::reduce);
+                threeWindingsTransformers.forEach(this::reduce);
+                hvdcLines.forEach(this::reduce);
+                voltageLevels.forEach(this::reduce);
+                substations.forEach(this::reduce);
+            });
+        } finally {
+            completeReduction(network);
+        }
+    }
 
-        // Remove all three windings transformers
-        List<ThreeWindingsTransformer> threeWindingsTransformers = network.getThreeWindingsTransformerStream()
-                .filter(t -> !test(t))
+    private <T> List<T> filterRemoved(Stream<T> elements, Predicate<T> test) {
+        return (parallelMarking ? elements.parallel() : elements)
+                .filter(element -> !test.test(element))
                 .toList();
-        threeWindingsTransformers.forEach(this::reduce);
+    }
 
-        // Remove all unwanted HVDC lines
-        List<HvdcLine> hvdcLines = network.getHvdcLineStream()
-                .filter(h -> !test(h))
-                .toList();
-        hvdcLines.forEach(this::reduce);
+    /**
+     * Return the terminals of the removed equipments located in kept voltage levels, at the boundary of the reduced
+     * network.
+     */
+    private List<Terminal> getBoundaryTerminals(List<Line> lines, List<TwoWindingsTransformer> twoWindingsTransformers,
+                                                List<ThreeWindingsTransformer> threeWindingsTransformers, List<HvdcLine> hvdcLines) {
+        Stream<Terminal> terminals = Stream.of(
+                lines.stream().flatMap(l -> Stream.of(l.getTerminal1(), l.getTerminal2())),
+                twoWindingsTransformers.stream().flatMap(t -> Stream.of(t.getTerminal1(), t.getTerminal2())),
+                threeWindingsTransformers.stream().flatMap(t -> t.getLegStream().map(ThreeWindingsTransformer.Leg::getTerminal)),
+                hvdcLines.stream().flatMap(h -> Stream.of(h.getConverterStation1().getTerminal(), h.getConverterStation2().getTerminal())))
+                .flatMap(s -> s);
+        return terminals.filter(t -> test(t.getVoltageLevel())).toList();
+    }
 
-        // Remove all unwanted voltage levels
-        List<VoltageLevel> voltageLevels = network.getVoltageLevelStream()
-                .filter(vl -> !test(vl))
-                .toList();
-        voltageLevels.forEach(this::reduce);
+    /**
+     * Called once the elements to remove are known, before the network is modified.
+     *
+     * @param network the network to reduce
+     * @param boundaryTerminals the terminals of the removed equipments located in kept voltage levels
+     */
+    protected void prepareReduction(Network network, List<Terminal> boundaryTerminals) {
+        // Nothing to do
+    }
 
-        // Remove all unwanted substations
-        List<Substation> substations = network.getSubstationStream()
-                .filter(s -> !test(s))
-                .toList();
-        substations.forEach(this::reduce);
+    /**
+     * Called once all the elements have been removed.
+     *
+     * @param network the reduced network
+     */
+    protected void completeReduction(Network network) {
+        // Nothing to do
     }
 
     protected final NetworkPredicate getPredicate() {
@@ -158,16 +194,15 @@ public abstract class AbstractNetworkReducer implements NetworkReducer {
     }
 
     protected void buildVoltageLevelIdSet(Network network) {
-        List<String> voltageLevels = network.getVoltageLevelStream()
+        Stream<VoltageLevel> voltageLevelStream = network.getVoltageLevelStream();
+        List<String> voltageLevels = (parallelMarking ? voltageLevelStream.parallel() : voltageLevelStream)
                 .filter(predicate::test)
                 .map(VoltageLevel::getId)
                 .toList();
         vlIds.addAll(voltageLevels);
 
         //Adding necessary vl for three winding transformers
-        List<ThreeWindingsTransformer> threeWindingsTransformers = network.getThreeWindingsTransformerStream()
-                .filter(t -> !test(t))
-                .collect(Collectors.toList());
+        List<ThreeWindingsTransformer> threeWindingsTransformers = new ArrayList<>(filterRemoved(network.getThreeWindingsTransformerStream(), this::test));
         checkThreeWindingsTransformersToKeep(threeWindingsTransformers);
     }
 
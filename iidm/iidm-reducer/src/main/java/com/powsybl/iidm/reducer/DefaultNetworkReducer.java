@@ -13,6 +13,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.function.Consumer;
 
 /**
  * @author Mathieu Bague {@literal <mathieu.bague at rte-france.com>}
@@ -25,6 +26,19 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
     private final List<NetworkReducerObserver> observers = new ArrayList<>();
 
+    /**
+     * State of a boundary terminal, read before any removal so that the topology of the kept voltage levels is not
+     * computed again after each replacement.
+     */
+    private record BoundaryState(double p0, double q0, double p, double q, int node, String busId, String connectableBusId) {
+    }
+
+    private final Map<Terminal, BoundaryState> boundaryStates = new HashMap<>();
+
+    private final List<Consumer<NetworkReducerObserver>> pendingNotifications = new ArrayList<>();
+
+    private boolean reducing = false;
+
     public DefaultNetworkReducer(NetworkPredicate predicate, ReductionOptions options) {
         this(predicate, options, Collections.emptyList());
     }
@@ -34,21 +48,66 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
     }
 
     public DefaultNetworkReducer(NetworkPredicate predicate, ReductionOptions options, List<NetworkReducerObserver> observers) {
-        super(predicate);
-        this.options = Objects.requireNonNull(options);
+        super(predicate, Objects.requireNonNull(options).isParallelMarking());
+        this.options = options;
         this.observers.addAll(Objects.requireNonNull(observers));
     }
 
+    @Override
+    protected void prepareReduction(Network network, List<Terminal> boundaryTerminals) {
+        reducing = true;
+        boundaryTerminals.forEach(this::getBoundaryState);
+    }
+
+    /**
+     * Observers are notified once the network has been reduced, in the order of the reduction.
+     */
+    @Override
+    protected void completeReduction(Network network) {
+        reducing = false;
+        boundaryStates.clear();
+        List<Consumer<NetworkReducerObserver>> notifications = new ArrayList<>(pendingNotifications);
+        pendingNotifications.clear();
+        notifications.forEach(this::notifyObservers);
+    }
+
+    private void notifyObservers(Consumer<NetworkReducerObserver> notification) {
+        if (reducing) {
+            pendingNotifications.add(notification);
+        } else {
+            observers.forEach(notification);
+        }
+    }
+
+    private BoundaryState getBoundaryState(Terminal terminal) {
+        return boundaryStates.computeIfAbsent(terminal, DefaultNetworkReducer::createBoundaryState);
+    }
+
+    private static BoundaryState createBoundaryState(Terminal terminal) {
+        int node = -1;
+        String busId = null;
+        String connectableBusId = null;
+        if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
+            node = terminal.getNodeBreakerView().getNode();
+        } else {
+            if (terminal.isConnected()) {
+                busId = terminal.getBusBreakerView().getBus().getId();
+            }
+            connectableBusId = terminal.getBusBreakerView().getConnectableBus().getId();
+        }
+        return new BoundaryState(checkP(terminal), checkQ(terminal), terminal.getP(), terminal.getQ(), node, busId, connectableBusId);
+    }
+
     @Override
     protected void reduce(Substation substation) {
         substation.remove();
-        observers.forEach(o -> o.substationRemoved(substation));
+        notifyObservers(o -> o.substationRemoved(substation));
     }
 
     @Override
     protected void reduce(VoltageLevel voltageLevel) {
         voltageLevel.remove();
-        observers.forEach(o -> o.voltageLevelRemoved(voltageLevel));
+        notifyObservers(o -> o.voltageLevelRemoved(voltageLevel));
     }
 
     @Override
@@ -66,7 +125,7 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
             line.remove();
         }
 
-        observers.forEach(o -> o.lineRemoved(line));
+        notifyObservers(o -> o.lineRemoved(line));
     }
 
     @Override
@@ -81,7 +140,7 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
             tieLine.remove();
         }
 
-        observers.forEach(o -> o.tieLineRemoved(tieLine));
+        notifyObservers(o -> o.tieLineRemoved(tieLine));
     }
 
     @Override
@@ -100,7 +159,7 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
         }
 
-        observers.forEach(o -> o.transformerRemoved(transformer));
+        notifyObservers(o -> o.transformerRemoved(transformer));
     }
 
     @Override
@@ -129,7 +188,7 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
             throw new UnsupportedOperationException("Keeping only 2 legs of the 3 windings transformer " + transformer.getId() +
                     " is not possible : the third one should have also been kept by reduction.");
         }
-        observers.forEach(o -> o.transformerRemoved(transformer));
+        notifyObservers(o -> o.transformerRemoved(transformer));
     }
 
     @Override
@@ -149,7 +208,7 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
             station1.remove();
             station2.remove();
         }
-        observers.forEach(o -> o.hvdcLineRemoved(hvdcLine));
+        notifyObservers(o -> o.hvdcLineRemoved(hvdcLine));
     }
 
     private void reduce(Line line, VoltageLevel vl, Terminal terminal) {
@@ -162,11 +221,12 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
     private void replaceLineByLoad(Line line, VoltageLevel vl, Terminal terminal) {
         Load load = replaceConnectableByLoad(line, vl, terminal);
-        observers.forEach(o -> o.lineReplaced(line, load));
+        notifyObservers(o -> o.lineReplaced(line, load));
     }
 
     private void replaceLineByBoundaryLine(Line line, VoltageLevel vl, Terminal terminal) {
         TwoSides side = line.getSide(terminal);
+        BoundaryState state = getBoundaryState(terminal);
 
         BoundaryLineAdder dlAdder = vl.newBoundaryLine()
                 .setId(line.getId())
@@ -175,49 +235,46 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
                 .setX(line.getX() / 2)
                 .setB(side == TwoSides.ONE ? line.getB1() : line.getB2())
                 .setG(side == TwoSides.ONE ? line.getG1() : line.getG2())
-                .setP0(checkP(terminal))
-                .setQ0(checkQ(terminal));
-        fillNodeOrBus(dlAdder, terminal);
+                .setP0(state.p0())
+                .setQ0(state.q0());
+        fillNodeOrBus(dlAdder, state);
 
-        double p = terminal.getP();
-        double q = terminal.getQ();
         line.remove();
 
         BoundaryLine dl = dlAdder.add();
         dl.getTerminal()
-                .setP(p)
-                .setQ(q);
+                .setP(state.p())
+                .setQ(state.q());
 
-        observers.forEach(o -> o.lineReplaced(line, dl));
+        notifyObservers(o -> o.lineReplaced(line, dl));
     }
 
     private void replaceTransformerByLoad(TwoWindingsTransformer transformer, VoltageLevel vl, Terminal terminal) {
         Load load = replaceConnectableByLoad(transformer, vl, terminal);
-        observers.forEach(o -> o.transformerReplaced(transformer, load));
+        notifyObservers(o -> o.transformerReplaced(transformer, load));
     }
 
     private void replaceTransformerByLoad(ThreeWindingsTransformer transformer, VoltageLevel vl, Terminal terminal) {
         Load load = replaceConnectableByLoad(transformer, vl, terminal);
-        observers.forEach(o -> o.transformerReplaced(transformer, load));
+        notifyObservers(o -> o.transformerReplaced(transformer, load));
     }
 
     private Load replaceConnectableByLoad(Connectable<?> connectable, VoltageLevel vl, Terminal terminal) {
+        BoundaryState state = getBoundaryState(terminal);
         LoadAdder loadAdder = vl.newLoad()
                 .setId(connectable.getId())
                 .setName(connectable.getOptionalName().orElse(null))
                 .setLoadType(LoadType.FICTITIOUS)
-                .setP0(checkP(terminal))
-                .setQ0(checkQ(terminal));
-        fillNodeOrBus(loadAdder, terminal);
+                .setP0(state.p0())
+                .setQ0(state.q0());
+        fillNodeOrBus(loadAdder, state);
 
-        double p = terminal.getP();
-        double q = terminal.getQ();
         connectable.remove();
 
         Load load = loadAdder.add();
         load.getTerminal()
-                .setP(p)
-                .setQ(q);
+                .setP(state.p())
+                .setQ(state.q());
 
         return load;
     }
@@ -236,16 +293,15 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
     }
 
     private void replaceHvdcLineByLoad(HvdcLine hvdcLine, VoltageLevel vl, Terminal terminal) {
+        BoundaryState state = getBoundaryState(terminal);
         LoadAdder loadAdder = vl.newLoad()
                 .setId(hvdcLine.getId())
                 .setName(hvdcLine.getOptionalName().orElse(null))
                 .setLoadType(LoadType.FICTITIOUS)
-                .setP0(checkP(terminal))
-                .setQ0(checkQ(terminal));
-        fillNodeOrBus(loadAdder, terminal);
+                .setP0(state.p0())
+                .setQ0(state.q0());
+        fillNodeOrBus(loadAdder, state);
 
-        double p = terminal.getP();
-        double q = terminal.getQ();
         HvdcConverterStation<?> converter1 = hvdcLine.getConverterStation1();
         HvdcConverterStation<?> converter2 = hvdcLine.getConverterStation2();
         hvdcLine.remove();
@@ -254,12 +310,13 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
         Load load = loadAdder.add();
         load.getTerminal()
-                .setP(p)
-                .setQ(q);
-        observers.forEach(o -> o.hvdcLineReplaced(hvdcLine, load));
+                .setP(state.p())
+                .setQ(state.q());
+        notifyObservers(o -> o.hvdcLineReplaced(hvdcLine, load));
     }
 
     private void replaceHvdcLineByGenerator(HvdcLine hvdcLine, VoltageLevel vl, Terminal terminal, VscConverterStation station) {
+        BoundaryState state = getBoundaryState(terminal);
         double maxP = hvdcLine.getMaxP();
         GeneratorAdder genAdder = vl.newGenerator()
                 .setId(hvdcLine.getId())
@@ -268,12 +325,10 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
                 .setVoltageRegulatorOn(true)
                 .setMaxP(maxP)
                 .setMinP(-maxP)
-                .setTargetP(-checkP(terminal))
+                .setTargetP(-state.p0())
                 .setTargetV(station.getVoltageSetpoint());
-        fillNodeOrBus(genAdder, terminal);
+        fillNodeOrBus(genAdder, state);
 
-        double p = terminal.getP();
-        double q = terminal.getQ();
         ReactiveLimits stationLimits = station.getReactiveLimits();
 
         HvdcConverterStation<?> converter1 = hvdcLine.getConverterStation1();
@@ -284,8 +339,8 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
         Generator generator = genAdder.add();
         generator.getTerminal()
-                .setP(p)
-                .setQ(q);
+                .setP(state.p())
+                .setQ(state.q());
 
         if (stationLimits != null) {
             if (stationLimits.getKind() == ReactiveLimitsKind.MIN_MAX) {
@@ -310,17 +365,17 @@ public class DefaultNetworkReducer extends AbstractNetworkReducer {
 
         generator.newExtension(ActivePowerControlAdder.class).withParticipate(false).add();
 
-        observers.forEach(o -> o.hvdcLineReplaced(hvdcLine, generator));
+        notifyObservers(o -> o.hvdcLineReplaced(hvdcLine, generator));
     }
 
-    private static void fillNodeOrBus(InjectionAdder<?, ?> adder, Terminal terminal) {
-        if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.NODE_BREAKER) {
-            adder.setNode(terminal.getNodeBreakerView().getNode());
+    private static void fillNodeOrBus(InjectionAdder<?, ?> adder, BoundaryState state) {
+        if (state.connectableBusId() == null) {
+            adder.setNode(state.node());
         } else {
-            if (terminal.isConnected()) {
-                adder.setBus(terminal.getBusBreakerView().getBus().getId());
+            if (state.busId() != null) {
+                adder.setBus(state.busId());
             }
-            adder.setConnectableBus(terminal.getBusBreakerView().getConnectableBus().getId());
+            adder.setConnectableBus(state.connectableBusId());
         }
     }
 
@@ -35,6 +35,11 @@ public class DefaultNetworkReducerBuilder {
         return this;
     }
 
+    public DefaultNetworkReducerBuilder withParallelMarking(boolean parallelMarking) {
+        options.withParallelMarking(parallelMarking);
+        return this;
+    }
+
     public DefaultNetworkReducerBuilder withObservers(NetworkReducerObserver... observers) {
         return withObservers(Arrays.asList(observers));
     }
@@ -14,6 +14,8 @@ public class ReductionOptions {
 
     private boolean withBoundaryLines = false;
 
+    private boolean parallelMarking = false;
+
     public boolean isWithBoundaryLines() {
         return withBoundaryLines;
     }
@@ -23,4 +25,16 @@ public class ReductionOptions {
         return this;
     }
 
+    public boolean isParallelMarking() {
+        return parallelMarking;
+    }
+
+    /**
+     * If true, the elements to remove are searched for in parallel. The predicate has then to be thread safe.
+     */
+    public ReductionOptions withParallelMarking(boolean parallelMarking) {
+        this.parallelMarking = parallelMarking;
+        return this;
+    }
+
 }
@@ -15,8 +15,10 @@ import com.powsybl.iidm.network.test.HvdcTestNetwork;
 import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -431,4 +433,67 @@ class DefaultNetworkReducerTest {
         assertEquals(4, network.getSwitchCount());
         assertEquals(1, network.getBusbarSectionCount());
     }
+
+    @Test
+    void testParallelMarking() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        List<String> events = new ArrayList<>();
+        NetworkReducerObserver observer = new DefaultNetworkReducerObserver() {
+            @Override
+            public void lineReplaced(Line line, Injection injection) {
+                // observers are notified once the network has been reduced
+                assertNull(network.getSubstation("P2"));
+                events.add(line.getId() + " replaced by " + injection.getType());
+            }
+
+            @Override
+            public void substationRemoved(Substation substation) {
+                events.add(substation.getId() + " removed");
+            }
+        };
+
+        NetworkReducer reducer = NetworkReducer.builder()
+                .withNetworkPredicate(IdentifierNetworkPredicate.of("P1"))
+                .withBoundaryLines(true)
+                .withParallelMarking(true)
+                .withObservers(observer)
+                .build();
+        reducer.reduce(network);
+
+        assertEquals(1, network.getSubstationCount());
+        assertEquals(2, network.getVoltageLevelCount());
+        assertEquals(2, network.getBoundaryLineCount());
+        BoundaryLine boundaryLine = network.getBoundaryLine(NHV1_NHV2_1);
+        assertEquals(302.4440612792969, boundaryLine.getP0(), 0.0);
+        assertEquals(98.74027252197266, boundaryLine.getQ0(), 0.0);
+        assertEquals(302.4440612792969, boundaryLine.getTerminal().getP(), 0.0);
+        assertEquals("NHV1", boundaryLine.getTerminal().getBusBreakerView().getBus().getId());
+        assertEquals(List.of(NHV1_NHV2_1 + " replaced by BOUNDARY_LINE", NHV1_NHV2_2 + " replaced by BOUNDARY_LINE", "P2 removed"), events);
+    }
+
+    @Test
+    void testParallelMarkingNodeBreaker() {
+        Network network = FictitiousSwitchFactory.create();
+        Network expectedNetwork = FictitiousSwitchFactory.create();
+        NetworkReducer.builder()
+                .withNetworkPredicate(IdentifierNetworkPredicate.of("C"))
+                .build()
+                .reduce(expectedNetwork);
+
+        NetworkReducer.builder()
+                .withNetworkPredicate(IdentifierNetworkPredicate.of("C"))
+                .withParallelMarking(true)
+                .build()
+                .reduce(network);
+
+        for (Load expectedLoad : expectedNetwork.getLoads()) {
+            Load load = network.getLoad(expectedLoad.getId());
+            assertNotNull(load);
+            assertEquals(expectedLoad.getTerminal().getNodeBreakerView().getNode(), load.getTerminal().getNodeBreakerView().getNode());
+            assertEquals(expectedLoad.getP0(), load.getP0(), 0.0);
+            assertEquals(expectedLoad.getTerminal().isConnected(), load.getTerminal().isConnected());
+        }
+        assertEquals(expectedNetwork.getLoadCount(), network.getLoadCount());
+        assertEquals(expectedNetwork.getSwitchCount(), network.getSwitchCount());
+    }
 }
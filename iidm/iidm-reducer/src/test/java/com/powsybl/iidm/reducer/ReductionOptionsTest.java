@@ -24,5 +24,9 @@ class ReductionOptionsTest {
 
         options.withBoundaryLines(true);
         assertTrue(options.isWithBoundaryLines());
+
+        assertFalse(options.isParallelMarking());
+        options.withParallelMarking(true);
+        assertTrue(options.isParallelMarking());
     }
 }
@@ -26,6 +26,8 @@ import com.powsybl.commons.io.TreeDataReader;
 import com.powsybl.commons.io.TreeDataWriter;
 import com.powsybl.commons.json.JsonReader;
 import com.powsybl.commons.json.JsonWriter;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.commons.xml.XmlReader;
 import com.powsybl.commons.xml.XmlWriter;
@@ -790,10 +792,12 @@ public final class NetworkSerDe {
     }
 
     public static Anonymizer write(Network n, ExportOptions options, TreeDataWriter writer, ExtensionsSupplier extensionsSupplier) {
-        NetworkSerializerContext context = createContext(n, options, writer);
-        writer.setVersions(getExtensionVersions(n, options, extensionsSupplier));
-        write(n, context, extensionsSupplier);
-        return context.getAnonymizer();
+        try (Timer.Sample sample = Metrics.timer("iidm.serde.write").start()) {
+            NetworkSerializerContext context = createContext(n, options, writer);
+            writer.setVersions(getExtensionVersions(n, options, extensionsSupplier));
+            write(n, context, extensionsSupplier);
+            return context.getAnonymizer();
+        }
     }
 
     /**
@@ -1125,6 +1129,13 @@ public final class NetworkSerDe {
         Objects.requireNonNull(networkFactory);
         Objects.requireNonNull(reportNode);
 
+        try (Timer.Sample sample = Metrics.timer("iidm.serde.read").start()) {
+            return readNetwork(reader, config, anonymizer, networkFactory, extensionsSupplier, reportNode);
+        }
+    }
+
+    private static Network readNetwork(TreeDataReader reader, ImportOptions config, Anonymizer anonymizer,
+                                       NetworkFactory networkFactory, ExtensionsSupplier extensionsSupplier, ReportNode reportNode) {
         TreeDataHeader header = reader.readHeader();
         IidmVersion iidmVersion = IidmVersion.of(header.rootVersion(), ".");
         NetworkDeserializerContext context = new NetworkDeserializerContext(anonymizer, reader, config, iidmVersion, header.extensionVersions());
@@ -11,6 +11,8 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.Versionable;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.config.PlatformConfigNamedProvider;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.commons.report.ReportNode;
 import com.powsybl.computation.ComputationManager;
 import com.powsybl.iidm.network.Network;
@@ -84,7 +86,12 @@ public final class LoadFlow {
             Objects.requireNonNull(network, "Network should not be null");
             Objects.requireNonNull(workingStateId, "WorkingVariantId should not be null");
             Objects.requireNonNull(runParameters, "LoadFlowRunParameters should not be null");
-            return provider.run(network, workingStateId, runParameters);
+            Timer.Sample sample = Metrics.timer("loadflow.run." + provider.getName()).start();
+            CompletableFuture<LoadFlowResult> result = provider.run(network, workingStateId, runParameters);
+            if (result != null) {
+                result.whenComplete((r, t) -> sample.close());
+            }
+            return result;
         }
 
         public CompletableFuture<LoadFlowResult> runAsync(Network network, LoadFlowRunParameters runParameters) {
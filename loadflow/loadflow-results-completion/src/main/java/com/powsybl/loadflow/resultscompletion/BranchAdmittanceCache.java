@@ -0,0 +1,218 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.resultscompletion;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.extensions.TwoWindingsTransformerPhaseAngleClock;
+import com.powsybl.iidm.network.util.BranchData;
+import com.powsybl.iidm.network.util.LinkData;
+import org.apache.commons.math3.complex.Complex;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+/**
+ * Admittances of the lines and two windings transformers of a network, which do not depend on the voltages, so that
+ * the flows of the branches can be computed for many variants of the network from primitive arrays of voltages.
+ *
+ * <p>The admittances are computed with the same model as {@link BranchData}. As the tap positions of the transformers
+ * depend on the variant, {@link #update()} has to be called after a change of the working variant to recompute the
+ * admittances of the transformers whose tap positions changed.
+ *
+ * <p>The values of a branch side are stored at index {@code 2 * branchNum} for side 1 and {@code 2 * branchNum + 1}
+ * for side 2 in the arrays given to {@link #computeFlows}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BranchAdmittanceCache {
+
+    private static final int NO_TAP_CHANGER = Integer.MIN_VALUE;
+
+    private static final int PARALLEL_BRANCH_COUNT = 1024;
+
+    private final List<Branch<?>> branches = new ArrayList<>();
+
+    private final double epsilonX;
+
+    private final boolean applyReactanceCorrection;
+
+    private final boolean twtSplitShuntAdmittance;
+
+    private final int[] phaseAngleClocks;
+
+    // ratio and phase tap positions of each branch, the admittances are computed with
+    private final int[] tapPositions;
+
+    // real and imaginary parts of the 4 terms of the admittance matrix of each branch
+    private final double[] y;
+
+    // real and imaginary parts of the shunt admittance of each branch when side 2 is open, then when side 1 is open
+    private final double[] ysh;
+
+    public BranchAdmittanceCache(Network network, double epsilonX, boolean applyReactanceCorrection, boolean twtSplitShuntAdmittance) {
+        Objects.requireNonNull(network);
+        this.epsilonX = epsilonX;
+        this.applyReactanceCorrection = applyReactanceCorrection;
+        this.twtSplitShuntAdmittance = twtSplitShuntAdmittance;
+        network.getLineStream().forEach(branches::add);
+        network.getTwoWindingsTransformerStream().forEach(branches::add);
+        phaseAngleClocks = new int[branches.size()];
+        tapPositions = new int[2 * branches.size()];
+        y = new double[8 * branches.size()];
+        ysh = new double[4 * branches.size()];
+        for (int num = 0; num < branches.size(); num++) {
+            if (branches.get(num) instanceof TwoWindingsTransformer twt) {
+                TwoWindingsTransformerPhaseAngleClock phaseAngleClockExtension = twt.getExtension(TwoWindingsTransformerPhaseAngleClock.class);
+                if (phaseAngleClockExtension != null) {
+                    phaseAngleClocks[num] = phaseAngleClockExtension.getPhaseAngleClock();
+                }
+                tapPositions[2 * num] = getRatioTapPosition(twt);
+                tapPositions[2 * num + 1] = getPhaseTapPosition(twt);
+            }
+            computeAdmittance(num);
+        }
+    }
+
+    public int getBranchCount() {
+        return branches.size();
+    }
+
+    public Branch<?> getBranch(int num) {
+        return branches.get(num);
+    }
+
+    /**
+     * Recompute the admittances of the transformers whose tap positions changed in the working variant.
+     *
+     * @return the number of transformers whose admittances have been recomputed
+     */
+    public int update() {
+        int updatedCount = 0;
+        for (int num = 0; num < branches.size(); num++) {
+            if (branches.get(num) instanceof TwoWindingsTransformer twt) {
+                int ratioTapPosition = getRatioTapPosition(twt);
+                int phaseTapPosition = getPhaseTapPosition(twt);
+                if (ratioTapPosition != tapPositions[2 * num] || phaseTapPosition != tapPositions[2 * num + 1]) {
+                    tapPositions[2 * num] = ratioTapPosition;
+                    tapPositions[2 * num + 1] = phaseTapPosition;
+                    computeAdmittance(num);
+                    updatedCount++;
+                }
+            }
+        }
+        return updatedCount;
+    }
+
+    private static int getRatioTapPosition(TwoWindingsTransformer twt) {
+        return twt.getOptionalRatioTapChanger().map(TapChanger::getTapPosition).orElse(NO_TAP_CHANGER);
+    }
+
+    private static int getPhaseTapPosition(TwoWindingsTransformer twt) {
+        return twt.getOptionalPhaseTapChanger().map(TapChanger::getTapPosition).orElse(NO_TAP_CHANGER);
+    }
+
+    private void computeAdmittance(int num) {
+        Branch<?> branch = branches.get(num);
+        BranchData branchData = branch instanceof TwoWindingsTransformer twt
+                ? new BranchData(twt, phaseAngleClocks[num], epsilonX, applyReactanceCorrection, twtSplitShuntAdmittance)
+                : new BranchData((Line) branch, epsilonX, applyReactanceCorrection);
+        double angle1 = -branchData.getAlpha1();
+        double angle2 = -branchData.getAlpha2() - Math.toRadians(LinkData.getPhaseAngleClockDegrees(phaseAngleClocks[num]));
+        LinkData.BranchAdmittanceMatrix admittance = LinkData.calculateBranchAdmittance(branchData.getR(), branchData.getX(),
+                1 / branchData.getRho1(), angle1, 1 / branchData.getRho2(), angle2,
+                new Complex(branchData.getG1(), branchData.getB1()), new Complex(branchData.getG2(), branchData.getB2()));
+        set(y, 4 * num, admittance.y11());
+        set(y, 4 * num + 1, admittance.y12());
+        set(y, 4 * num + 2, admittance.y21());
+        set(y, 4 * num + 3, admittance.y22());
+        set(ysh, 2 * num, LinkData.kronAntenna(admittance.y11(), admittance.y12(), admittance.y21(), admittance.y22(), false));
+        set(ysh, 2 * num + 1, LinkData.kronAntenna(admittance.y11(), admittance.y12(), admittance.y21(), admittance.y22(), true));
+    }
+
+    private static void set(double[] values, int index, Complex value) {
+        values[2 * index] = value.getReal();
+        values[2 * index + 1] = value.getImaginary();
+    }
+
+    /**
+     * Compute the flows of all the branches from the voltages of their sides, as {@link BranchData} would do. The
+     * flows of a branch disconnected on both sides are NaN, and the flows of the disconnected side of a branch are 0.
+     *
+     * @param connected true if the side of the branch is connected to a bus
+     * @param u the voltage magnitude of the bus of the side, in kV
+     * @param theta the voltage angle of the bus of the side, in radians
+     * @param p the computed active power flow of the side, in MW
+     * @param q the computed reactive power flow of the side, in MVar
+     */
+    public void computeFlows(boolean[] connected, double[] u, double[] theta, double[] p, double[] q) {
+        int sideCount = 2 * branches.size();
+        checkLength(connected.length, sideCount);
+        checkLength(u.length, sideCount);
+        checkLength(theta.length, sideCount);
+        checkLength(p.length, sideCount);
+        checkLength(q.length, sideCount);
+        IntStream nums = IntStream.range(0, branches.size());
+        (branches.size() >= PARALLEL_BRANCH_COUNT ? nums.parallel() : nums)
+                .forEach(num -> computeFlows(num, connected, u, theta, p, q));
+    }
+
+    private static void checkLength(int length, int expectedLength) {
+        if (length != expectedLength) {
+            throw new IllegalArgumentException("Array length " + length + " is not the number of branch sides " + expectedLength);
+        }
+    }
+
+    private void computeFlows(int num, boolean[] connected, double[] u, double[] theta, double[] p, double[] q) {
+        int side1 = 2 * num;
+        int side2 = side1 + 1;
+        if (connected[side1] && connected[side2]) {
+            double v1Re = u[side1] * Math.cos(theta[side1]);
+            double v1Im = u[side1] * Math.sin(theta[side1]);
+            double v2Re = u[side2] * Math.cos(theta[side2]);
+            double v2Im = u[side2] * Math.sin(theta[side2]);
+            int y11 = 8 * num;
+            int y12 = y11 + 2;
+            int y21 = y11 + 4;
+            int y22 = y11 + 6;
+            // i1 = y12 v2 + y11 v1, s1 = conj(i1) v1
+            double i1Re = (y[y12] * v2Re - y[y12 + 1] * v2Im) + (y[y11] * v1Re - y[y11 + 1] * v1Im);
+            double i1Im = (y[y12] * v2Im + y[y12 + 1] * v2Re) + (y[y11] * v1Im + y[y11 + 1] * v1Re);
+            p[side1] = i1Re * v1Re + i1Im * v1Im;
+            q[side1] = i1Re * v1Im - i1Im * v1Re;
+            // i2 = y21 v1 + y22 v2, s2 = conj(i2) v2
+            double i2Re = (y[y21] * v1Re - y[y21 + 1] * v1Im) + (y[y22] * v2Re - y[y22 + 1] * v2Im);
+            double i2Im = (y[y21] * v1Im + y[y21 + 1] * v1Re) + (y[y22] * v2Im + y[y22 + 1] * v2Re);
+            p[side2] = i2Re * v2Re + i2Im * v2Im;
+            q[side2] = i2Re * v2Im - i2Im * v2Re;
+        } else if (connected[side1]) {
+            computeShuntFlow(4 * num, side1, u, theta, p, q);
+            p[side2] = 0;
+            q[side2] = 0;
+        } else if (connected[side2]) {
+            computeShuntFlow(4 * num + 2, side2, u, theta, p, q);
+            p[side1] = 0;
+            q[side1] = 0;
+        } else {
+            p[side1] = Double.NaN;
+            q[side1] = Double.NaN;
+            p[side2] = Double.NaN;
+            q[side2] = Double.NaN;
+        }
+    }
+
+    private void computeShuntFlow(int yshIndex, int side, double[] u, double[] theta, double[] p, double[] q) {
+        // s = conj(ysh) |v|^2
+        double vRe = u[side] * Math.cos(theta[side]);
+        double vIm = u[side] * Math.sin(theta[side]);
+        double v2 = vRe * vRe + vIm * vIm;
+        p[side] = ysh[yshIndex] * v2;
+        q[side] = -ysh[yshIndex + 1] * v2;
+    }
+}
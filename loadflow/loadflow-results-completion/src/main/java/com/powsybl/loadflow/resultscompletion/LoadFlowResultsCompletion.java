@@ -21,6 +21,7 @@ import com.powsybl.loadflow.validation.CandidateComputation;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
 import java.util.Objects;
 
 /**
@@ -79,8 +80,7 @@ public class LoadFlowResultsCompletion implements CandidateComputation {
         LOGGER.info("LoadFlowResultsCompletionParameters={}", parameters);
         LOGGER.info("LoadFlowParameters={}", lfParameters);
 
-        network.getLoadStream().forEach(load -> completeTerminalData(load.getTerminal(), load));
-        network.getGeneratorStream().forEach(generator -> completeTerminalData(generator.getTerminal(), generator));
+        completeInjections(network);
 
         network.getLineStream()
             // Do not try to compute flows on loops
@@ -109,6 +109,111 @@ public class LoadFlowResultsCompletion implements CandidateComputation {
             completeTerminalData(twt.getTerminal(TwoSides.TWO), TwoSides.TWO, twtData);
         });
 
+        completeShuntsAndThreeWindingsTransformers(network);
+
+        Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker, parameters.getThreadCount());
+        z0FlowsCompletion.complete();
+    }
+
+    /**
+     * Complete the load flow results of several variants of the network, for instance after a load flow run on each
+     * variant. The admittances of the lines and two windings transformers are computed once in a
+     * {@link BranchAdmittanceCache}, only the admittances of the transformers whose tap positions change are computed
+     * again for the next variants, and the flows of the branches are computed from arrays of bus voltages. The
+     * grouping of the buses by Z0 lines is also reused while the switches and the connection of the lines do not
+     * change.
+     *
+     * @param network the network
+     * @param variantIds the ids of the variants to complete
+     */
+    public void runOnVariants(Network network, List<String> variantIds) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(variantIds);
+        LOGGER.info("Running {} on network {}, {} variants", getName(), network.getId(), variantIds.size());
+        LOGGER.info("LoadFlowResultsCompletionParameters={}", parameters);
+        LOGGER.info("LoadFlowParameters={}", lfParameters);
+
+        VariantManager variantManager = network.getVariantManager();
+        String workingVariantId = variantManager.getWorkingVariantId();
+        try {
+            BranchAdmittanceCache admittanceCache = null;
+            Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker, parameters.getThreadCount());
+            for (String variantId : variantIds) {
+                variantManager.setWorkingVariant(variantId);
+                if (admittanceCache == null) {
+                    admittanceCache = new BranchAdmittanceCache(network, parameters.getEpsilonX(), parameters.isApplyReactanceCorrection(),
+                                                                lfParameters.isTwtSplitShuntAdmittance());
+                } else {
+                    int updatedCount = admittanceCache.update();
+                    LOGGER.debug("Variant {}: admittance of {} transformers updated", variantId, updatedCount);
+                }
+                completeInjections(network);
+                completeBranchData(admittanceCache);
+                completeShuntsAndThreeWindingsTransformers(network);
+                z0FlowsCompletion.complete();
+            }
+        } finally {
+            variantManager.setWorkingVariant(workingVariantId);
+        }
+    }
+
+    private void completeInjections(Network network) {
+        network.getLoadStream().forEach(load -> completeTerminalData(load.getTerminal(), load));
+        network.getGeneratorStream().forEach(generator -> completeTerminalData(generator.getTerminal(), generator));
+    }
+
+    private static void completeBranchData(BranchAdmittanceCache admittanceCache) {
+        int sideCount = 2 * admittanceCache.getBranchCount();
+        Bus[] buses = new Bus[sideCount];
+        boolean[] connected = new boolean[sideCount];
+        double[] u = new double[sideCount];
+        double[] theta = new double[sideCount];
+        for (int num = 0; num < admittanceCache.getBranchCount(); num++) {
+            Branch<?> branch = admittanceCache.getBranch(num);
+            Bus bus1 = branch.getTerminal1().getBusView().getBus();
+            Bus bus2 = branch.getTerminal2().getBusView().getBus();
+            // Do not try to compute flows on loops
+            if (!(branch instanceof Line) || bus1 != bus2) {
+                setVoltage(2 * num, bus1, buses, connected, u, theta);
+                setVoltage(2 * num + 1, bus2, buses, connected, u, theta);
+            }
+        }
+
+        double[] p = new double[sideCount];
+        double[] q = new double[sideCount];
+        admittanceCache.computeFlows(connected, u, theta, p, q);
+
+        for (int num = 0; num < admittanceCache.getBranchCount(); num++) {
+            Branch<?> branch = admittanceCache.getBranch(num);
+            completeTerminalData(branch.getTerminal1(), buses[2 * num], p[2 * num], q[2 * num]);
+            completeTerminalData(branch.getTerminal2(), buses[2 * num + 1], p[2 * num + 1], q[2 * num + 1]);
+        }
+    }
+
+    private static void setVoltage(int side, Bus bus, Bus[] buses, boolean[] connected, double[] u, double[] theta) {
+        buses[side] = bus;
+        if (bus != null) {
+            connected[side] = true;
+            u[side] = bus.getV();
+            theta[side] = Math.toRadians(bus.getAngle());
+        } else {
+            u[side] = Double.NaN;
+            theta[side] = Double.NaN;
+        }
+    }
+
+    private static void completeTerminalData(Terminal terminal, Bus bus, double p, double q) {
+        if (bus != null && terminal.isConnected() && bus.isInMainConnectedComponent()) {
+            if (Double.isNaN(terminal.getP())) {
+                terminal.setP(p);
+            }
+            if (Double.isNaN(terminal.getQ())) {
+                terminal.setQ(q);
+            }
+        }
+    }
+
+    private void completeShuntsAndThreeWindingsTransformers(Network network) {
         network.getShuntCompensatorStream().forEach(sh -> {
             Terminal terminal = sh.getTerminal();
             if (terminal.isConnected()
@@ -141,9 +246,6 @@ public class LoadFlowResultsCompletion implements CandidateComputation {
             completeTerminalData(twt.getLeg2().getTerminal(), ThreeSides.TWO, twtData);
             completeTerminalData(twt.getLeg3().getTerminal(), ThreeSides.THREE, twtData);
         });
-
-        Z0FlowsCompletion z0FlowsCompletion = new Z0FlowsCompletion(network, z0checker);
-        z0FlowsCompletion.complete();
     }
 
     private void completeTerminalData(Terminal terminal, Load load) {
@@ -23,10 +23,12 @@ public class LoadFlowResultsCompletionParameters {
     public static final float EPSILON_X_DEFAULT = 0.1f;
     public static final boolean APPLY_REACTANCE_CORRECTION_DEFAULT = false;
     public static final double Z0_THRESHOLD_DIFF_VOLTAGE_ANGLE = 1e-6;
+    public static final int THREAD_COUNT_DEFAULT = 1;
 
     private final float epsilonX;
     private final boolean applyReactanceCorrection;
     private final double z0ThresholdDiffVoltageAngle;
+    private final int threadCount;
 
     public static LoadFlowResultsCompletionParameters load() {
         return load(PlatformConfig.defaultConfig());
@@ -39,7 +41,8 @@ public class LoadFlowResultsCompletionParameters {
                     float epsilonX = config.getFloatProperty("epsilon-x", LoadFlowResultsCompletionParameters.EPSILON_X_DEFAULT);
                     boolean applyReactanceCorrection = config.getBooleanProperty("apply-reactance-correction", LoadFlowResultsCompletionParameters.APPLY_REACTANCE_CORRECTION_DEFAULT);
                     double z0ThresholdDiffVoltageAngle = config.getDoubleProperty("z0-threshold-diff-voltage-angle", LoadFlowResultsCompletionParameters.Z0_THRESHOLD_DIFF_VOLTAGE_ANGLE);
-                    return new LoadFlowResultsCompletionParameters(epsilonX, applyReactanceCorrection, z0ThresholdDiffVoltageAngle);
+                    int threadCount = config.getIntProperty("thread-count", LoadFlowResultsCompletionParameters.THREAD_COUNT_DEFAULT);
+                    return new LoadFlowResultsCompletionParameters(epsilonX, applyReactanceCorrection, z0ThresholdDiffVoltageAngle, threadCount);
                 })
                 .orElseGet(() -> new LoadFlowResultsCompletionParameters(LoadFlowResultsCompletionParameters.EPSILON_X_DEFAULT,
                     LoadFlowResultsCompletionParameters.APPLY_REACTANCE_CORRECTION_DEFAULT,
@@ -47,9 +50,17 @@ public class LoadFlowResultsCompletionParameters {
     }
 
     public LoadFlowResultsCompletionParameters(float epsilonX, boolean applyReactanceCorrection, double z0ThresholdDiffVoltageAngle) {
+        this(epsilonX, applyReactanceCorrection, z0ThresholdDiffVoltageAngle, THREAD_COUNT_DEFAULT);
+    }
+
+    public LoadFlowResultsCompletionParameters(float epsilonX, boolean applyReactanceCorrection, double z0ThresholdDiffVoltageAngle, int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
         this.epsilonX = epsilonX;
         this.applyReactanceCorrection = applyReactanceCorrection;
         this.z0ThresholdDiffVoltageAngle = z0ThresholdDiffVoltageAngle;
+        this.threadCount = threadCount;
     }
 
     public LoadFlowResultsCompletionParameters() {
@@ -68,11 +79,20 @@ public class LoadFlowResultsCompletionParameters {
         return z0ThresholdDiffVoltageAngle;
     }
 
+    /**
+     * Maximum number of threads completing the flows of independent groups of Z0 lines, 1 to complete them
+     * sequentially.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
     protected Map<String, Object> toMap() {
         Map<String, Object> map = new LinkedHashMap<>();
         map.put("epsilonX", epsilonX);
         map.put("applyReactanceCorrection", applyReactanceCorrection);
         map.put("z0ThresholdDiffVoltageAngle", z0ThresholdDiffVoltageAngle);
+        map.put("threadCount", threadCount);
         return Collections.unmodifiableMap(map);
     }
 
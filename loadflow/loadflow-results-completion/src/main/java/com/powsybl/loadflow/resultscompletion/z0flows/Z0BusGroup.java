@@ -20,7 +20,9 @@ import java.util.*;
 
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
+ * @deprecated Z0 bus groups are built and completed by {@link Z0FlowsCompletion}.
  */
+@Deprecated(since = "7.4.0")
 public class Z0BusGroup {
 
     public Z0BusGroup(Bus bus, Z0LineChecker z0checker) {
@@ -136,15 +138,7 @@ public class Z0BusGroup {
     }
 
     private void assignZeroFlowTo(Line line) {
-        Objects.requireNonNull(line);
-        line.getTerminal1().setP(0.0);
-        line.getTerminal1().setQ(0.0);
-        line.getTerminal2().setP(0.0);
-        line.getTerminal2().setQ(0.0);
-        if (line.getB1() != 0.0 || line.getB2() != 0.0
-                || line.getG1() != 0.0 || line.getG2() != 0.0) {
-            LOG.error("Z0 line {} has B1, G1, B2, G2 != 0", line);
-        }
+        Z0FlowsCompletion.assignZeroFlowTo(line);
     }
 
     private void completeFlowsForEdgesInsideTree() {
@@ -18,7 +18,9 @@ import java.util.Objects;
 
 /**
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
+ * @deprecated Z0 bus groups are built and completed by {@link Z0FlowsCompletion}.
  */
+@Deprecated(since = "7.4.0")
 public class Z0Edge extends DefaultWeightedEdge {
 
     public Z0Edge(Line line) {
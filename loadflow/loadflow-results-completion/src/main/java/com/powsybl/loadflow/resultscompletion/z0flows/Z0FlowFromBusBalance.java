@@ -18,9 +18,43 @@ import java.util.Objects;
  */
 public class Z0FlowFromBusBalance implements TopologyVisitor {
 
+    /**
+     * Flows of the lines which have already been completed but not yet written to their terminals.
+     */
+    interface CompletedFlows {
+
+        boolean isCompleted(Line line);
+
+        double getP(Line line, TwoSides side);
+
+        double getQ(Line line, TwoSides side);
+    }
+
+    private static final CompletedFlows NO_COMPLETED_FLOWS = new CompletedFlows() {
+        @Override
+        public boolean isCompleted(Line line) {
+            return false;
+        }
+
+        @Override
+        public double getP(Line line, TwoSides side) {
+            throw new IllegalStateException();
+        }
+
+        @Override
+        public double getQ(Line line, TwoSides side) {
+            throw new IllegalStateException();
+        }
+    };
+
     public Z0FlowFromBusBalance(Bus bus, Line line) {
+        this(bus, line, NO_COMPLETED_FLOWS);
+    }
+
+    Z0FlowFromBusBalance(Bus bus, Line line, CompletedFlows completedFlows) {
         this.bus = Objects.requireNonNull(bus);
         this.line = Objects.requireNonNull(line);
+        this.completedFlows = Objects.requireNonNull(completedFlows);
 
         this.netP = 0.0;
         this.netQ = 0.0;
@@ -29,27 +63,48 @@ public class Z0FlowFromBusBalance implements TopologyVisitor {
     }
 
     public void complete() {
+        if (computeBalance()) {
+            completeZ0Flow();
+        }
+    }
+
+    /**
+     * Sum the flows of the other equipments connected to the bus, without modifying the network.
+     *
+     * @return true if all the flows are known, the flow of the line from the bus is then minus the net flow
+     */
+    boolean computeBalance() {
         if (LOG.isDebugEnabled()) {
             LOG.debug("Z0 flow for line {} from balance at bus {}", line, bus);
         }
         bus.visitConnectedEquipments(this);
-        if (this.known) {
-            completeZ0Flow();
-        }
+        return known;
+    }
+
+    double getNetP() {
+        return netP;
+    }
+
+    double getNetQ() {
+        return netQ;
     }
 
     private void addFlow(Terminal t) {
-        if (Double.isNaN(t.getP()) || Double.isNaN(t.getQ())) {
+        addFlow(t.getP(), t.getQ(), t.getConnectable());
+    }
+
+    private void addFlow(double p, double q, Connectable<?> connectable) {
+        if (Double.isNaN(p) || Double.isNaN(q)) {
             known = false;
-            LOG.warn("Z0 flow    unknown P, Q flow at {}", t.getConnectable());
+            LOG.warn("Z0 flow    unknown P, Q flow at {}", connectable);
         } else {
-            netP += t.getP();
-            netQ += t.getQ();
+            netP += p;
+            netQ += q;
             if (LOG.isDebugEnabled()) {
                 LOG.debug(String.format("Z0 flow    P,Q %10.4f %10.4f %s %s",
-                        t.getP(), t.getQ(),
-                        t.getConnectable().getNameOrId(),
-                        t.getConnectable().getId()));
+                        p, q,
+                        connectable.getNameOrId(),
+                        connectable.getId()));
             }
         }
     }
@@ -97,7 +152,11 @@ public class Z0FlowFromBusBalance implements TopologyVisitor {
         if (!line.getTerminal1().isConnected() || !line.getTerminal2().isConnected()) {
             return;
         }
-        addFlow(line.getTerminal(side));
+        if (completedFlows.isCompleted(line)) {
+            addFlow(completedFlows.getP(line, side), completedFlows.getQ(line, side), line);
+        } else {
+            addFlow(line.getTerminal(side));
+        }
     }
 
     @Override
@@ -153,6 +212,7 @@ public class Z0FlowFromBusBalance implements TopologyVisitor {
 
     private final Bus bus;
     private final Line line;
+    private final CompletedFlows completedFlows;
 
     private boolean known;
     private double netP;
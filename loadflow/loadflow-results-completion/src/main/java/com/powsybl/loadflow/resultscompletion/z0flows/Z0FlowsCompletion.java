@@ -7,12 +7,30 @@
  */
 package com.powsybl.loadflow.resultscompletion.z0flows;
 
-import com.powsybl.iidm.network.Bus;
-import com.powsybl.iidm.network.Network;
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntUnaryOperator;
 
 /**
+ * Completion of the flows of the Z0 lines of a network.
+ *
+ * <p>The buses connected by Z0 lines are grouped in one union-find pass over the bus numbers of the line ends. In each
+ * group, the flows of the Z0 lines outside a minimum spanning tree (by reactance) and of the Z0 loops are set to zero,
+ * and the flows of the lines of the tree are computed from the balance of the buses, from the leaves to the root.
+ * Groups are independent, so their flows can be computed in parallel. The flows are then written to the terminals of
+ * the lines by the calling thread only, as the network listeners are not thread safe.
+ *
+ * <p>The completion can be run again after a change of the working variant: the numbering of the buses and of the
+ * line ends is reused as long as the switches and the connection of the lines have not changed.
+ *
  * @author Luma Zamarreño {@literal <zamarrenolm at aia.es>}
  * @author Marcos De Miguel {@literal <demiguelm at aia.es>}
  * @author José Antonio Marqués {@literal <marquesja at aia.es>}
@@ -20,29 +38,432 @@ import java.util.*;
 public class Z0FlowsCompletion {
 
     public Z0FlowsCompletion(Network network, Z0LineChecker z0checker) {
+        this(network, z0checker, 1);
+    }
+
+    public Z0FlowsCompletion(Network network, Z0LineChecker z0checker, int threadCount) {
         this.network = Objects.requireNonNull(network);
         this.z0checker = Objects.requireNonNull(z0checker);
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Invalid thread count: " + threadCount);
+        }
+        this.threadCount = threadCount;
     }
 
     public void complete() {
-        z0busGroups().forEach(Z0BusGroup::complete);
+        boolean topologyReused = updateTopology();
+        Z0Groups groups = z0Groups();
+        if (!findBuses(groups)) {
+            if (!topologyReused) {
+                throw new IllegalStateException("Bus of a Z0 group not found in network " + network.getId());
+            }
+            // bus ids have changed without any switch change, number the buses again
+            topologyState = null;
+            updateTopology();
+            groups = z0Groups();
+            findBuses(groups);
+        }
+        LOG.debug("{} Z0 bus groups in network {}", groups.count(), network.getId());
+
+        // number of each bus in its group, shared by the groups as they have distinct buses
+        int[] localBuses = new int[busIds.length];
+        LineFlows flows = new LineFlows();
+        if (threadCount > 1 && groups.count() > 1) {
+            completeInParallel(groups, localBuses, flows);
+        } else {
+            for (int group = 0; group < groups.count(); group++) {
+                complete(groups, group, localBuses, flows);
+            }
+        }
+        flows.apply();
+    }
+
+    /**
+     * Number the buses of the bus view and the line ends, unless the switches and the connection of the lines are the
+     * same as for the previous completion.
+     *
+     * @return true if the previous numbering is reused
+     */
+    private boolean updateTopology() {
+        BitSet state = topologyState();
+        if (state.equals(topologyState)) {
+            buses = new Bus[busIds.length];
+            return true;
+        }
+        topologyState = state;
+        buses = network.getBusView().getBusStream().toArray(Bus[]::new);
+        busIds = new String[buses.length];
+        Map<Bus, Integer> busNums = new HashMap<>();
+        for (int num = 0; num < buses.length; num++) {
+            busIds[num] = buses[num].getId();
+            busNums.put(buses[num], num);
+        }
+        lines = network.getLineStream().toArray(Line[]::new);
+        lineNums = new HashMap<>();
+        lineBuses = new int[2 * lines.length];
+        for (int num = 0; num < lines.length; num++) {
+            lineNums.put(lines[num], num);
+            lineBuses[2 * num] = busNum(lines[num].getTerminal1(), busNums);
+            lineBuses[2 * num + 1] = busNum(lines[num].getTerminal2(), busNums);
+        }
+        return false;
+    }
+
+    private BitSet topologyState() {
+        BitSet state = new BitSet();
+        int bit = 0;
+        for (Switch sw : network.getSwitches()) {
+            state.set(bit++, sw.isOpen());
+        }
+        // in node breaker topology, the connection of a terminal only depends on the switches
+        for (Line line : network.getLines()) {
+            for (Terminal terminal : List.of(line.getTerminal1(), line.getTerminal2())) {
+                if (terminal.getVoltageLevel().getTopologyKind() == TopologyKind.BUS_BREAKER) {
+                    state.set(bit, terminal.isConnected());
+                }
+                bit++;
+            }
+        }
+        // so that states of networks with different numbers of switches or lines differ
+        state.set(bit);
+        return state;
+    }
+
+    private static int busNum(Terminal terminal, Map<Bus, Integer> busNums) {
+        if (!terminal.isConnected()) {
+            return -1;
+        }
+        Bus bus = terminal.getBusView().getBus();
+        return bus != null ? busNums.getOrDefault(bus, -1) : -1;
+    }
+
+    private record Z0Groups(int count, GroupIndex buses, GroupIndex edges, GroupIndex loops) {
+    }
+
+    /**
+     * Items of the groups, stored consecutively group after group in the order they have been given.
+     */
+    private record GroupIndex(int[] start, int[] items) {
+
+        static GroupIndex of(int groupCount, int[] items, int itemCount, IntUnaryOperator groupOfItem) {
+            int[] start = new int[groupCount + 1];
+            for (int i = 0; i < itemCount; i++) {
+                start[groupOfItem.applyAsInt(items[i]) + 1]++;
+            }
+            for (int group = 0; group < groupCount; group++) {
+                start[group + 1] += start[group];
+            }
+            int[] next = Arrays.copyOf(start, groupCount);
+            int[] groupItems = new int[itemCount];
+            for (int i = 0; i < itemCount; i++) {
+                groupItems[next[groupOfItem.applyAsInt(items[i])]++] = items[i];
+            }
+            return new GroupIndex(start, groupItems);
+        }
+
+        int size(int group) {
+            return start[group + 1] - start[group];
+        }
+
+        int get(int group, int i) {
+            return items[start[group] + i];
+        }
+    }
+
+    private Z0Groups z0Groups() {
+        int busCount = busIds.length;
+        int[] root = new int[busCount];
+        for (int bus = 0; bus < busCount; bus++) {
+            root[bus] = bus;
+        }
+        boolean[] z0Bus = new boolean[busCount];
+        int[] edges = new int[lines.length];
+        int edgeCount = 0;
+        int[] loops = new int[lines.length];
+        int loopCount = 0;
+        for (int num = 0; num < lines.length; num++) {
+            int bus1 = lineBuses[2 * num];
+            int bus2 = lineBuses[2 * num + 1];
+            if (bus1 >= 0 && bus2 >= 0 && z0checker.isZ0(lines[num])) {
+                z0Bus[bus1] = true;
+                z0Bus[bus2] = true;
+                if (bus1 == bus2) {
+                    loops[loopCount++] = num;
+                } else {
+                    edges[edgeCount++] = num;
+                    root[find(root, bus1)] = find(root, bus2);
+                }
+            }
+        }
+
+        // groups are numbered in the order of their first bus, which is the root of their spanning tree
+        int[] groupOfRoot = new int[busCount];
+        Arrays.fill(groupOfRoot, -1);
+        int[] groupOfBus = new int[busCount];
+        int[] groupBuses = new int[busCount];
+        int groupBusCount = 0;
+        int groupCount = 0;
+        for (int bus = 0; bus < busCount; bus++) {
+            if (z0Bus[bus]) {
+                int busRoot = find(root, bus);
+                if (groupOfRoot[busRoot] < 0) {
+                    groupOfRoot[busRoot] = groupCount++;
+                }
+                groupOfBus[bus] = groupOfRoot[busRoot];
+                groupBuses[groupBusCount++] = bus;
+            }
+        }
+        return new Z0Groups(groupCount,
+                GroupIndex.of(groupCount, groupBuses, groupBusCount, bus -> groupOfBus[bus]),
+                GroupIndex.of(groupCount, edges, edgeCount, line -> groupOfBus[lineBuses[2 * line]]),
+                GroupIndex.of(groupCount, loops, loopCount, line -> groupOfBus[lineBuses[2 * line]]));
+    }
+
+    private static int find(int[] root, int bus) {
+        int r = bus;
+        while (root[r] != r) {
+            root[r] = root[root[r]];
+            r = root[r];
+        }
+        return r;
+    }
+
+    /**
+     * Find the buses of the groups in the working variant, before completing the groups in parallel.
+     */
+    private boolean findBuses(Z0Groups groups) {
+        for (int i = 0; i < groups.buses().items().length; i++) {
+            int num = groups.buses().items()[i];
+            if (buses[num] == null) {
+                buses[num] = network.getBusView().getBus(busIds[num]);
+                if (buses[num] == null) {
+                    return false;
+                }
+            }
+        }
+        return true;
     }
 
-    private List<Z0BusGroup> z0busGroups() {
-        List<Z0BusGroup> z0busGroups = new ArrayList<>();
-        network.getBusView().getBusStream().forEach(bus -> {
-            if (!processed.contains(bus)) {
-                Z0BusGroup z0bg = new Z0BusGroup(bus, z0checker);
-                z0bg.exploreZ0(processed);
-                if (z0bg.valid()) {
-                    z0busGroups.add(z0bg);
+    /**
+     * Compute the flows of the Z0 lines of a group, without modifying the network.
+     */
+    private void complete(Z0Groups groups, int group, int[] localBuses, LineFlows flows) {
+        for (int i = 0; i < groups.loops().size(group); i++) {
+            flows.setZero(groups.loops().get(group, i));
+        }
+
+        // Kruskal minimum spanning tree, Z0 lines outside of the tree have a zero flow
+        int busCount = groups.buses().size(group);
+        int[] edges = sortByReactance(groups, group);
+        int[] root = new int[busCount];
+        for (int i = 0; i < busCount; i++) {
+            localBuses[groups.buses().get(group, i)] = i;
+            root[i] = i;
+        }
+        int[] treeEdges = new int[busCount - 1];
+        int treeEdgeCount = 0;
+        for (int line : edges) {
+            int root1 = find(root, localBuses[lineBuses[2 * line]]);
+            int root2 = find(root, localBuses[lineBuses[2 * line + 1]]);
+            if (root1 != root2) {
+                root[root1] = root2;
+                treeEdges[treeEdgeCount++] = line;
+            } else {
+                flows.setZero(line);
+            }
+        }
+
+        // Breadth first traversal of the tree from the first bus of the group
+        GroupIndex treeEdgesOfBus = treeEdgesOfBus(treeEdges, treeEdgeCount, busCount, localBuses);
+        int[] order = new int[busCount];
+        int[] parentLine = new int[busCount];
+        boolean[] visited = new boolean[busCount];
+        visited[0] = true;
+        int orderCount = 1;
+        for (int k = 0; k < orderCount; k++) {
+            int bus = order[k];
+            for (int i = 0; i < treeEdgesOfBus.size(bus); i++) {
+                int line = treeEdgesOfBus.get(bus, i);
+                int bus1 = localBuses[lineBuses[2 * line]];
+                int other = bus1 == bus ? localBuses[lineBuses[2 * line + 1]] : bus1;
+                if (!visited[other]) {
+                    visited[other] = true;
+                    parentLine[other] = line;
+                    order[orderCount++] = other;
                 }
             }
-        });
-        return z0busGroups;
+        }
+
+        // Traverse the tree from leaves to root
+        // (The root itself does not need to be processed)
+        for (int k = orderCount - 1; k >= 1; k--) {
+            int bus = groups.buses().get(group, order[k]);
+            int line = parentLine[order[k]];
+            Z0FlowFromBusBalance balance = new Z0FlowFromBusBalance(buses[bus], lines[line], flows);
+            if (balance.computeBalance()) {
+                flows.set(line, lineBuses[2 * line] == bus ? TwoSides.ONE : TwoSides.TWO, -balance.getNetP(), -balance.getNetQ());
+            }
+        }
+    }
+
+    /**
+     * Sort the Z0 lines of a group by reactance, keeping the order of the group for equal reactances.
+     */
+    private int[] sortByReactance(Z0Groups groups, int group) {
+        int edgeCount = groups.edges().size(group);
+        double[] x = new double[edgeCount];
+        int[] positions = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            x[i] = lines[groups.edges().get(group, i)].getX();
+            positions[i] = i;
+        }
+        // rank of the reactance of each line among the sorted reactances, equal reactances having the same rank
+        double[] sortedX = x.clone();
+        Arrays.sort(sortedX);
+        int[] ranks = new int[edgeCount];
+        for (int i = 0; i < edgeCount; i++) {
+            ranks[i] = Arrays.binarySearch(sortedX, x[i]);
+        }
+        int[] edges = GroupIndex.of(edgeCount, positions, edgeCount, i -> ranks[i]).items();
+        for (int i = 0; i < edgeCount; i++) {
+            edges[i] = groups.edges().get(group, edges[i]);
+        }
+        return edges;
+    }
+
+    private GroupIndex treeEdgesOfBus(int[] treeEdges, int treeEdgeCount, int busCount, int[] localBuses) {
+        // each tree edge is referenced by its 2 buses
+        int[] sides = new int[2 * treeEdgeCount];
+        for (int i = 0; i < sides.length; i++) {
+            sides[i] = i;
+        }
+        GroupIndex sidesOfBus = GroupIndex.of(busCount, sides, sides.length,
+            side -> localBuses[lineBuses[2 * treeEdges[side / 2] + side % 2]]);
+        int[] items = sidesOfBus.items();
+        for (int i = 0; i < items.length; i++) {
+            items[i] = treeEdges[items[i] / 2];
+        }
+        return sidesOfBus;
+    }
+
+    private void completeInParallel(Z0Groups groups, int[] localBuses, LineFlows flows) {
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        int groupThreadCount = Math.min(threadCount, groups.count());
+        List<Future<?>> futures = new ArrayList<>(groupThreadCount);
+        try (ExecutorService executor = Executors.newFixedThreadPool(groupThreadCount)) {
+            for (int thread = 0; thread < groupThreadCount; thread++) {
+                int firstGroup = thread;
+                futures.add(executor.submit(() -> {
+                    if (variantManager.isVariantMultiThreadAccessAllowed()) {
+                        variantManager.setWorkingVariant(variantId);
+                    }
+                    for (int group = firstGroup; group < groups.count(); group += groupThreadCount) {
+                        complete(groups, group, localBuses, flows);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                waitForCompletion(future);
+            }
+        }
+    }
+
+    private static void waitForCompletion(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+
+    static void assignZeroFlowTo(Line line) {
+        Objects.requireNonNull(line);
+        line.getTerminal1().setP(0.0);
+        line.getTerminal1().setQ(0.0);
+        line.getTerminal2().setP(0.0);
+        line.getTerminal2().setQ(0.0);
+        checkZeroAdmittances(line);
+    }
+
+    private static void checkZeroAdmittances(Line line) {
+        if (line.getB1() != 0.0 || line.getB2() != 0.0
+                || line.getG1() != 0.0 || line.getG2() != 0.0) {
+            LOG.error("Z0 line {} has B1, G1, B2, G2 != 0", line);
+        }
+    }
+
+    /**
+     * P and Q at both sides of the completed Z0 lines, by line number. Groups have distinct lines and a group only
+     * reads the flows of its own lines, so the groups can be completed in parallel without synchronization.
+     */
+    private final class LineFlows implements Z0FlowFromBusBalance.CompletedFlows {
+
+        private final double[] flows = new double[4 * lines.length];
+        private final boolean[] completed = new boolean[lines.length];
+
+        void setZero(int line) {
+            completed[line] = true;
+            checkZeroAdmittances(lines[line]);
+        }
+
+        void set(int line, TwoSides side, double p, double q) {
+            int offset = side == TwoSides.ONE ? 0 : 2;
+            flows[4 * line + offset] = p;
+            flows[4 * line + offset + 1] = q;
+            flows[4 * line + 2 - offset] = -p;
+            flows[4 * line + 3 - offset] = -q;
+            completed[line] = true;
+        }
+
+        @Override
+        public boolean isCompleted(Line line) {
+            Integer num = lineNums.get(line);
+            return num != null && completed[num];
+        }
+
+        @Override
+        public double getP(Line line, TwoSides side) {
+            return flows[4 * lineNums.get(line) + (side == TwoSides.ONE ? 0 : 2)];
+        }
+
+        @Override
+        public double getQ(Line line, TwoSides side) {
+            return flows[4 * lineNums.get(line) + (side == TwoSides.ONE ? 1 : 3)];
+        }
+
+        void apply() {
+            for (int num = 0; num < lines.length; num++) {
+                if (completed[num]) {
+                    Line line = lines[num];
+                    line.getTerminal1().setP(flows[4 * num]);
+                    line.getTerminal1().setQ(flows[4 * num + 1]);
+                    line.getTerminal2().setP(flows[4 * num + 2]);
+                    line.getTerminal2().setQ(flows[4 * num + 3]);
+                }
+            }
+        }
     }
 
     private final Network network;
     private final Z0LineChecker z0checker;
-    private final Set<Bus> processed = new HashSet<>();
+    private final int threadCount;
+
+    // numbering of the buses and of the line ends, for the state of the switches and of the line connections
+    private BitSet topologyState;
+    private String[] busIds;
+    private Line[] lines;
+    private Map<Line, Integer> lineNums;
+    private int[] lineBuses;
+
+    // buses of the working variant, by number
+    private Bus[] buses;
+
+    private static final Logger LOG = LoggerFactory.getLogger(Z0FlowsCompletion.class);
 }
@@ -0,0 +1,89 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.resultscompletion;
+
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.util.BranchData;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BranchAdmittanceCacheTest {
+
+    private static final double EPSILON = 1e-9;
+
+    private static void checkFlows(BranchAdmittanceCache cache) {
+        int sideCount = 2 * cache.getBranchCount();
+        boolean[] connected = new boolean[sideCount];
+        double[] u = new double[sideCount];
+        double[] theta = new double[sideCount];
+        for (int num = 0; num < cache.getBranchCount(); num++) {
+            for (TwoSides side : TwoSides.values()) {
+                int index = 2 * num + side.getNum() - 1;
+                Bus bus = cache.getBranch(num).getTerminal(side).getBusView().getBus();
+                connected[index] = bus != null;
+                u[index] = bus != null ? bus.getV() : Double.NaN;
+                theta[index] = bus != null ? Math.toRadians(bus.getAngle()) : Double.NaN;
+            }
+        }
+        double[] p = new double[sideCount];
+        double[] q = new double[sideCount];
+        cache.computeFlows(connected, u, theta, p, q);
+
+        for (int num = 0; num < cache.getBranchCount(); num++) {
+            Branch<?> branch = cache.getBranch(num);
+            BranchData branchData = branch instanceof TwoWindingsTransformer twt
+                    ? new BranchData(twt, 0, false, false)
+                    : new BranchData((Line) branch, 0, false);
+            for (TwoSides side : TwoSides.values()) {
+                int index = 2 * num + side.getNum() - 1;
+                assertEquals(branchData.getComputedP(side), p[index], EPSILON, branch.getId());
+                assertEquals(branchData.getComputedQ(side), q[index], EPSILON, branch.getId());
+            }
+        }
+    }
+
+    @Test
+    void testFlows() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        BranchAdmittanceCache cache = new BranchAdmittanceCache(network, 0, false, false);
+        assertEquals(4, cache.getBranchCount());
+        checkFlows(cache);
+
+        // one side, then both sides disconnected
+        Line line = network.getLine("NHV1_NHV2_1");
+        line.getTerminal2().disconnect();
+        checkFlows(cache);
+        line.getTerminal1().disconnect();
+        checkFlows(cache);
+
+        assertThrows(IllegalArgumentException.class, () -> cache.computeFlows(new boolean[1], new double[8], new double[8], new double[8], new double[8]));
+    }
+
+    @Test
+    void testUpdate() {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        BranchAdmittanceCache cache = new BranchAdmittanceCache(network, 0, false, false);
+        assertEquals(0, cache.update());
+
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, "v");
+        network.getVariantManager().setWorkingVariant("v");
+        network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NHV2_NLOAD).getRatioTapChanger().setTapPosition(2);
+        assertEquals(1, cache.update());
+        checkFlows(cache);
+
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertEquals(1, cache.update());
+        assertEquals(0, cache.update());
+        checkFlows(cache);
+    }
+}
@@ -46,6 +46,7 @@ class LoadFlowResultsCompletionParametersTest {
         LoadFlowResultsCompletionParameters parameters = LoadFlowResultsCompletionParameters.load(platformConfig);
         assertEquals(LoadFlowResultsCompletionParameters.EPSILON_X_DEFAULT, parameters.getEpsilonX(), 0f);
         assertFalse(parameters.isApplyReactanceCorrection());
+        assertEquals(LoadFlowResultsCompletionParameters.THREAD_COUNT_DEFAULT, parameters.getThreadCount());
     }
 
     @Test
@@ -55,9 +56,11 @@ class LoadFlowResultsCompletionParametersTest {
         MapModuleConfig moduleConfig = platformConfig.createModuleConfig("loadflow-results-completion-parameters");
         moduleConfig.setStringProperty("epsilon-x", Float.toString(epsilonX));
         moduleConfig.setStringProperty("apply-reactance-correction", Boolean.toString(applyReactanceCorrection));
+        moduleConfig.setStringProperty("thread-count", "4");
         LoadFlowResultsCompletionParameters parameters = LoadFlowResultsCompletionParameters.load(platformConfig);
         assertEquals(epsilonX, parameters.getEpsilonX(), 0f);
         assertTrue(parameters.isApplyReactanceCorrection());
+        assertEquals(4, parameters.getThreadCount());
     }
 
 }
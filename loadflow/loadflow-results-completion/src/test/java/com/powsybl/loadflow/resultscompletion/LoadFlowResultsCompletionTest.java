@@ -7,11 +7,19 @@
  */
 package com.powsybl.loadflow.resultscompletion;
 
+import com.powsybl.iidm.network.Branch;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.VariantManagerConstants;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
 import com.powsybl.loadflow.LoadFlowParameters;
 import com.powsybl.loadflow.validation.CandidateComputation;
 import org.junit.jupiter.api.Test;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 
 /**
  *
@@ -32,4 +40,54 @@ class LoadFlowResultsCompletionTest extends AbstractLoadFlowResultsCompletionTes
         checkResultsCompletion();
     }
 
+    private static Network createNetwork(List<String> variantIds) {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantIds);
+        for (String variantId : variantIds) {
+            network.getVariantManager().setWorkingVariant(variantId);
+            network.getBranchStream().forEach(branch -> {
+                branch.getTerminal1().setP(Double.NaN).setQ(Double.NaN);
+                branch.getTerminal2().setP(Double.NaN).setQ(Double.NaN);
+            });
+        }
+        network.getVariantManager().setWorkingVariant("v2");
+        network.getTwoWindingsTransformer(EurostagTutorialExample1Factory.NHV2_NLOAD).getRatioTapChanger().setTapPosition(2);
+        network.getLine("NHV1_NHV2_1").getTerminal2().disconnect();
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        return network;
+    }
+
+    @Test
+    void runOnVariants() {
+        List<String> variantIds = List.of("v1", "v2", "v3");
+        LoadFlowResultsCompletion computation = new LoadFlowResultsCompletion(new LoadFlowResultsCompletionParameters(), new LoadFlowParameters());
+
+        Network expectedNetwork = createNetwork(variantIds);
+        for (String variantId : variantIds) {
+            expectedNetwork.getVariantManager().setWorkingVariant(variantId);
+            computation.run(expectedNetwork, null);
+        }
+
+        Network network = createNetwork(variantIds);
+        computation.runOnVariants(network, variantIds);
+        assertEquals(VariantManagerConstants.INITIAL_VARIANT_ID, network.getVariantManager().getWorkingVariantId());
+
+        for (String variantId : variantIds) {
+            expectedNetwork.getVariantManager().setWorkingVariant(variantId);
+            network.getVariantManager().setWorkingVariant(variantId);
+            for (Branch<?> branch : network.getBranches()) {
+                Branch<?> expectedBranch = expectedNetwork.getBranch(branch.getId());
+                checkTerminal(expectedBranch.getTerminal1(), branch.getTerminal1());
+                checkTerminal(expectedBranch.getTerminal2(), branch.getTerminal2());
+            }
+        }
+        network.getVariantManager().setWorkingVariant("v2");
+        assertFalse(Double.isNaN(network.getLine("NHV1_NHV2_1").getTerminal1().getP()));
+        assertEquals(Double.NaN, network.getLine("NHV1_NHV2_1").getTerminal2().getP());
+    }
+
+    private static void checkTerminal(Terminal expectedTerminal, Terminal terminal) {
+        assertEquals(expectedTerminal.getP(), terminal.getP(), 1e-9);
+        assertEquals(expectedTerminal.getQ(), terminal.getQ(), 1e-9);
+    }
 }
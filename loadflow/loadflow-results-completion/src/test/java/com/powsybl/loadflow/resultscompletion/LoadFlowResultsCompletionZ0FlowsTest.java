@@ -12,6 +12,8 @@ import com.google.common.jimfs.Jimfs;
 import com.powsybl.commons.config.InMemoryPlatformConfig;
 import com.powsybl.iidm.network.*;
 import com.powsybl.loadflow.LoadFlowParameters;
+import com.powsybl.loadflow.resultscompletion.z0flows.Z0FlowsCompletion;
+import com.powsybl.loadflow.resultscompletion.z0flows.Z0LineChecker;
 import com.powsybl.loadflow.validation.CandidateComputation;
 import com.powsybl.loadflow.validation.ValidationConfig;
 import com.powsybl.loadflow.validation.ValidationType;
@@ -23,8 +25,12 @@ import java.io.IOException;
 import java.nio.file.FileSystem;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 /**
@@ -66,6 +72,67 @@ class LoadFlowResultsCompletionZ0FlowsTest {
         assertTrue(validateBuses(network));
     }
 
+    @Test
+    void parallelZ0FlowsCompletion() throws Exception {
+        Network expectedNetwork = createNetwork();
+        splitNetwork(expectedNetwork);
+        completeResults(expectedNetwork);
+
+        Network network = createNetwork();
+        splitNetwork(network);
+        // the flows are only written by the calling thread, the network listeners are not thread safe
+        Set<Thread> updatingThreads = ConcurrentHashMap.newKeySet();
+        network.addListener(new NetworkListener() {
+            @Override
+            public void onUpdate(Identifiable<?> identifiable, String attribute, String variantId, Object oldValue, Object newValue) {
+                updatingThreads.add(Thread.currentThread());
+            }
+        });
+        new LoadFlowResultsCompletion(new LoadFlowResultsCompletionParameters(LoadFlowResultsCompletionParameters.EPSILON_X_DEFAULT,
+                LoadFlowResultsCompletionParameters.APPLY_REACTANCE_CORRECTION_DEFAULT, LoadFlowResultsCompletionParameters.Z0_THRESHOLD_DIFF_VOLTAGE_ANGLE, 4),
+                new LoadFlowParameters())
+                .run(network, null);
+        assertEquals(Set.of(Thread.currentThread()), updatingThreads);
+
+        for (Line line : network.getLines()) {
+            Line expectedLine = expectedNetwork.getLine(line.getId());
+            assertEquals(expectedLine.getTerminal1().getP(), line.getTerminal1().getP(), 0);
+            assertEquals(expectedLine.getTerminal1().getQ(), line.getTerminal1().getQ(), 0);
+            assertEquals(expectedLine.getTerminal2().getP(), line.getTerminal2().getP(), 0);
+            assertEquals(expectedLine.getTerminal2().getQ(), line.getTerminal2().getQ(), 0);
+        }
+        assertTrue(validateBuses(network));
+    }
+
+    @Test
+    void variantsZ0FlowsCompletion() throws Exception {
+        Network network = createNetwork();
+        List<String> variantIds = List.of("v1", "v2", "v3");
+        network.getVariantManager().cloneVariant(VariantManagerConstants.INITIAL_VARIANT_ID, variantIds);
+        network.getVariantManager().setWorkingVariant("v2");
+        disconnectLine(network);
+
+        // the bus groups of v1 are reused for v3, not for v2
+        new LoadFlowResultsCompletion(new LoadFlowResultsCompletionParameters(), new LoadFlowParameters())
+                .runOnVariants(network, List.of("v1", "v3", "v2"));
+
+        for (String variantId : variantIds) {
+            network.getVariantManager().setWorkingVariant(variantId);
+            assertEquals(0, network.getLine("L1-1").getTerminal1().getP(), 0);
+            assertTrue(validateBuses(network));
+        }
+        network.getVariantManager().setWorkingVariant(VariantManagerConstants.INITIAL_VARIANT_ID);
+        assertTrue(Double.isNaN(network.getLine("L1-1").getTerminal1().getP()));
+    }
+
+    @Test
+    void invalidThreadCount() {
+        Network network = createNetwork();
+        Z0LineChecker z0checker = line -> false;
+        assertThrows(IllegalArgumentException.class, () -> new Z0FlowsCompletion(network, z0checker, 0));
+        assertThrows(IllegalArgumentException.class, () -> new LoadFlowResultsCompletionParameters(0.1f, false, 1e-6, 0));
+    }
+
     @BeforeEach
     void setUp() throws IOException {
         fileSystem = Jimfs.newFileSystem(Configuration.unix());
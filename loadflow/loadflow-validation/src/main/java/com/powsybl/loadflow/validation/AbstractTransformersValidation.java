@@ -45,5 +45,9 @@ abstract class AbstractTransformersValidation {
         }
     }
 
-    public abstract boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter);
+    public boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter) {
+        return checkTransformers(network, config, twtsWriter, null);
+    }
+
+    abstract boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter, ValidationStates states);
 }
@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.StaticVarCompensator.RegulationMode;
+import com.powsybl.iidm.network.TwoSides;
+import com.powsybl.iidm.network.util.TwtData;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A {@link ValidationWriter} keeping the written elements in memory, to write them later to another validation writer
+ * in the same order. It allows a thread to check elements without sharing the validation writer of the network.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class BufferedValidationWriter implements ValidationWriter {
+
+    @FunctionalInterface
+    private interface BufferedWrite {
+
+        void writeTo(ValidationWriter writer) throws IOException;
+    }
+
+    private final List<BufferedWrite> writes = new ArrayList<>();
+
+    /**
+     * Write the buffered elements to the given validation writer and clear the buffer.
+     */
+    void writeTo(ValidationWriter writer) throws IOException {
+        Objects.requireNonNull(writer);
+        for (BufferedWrite write : writes) {
+            write.writeTo(writer);
+        }
+        writes.clear();
+    }
+
+    @Override
+    public void write(String branchId, double p1, double p1Calc, double q1, double q1Calc, double p2, double p2Calc, double q2, double q2Calc,
+                      double r, double x, double g1, double g2, double b1, double b2, double rho1, double rho2, double alpha1, double alpha2,
+                      double u1, double u2, double theta1, double theta2, double z, double y, double ksi, int phaseAngleClock, boolean connected1, boolean connected2,
+                      boolean mainComponent1, boolean mainComponent2, boolean validated) {
+        writes.add(writer -> writer.write(branchId, p1, p1Calc, q1, q1Calc, p2, p2Calc, q2, q2Calc, r, x, g1, g2, b1, b2, rho1, rho2, alpha1, alpha2,
+                u1, u2, theta1, theta2, z, y, ksi, phaseAngleClock, connected1, connected2, mainComponent1, mainComponent2, validated));
+    }
+
+    @Override
+    public void write(String generatorId, double p, double q, double v, double targetP, double targetQ, double targetV, double expectedP, boolean connected,
+                      boolean voltageRegulatorOn, double minP, double maxP, double minQ, double maxQ, boolean mainComponent, boolean validated) {
+        writes.add(writer -> writer.write(generatorId, p, q, v, targetP, targetQ, targetV, expectedP, connected, voltageRegulatorOn, minP, maxP,
+                minQ, maxQ, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String busId, double incomingP, double incomingQ, double loadP, double loadQ, double genP, double genQ, double batP, double batQ,
+                      double shuntP, double shuntQ, double svcP, double svcQ, double vscCSP, double vscCSQ, double lineP, double lineQ,
+                      double boundaryLineP, double boundaryLineQ, double twtP, double twtQ, double tltP, double tltQ, boolean mainComponent,
+                      boolean validated) {
+        writes.add(writer -> writer.write(busId, incomingP, incomingQ, loadP, loadQ, genP, genQ, batP, batQ, shuntP, shuntQ, svcP, svcQ,
+                vscCSP, vscCSQ, lineP, lineQ, boundaryLineP, boundaryLineQ, twtP, twtQ, tltP, tltQ, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String svcId, double p, double q, double vControlled, double vController, double nominalVcontroller, double reactivePowerSetpoint, double voltageSetpoint,
+                      boolean connected, RegulationMode regulationMode, boolean regulating, double bMin, double bMax, boolean mainComponent, boolean validated) {
+        writes.add(writer -> writer.write(svcId, p, q, vControlled, vController, nominalVcontroller, reactivePowerSetpoint, voltageSetpoint,
+                connected, regulationMode, regulating, bMin, bMax, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String shuntId, double q, double expectedQ, double p, int currentSectionCount, int maximumSectionCount, double bPerSection,
+                      double v, boolean connected, double qMax, double nominalV, boolean mainComponent, boolean validated) {
+        writes.add(writer -> writer.write(shuntId, q, expectedQ, p, currentSectionCount, maximumSectionCount, bPerSection, v, connected, qMax,
+                nominalV, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String twtId, double error, double upIncrement, double downIncrement, double rho, double rhoPreviousStep, double rhoNextStep,
+                      int tapPosition, int lowTapPosition, int highTapPosition, double targetV, TwoSides regulatedSide, double v, boolean connected,
+                      boolean mainComponent, boolean validated) {
+        writes.add(writer -> writer.write(twtId, error, upIncrement, downIncrement, rho, rhoPreviousStep, rhoNextStep, tapPosition, lowTapPosition,
+                highTapPosition, targetV, regulatedSide, v, connected, mainComponent, validated));
+    }
+
+    @Override
+    public void write(String twtId, TwtData twtData, boolean validated) {
+        writes.add(writer -> writer.write(twtId, twtData, validated));
+    }
+
+    /**
+     * Does nothing: the buffered elements are only a part of the elements of a validation, whose completion is set on
+     * the validation writer they are written to, once all the buffers have been written.
+     */
+    @Override
+    public void setValidationCompleted() {
+        // nothing to do
+    }
+
+    @Override
+    public void close() {
+        writes.clear();
+    }
+}
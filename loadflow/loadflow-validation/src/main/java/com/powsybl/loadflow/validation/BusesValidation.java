@@ -55,16 +55,27 @@ public final class BusesValidation {
     }
 
     public boolean checkBuses(Network network, ValidationConfig config, ValidationWriter busesWriter) {
+        return checkBuses(network, config, busesWriter, null);
+    }
+
+    boolean checkBuses(Network network, ValidationConfig config, ValidationWriter busesWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(busesWriter);
         LOGGER.info("Checking buses of network {}", network.getId());
-        return network.getBusView()
-                      .getBusStream()
-                      .sorted(Comparator.comparing(Bus::getId))
-                      .map(bus -> checkBuses(bus, config, busesWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+        return new ElementsValidation(ValidationType.BUSES, config, states).check(network,
+                network.getBusView().getBusStream().sorted(Comparator.comparing(Bus::getId)).toList(),
+                (bus, writer) -> checkBuses(bus, config, writer),
+                BusesValidation::getState,
+                busesWriter);
+    }
+
+    private static double[] getState(Bus bus) {
+        ElementsValidation.StateBuilder state = new ElementsValidation.StateBuilder()
+                .add(bus.isInMainConnectedComponent())
+                .add(bus.getConnectedTerminalCount());
+        bus.getConnectedTerminalStream().forEach(terminal -> state.add(terminal.getP()).add(terminal.getQ()));
+        return state.build();
     }
 
     public boolean checkBuses(Bus bus, ValidationConfig config, Writer writer) {
@@ -0,0 +1,217 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.commons.PowsyblException;
+import com.powsybl.iidm.network.Bus;
+import com.powsybl.iidm.network.Identifiable;
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.Terminal;
+import com.powsybl.iidm.network.VariantManager;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Check the elements of a network of a given validation type.
+ *
+ * <p>If the thread count of the {@link ValidationConfig} is greater than 1, the elements are split in consecutive
+ * chunks checked in parallel, each one into its own {@link BufferedValidationWriter}. The buffers are then written to
+ * the validation writer in the order of the chunks, so that the output is the same as with a sequential validation.
+ *
+ * <p>If {@link ValidationStates} are given, only the elements whose state changed since the previous validation are
+ * checked and written.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class ElementsValidation {
+
+    @FunctionalInterface
+    interface ElementCheck<T> {
+
+        boolean check(T element, ValidationWriter writer);
+    }
+
+    /**
+     * Builder of the state of an element, as an array of values.
+     */
+    static final class StateBuilder {
+
+        private double[] values = new double[16];
+
+        private int size = 0;
+
+        StateBuilder add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+            return this;
+        }
+
+        StateBuilder add(boolean value) {
+            return add(value ? 1 : 0);
+        }
+
+        /**
+         * Add the flows of the terminal, and the voltage and the connectivity of its bus.
+         */
+        StateBuilder add(Terminal terminal) {
+            add(terminal.getP()).add(terminal.getQ());
+            Bus bus = terminal.getBusView().getBus();
+            if (bus != null) {
+                return add(bus.getV()).add(bus.getAngle()).add(true).add(bus.isInMainConnectedComponent());
+            }
+            Bus connectableBus = terminal.getBusView().getConnectableBus();
+            return add(Double.NaN).add(Double.NaN).add(false).add(connectableBus != null && connectableBus.isInMainConnectedComponent());
+        }
+
+        double[] build() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private final ValidationType type;
+
+    private final ValidationConfig config;
+
+    private final ValidationStates states;
+
+    private final Map<String, ValidationStates.ElementState> previousStates;
+
+    private final Map<String, ValidationStates.ElementState> newStates = new HashMap<>();
+
+    ElementsValidation(ValidationType type, ValidationConfig config, ValidationStates states) {
+        this.type = Objects.requireNonNull(type);
+        this.config = Objects.requireNonNull(config);
+        this.states = states;
+        previousStates = states != null ? states.getStates(type, config) : null;
+    }
+
+    /**
+     * Check the given sorted elements. It can be called several times to check several kinds of elements of the
+     * validation type.
+     *
+     * @param network the network of the elements
+     * @param elements the elements, in the order they are written
+     * @param check the check of an element
+     * @param state the state of an element, only used by an incremental validation
+     * @param writer the validation writer
+     * @return true if all the elements are validated
+     */
+    <T extends Identifiable<?>> boolean check(Network network, List<T> elements, ElementCheck<T> check, Function<T, double[]> state,
+                                              ValidationWriter writer) {
+        Objects.requireNonNull(network);
+        Objects.requireNonNull(elements);
+        Objects.requireNonNull(check);
+        Objects.requireNonNull(state);
+        Objects.requireNonNull(writer);
+        ValidationStates.ElementState[] elementStates = states != null ? new ValidationStates.ElementState[elements.size()] : null;
+        ChunkCheck chunkCheck = (from, to, chunkWriter) -> {
+            boolean validated = true;
+            for (int i = from; i < to; i++) {
+                T element = elements.get(i);
+                if (elementStates == null) {
+                    validated &= check.check(element, chunkWriter);
+                } else {
+                    elementStates[i] = checkIfChanged(element, check, state, chunkWriter);
+                    validated &= elementStates[i].validated();
+                }
+            }
+            return validated;
+        };
+
+        int threadCount = Math.min(config.getThreadCount(), elements.size());
+        boolean validated = threadCount > 1
+                ? checkInParallel(network, elements.size(), threadCount, chunkCheck, writer)
+                : chunkCheck.check(0, elements.size(), writer);
+
+        if (elementStates != null) {
+            for (int i = 0; i < elements.size(); i++) {
+                newStates.put(elements.get(i).getId(), elementStates[i]);
+            }
+            states.setStates(type, config, newStates);
+        }
+        return validated;
+    }
+
+    private <T extends Identifiable<?>> ValidationStates.ElementState checkIfChanged(T element, ElementCheck<T> check, Function<T, double[]> state,
+                                                                                      ValidationWriter writer) {
+        double[] values = state.apply(element);
+        ValidationStates.ElementState previousState = previousStates.get(element.getId());
+        if (previousState != null && Arrays.equals(previousState.values(), values)) {
+            return previousState;
+        }
+        return new ValidationStates.ElementState(values, check.check(element, writer));
+    }
+
+    @FunctionalInterface
+    private interface ChunkCheck {
+
+        boolean check(int from, int to, ValidationWriter writer);
+    }
+
+    private static boolean checkInParallel(Network network, int elementCount, int threadCount, ChunkCheck chunkCheck, ValidationWriter writer) {
+        // bus views and connected components are computed on first access, which is not thread-safe
+        network.getBusView().getBuses().forEach(Bus::isInMainConnectedComponent);
+
+        VariantManager variantManager = network.getVariantManager();
+        String variantId = variantManager.getWorkingVariantId();
+        int chunkSize = (elementCount + threadCount - 1) / threadCount;
+        List<Future<Boolean>> futures = new ArrayList<>(threadCount);
+        List<BufferedValidationWriter> buffers = new ArrayList<>(threadCount);
+        try (ExecutorService executor = Executors.newFixedThreadPool(threadCount)) {
+            for (int from = 0; from < elementCount; from += chunkSize) {
+                int chunkFrom = from;
+                int chunkTo = Math.min(from + chunkSize, elementCount);
+                BufferedValidationWriter buffer = new BufferedValidationWriter();
+                buffers.add(buffer);
+                futures.add(executor.submit(() -> {
+                    if (variantManager.isVariantMultiThreadAccessAllowed()) {
+                        variantManager.setWorkingVariant(variantId);
+                    }
+                    return chunkCheck.check(chunkFrom, chunkTo, buffer);
+                }));
+            }
+            boolean validated = true;
+            for (int i = 0; i < futures.size(); i++) {
+                validated &= getResult(futures.get(i));
+                buffers.get(i).writeTo(writer);
+            }
+            return validated;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static boolean getResult(Future<Boolean> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PowsyblException(e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new PowsyblException(e.getCause());
+        }
+    }
+}
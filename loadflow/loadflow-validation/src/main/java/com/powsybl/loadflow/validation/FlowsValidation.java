@@ -205,27 +205,44 @@ public final class FlowsValidation {
     }
 
     public boolean checkFlows(Network network, ValidationConfig config, ValidationWriter flowsWriter) {
+        return checkFlows(network, config, flowsWriter, null);
+    }
+
+    boolean checkFlows(Network network, ValidationConfig config, ValidationWriter flowsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(flowsWriter);
         LOGGER.info("Checking flows of network {}", network.getId());
 
-        boolean linesValidated = network.getLineStream()
-                .sorted(Comparator.comparing(Line::getId))
-                .map(l -> checkFlows(l, config, flowsWriter))
-                .reduce(Boolean::logicalAnd).orElse(true);
-
-        boolean transformersValidated = network.getTwoWindingsTransformerStream()
-                .sorted(Comparator.comparing(TwoWindingsTransformer::getId))
-                .map(t -> checkFlows(t, config, flowsWriter))
-                .reduce(Boolean::logicalAnd).orElse(true);
-
-        boolean tieLinesValidated = network.getTieLineStream()
-            .sorted(Comparator.comparing(TieLine::getId))
-            .map(tl -> checkFlows(tl, config, flowsWriter))
-            .reduce(Boolean::logicalAnd).orElse(true);
+        ElementsValidation validation = new ElementsValidation(ValidationType.FLOWS, config, states);
+        boolean linesValidated = validation.check(network,
+                network.getLineStream().sorted(Comparator.comparing(Line::getId)).toList(),
+                (l, writer) -> checkFlows(l, config, writer),
+                l -> new ElementsValidation.StateBuilder().add(l.getTerminal1()).add(l.getTerminal2()).build(),
+                flowsWriter);
+
+        boolean transformersValidated = validation.check(network,
+                network.getTwoWindingsTransformerStream().sorted(Comparator.comparing(TwoWindingsTransformer::getId)).toList(),
+                (t, writer) -> checkFlows(t, config, writer),
+                FlowsValidation::getState,
+                flowsWriter);
+
+        boolean tieLinesValidated = validation.check(network,
+                network.getTieLineStream().sorted(Comparator.comparing(TieLine::getId)).toList(),
+                (tl, writer) -> checkFlows(tl, config, writer),
+                tl -> new ElementsValidation.StateBuilder().add(tl.getBoundaryLine1().getTerminal()).add(tl.getBoundaryLine2().getTerminal()).build(),
+                flowsWriter);
 
         return linesValidated && transformersValidated && tieLinesValidated;
     }
 
+    private static double[] getState(TwoWindingsTransformer twt) {
+        ElementsValidation.StateBuilder state = new ElementsValidation.StateBuilder()
+                .add(twt.getTerminal1())
+                .add(twt.getTerminal2());
+        twt.getOptionalRatioTapChanger().ifPresent(rtc -> state.add(rtc.getTapPosition()));
+        twt.getOptionalPhaseTapChanger().ifPresent(ptc -> state.add(ptc.getTapPosition()));
+        return state.build();
+    }
+
 }
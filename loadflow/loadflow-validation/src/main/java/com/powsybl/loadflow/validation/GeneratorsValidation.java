@@ -57,17 +57,37 @@ public final class GeneratorsValidation {
     }
 
     public boolean checkGenerators(Network network, ValidationConfig config, ValidationWriter generatorsWriter) {
+        return checkGenerators(network, config, generatorsWriter, null);
+    }
+
+    boolean checkGenerators(Network network, ValidationConfig config, ValidationWriter generatorsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(generatorsWriter);
         LOGGER.info("Checking generators of network {}", network.getId());
         BalanceTypeGuesser guesser = new BalanceTypeGuesser(network, config.getThreshold());
         LOGGER.info("Using {} balance type", guesser.getBalanceType());
-        return network.getGeneratorStream()
-                      .sorted(Comparator.comparing(Generator::getId))
-                      .map(gen -> checkGenerators(gen, config, generatorsWriter, guesser))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+        return new ElementsValidation(ValidationType.GENERATORS, config, states).check(network,
+                network.getGeneratorStream().sorted(Comparator.comparing(Generator::getId)).toList(),
+                (gen, writer) -> checkGenerators(gen, config, writer, guesser),
+                gen -> getState(gen, guesser),
+                generatorsWriter);
+    }
+
+    private static double[] getState(Generator gen, BalanceTypeGuesser guesser) {
+        // the expected active power of a generator depends on the balance of all the generators
+        return new ElementsValidation.StateBuilder()
+                .add(gen.getTerminal())
+                .add(gen.getTargetP())
+                .add(gen.getTargetQ())
+                .add(gen.getTargetV())
+                .add(gen.isVoltageRegulatorOn())
+                .add(guesser.getBalanceType().ordinal())
+                .add(guesser.getKMax())
+                .add(guesser.getKTarget())
+                .add(guesser.getKHeadroom())
+                .add(gen.getId().equals(guesser.getSlack()))
+                .build();
     }
 
     public boolean checkGenerators(Generator gen, ValidationConfig config, Writer writer) {
@@ -56,15 +56,19 @@ public final class ShuntCompensatorsValidation {
     }
 
     public boolean checkShunts(Network network, ValidationConfig config, ValidationWriter shuntsWriter) {
+        return checkShunts(network, config, shuntsWriter, null);
+    }
+
+    boolean checkShunts(Network network, ValidationConfig config, ValidationWriter shuntsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(shuntsWriter);
         LOGGER.info("Checking shunt compensators of network {}", network.getId());
-        return network.getShuntCompensatorStream()
-                .sorted(Comparator.comparing(ShuntCompensator::getId))
-                .map(shunt -> checkShunts(shunt, config, shuntsWriter))
-                .reduce(Boolean::logicalAnd)
-                .orElse(true);
+        return new ElementsValidation(ValidationType.SHUNTS, config, states).check(network,
+                network.getShuntCompensatorStream().sorted(Comparator.comparing(ShuntCompensator::getId)).toList(),
+                (shunt, writer) -> checkShunts(shunt, config, writer),
+                shunt -> new ElementsValidation.StateBuilder().add(shunt.getTerminal()).add(shunt.getSectionCount()).build(),
+                shuntsWriter);
     }
 
     public boolean checkShunts(ShuntCompensator shunt, ValidationConfig config, Writer writer) {
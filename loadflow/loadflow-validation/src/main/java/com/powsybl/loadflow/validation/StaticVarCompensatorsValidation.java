@@ -58,15 +58,32 @@ public final class StaticVarCompensatorsValidation {
     }
 
     public boolean checkSVCs(Network network, ValidationConfig config, ValidationWriter svcsWriter) {
+        return checkSVCs(network, config, svcsWriter, null);
+    }
+
+    boolean checkSVCs(Network network, ValidationConfig config, ValidationWriter svcsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(svcsWriter);
         LOGGER.info("Checking static var compensators of network {}", network.getId());
-        return network.getStaticVarCompensatorStream()
-                      .sorted(Comparator.comparing(StaticVarCompensator::getId))
-                      .map(svc -> checkSVCs(svc, config, svcsWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+        return new ElementsValidation(ValidationType.SVCS, config, states).check(network,
+                network.getStaticVarCompensatorStream().sorted(Comparator.comparing(StaticVarCompensator::getId)).toList(),
+                (svc, writer) -> checkSVCs(svc, config, writer),
+                StaticVarCompensatorsValidation::getState,
+                svcsWriter);
+    }
+
+    private static double[] getState(StaticVarCompensator svc) {
+        ElementsValidation.StateBuilder state = new ElementsValidation.StateBuilder()
+                .add(svc.getTerminal())
+                .add(svc.getReactivePowerSetpoint())
+                .add(svc.getVoltageSetpoint())
+                .add(svc.getRegulationMode() != null ? svc.getRegulationMode().ordinal() : -1)
+                .add(svc.isRegulating());
+        if (svc.getRegulatingTerminal() != null) {
+            state.add(svc.getRegulatingTerminal());
+        }
+        return state.build();
     }
 
     public boolean checkSVCs(StaticVarCompensator svc, ValidationConfig config, Writer writer) {
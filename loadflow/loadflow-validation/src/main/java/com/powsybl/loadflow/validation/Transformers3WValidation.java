@@ -36,17 +36,27 @@ public final class Transformers3WValidation extends AbstractTransformersValidati
     }
 
     @Override
-    public boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter) {
+    boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(twtsWriter);
 
         LOGGER.info("Checking 3W transformers of network {}", network.getId());
-        return network.getThreeWindingsTransformerStream()
-                .sorted(Comparator.comparing(ThreeWindingsTransformer::getId))
-                .map(twt -> checkTransformer(twt, config, twtsWriter))
-                .reduce(Boolean::logicalAnd)
-                .orElse(true);
+        return new ElementsValidation(ValidationType.TWTS3W, config, states).check(network,
+                network.getThreeWindingsTransformerStream().sorted(Comparator.comparing(ThreeWindingsTransformer::getId)).toList(),
+                (twt, writer) -> checkTransformer(twt, config, writer),
+                Transformers3WValidation::getState,
+                twtsWriter);
+    }
+
+    private static double[] getState(ThreeWindingsTransformer twt) {
+        ElementsValidation.StateBuilder state = new ElementsValidation.StateBuilder();
+        for (ThreeWindingsTransformer.Leg leg : twt.getLegs()) {
+            state.add(leg.getTerminal());
+            leg.getOptionalRatioTapChanger().ifPresent(rtc -> state.add(rtc.getTapPosition()));
+            leg.getOptionalPhaseTapChanger().ifPresent(ptc -> state.add(ptc.getTapPosition()));
+        }
+        return state.build();
     }
 
     public boolean checkTransformer(ThreeWindingsTransformer twt, ValidationConfig config, Writer writer) {
@@ -36,17 +36,30 @@ public final class TransformersValidation extends AbstractTransformersValidation
     }
 
     @Override
-    public boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter) {
+    boolean checkTransformers(Network network, ValidationConfig config, ValidationWriter twtsWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(twtsWriter);
         LOGGER.info("Checking transformers of network {}", network.getId());
-        return network.getTwoWindingsTransformerStream()
-                      .filter(TransformersValidation::filterTwt)
-                      .sorted(Comparator.comparing(TwoWindingsTransformer::getId))
-                      .map(twt -> checkTransformer(twt, config, twtsWriter))
-                      .reduce(Boolean::logicalAnd)
-                      .orElse(true);
+        return new ElementsValidation(ValidationType.TWTS, config, states).check(network,
+                network.getTwoWindingsTransformerStream()
+                        .filter(TransformersValidation::filterTwt)
+                        .sorted(Comparator.comparing(TwoWindingsTransformer::getId))
+                        .toList(),
+                (twt, writer) -> checkTransformer(twt, config, writer),
+                TransformersValidation::getState,
+                twtsWriter);
+    }
+
+    private static double[] getState(TwoWindingsTransformer twt) {
+        RatioTapChanger ratioTapChanger = twt.getRatioTapChanger();
+        ElementsValidation.StateBuilder state = new ElementsValidation.StateBuilder()
+                .add(ratioTapChanger.getTapPosition())
+                .add(ratioTapChanger.getTargetV());
+        if (ratioTapChanger.getRegulationTerminal() != null) {
+            state.add(ratioTapChanger.getRegulationTerminal());
+        }
+        return state.build();
     }
 
     private static boolean filterTwt(TwoWindingsTransformer twt) {
@@ -33,6 +33,7 @@ public class ValidationConfig {
     public static final boolean COMPARE_RESULTS_DEFAULT = false;
     public static final boolean CHECK_MAIN_COMPONENT_ONLY_DEFAULT = true;
     public static final boolean NO_REQUIREMENT_IF_SETPOINT_OUTSIDE_POWERS_BOUNDS = false;
+    public static final int THREAD_COUNT_DEFAULT = 1;
 
     private double threshold;
     private boolean verbose;
@@ -47,6 +48,7 @@ public class ValidationConfig {
     private boolean compareResults;
     private boolean checkMainComponentOnly;
     private boolean noRequirementIfSetpointOutsidePowerBounds;
+    private int threadCount = THREAD_COUNT_DEFAULT;
 
     public static ValidationConfig load() {
         return load(PlatformConfig.defaultConfig());
@@ -71,9 +73,13 @@ public class ValidationConfig {
         boolean checkMainComponentOnly = config.flatMap(c -> c.getOptionalBooleanProperty("check-main-component-only")).orElse(CHECK_MAIN_COMPONENT_ONLY_DEFAULT);
         boolean noRequirementIfSetpointOutsidePowerBounds = config.flatMap(c -> c.getOptionalBooleanProperty("no-requirement-if-setpoint-outside-power-bounds"))
             .orElse(NO_REQUIREMENT_IF_SETPOINT_OUTSIDE_POWERS_BOUNDS);
+        int threadCount = config.map(c -> c.getOptionalIntProperty("thread-count").orElse(THREAD_COUNT_DEFAULT)).orElse(THREAD_COUNT_DEFAULT);
 
-        return new ValidationConfig(threshold, verbose, loadFlowName, tableFormatterFactory, epsilonX, applyReactanceCorrection, validationOutputWriter, loadFlowParameter,
-                                    okMissingValues, noRequirementIfReactiveBoundInversion, compareResults, checkMainComponentOnly, noRequirementIfSetpointOutsidePowerBounds);
+        ValidationConfig validationConfig = new ValidationConfig(threshold, verbose, loadFlowName, tableFormatterFactory, epsilonX, applyReactanceCorrection,
+                                                                 validationOutputWriter, loadFlowParameter, okMissingValues, noRequirementIfReactiveBoundInversion,
+                                                                 compareResults, checkMainComponentOnly, noRequirementIfSetpointOutsidePowerBounds);
+        validationConfig.setThreadCount(threadCount);
+        return validationConfig;
     }
 
     public ValidationConfig(double threshold, boolean verbose, String loadFlowName,
@@ -154,6 +160,13 @@ public class ValidationConfig {
         return noRequirementIfSetpointOutsidePowerBounds;
     }
 
+    /**
+     * Maximum number of threads checking the elements of a network, 1 to check them sequentially.
+     */
+    public int getThreadCount() {
+        return threadCount;
+    }
+
     public void setThreshold(double threshold) {
         this.threshold = threshold;
     }
@@ -206,6 +219,13 @@ public class ValidationConfig {
         this.noRequirementIfSetpointOutsidePowerBounds = noRequirementIfSetpointOutsidePowerBounds;
     }
 
+    public void setThreadCount(int threadCount) {
+        if (threadCount < 1) {
+            throw new IllegalArgumentException("Thread count should be at least 1");
+        }
+        this.threadCount = threadCount;
+    }
+
     @Override
     public String toString() {
         return getClass().getSimpleName() + " [" +
@@ -222,6 +242,7 @@ public class ValidationConfig {
                 ", compareResults=" + compareResults +
                 ", checkMainComponentOnly=" + checkMainComponentOnly +
                 ", noRequirementIfSetpointOutsidePowerBounds=" + noRequirementIfSetpointOutsidePowerBounds +
+                ", threadCount=" + threadCount +
                 "]";
     }
 
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.validation;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * States of the elements checked by the previous validations, for an incremental validation of several variants of a
+ * network, for instance the hourly load flow results of a day.
+ *
+ * <p>The state of an element is made of the values of the current variant it is checked with: flows and voltages of
+ * its terminals, tap positions, set points... When a network is validated with states, only the elements whose state
+ * changed since the previous validation of the same type are checked again and written to the validation writer. The
+ * result of the other elements is the one of the previous validation. The states should therefore always be used with
+ * the same network.
+ *
+ * <p>The states of a validation type are bound to the {@link ValidationConfig} values they were computed with (threshold,
+ * epsilon X, reactance correction, requirement options...). When a validation of this type is run with a config whose
+ * values differ, the states of the type are cleared and all its elements are checked again.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class ValidationStates {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ValidationStates.class);
+
+    record ElementState(double[] values, boolean validated) {
+    }
+
+    /**
+     * The values of a {@link ValidationConfig} which change the result of the check of an element.
+     */
+    private record ConfigState(double threshold, double epsilonX, boolean applyReactanceCorrection, boolean okMissingValues,
+                               boolean noRequirementIfReactiveBoundInversion, boolean noRequirementIfSetpointOutsidePowerBounds,
+                               boolean checkMainComponentOnly, boolean twtSplitShuntAdmittance) {
+
+        private static ConfigState of(ValidationConfig config) {
+            return new ConfigState(config.getThreshold(), config.getEpsilonX(), config.applyReactanceCorrection(), config.areOkMissingValues(),
+                    config.isNoRequirementIfReactiveBoundInversion(), config.isNoRequirementIfSetpointOutsidePowerBounds(),
+                    config.isCheckMainComponentOnly(), config.getLoadFlowParameters().isTwtSplitShuntAdmittance());
+        }
+    }
+
+    private final Map<ValidationType, Map<String, ElementState>> statesByType = new EnumMap<>(ValidationType.class);
+
+    private final Map<ValidationType, ConfigState> configsByType = new EnumMap<>(ValidationType.class);
+
+    /**
+     * Get the states of the elements of the given type, or no state if they were computed with other config values.
+     */
+    Map<String, ElementState> getStates(ValidationType type, ValidationConfig config) {
+        Objects.requireNonNull(type);
+        ConfigState configState = configsByType.get(type);
+        if (configState != null && !configState.equals(ConfigState.of(config))) {
+            LOGGER.debug("Validation config changed since the previous {} validation, all the elements are checked again", type);
+            statesByType.remove(type);
+            configsByType.remove(type);
+        }
+        return statesByType.getOrDefault(type, Collections.emptyMap());
+    }
+
+    void setStates(ValidationType type, ValidationConfig config, Map<String, ElementState> states) {
+        statesByType.put(Objects.requireNonNull(type), Objects.requireNonNull(states));
+        configsByType.put(type, ConfigState.of(config));
+    }
+
+    /**
+     * Get the number of elements of the given type whose state is known.
+     */
+    public int getElementCount(ValidationType type) {
+        return statesByType.getOrDefault(Objects.requireNonNull(type), Collections.emptyMap()).size();
+    }
+
+    /**
+     * Forget the states of the elements, so that all the elements are checked by the next validation.
+     */
+    public void clear() {
+        statesByType.clear();
+        configsByType.clear();
+    }
+}
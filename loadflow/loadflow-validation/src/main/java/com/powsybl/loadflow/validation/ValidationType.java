@@ -60,24 +60,33 @@ public enum ValidationType {
     }
 
     public boolean check(Network network, ValidationConfig config, ValidationWriter validationWriter) {
+        return check(network, config, validationWriter, null);
+    }
+
+    /**
+     * Check the network with the given validation writer. If states are given, the validation is incremental: only
+     * the elements whose state changed since the previous validation are checked and written, and the states are
+     * updated.
+     */
+    public boolean check(Network network, ValidationConfig config, ValidationWriter validationWriter, ValidationStates states) {
         Objects.requireNonNull(network);
         Objects.requireNonNull(config);
         Objects.requireNonNull(validationWriter);
         switch (this) {
             case FLOWS:
-                return FlowsValidation.INSTANCE.checkFlows(network, config, validationWriter);
+                return FlowsValidation.INSTANCE.checkFlows(network, config, validationWriter, states);
             case GENERATORS:
-                return GeneratorsValidation.INSTANCE.checkGenerators(network, config, validationWriter);
+                return GeneratorsValidation.INSTANCE.checkGenerators(network, config, validationWriter, states);
             case BUSES:
-                return BusesValidation.INSTANCE.checkBuses(network, config, validationWriter);
+                return BusesValidation.INSTANCE.checkBuses(network, config, validationWriter, states);
             case SVCS:
-                return StaticVarCompensatorsValidation.INSTANCE.checkSVCs(network, config, validationWriter);
+                return StaticVarCompensatorsValidation.INSTANCE.checkSVCs(network, config, validationWriter, states);
             case SHUNTS:
-                return ShuntCompensatorsValidation.INSTANCE.checkShunts(network, config, validationWriter);
+                return ShuntCompensatorsValidation.INSTANCE.checkShunts(network, config, validationWriter, states);
             case TWTS:
-                return TransformersValidation.INSTANCE.checkTransformers(network, config, validationWriter);
+                return TransformersValidation.INSTANCE.checkTransformers(network, config, validationWriter, states);
             case TWTS3W:
-                return Transformers3WValidation.INSTANCE.checkTransformers(network, config, validationWriter);
+                return Transformers3WValidation.INSTANCE.checkTransformers(network, config, validationWriter, states);
             default:
                 throw new IllegalStateException(UNEXPECTED_VALIDATION_TYPE_VALUE + this);
         }
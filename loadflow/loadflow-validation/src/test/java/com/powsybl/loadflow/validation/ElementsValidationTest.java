@@ -0,0 +1,111 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.loadflow.validation;
+
+import com.powsybl.iidm.network.Network;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.iidm.network.test.ThreeWindingsTransformerNetworkFactory;
+import com.powsybl.loadflow.validation.io.ValidationWriter;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class ElementsValidationTest extends AbstractValidationTest {
+
+    private static String check(Network network, ValidationType type, ValidationConfig config, ValidationStates states) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (ValidationWriter validationWriter = ValidationUtils.createValidationWriter(network.getId(), config, writer, type)) {
+            type.check(network, config, validationWriter, states);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    void testParallelValidation() throws IOException {
+        for (Network network : new Network[] {EurostagTutorialExample1Factory.createWithLFResults(), ThreeWindingsTransformerNetworkFactory.create()}) {
+            for (ValidationType type : ValidationType.values()) {
+                looseConfig.setThreadCount(1);
+                String expected = check(network, type, looseConfig, null);
+                looseConfig.setThreadCount(4);
+                assertEquals(expected, check(network, type, looseConfig, null), () -> "type " + type);
+            }
+        }
+    }
+
+    @Test
+    void testIncrementalValidation() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ValidationStates states = new ValidationStates();
+        String flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertEquals(check(network, ValidationType.FLOWS, looseConfig, null), flows);
+        assertTrue(flows.contains("NHV1_NHV2_1"));
+        assertTrue(flows.contains("NHV1_NHV2_2"));
+        assertEquals(4, states.getElementCount(ValidationType.FLOWS));
+        assertEquals(0, states.getElementCount(ValidationType.BUSES));
+
+        // nothing changed, no element is checked again
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertFalse(flows.contains("NHV1_NHV2_1"));
+        assertFalse(flows.contains("NHV1_NHV2_2"));
+
+        // only the line whose flow changed is checked again, in parallel or not
+        network.getLine("NHV1_NHV2_1").getTerminal1().setP(310);
+        looseConfig.setThreadCount(4);
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertTrue(flows.contains("NHV1_NHV2_1"));
+        assertFalse(flows.contains("NHV1_NHV2_2"));
+        assertFalse(flows.contains("NGEN_NHV1"));
+        assertEquals(4, states.getElementCount(ValidationType.FLOWS));
+
+        states.clear();
+        assertEquals(0, states.getElementCount(ValidationType.FLOWS));
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertTrue(flows.contains("NHV1_NHV2_2"));
+    }
+
+    @Test
+    void testIncrementalValidationWithConfigChange() throws IOException {
+        Network network = EurostagTutorialExample1Factory.createWithLFResults();
+        ValidationStates states = new ValidationStates();
+        check(network, ValidationType.FLOWS, looseConfig, states);
+        String flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertFalse(flows.contains("NHV1_NHV2_1"));
+
+        // the thread count does not change the result of a check, the states are kept
+        looseConfig.setThreadCount(4);
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertFalse(flows.contains("NHV1_NHV2_1"));
+
+        // the states were computed with another threshold, all the elements are checked again
+        looseConfig.setThreshold(looseConfig.getThreshold() / 10);
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertEquals(check(network, ValidationType.FLOWS, looseConfig, null), flows);
+        assertTrue(flows.contains("NHV1_NHV2_1"));
+        assertTrue(flows.contains("NGEN_NHV1"));
+        assertEquals(4, states.getElementCount(ValidationType.FLOWS));
+
+        // as well as with another load flow parameter used by the checks
+        looseConfig.getLoadFlowParameters().setTwtSplitShuntAdmittance(!looseConfig.getLoadFlowParameters().isTwtSplitShuntAdmittance());
+        flows = check(network, ValidationType.FLOWS, looseConfig, states);
+        assertTrue(flows.contains("NHV1_NHV2_2"));
+    }
+
+    @Test
+    void testBufferedWriterCompletion() throws IOException {
+        // the completion of a buffered validation is set on the writer the buffer is written to
+        try (BufferedValidationWriter writer = new BufferedValidationWriter()) {
+            assertDoesNotThrow(writer::setValidationCompleted);
+        }
+    }
+}
@@ -117,6 +117,19 @@ class ValidationConfigTest {
                     noRequirementIfReactiveBoundInversion, compareResults, checkMainComponentOnly, noRequirementIfSetpointOutsidePowerBounds);
     }
 
+    @Test
+    void checkThreadCount() {
+        assertEquals(ValidationConfig.THREAD_COUNT_DEFAULT, ValidationConfig.load(platformConfig).getThreadCount());
+
+        MapModuleConfig moduleConfig = platformConfig.createModuleConfig("loadflow-validation");
+        moduleConfig.setStringProperty("thread-count", "4");
+        ValidationConfig config = ValidationConfig.load(platformConfig);
+        assertEquals(4, config.getThreadCount());
+        config.setThreadCount(2);
+        assertEquals(2, config.getThreadCount());
+        assertThrows(IllegalArgumentException.class, () -> config.setThreadCount(0));
+    }
+
     private void checkValues(ValidationConfig config, double threshold, boolean verbose, String loadFlowName,
                              Class<? extends TableFormatterFactory> tableFormatterFactory, double epsilonX, boolean applyReactanceCorrection,
                              ValidationOutputWriter validationOutputWriter, boolean okMissingValues, boolean noRequirementIfReactiveBoundInversion,
@@ -13,6 +13,8 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 
 /**
+ * Base class of the classes relying on the native math library, which is loaded when this class is initialized.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public abstract class AbstractMathNative {
@@ -22,6 +24,14 @@ public abstract class AbstractMathNative {
     protected AbstractMathNative() {
     }
 
+    /**
+     * Load the native math library, if not already done. Classes which do not extend this class have to call it
+     * before their first native call, so that the library is only loaded when native code is actually used.
+     */
+    public static void loadNativeLibrary() {
+        // the library is loaded by the static initializer of this class
+    }
+
     static {
         try {
             NativeLoader.loadLibrary("math");
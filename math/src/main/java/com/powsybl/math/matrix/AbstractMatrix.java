@@ -7,8 +7,6 @@
  */
 package com.powsybl.math.matrix;
 
-import com.powsybl.math.AbstractMathNative;
-
 import java.util.Objects;
 
 /**
@@ -16,7 +14,7 @@ import java.util.Objects;
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
-public abstract class AbstractMatrix extends AbstractMathNative implements Matrix {
+public abstract class AbstractMatrix implements Matrix {
 
     /**
      * Get value count.
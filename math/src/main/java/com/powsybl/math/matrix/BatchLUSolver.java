@@ -0,0 +1,187 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+
+/**
+ * Solve large batches of sparse right hand sides in parallel.
+ *
+ * <p>As LU decompositions cannot always be shared between threads (the native KLU solve uses the decomposition
+ * workspace), the solver owns a pool of decompositions of the same matrix. Columns of the right hand sides are split in blocks,
+ * which are dispatched in turn to each decomposition, so that each thread only uses its own decomposition and its
+ * own workspace. The workspaces are allocated once, with the decompositions, so a batch does not allocate.
+ *
+ * <p>As the decompositions and the workspaces are reused, a batch solver cannot solve several batches concurrently.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class BatchLUSolver implements AutoCloseable {
+
+    public static final int DEFAULT_BLOCK_SIZE = 64;
+
+    private final int size;
+
+    private final List<LUDecomposition> decompositions;
+
+    private final double[][] workspaces;
+
+    private final int blockSize;
+
+    public BatchLUSolver(Matrix matrix, int decompositionCount) {
+        this(matrix, decompositionCount, DEFAULT_BLOCK_SIZE);
+    }
+
+    /**
+     * @param matrix the matrix to decompose
+     * @param decompositionCount the number of decompositions of the matrix, which is the maximum number of threads used
+     *                           to solve a batch
+     * @param blockSize the number of right hand sides solved in a row by a thread
+     */
+    public BatchLUSolver(Matrix matrix, int decompositionCount, int blockSize) {
+        Objects.requireNonNull(matrix);
+        if (decompositionCount < 1) {
+            throw new MatrixException("Decomposition count has to be strictly positive");
+        }
+        if (blockSize < 1) {
+            throw new MatrixException("Block size has to be strictly positive");
+        }
+        size = matrix.getRowCount();
+        this.blockSize = blockSize;
+        List<LUDecomposition> newDecompositions = new ArrayList<>(decompositionCount);
+        try {
+            for (int i = 0; i < decompositionCount; i++) {
+                newDecompositions.add(matrix.decomposeLU());
+            }
+        } catch (MatrixException e) {
+            newDecompositions.forEach(LUDecomposition::close);
+            throw e;
+        }
+        decompositions = Collections.unmodifiableList(newDecompositions);
+        workspaces = new double[decompositionCount][size];
+    }
+
+    public int getDecompositionCount() {
+        return decompositions.size();
+    }
+
+    public int getBlockSize() {
+        return blockSize;
+    }
+
+    /**
+     * Update all the decompositions of the pool, see {@link LUDecomposition#update(boolean)}.
+     */
+    public void update(boolean allowIncrementalUpdate) {
+        decompositions.forEach(decomposition -> decomposition.update(allowIncrementalUpdate));
+    }
+
+    public void update() {
+        update(true);
+    }
+
+    /**
+     * Solve A * X = B where B is a batch of sparse right hand sides, see
+     * {@link LUDecomposition#solve(SparseMatrix, DenseMatrix, double[])}.
+     *
+     * @param b the right hand sides, one per column
+     * @param x the matrix where the solutions are written
+     */
+    public void solve(SparseMatrix b, DenseMatrix x) {
+        solve(b, x, false);
+    }
+
+    /**
+     * Solve AT * X = B where B is a batch of sparse right hand sides, see
+     * {@link LUDecomposition#solveTransposed(SparseMatrix, DenseMatrix, double[])}.
+     *
+     * @param b the right hand sides, one per column
+     * @param x the matrix where the solutions are written
+     */
+    public void solveTransposed(SparseMatrix b, DenseMatrix x) {
+        solve(b, x, true);
+    }
+
+    private void solve(SparseMatrix b, DenseMatrix x, boolean transposed) {
+        checkDimensions(size, b, x);
+        int blockCount = (b.getColumnCount() + blockSize - 1) / blockSize;
+        int taskCount = Math.min(decompositions.size(), blockCount);
+        IntStream.range(0, taskCount).parallel().forEach(task -> {
+            LUDecomposition decomposition = decompositions.get(task);
+            double[] workspace = workspaces[task];
+            for (int block = task; block < blockCount; block += taskCount) {
+                solveColumns(transposed ? decomposition::solveTransposed : decomposition::solve, b, x, workspace, block * blockSize,
+                        Math.min(b.getColumnCount(), (block + 1) * blockSize));
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        decompositions.forEach(LUDecomposition::close);
+    }
+
+    static void checkDimensions(int size, SparseMatrix b, DenseMatrix x, double[] workspace) {
+        Objects.requireNonNull(workspace);
+        checkDimensions(size, b, x);
+        if (workspace.length != size) {
+            throw new MatrixException("Incorrect workspace size " + workspace.length + ", expected " + size);
+        }
+    }
+
+    private static void checkDimensions(int size, SparseMatrix b, DenseMatrix x) {
+        Objects.requireNonNull(b);
+        Objects.requireNonNull(x);
+        if (b.getRowCount() != size || x.getRowCount() != size) {
+            throw new MatrixException("Incorrect right hand sides row count " + b.getRowCount() + " or solutions row count "
+                    + x.getRowCount() + ", expected " + size);
+        }
+        if (b.getColumnCount() != x.getColumnCount()) {
+            throw new MatrixException("Right hand sides and solutions column counts differ: " + b.getColumnCount()
+                    + " != " + x.getColumnCount());
+        }
+    }
+
+    /**
+     * Solve columns {@code firstColumn} to {@code lastColumn} (excluded) of the sparse right hand sides, using the
+     * workspace to densify each right hand side, which is then solved in place by the column solver. Empty columns are
+     * not solved: the solution is zero.
+     */
+    static void solveColumns(Consumer<double[]> columnSolver, SparseMatrix b, DenseMatrix x, double[] workspace,
+                             int firstColumn, int lastColumn) {
+        int n = workspace.length;
+        DoubleBuffer xBuffer = x.getBuffer().asDoubleBuffer();
+        int[] columnStart = b.getColumnStart();
+        int[] columnValueCount = b.getColumnValueCount();
+        int[] rowIndices = b.getRowIndices();
+        double[] values = b.getValues();
+        for (int c = firstColumn; c < lastColumn; c++) {
+            int first = columnStart[c];
+            int count = first == -1 ? 0 : columnValueCount[c];
+            if (count == 0) {
+                for (int i = 0; i < n; i++) {
+                    xBuffer.put(c * n + i, 0);
+                }
+                continue;
+            }
+            Arrays.fill(workspace, 0);
+            for (int p = first; p < first + count; p++) {
+                workspace[rowIndices[p]] += values[p];
+            }
+            columnSolver.accept(workspace);
+            xBuffer.put(c * n, workspace);
+        }
+    }
+}
@@ -7,20 +7,32 @@
  */
 package com.powsybl.math.matrix;
 
+import java.nio.DoubleBuffer;
 import java.util.Objects;
+import java.util.stream.IntStream;
 
 /**
- * Dense matrix LU decomposition based on Jama library.
+ * Dense matrix LU decomposition with partial pivoting.
+ *
+ * <p>Factors are computed in place in a copy of the matrix buffer (L below the diagonal with a unit diagonal, U on
+ * and above the diagonal) and the right hand sides are solved in place in their own buffer, so no value is copied
+ * to or from an intermediate matrix. As the transposed matrix is also decomposed by P A = L U, the same factors are
+ * used for transposed solves.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 class DenseLUDecomposition implements LUDecomposition {
 
-    private final DenseMatrix matrix;
+    /**
+     * @param lu L and U factors
+     * @param pivots row swapped with row k at step k of the decomposition
+     */
+    private record Factors(DenseMatrix lu, int[] pivots) {
+    }
 
-    private Jama.LUDecomposition decomposition;
+    private final DenseMatrix matrix;
 
-    private Jama.LUDecomposition transposedDecomposition;
+    private volatile Factors factors;
 
     DenseLUDecomposition(DenseMatrix matrix) {
         this.matrix = Objects.requireNonNull(matrix);
@@ -28,66 +40,225 @@ class DenseLUDecomposition implements LUDecomposition {
 
     @Override
     public void update(boolean allowIncrementalUpdate) {
-        decomposition = null;
-        transposedDecomposition = null;
+        factors = null;
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatchError") // It is expected to catch RuntimeException here to convert them into MatrixException
-    @Override
-    public void solve(double[] b) {
-        try {
-            if (decomposition == null) {
-                decomposition = matrix.toJamaMatrix().lu();
+    /**
+     * Decompose the matrix if not already done.
+     *
+     * @throws MatrixException if the matrix is singular
+     */
+    void decompose() {
+        getFactors();
+    }
+
+    /**
+     * Factors are published at once, so that concurrent solves are possible.
+     */
+    private Factors getFactors() {
+        Factors f = factors;
+        if (f == null) {
+            synchronized (this) {
+                f = factors;
+                if (f == null) {
+                    f = computeFactors();
+                    factors = f;
+                }
             }
-            Jama.Matrix x = decomposition.solve(new Jama.Matrix(b, b.length));
-            System.arraycopy(x.getColumnPackedCopy(), 0, b, 0, b.length);
-        } catch (RuntimeException e) {
-            throw new MatrixException(e);
         }
+        return f;
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatchError") // It is expected to catch RuntimeException here to convert them into MatrixException
-    @Override
-    public void solveTransposed(double[] b) {
-        try {
-            if (transposedDecomposition == null) {
-                transposedDecomposition = matrix.toJamaMatrix().transpose().lu();
+    private Factors computeFactors() {
+        int n = matrix.getRowCount();
+        if (matrix.getColumnCount() != n) {
+            throw new MatrixException("matrix is not square");
+        }
+        DenseMatrix newLu = new DenseMatrix(n, n);
+        newLu.copyValuesFrom(matrix);
+        DoubleBuffer a = newLu.getBuffer().asDoubleBuffer();
+        int[] newPivots = new int[n];
+        for (int k = 0; k < n; k++) {
+            int kk = k * n;
+
+            // find pivot
+            int p = k;
+            double max = Math.abs(a.get(kk + k));
+            for (int i = k + 1; i < n; i++) {
+                double abs = Math.abs(a.get(kk + i));
+                if (abs > max) {
+                    max = abs;
+                    p = i;
+                }
+            }
+            newPivots[k] = p;
+            if (max == 0 || Double.isNaN(max)) {
+                throw new MatrixException("Matrix is singular");
+            }
+            if (p != k) {
+                swapRows(a, n, k, p);
+            }
+
+            // compute column k of L
+            double pivot = a.get(kk + k);
+            for (int i = k + 1; i < n; i++) {
+                a.put(kk + i, a.get(kk + i) / pivot);
+            }
+
+            // update trailing sub-matrix, column by column to access contiguous values
+            for (int j = k + 1; j < n; j++) {
+                int jj = j * n;
+                double akj = a.get(jj + k);
+                if (akj != 0) {
+                    for (int i = k + 1; i < n; i++) {
+                        a.put(jj + i, a.get(jj + i) - a.get(kk + i) * akj);
+                    }
+                }
             }
-            Jama.Matrix x = transposedDecomposition.solve(new Jama.Matrix(b, b.length));
-            System.arraycopy(x.getColumnPackedCopy(), 0, b, 0, b.length);
-        } catch (RuntimeException e) {
-            throw new MatrixException(e);
         }
+        return new Factors(newLu, newPivots);
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatchError") // It is expected to catch RuntimeException here to convert them into MatrixException
-    @Override
-    public void solve(DenseMatrix b) {
-        try {
-            if (decomposition == null) {
-                decomposition = matrix.toJamaMatrix().lu();
+    private static void swapRows(DoubleBuffer a, int n, int k, int p) {
+        for (int j = 0; j < n; j++) {
+            int jj = j * n;
+            double tmp = a.get(jj + k);
+            a.put(jj + k, a.get(jj + p));
+            a.put(jj + p, tmp);
+        }
+    }
+
+    private static void swap(DoubleBuffer b, int offset, int i1, int i2) {
+        double tmp = b.get(offset + i1);
+        b.put(offset + i1, b.get(offset + i2));
+        b.put(offset + i2, tmp);
+    }
+
+    private static void solve(Factors factors, DoubleBuffer b, int offset) {
+        DoubleBuffer a = factors.lu().getBuffer().asDoubleBuffer();
+        int[] pivots = factors.pivots();
+        int n = pivots.length;
+        for (int k = 0; k < n; k++) {
+            if (pivots[k] != k) {
+                swap(b, offset, k, pivots[k]);
+            }
+        }
+        // L y = P b
+        for (int k = 0; k < n; k++) {
+            double yk = b.get(offset + k);
+            if (yk != 0) {
+                int kk = k * n;
+                for (int i = k + 1; i < n; i++) {
+                    b.put(offset + i, b.get(offset + i) - a.get(kk + i) * yk);
+                }
+            }
+        }
+        // U x = y
+        for (int k = n - 1; k >= 0; k--) {
+            int kk = k * n;
+            double xk = b.get(offset + k) / a.get(kk + k);
+            b.put(offset + k, xk);
+            if (xk != 0) {
+                for (int i = 0; i < k; i++) {
+                    b.put(offset + i, b.get(offset + i) - a.get(kk + i) * xk);
+                }
+            }
+        }
+    }
+
+    private static void solveTransposed(Factors factors, DoubleBuffer b, int offset) {
+        DoubleBuffer a = factors.lu().getBuffer().asDoubleBuffer();
+        int[] pivots = factors.pivots();
+        int n = pivots.length;
+        // UT y = b
+        for (int k = 0; k < n; k++) {
+            int kk = k * n;
+            double s = b.get(offset + k);
+            for (int i = 0; i < k; i++) {
+                s -= a.get(kk + i) * b.get(offset + i);
+            }
+            b.put(offset + k, s / a.get(kk + k));
+        }
+        // LT z = y
+        for (int k = n - 1; k >= 0; k--) {
+            int kk = k * n;
+            double s = b.get(offset + k);
+            for (int i = k + 1; i < n; i++) {
+                s -= a.get(kk + i) * b.get(offset + i);
+            }
+            b.put(offset + k, s);
+        }
+        // x = PT z
+        for (int k = n - 1; k >= 0; k--) {
+            if (pivots[k] != k) {
+                swap(b, offset, k, pivots[k]);
             }
-            Jama.Matrix x = decomposition.solve(b.toJamaMatrix());
-            b.setValues(x.getColumnPackedCopy());
-        } catch (RuntimeException e) {
-            throw new MatrixException(e);
         }
     }
 
-    @SuppressWarnings("checkstyle:IllegalCatchError") // It is expected to catch RuntimeException here to convert them into MatrixException
     @Override
-    public void solveTransposed(DenseMatrix b) {
-        try {
-            if (transposedDecomposition == null) {
-                transposedDecomposition = matrix.toJamaMatrix().transpose().lu();
+    public int getDimension() {
+        return matrix.getRowCount();
+    }
+
+    private void checkSize(int size) {
+        if (size != matrix.getRowCount()) {
+            throw new MatrixException("Incorrect right hand side size " + size + ", expected " + matrix.getRowCount());
+        }
+    }
+
+    private void solve(DenseMatrix b, boolean transposed) {
+        Objects.requireNonNull(b);
+        Factors f = getFactors();
+        checkSize(b.getRowCount());
+        int n = b.getRowCount();
+        IntStream columns = IntStream.range(0, b.getColumnCount());
+        if ((long) n * n * b.getColumnCount() >= DenseMatrix.PARALLEL_THRESHOLD) {
+            columns = columns.parallel();
+        }
+        columns.forEach(c -> {
+            // each thread uses its own view of the buffer
+            DoubleBuffer buffer = b.getBuffer().asDoubleBuffer();
+            if (transposed) {
+                solveTransposed(f, buffer, c * n);
+            } else {
+                solve(f, buffer, c * n);
             }
-            Jama.Matrix x = transposedDecomposition.solve(b.toJamaMatrix());
-            b.setValues(x.getColumnPackedCopy());
-        } catch (RuntimeException e) {
-            throw new MatrixException(e);
+        });
+    }
+
+    private void solve(double[] b, boolean transposed) {
+        Objects.requireNonNull(b);
+        Factors f = getFactors();
+        checkSize(b.length);
+        DoubleBuffer buffer = DoubleBuffer.wrap(b);
+        if (transposed) {
+            solveTransposed(f, buffer, 0);
+        } else {
+            solve(f, buffer, 0);
         }
     }
 
+    @Override
+    public void solve(double[] b) {
+        solve(b, false);
+    }
+
+    @Override
+    public void solveTransposed(double[] b) {
+        solve(b, true);
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        solve(b, false);
+    }
+
+    @Override
+    public void solveTransposed(DenseMatrix b) {
+        solve(b, true);
+    }
+
     @Override
     public void close() {
         // nothing to close
@@ -17,6 +17,7 @@ import java.nio.ByteOrder;
 import java.util.List;
 import java.util.Objects;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 /**
  * Dense matrix implementation based on an array of {@code rowCount} * {@code columnCount} double values.
@@ -31,6 +32,16 @@ public class DenseMatrix extends AbstractMatrix {
 
     public static final DenseMatrix EMPTY = new DenseMatrix(0, 0);
 
+    /**
+     * Number of multiply-add operations from which matrix products and multiple right hand sides solves are
+     * parallelized.
+     */
+    static final long PARALLEL_THRESHOLD = 1L << 22;
+
+    private static final int BLOCK_SIZE = 64;
+
+    private static final int ROW_BLOCK_SIZE = 512;
+
     /**
      * Dense element implementation.
      * An element in a dense matrix is defined by its row index and column index.
@@ -218,9 +229,7 @@ public class DenseMatrix extends AbstractMatrix {
             throw new MatrixException("Incorrect values array size "
                     + values.length + ", expected " + rowCount * columnCount);
         }
-        for (int i = 0; i < values.length; i++) {
-            buffer.putDouble(i * Double.BYTES, values[i]);
-        }
+        buffer.asDoubleBuffer().put(values);
     }
 
     private double[] getValuesCopy() {
@@ -254,23 +263,52 @@ public class DenseMatrix extends AbstractMatrix {
             throw new MatrixException("Invalid matrices inner dimension");
         }
 
+        double[] a = getValuesCopy();
+        double[] b = other.getValuesCopy();
+        double[] c = new double[rowCount * other.columnCount];
+        int columnBlockCount = (other.columnCount + BLOCK_SIZE - 1) / BLOCK_SIZE;
+        IntStream columnBlocks = IntStream.range(0, columnBlockCount);
+        if ((long) rowCount * columnCount * other.columnCount >= PARALLEL_THRESHOLD) {
+            columnBlocks = columnBlocks.parallel();
+        }
+        columnBlocks.forEach(block -> multiply(a, b, c, rowCount, columnCount, block * BLOCK_SIZE,
+                Math.min(other.columnCount, (block + 1) * BLOCK_SIZE), scalar));
+
         DenseMatrix result = new DenseMatrix(rowCount, other.columnCount);
+        result.buffer.asDoubleBuffer().put(c);
+        return result;
+    }
 
-        double[] otherColumnJ = new double[columnCount];
-        for (int j = 0; j < other.columnCount; j++) {
-            for (int k = 0; k < columnCount; k++) {
-                otherColumnJ[k] = other.getUnsafe(k, j);
-            }
-            for (int i = 0; i < rowCount; i++) {
-                double s = 0;
-                for (int k = 0; k < columnCount; k++) {
-                    s += getUnsafe(i, k) * otherColumnJ[k];
+    /**
+     * Compute columns {@code firstColumn} to {@code lastColumn} (excluded) of c = scalar * a * b, all the matrices
+     * being stored in column-major order. The loops are blocked on rows and inner dimension so that the accessed
+     * parts of a and c stay in cache, and each value of c is accumulated in the inner dimension order, so that the
+     * result does not depend on the blocking nor on the parallelism.
+     */
+    private static void multiply(double[] a, double[] b, double[] c, int m, int l, int firstColumn, int lastColumn, double scalar) {
+        for (int i0 = 0; i0 < m; i0 += ROW_BLOCK_SIZE) {
+            int i1 = Math.min(m, i0 + ROW_BLOCK_SIZE);
+            for (int k0 = 0; k0 < l; k0 += BLOCK_SIZE) {
+                int k1 = Math.min(l, k0 + BLOCK_SIZE);
+                for (int j = firstColumn; j < lastColumn; j++) {
+                    int cj = j * m;
+                    int bj = j * l;
+                    for (int k = k0; k < k1; k++) {
+                        double bkj = b[bj + k];
+                        int ak = k * m;
+                        for (int i = i0; i < i1; i++) {
+                            c[cj + i] += a[ak + i] * bkj;
+                        }
+                    }
                 }
-                result.setUnsafe(i, j, s * scalar);
             }
         }
-
-        return result;
+        for (int j = firstColumn; j < lastColumn; j++) {
+            int cj = j * m;
+            for (int i = 0; i < m; i++) {
+                c[cj + i] *= scalar;
+            }
+        }
     }
 
     public DenseMatrix times(DenseMatrix other) {
@@ -283,15 +321,12 @@ public class DenseMatrix extends AbstractMatrix {
             throw new MatrixException("Incompatible matrices dimensions");
         }
 
-        DenseMatrix result = new DenseMatrix(rowCount, columnCount);
-
-        for (int i = 0; i < rowCount; i++) {
-            for (int j = 0; j < columnCount; j++) {
-                result.setUnsafe(i, j, alpha * getUnsafe(i, j) + beta * other.getUnsafe(i, j));
-            }
+        double[] values = getValuesCopy();
+        double[] otherValues = other.getValuesCopy();
+        for (int k = 0; k < values.length; k++) {
+            values[k] = alpha * values[k] + beta * otherValues[k];
         }
-
-        return result;
+        return new DenseMatrix(rowCount, columnCount, values);
     }
 
     @Override
@@ -361,11 +396,7 @@ public class DenseMatrix extends AbstractMatrix {
      */
     public void copyValuesFrom(DenseMatrix originalMatrix) {
         if (originalMatrix.getRowCount() == getRowCount() && originalMatrix.getColumnCount() == getColumnCount()) {
-            for (int columnIndex = 0; columnIndex < originalMatrix.getColumnCount(); columnIndex++) {
-                for (int rowIndex = 0; rowIndex < originalMatrix.getRowCount(); rowIndex++) {
-                    set(rowIndex, columnIndex, originalMatrix.get(rowIndex, columnIndex));
-                }
-            }
+            buffer.asDoubleBuffer().put(0, originalMatrix.buffer.asDoubleBuffer(), 0, rowCount * columnCount);
         } else {
             throw new MatrixException("Incompatible matrix dimensions when copying values. Received (" + originalMatrix.getRowCount()
                 + ", " + originalMatrix.getColumnCount() + ") but expected (" + getRowCount() + ", " + getColumnCount() + ")");
@@ -0,0 +1,477 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import com.google.common.base.Stopwatch;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sparse matrix LU decomposition written in pure Java, selected with {@link SparseLUBackend#JAVA}.
+ *
+ * <p>The decomposition is split in the same steps as KLU:
+ * <ul>
+ * <li>a symbolic analysis, done once, which computes a fill-reducing column ordering
+ * (see {@link MinimumDegreeOrdering}),</li>
+ * <li>a numeric factorization, left-looking (Gilbert-Peierls) with partial pivoting, which prefers diagonal
+ * pivots,</li>
+ * <li>a numeric refactorization used by {@link #update(boolean)}, which reuses the pivots and the patterns of the
+ * previous factorization. As for KLU, the reciprocal pivot growth is checked after the refactorization and a full
+ * factorization is done when it is lower than {@link SparseMatrix#getRgrowthThreshold()}.</li>
+ * </ul>
+ *
+ * <p>Factors are such that A Q = L U, with Q the column ordering. L is stored by column with the original row indices
+ * of A (the pivot rows encode the row permutation) and a unit diagonal, U is stored by column with step indices
+ * and a separated diagonal.
+ *
+ * <p>Solves only read the factors and allocate their own work vectors, so that several solves can be run concurrently
+ * on the same decomposition, but not concurrently with {@link #update(boolean)}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class JavaSparseLUDecomposition implements LUDecomposition {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(JavaSparseLUDecomposition.class);
+
+    /**
+     * A diagonal pivot is kept if its magnitude is at least this fraction of the largest candidate one.
+     */
+    private static final double PIVOT_TOLERANCE = 0.001;
+
+    private final SparseMatrix matrix;
+
+    private final int n;
+
+    private final int valueCount;
+
+    // compressed pattern of the matrix (without empty column marker)
+    private final int[] ap;
+
+    // column ordering
+    private final int[] q;
+
+    // pivot row of each step and its inverse
+    private final int[] pivotRow;
+    private final int[] pivotStep;
+
+    private final int[] lp;
+    private int[] li;
+    private double[] lx;
+
+    private final int[] up;
+    private int[] ui;
+    private double[] ux;
+    private final double[] uDiagonal;
+
+    // work vectors of the factorization
+    private final double[] x;
+    private final int[] reach;
+    private final int[] stack;
+    private final int[] stackPosition;
+    private final int[] mark;
+
+    JavaSparseLUDecomposition(SparseMatrix matrix) {
+        this.matrix = Objects.requireNonNull(matrix);
+        if (matrix.getRowCount() != matrix.getColumnCount()) {
+            throw new MatrixException("matrix is not square");
+        }
+        n = matrix.getColumnCount();
+        valueCount = getMatrixValueCount();
+        ap = new int[n + 1];
+        int[] columnStart = matrix.getColumnStart();
+        int[] columnValueCount = matrix.getColumnValueCount();
+        for (int j = 0; j < n; j++) {
+            ap[j + 1] = ap[j] + (columnStart[j] != -1 ? columnValueCount[j] : 0);
+        }
+        pivotRow = new int[n];
+        pivotStep = new int[n];
+        lp = new int[n + 1];
+        up = new int[n + 1];
+        uDiagonal = new double[n];
+        int capacity = Math.max(4 * valueCount, n);
+        li = new int[capacity];
+        lx = new double[capacity];
+        ui = new int[capacity];
+        ux = new double[capacity];
+        x = new double[n];
+        reach = new int[n];
+        stack = new int[n];
+        stackPosition = new int[n];
+        mark = new int[n];
+
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        q = MinimumDegreeOrdering.compute(n, ap, getCompressedRowIndices());
+        factor();
+        stopwatch.stop();
+        LOGGER.debug("Java sparse LU decomposition done in {} us (L and U value count: {}, {})",
+                stopwatch.elapsed(TimeUnit.MICROSECONDS), lp[n], up[n] + n);
+    }
+
+    private int getMatrixValueCount() {
+        int[] columnStart = matrix.getColumnStart();
+        return columnStart[columnStart.length - 1];
+    }
+
+    /**
+     * Check no elements have been added since first decomposition
+     */
+    private void checkMatrixStructure() {
+        if (getMatrixValueCount() != valueCount) {
+            throw new MatrixException("Elements have been added to the sparse matrix since initial decomposition");
+        }
+    }
+
+    private int[] getCompressedRowIndices() {
+        int[] rowIndices = matrix.getRowIndices();
+        int[] columnStart = matrix.getColumnStart();
+        int[] ai = new int[ap[n]];
+        for (int j = 0; j < n; j++) {
+            if (columnStart[j] != -1) {
+                System.arraycopy(rowIndices, columnStart[j], ai, ap[j], ap[j + 1] - ap[j]);
+            }
+        }
+        return ai;
+    }
+
+    private static int[] grow(int[] a, int minCapacity) {
+        return a.length >= minCapacity ? a : Arrays.copyOf(a, Math.max(minCapacity, 2 * a.length));
+    }
+
+    private static double[] grow(double[] a, int minCapacity) {
+        return a.length >= minCapacity ? a : Arrays.copyOf(a, Math.max(minCapacity, 2 * a.length));
+    }
+
+    /**
+     * Compute in {@link #reach} from {@link #n} down to the returned index the rows reachable in the graph of L from
+     * the pattern of column j of A, in topological order.
+     */
+    private int computeReach(int j, int step, int[] columnStart, int[] rowIndices) {
+        int top = n;
+        int first = columnStart[j];
+        for (int p = first; p < first + ap[j + 1] - ap[j]; p++) {
+            int i = rowIndices[p];
+            if (mark[i] != step) {
+                top = depthFirstSearch(i, step, top);
+            }
+        }
+        return top;
+    }
+
+    private int depthFirstSearch(int root, int step, int initialTop) {
+        int top = initialTop;
+        int head = 0;
+        stack[0] = root;
+        while (head >= 0) {
+            int i = stack[head];
+            int k = pivotStep[i];
+            if (mark[i] != step) {
+                mark[i] = step;
+                stackPosition[head] = k < 0 ? 0 : lp[k];
+            }
+            boolean done = true;
+            int end = k < 0 ? 0 : lp[k + 1];
+            for (int p = stackPosition[head]; p < end; p++) {
+                int r = li[p];
+                if (mark[r] != step) {
+                    stackPosition[head] = p + 1;
+                    stack[++head] = r;
+                    done = false;
+                    break;
+                }
+            }
+            if (done) {
+                head--;
+                reach[--top] = i;
+            }
+        }
+        return top;
+    }
+
+    private void scatter(int j, int[] columnStart, int[] rowIndices, double[] values) {
+        int first = columnStart[j];
+        for (int p = first; p < first + ap[j + 1] - ap[j]; p++) {
+            x[rowIndices[p]] += values[p];
+        }
+    }
+
+    /**
+     * Full numeric factorization, with pivoting.
+     */
+    private void factor() {
+        int[] columnStart = matrix.getColumnStart();
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+        Arrays.fill(pivotStep, -1);
+        Arrays.fill(mark, -1);
+        int lnz = 0;
+        int unz = 0;
+        for (int k = 0; k < n; k++) {
+            lp[k] = lnz;
+            up[k] = unz;
+            li = grow(li, lnz + n);
+            lx = grow(lx, lnz + n);
+            ui = grow(ui, unz + n);
+            ux = grow(ux, unz + n);
+
+            // sparse triangular solve L x = A(:, q[k])
+            int j = q[k];
+            int top = computeReach(j, k, columnStart, rowIndices);
+            for (int px = top; px < n; px++) {
+                x[reach[px]] = 0;
+            }
+            scatter(j, columnStart, rowIndices, values);
+            int pivot = -1;
+            double maxAbs = -1;
+            for (int px = top; px < n; px++) {
+                int i = reach[px];
+                int s = pivotStep[i];
+                if (s < 0) {
+                    double abs = Math.abs(x[i]);
+                    if (abs > maxAbs) {
+                        maxAbs = abs;
+                        pivot = i;
+                    }
+                } else {
+                    double xi = x[i];
+                    for (int p = lp[s]; p < lp[s + 1]; p++) {
+                        x[li[p]] -= lx[p] * xi;
+                    }
+                    ui[unz] = s;
+                    ux[unz++] = xi;
+                }
+            }
+            if (pivot == -1 || maxAbs <= 0 || Double.isNaN(maxAbs)) {
+                throw new MatrixException("Matrix is singular");
+            }
+            if (pivotStep[j] < 0 && mark[j] == k && Math.abs(x[j]) >= PIVOT_TOLERANCE * maxAbs) {
+                pivot = j;
+            }
+
+            double pivotValue = x[pivot];
+            uDiagonal[k] = pivotValue;
+            pivotRow[k] = pivot;
+            pivotStep[pivot] = k;
+            for (int px = top; px < n; px++) {
+                int i = reach[px];
+                if (pivotStep[i] < 0) {
+                    li[lnz] = i;
+                    lx[lnz++] = x[i] / pivotValue;
+                }
+            }
+        }
+        lp[n] = lnz;
+        up[n] = unz;
+    }
+
+    /**
+     * Numeric refactorization keeping the pivots and the patterns of the previous factorization.
+     *
+     * @return the reciprocal pivot growth or 0 if a pivot is zero
+     */
+    private double refactor() {
+        int[] columnStart = matrix.getColumnStart();
+        int[] rowIndices = matrix.getRowIndices();
+        double[] values = matrix.getValues();
+        double rgrowth = Double.MAX_VALUE;
+        for (int k = 0; k < n; k++) {
+            int j = q[k];
+            // clear the pattern of column k
+            for (int p = up[k]; p < up[k + 1]; p++) {
+                x[pivotRow[ui[p]]] = 0;
+            }
+            for (int p = lp[k]; p < lp[k + 1]; p++) {
+                x[li[p]] = 0;
+            }
+            x[pivotRow[k]] = 0;
+            scatter(j, columnStart, rowIndices, values);
+
+            // U entries are stored in topological order
+            double maxU = 0;
+            for (int p = up[k]; p < up[k + 1]; p++) {
+                int s = ui[p];
+                double xs = x[pivotRow[s]];
+                for (int pl = lp[s]; pl < lp[s + 1]; pl++) {
+                    x[li[pl]] -= lx[pl] * xs;
+                }
+                ux[p] = xs;
+                maxU = Math.max(maxU, Math.abs(xs));
+            }
+            double pivotValue = x[pivotRow[k]];
+            if (pivotValue == 0 || !Double.isFinite(pivotValue)) {
+                return 0;
+            }
+            uDiagonal[k] = pivotValue;
+            maxU = Math.max(maxU, Math.abs(pivotValue));
+            for (int p = lp[k]; p < lp[k + 1]; p++) {
+                lx[p] = x[li[p]] / pivotValue;
+            }
+
+            double maxA = 0;
+            int first = columnStart[j];
+            for (int p = first; p < first + ap[j + 1] - ap[j]; p++) {
+                maxA = Math.max(maxA, Math.abs(values[p]));
+            }
+            rgrowth = Math.min(rgrowth, maxA / maxU);
+        }
+        return rgrowth;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The structure of the matrix is not supposed to have changed, only non zero values.
+     */
+    @Override
+    public void update(boolean allowIncrementalUpdate) {
+        checkMatrixStructure();
+        Stopwatch stopwatch = Stopwatch.createStarted();
+        double rgrowthThreshold = allowIncrementalUpdate ? matrix.getRgrowthThreshold() : 0;
+        double rgrowth = Double.NaN;
+        if (allowIncrementalUpdate) {
+            rgrowth = refactor();
+        }
+        if (!allowIncrementalUpdate || rgrowth <= 0 || rgrowth < rgrowthThreshold) {
+            factor();
+        }
+        stopwatch.stop();
+        LOGGER.debug("Java sparse LU decomposition updated (refactor rgrowth is {}, threshold is {}) in {} us",
+                rgrowth, rgrowthThreshold, stopwatch.elapsed(TimeUnit.MICROSECONDS));
+    }
+
+    private void checkSize(int size) {
+        if (size != n) {
+            throw new MatrixException("Incorrect right hand side size " + size + ", expected " + n);
+        }
+    }
+
+    private void solve(double[] b, double[] work) {
+        // L z = b
+        for (int k = 0; k < n; k++) {
+            double zk = b[pivotRow[k]];
+            work[k] = zk;
+            if (zk != 0) {
+                for (int p = lp[k]; p < lp[k + 1]; p++) {
+                    b[li[p]] -= lx[p] * zk;
+                }
+            }
+        }
+        // U y = z
+        for (int k = n - 1; k >= 0; k--) {
+            double yk = work[k] / uDiagonal[k];
+            work[k] = yk;
+            if (yk != 0) {
+                for (int p = up[k]; p < up[k + 1]; p++) {
+                    work[ui[p]] -= ux[p] * yk;
+                }
+            }
+        }
+        // x = Q y
+        for (int k = 0; k < n; k++) {
+            b[q[k]] = work[k];
+        }
+    }
+
+    private void solveTransposed(double[] b, double[] work) {
+        // U^T w = Q^T b
+        for (int k = 0; k < n; k++) {
+            double wk = b[q[k]];
+            for (int p = up[k]; p < up[k + 1]; p++) {
+                wk -= ux[p] * work[ui[p]];
+            }
+            work[k] = wk / uDiagonal[k];
+        }
+        // L^T x = w
+        for (int k = n - 1; k >= 0; k--) {
+            double xk = work[k];
+            for (int p = lp[k]; p < lp[k + 1]; p++) {
+                xk -= lx[p] * b[li[p]];
+            }
+            b[pivotRow[k]] = xk;
+        }
+    }
+
+    @Override
+    public int getDimension() {
+        return n;
+    }
+
+    @Override
+    public void solve(double[] b) {
+        Objects.requireNonNull(b);
+        checkSize(b.length);
+        solve(b, new double[n]);
+    }
+
+    @Override
+    public void solveTransposed(double[] b) {
+        Objects.requireNonNull(b);
+        checkSize(b.length);
+        solveTransposed(b, new double[n]);
+    }
+
+    private void solve(DenseMatrix b, boolean transposed) {
+        Objects.requireNonNull(b);
+        checkSize(b.getRowCount());
+        DoubleBuffer buffer = b.getBuffer().asDoubleBuffer();
+        double[] column = new double[n];
+        double[] work = new double[n];
+        for (int c = 0; c < b.getColumnCount(); c++) {
+            buffer.get(c * n, column);
+            if (transposed) {
+                solveTransposed(column, work);
+            } else {
+                solve(column, work);
+            }
+            buffer.put(c * n, column);
+        }
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        solve(b, false);
+    }
+
+    @Override
+    public void solveTransposed(DenseMatrix b) {
+        solve(b, true);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A single work vector, in addition to the given workspace, is allocated for the whole batch.
+     */
+    @Override
+    public void solve(SparseMatrix b, DenseMatrix x, double[] workspace) {
+        BatchLUSolver.checkDimensions(n, b, x, workspace);
+        double[] work = new double[n];
+        BatchLUSolver.solveColumns(column -> solve(column, work), b, x, workspace, 0, b.getColumnCount());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * A single work vector, in addition to the given workspace, is allocated for the whole batch.
+     */
+    @Override
+    public void solveTransposed(SparseMatrix b, DenseMatrix x, double[] workspace) {
+        BatchLUSolver.checkDimensions(n, b, x, workspace);
+        double[] work = new double[n];
+        BatchLUSolver.solveColumns(column -> solveTransposed(column, work), b, x, workspace, 0, b.getColumnCount());
+    }
+
+    @Override
+    public void close() {
+        // nothing to release, factors are garbage collected
+    }
+}
@@ -0,0 +1,149 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import gnu.trove.list.array.TDoubleArrayList;
+import gnu.trove.list.array.TIntArrayList;
+
+import java.util.Arrays;
+
+/**
+ * Pure Java implementation of the product, the sum and the transposition of {@link SparseMatrix}, used with the
+ * {@link SparseLUBackend#JAVA} backend so that the native library is never loaded.
+ *
+ * <p>As with the native implementation, the row indices of a column of the result are not sorted.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class JavaSparseMatrixOperations {
+
+    private JavaSparseMatrixOperations() {
+    }
+
+    /**
+     * Accumulates the values of the columns of a result, in CSC format.
+     */
+    private static final class ColumnAccumulator {
+
+        private final int[] columnStart;
+        private final TIntArrayList rowIndices;
+        private final TDoubleArrayList values;
+        private final double[] workspace;
+        private final int[] mark;
+
+        private ColumnAccumulator(int rowCount, int columnCount, int estimatedValueCount) {
+            columnStart = new int[columnCount + 1];
+            rowIndices = new TIntArrayList(estimatedValueCount);
+            values = new TDoubleArrayList(estimatedValueCount);
+            workspace = new double[rowCount];
+            mark = new int[rowCount];
+            Arrays.fill(mark, -1);
+        }
+
+        private void add(int j, SparseMatrix m, int k, double factor) {
+            int first = m.getColumnStart()[k];
+            if (first == -1) {
+                return;
+            }
+            int[] mRowIndices = m.getRowIndices();
+            double[] mValues = m.getValues();
+            for (int v = first; v < first + m.getColumnValueCount()[k]; v++) {
+                int i = mRowIndices[v];
+                if (mark[i] != j) {
+                    mark[i] = j;
+                    workspace[i] = factor * mValues[v];
+                    rowIndices.add(i);
+                } else {
+                    workspace[i] += factor * mValues[v];
+                }
+            }
+        }
+
+        private void endColumn(int j) {
+            for (int v = columnStart[j]; v < rowIndices.size(); v++) {
+                values.add(workspace[rowIndices.getQuick(v)]);
+            }
+            columnStart[j + 1] = rowIndices.size();
+        }
+
+        private SparseMatrix build(int rowCount, int columnCount) {
+            return new SparseMatrix(rowCount, columnCount, columnStart, rowIndices.toArray(), values.toArray());
+        }
+    }
+
+    static SparseMatrix times(SparseMatrix a, SparseMatrix b) {
+        if (a.getColumnCount() != b.getRowCount()) {
+            throw new MatrixException("Incompatible matrix dimensions: " + a.getRowCount() + "x" + a.getColumnCount()
+                    + " and " + b.getRowCount() + "x" + b.getColumnCount());
+        }
+        ColumnAccumulator accumulator = new ColumnAccumulator(a.getRowCount(), b.getColumnCount(), a.getValueCount() + b.getValueCount());
+        int[] bRowIndices = b.getRowIndices();
+        double[] bValues = b.getValues();
+        for (int j = 0; j < b.getColumnCount(); j++) {
+            int first = b.getColumnStart()[j];
+            if (first != -1) {
+                for (int v = first; v < first + b.getColumnValueCount()[j]; v++) {
+                    accumulator.add(j, a, bRowIndices[v], bValues[v]);
+                }
+            }
+            accumulator.endColumn(j);
+        }
+        return accumulator.build(a.getRowCount(), b.getColumnCount());
+    }
+
+    static SparseMatrix add(SparseMatrix a, SparseMatrix b, double alpha, double beta) {
+        if (a.getRowCount() != b.getRowCount() || a.getColumnCount() != b.getColumnCount()) {
+            throw new MatrixException("Incompatible matrix dimensions: " + a.getRowCount() + "x" + a.getColumnCount()
+                    + " and " + b.getRowCount() + "x" + b.getColumnCount());
+        }
+        ColumnAccumulator accumulator = new ColumnAccumulator(a.getRowCount(), a.getColumnCount(), a.getValueCount() + b.getValueCount());
+        for (int j = 0; j < a.getColumnCount(); j++) {
+            accumulator.add(j, a, j, alpha);
+            accumulator.add(j, b, j, beta);
+            accumulator.endColumn(j);
+        }
+        return accumulator.build(a.getRowCount(), a.getColumnCount());
+    }
+
+    static SparseMatrix transpose(SparseMatrix a) {
+        int[] aColumnStart = a.getColumnStart();
+        int[] aColumnValueCount = a.getColumnValueCount();
+        int[] aRowIndices = a.getRowIndices();
+        double[] aValues = a.getValues();
+
+        // count the values of each row, which are the columns of the transposed matrix
+        int[] columnStart = new int[a.getRowCount() + 1];
+        for (int j = 0; j < a.getColumnCount(); j++) {
+            int first = aColumnStart[j];
+            if (first != -1) {
+                for (int v = first; v < first + aColumnValueCount[j]; v++) {
+                    columnStart[aRowIndices[v] + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < a.getRowCount(); i++) {
+            columnStart[i + 1] += columnStart[i];
+        }
+
+        int valueCount = columnStart[a.getRowCount()];
+        int[] rowIndices = new int[valueCount];
+        double[] values = new double[valueCount];
+        int[] next = Arrays.copyOf(columnStart, a.getRowCount());
+        for (int j = 0; j < a.getColumnCount(); j++) {
+            int first = aColumnStart[j];
+            if (first != -1) {
+                for (int v = first; v < first + aColumnValueCount[j]; v++) {
+                    int position = next[aRowIndices[v]]++;
+                    rowIndices[position] = j;
+                    values[position] = aValues[v];
+                }
+            }
+        }
+        return new SparseMatrix(a.getColumnCount(), a.getRowCount(), columnStart, rowIndices, values);
+    }
+}
@@ -37,6 +37,18 @@ public interface LUDecomposition extends AutoCloseable {
         update(true);
     }
 
+    /**
+     * Get the dimension of the decomposed square matrix, which is the size of the right hand sides. The default
+     * implementation throws an {@link UnsupportedOperationException}, so that the implementations written before this
+     * method was added still compile, but implementations should override it, as it is needed by the batch solves
+     * and by {@link #withLowRankUpdate(Matrix, Matrix, Matrix)}.
+     *
+     * @return the dimension of the decomposed matrix
+     */
+    default int getDimension() {
+        throw new UnsupportedOperationException("Dimension is not provided by " + getClass().getName());
+    }
+
     /**
      * Solve A * x = b where b is a column vector.
      *
@@ -65,6 +77,55 @@ public interface LUDecomposition extends AutoCloseable {
      */
     void solveTransposed(DenseMatrix b);
 
+    /**
+     * Solve A * X = B where B is a batch of sparse right hand sides, one per column, and write the solutions in the
+     * columns of x. Right hand sides without any value are not solved (hypersparse batches), the corresponding
+     * solutions being set to zero.
+     *
+     * @param b the right hand sides
+     * @param x the matrix where the solutions are written, with the same dimensions as {@code b}
+     * @param workspace a work vector of the size of the matrix, provided by the caller so that it can be reused
+     *                  between calls
+     */
+    default void solve(SparseMatrix b, DenseMatrix x, double[] workspace) {
+        BatchLUSolver.checkDimensions(getDimension(), b, x, workspace);
+        BatchLUSolver.solveColumns(this::solve, b, x, workspace, 0, b.getColumnCount());
+    }
+
+    /**
+     * Solve AT * X = B where B is a batch of sparse right hand sides, one per column, and write the solutions in the
+     * columns of x. Right hand sides without any value are not solved, the corresponding solutions being set to zero.
+     *
+     * @param b the right hand sides
+     * @param x the matrix where the solutions are written, with the same dimensions as {@code b}
+     * @param workspace a work vector of the size of the matrix, provided by the caller so that it can be reused
+     *                  between calls
+     */
+    default void solveTransposed(SparseMatrix b, DenseMatrix x, double[] workspace) {
+        BatchLUSolver.checkDimensions(getDimension(), b, x, workspace);
+        BatchLUSolver.solveColumns(this::solveTransposed, b, x, workspace, 0, b.getColumnCount());
+    }
+
+    /**
+     * Get a solver of the matrix A + U C V<sup>T</sup>, A being the matrix of this decomposition and U C V<sup>T</sup>
+     * a low-rank modification (U and V being n * k matrices and C a k * k matrix, with k small compared to n), for
+     * instance a few branch admittance changes. The solver relies on the Sherman-Morrison-Woodbury identity and
+     * this decomposition is not modified, so that it can be shared by several solvers. As each solve of the returned
+     * solver is a solve of this decomposition, solvers can only be used concurrently if this decomposition supports
+     * concurrent solves, which is not the case of the KLU one. Closing the returned solver does not close this
+     * decomposition.
+     *
+     * @param u the n * k U matrix
+     * @param c the k * k C matrix
+     * @param v the n * k V matrix
+     * @return a solver of the modified matrix
+     * @throws MatrixException if the row count of U and V differs from the dimension of this decomposition or if the
+     *                         modified matrix is singular
+     */
+    default LUDecomposition withLowRankUpdate(Matrix u, Matrix c, Matrix v) {
+        return new WoodburyLUDecomposition(this, u, c, v);
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -0,0 +1,110 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import gnu.trove.set.hash.TIntHashSet;
+
+import java.util.Arrays;
+
+/**
+ * Fill-reducing column ordering computed with a minimum degree heuristic on the pattern of A + A<sup>T</sup>.
+ *
+ * <p>The elimination graph is kept explicit, which is cheap for the very sparse and nearly symmetric matrices of
+ * power systems (admittance matrices, load flow jacobians). Nodes with the same degree are kept in buckets, so that
+ * the ordering is deterministic.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class MinimumDegreeOrdering {
+
+    private MinimumDegreeOrdering() {
+    }
+
+    /**
+     * Compute the ordering of a square matrix in CSC format.
+     *
+     * @param n the size of the matrix
+     * @param ap column start vector, of length n + 1
+     * @param ai row index vector
+     * @return the elimination order: element k is the index of the k-th column to eliminate
+     */
+    static int[] compute(int n, int[] ap, int[] ai) {
+        TIntHashSet[] adjacency = new TIntHashSet[n];
+        for (int i = 0; i < n; i++) {
+            adjacency[i] = new TIntHashSet();
+        }
+        for (int j = 0; j < n; j++) {
+            for (int p = ap[j]; p < ap[j + 1]; p++) {
+                int i = ai[p];
+                if (i != j) {
+                    adjacency[i].add(j);
+                    adjacency[j].add(i);
+                }
+            }
+        }
+
+        // degree buckets as doubly linked lists
+        int[] head = new int[n];
+        int[] next = new int[n];
+        int[] previous = new int[n];
+        int[] degree = new int[n];
+        Arrays.fill(head, -1);
+        for (int i = n - 1; i >= 0; i--) {
+            degree[i] = adjacency[i].size();
+            insert(i, head, next, previous, degree);
+        }
+
+        int[] order = new int[n];
+        int minDegree = 0;
+        for (int k = 0; k < n; k++) {
+            while (head[minDegree] == -1) {
+                minDegree++;
+            }
+            int v = head[minDegree];
+            remove(v, head, next, previous, degree);
+            order[k] = v;
+
+            // eliminate v: its neighbours become a clique
+            int[] neighbours = adjacency[v].toArray();
+            Arrays.sort(neighbours);
+            adjacency[v] = null;
+            for (int u : neighbours) {
+                TIntHashSet uAdjacency = adjacency[u];
+                uAdjacency.remove(v);
+                uAdjacency.addAll(neighbours);
+                uAdjacency.remove(u);
+                remove(u, head, next, previous, degree);
+                degree[u] = uAdjacency.size();
+                insert(u, head, next, previous, degree);
+                minDegree = Math.min(minDegree, degree[u]);
+            }
+        }
+        return order;
+    }
+
+    private static void insert(int i, int[] head, int[] next, int[] previous, int[] degree) {
+        int d = degree[i];
+        next[i] = head[d];
+        previous[i] = -1;
+        if (head[d] != -1) {
+            previous[head[d]] = i;
+        }
+        head[d] = i;
+    }
+
+    private static void remove(int i, int[] head, int[] next, int[] previous, int[] degree) {
+        if (previous[i] != -1) {
+            next[previous[i]] = next[i];
+        } else {
+            head[degree[i]] = next[i];
+        }
+        if (next[i] != -1) {
+            previous[next[i]] = previous[i];
+        }
+    }
+}
@@ -0,0 +1,47 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import java.util.Locale;
+
+/**
+ * Implementation used for the LU decomposition of a {@link SparseMatrix}, and for its product, sum and transposition.
+ *
+ * <p>The backend used by default is given by the {@value #DEFAULT_BACKEND_PROPERTY} system property, {@link #KLU} if
+ * not set.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public enum SparseLUBackend {
+    /**
+     * Native wrapper around KLU module of SuiteSparse.
+     */
+    KLU,
+
+    /**
+     * Pure Java implementation, which does not rely on native code: the native library is never loaded.
+     */
+    JAVA;
+
+    public static final String DEFAULT_BACKEND_PROPERTY = "powsybl.math.sparse-lu-backend";
+
+    /**
+     * @return the backend given by the {@value #DEFAULT_BACKEND_PROPERTY} system property, {@link #KLU} if not set
+     */
+    public static SparseLUBackend getDefault() {
+        String backend = System.getProperty(DEFAULT_BACKEND_PROPERTY);
+        if (backend == null || backend.isBlank()) {
+            return KLU;
+        }
+        try {
+            return valueOf(backend.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new MatrixException("Unknown sparse LU backend '" + backend + "' defined by system property " + DEFAULT_BACKEND_PROPERTY);
+        }
+    }
+}
@@ -8,6 +8,7 @@
 package com.powsybl.math.matrix;
 
 import com.google.common.base.Stopwatch;
+import com.powsybl.math.AbstractMathNative;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -41,6 +42,7 @@ class SparseLUDecomposition implements LUDecomposition {
             throw new MatrixException("matrix is not square");
         }
         this.id = UUID.randomUUID().toString();
+        AbstractMathNative.loadNativeLibrary();
         init(id, matrix);
         valueCount = getMatrixValueCount();
     }
@@ -92,6 +94,11 @@ class SparseLUDecomposition implements LUDecomposition {
                 rgrowth, rgrowthThreshold, stopwatch.elapsed(TimeUnit.MICROSECONDS));
     }
 
+    @Override
+    public int getDimension() {
+        return matrix.getRowCount();
+    }
+
     @Override
     public void solve(double[] b) {
         solve(id, b, false);
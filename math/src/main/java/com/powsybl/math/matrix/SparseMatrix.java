@@ -10,6 +10,7 @@ package com.powsybl.math.matrix;
 import com.powsybl.commons.exceptions.UncheckedClassNotFoundException;
 import com.powsybl.commons.util.trove.TDoubleArrayListHack;
 import com.powsybl.commons.util.trove.TIntArrayListHack;
+import com.powsybl.math.AbstractMathNative;
 import gnu.trove.list.array.TDoubleArrayList;
 import gnu.trove.list.array.TIntArrayList;
 
@@ -22,6 +23,8 @@ import java.util.*;
  * Sparse matrix implementation in <a href="https://en.wikipedia.org/wiki/Sparse_matrix#Compressed_sparse_column_(CSC_or_CCS)">CSC</a> format.
  * This implementation rely on a native library which is a wrapper around KLU module of
  * <a href="http://faculty.cse.tamu.edu/davis/suitesparse.html">SuiteSparse</a> project.
+ * The LU decomposition, the product, the sum and the transposition can also be done by a pure Java implementation,
+ * see {@link SparseLUBackend}: the native library is then never loaded.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -95,6 +98,8 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
 
     private double rgrowthThreshold = SparseLUDecomposition.DEFAULT_RGROWTH_THRESHOLD;
 
+    private transient SparseLUBackend luBackend;
+
     private int currentColumn = -1; // just for matrix filling
 
     /**
@@ -176,6 +181,19 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
         this.rgrowthThreshold = rgrowthThreshold;
     }
 
+    /**
+     * Get the implementation used by {@link #decomposeLU()}.
+     *
+     * @return the LU decomposition backend, {@link SparseLUBackend#getDefault()} by default
+     */
+    public SparseLUBackend getLUBackend() {
+        return luBackend != null ? luBackend : SparseLUBackend.getDefault();
+    }
+
+    public void setLUBackend(SparseLUBackend luBackend) {
+        this.luBackend = Objects.requireNonNull(luBackend);
+    }
+
     /**
      * Get columm start index vector.
      *
@@ -349,6 +367,9 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
     @Override
     public LUDecomposition decomposeLU() {
         fillLastEmptyColumns();
+        if (getLUBackend() == SparseLUBackend.JAVA) {
+            return new JavaSparseLUDecomposition(this);
+        }
         return new SparseLUDecomposition(this);
     }
 
@@ -360,9 +381,16 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
         Objects.requireNonNull(other);
         fillLastEmptyColumns();
         other.fillLastEmptyColumns();
-        SparseMatrix result = times(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData(),
-                other.rowCount, other.columnCount, other.columnStart, other.rowIndices.getData(), other.values.getData());
+        SparseMatrix result;
+        if (getLUBackend() == SparseLUBackend.JAVA) {
+            result = JavaSparseMatrixOperations.times(this, other);
+        } else {
+            AbstractMathNative.loadNativeLibrary();
+            result = times(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData(),
+                    other.rowCount, other.columnCount, other.columnStart, other.rowIndices.getData(), other.values.getData());
+        }
         result.setRgrowthThreshold(rgrowthThreshold);
+        result.setLUBackend(getLUBackend());
         return result;
     }
 
@@ -382,9 +410,16 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
         Objects.requireNonNull(other);
         fillLastEmptyColumns();
         other.fillLastEmptyColumns();
-        SparseMatrix result = add(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData(),
-                other.rowCount, other.columnCount, other.columnStart, other.rowIndices.getData(), other.values.getData(), alpha, beta);
+        SparseMatrix result;
+        if (getLUBackend() == SparseLUBackend.JAVA) {
+            result = JavaSparseMatrixOperations.add(this, other, alpha, beta);
+        } else {
+            AbstractMathNative.loadNativeLibrary();
+            result = add(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData(),
+                    other.rowCount, other.columnCount, other.columnStart, other.rowIndices.getData(), other.values.getData(), alpha, beta);
+        }
         result.setRgrowthThreshold(rgrowthThreshold);
+        result.setLUBackend(getLUBackend());
         return result;
     }
 
@@ -442,8 +477,15 @@ public class SparseMatrix extends AbstractMatrix implements Serializable {
     @Override
     public SparseMatrix transpose() {
         fillLastEmptyColumns();
-        SparseMatrix transposed = transpose(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData());
+        SparseMatrix transposed;
+        if (getLUBackend() == SparseLUBackend.JAVA) {
+            transposed = JavaSparseMatrixOperations.transpose(this);
+        } else {
+            AbstractMathNative.loadNativeLibrary();
+            transposed = transpose(rowCount, columnCount, columnStart, rowIndices.getData(), values.getData());
+        }
         transposed.setRgrowthThreshold(rgrowthThreshold);
+        transposed.setLUBackend(getLUBackend());
         return transposed;
     }
 
@@ -7,6 +7,8 @@
  */
 package com.powsybl.math.matrix;
 
+import java.util.Objects;
+
 /**
  * Sparse matrix factory.
  *
@@ -18,18 +20,34 @@ public class SparseMatrixFactory implements MatrixFactory {
 
     private final double rgrowthThreshold;
 
+    private final SparseLUBackend luBackend;
+
     public SparseMatrixFactory() {
         this(SparseLUDecomposition.DEFAULT_RGROWTH_THRESHOLD);
     }
 
     public SparseMatrixFactory(double rgrowthThreshold) {
+        this(rgrowthThreshold, SparseLUBackend.getDefault());
+    }
+
+    public SparseMatrixFactory(SparseLUBackend luBackend) {
+        this(SparseLUDecomposition.DEFAULT_RGROWTH_THRESHOLD, luBackend);
+    }
+
+    public SparseMatrixFactory(double rgrowthThreshold, SparseLUBackend luBackend) {
         this.rgrowthThreshold = rgrowthThreshold;
+        this.luBackend = Objects.requireNonNull(luBackend);
+    }
+
+    public SparseLUBackend getLUBackend() {
+        return luBackend;
     }
 
     @Override
     public SparseMatrix create(int rowCount, int columnCount, int estimatedValueCount) {
         SparseMatrix m = new SparseMatrix(rowCount, columnCount, estimatedValueCount);
         m.setRgrowthThreshold(rgrowthThreshold);
+        m.setLUBackend(luBackend);
         return m;
     }
 }
@@ -0,0 +1,231 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import java.nio.DoubleBuffer;
+import java.util.Objects;
+
+/**
+ * Solver view of a matrix A + U C V<sup>T</sup>, where U C V<sup>T</sup> is a low-rank modification of a matrix A
+ * already decomposed, based on the
+ * <a href="https://en.wikipedia.org/wiki/Woodbury_matrix_identity">Sherman-Morrison-Woodbury identity</a>:
+ * <pre>
+ * (A + U C V<sup>T</sup>)<sup>-1</sup> b = x - Z (I + C V<sup>T</sup> Z)<sup>-1</sup> C V<sup>T</sup> x, with x = A<sup>-1</sup> b and Z = A<sup>-1</sup> U
+ * </pre>
+ * Creating the view costs k solves with the base decomposition, k being the rank of the modification, and the
+ * decomposition of the k * k capacitance matrix I + C V<sup>T</sup> Z. Each solve then costs one solve with the base
+ * decomposition and O(n * k) operations. The base decomposition is never modified, so that several views can share
+ * it.
+ *
+ * <p>A view solves with its base decomposition, so it can only be used from several threads, or share its base with
+ * views used by other threads, if the base decomposition supports concurrent solves. This is the case of the dense
+ * and of the Java sparse decompositions, but not of the KLU one, whose solves use the decomposition workspace: views
+ * of a KLU decomposition have to be used from a single thread.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class WoodburyLUDecomposition implements LUDecomposition {
+
+    /**
+     * Correction terms of the solution, for direct or transposed solves.
+     *
+     * @param z A<sup>-1</sup> U (or A<sup>-T</sup> V), column-major n * k values
+     * @param w C V<sup>T</sup> (or C<sup>T</sup> U<sup>T</sup>), column-major k * n values
+     * @param capacitance decomposition of I + w z
+     */
+    private record Correction(double[] z, double[] w, DenseLUDecomposition capacitance) {
+    }
+
+    private final LUDecomposition base;
+
+    private final DenseMatrix u;
+
+    private final DenseMatrix c;
+
+    private final DenseMatrix v;
+
+    private final int n;
+
+    private final int k;
+
+    private volatile Correction correction;
+
+    private volatile Correction transposedCorrection;
+
+    WoodburyLUDecomposition(LUDecomposition base, Matrix u, Matrix c, Matrix v) {
+        this.base = Objects.requireNonNull(base);
+        this.u = Objects.requireNonNull(u).toDense();
+        this.c = Objects.requireNonNull(c).toDense();
+        this.v = Objects.requireNonNull(v).toDense();
+        n = u.getRowCount();
+        k = u.getColumnCount();
+        if (n != base.getDimension()) {
+            throw new MatrixException("U and V matrices row count " + n + " differs from the decomposed matrix dimension "
+                    + base.getDimension());
+        }
+        if (v.getRowCount() != n || v.getColumnCount() != k) {
+            throw new MatrixException("U and V matrices dimensions differ");
+        }
+        if (c.getRowCount() != k || c.getColumnCount() != k) {
+            throw new MatrixException("C matrix has to be a " + k + " * " + k + " matrix");
+        }
+        correction = createCorrection(false);
+    }
+
+    /**
+     * Compute the correction terms, the transposed ones being the ones of A<sup>T</sup> + V C<sup>T</sup> U<sup>T</sup>.
+     */
+    private Correction createCorrection(boolean transposed) {
+        DenseMatrix left = transposed ? v : u;
+        DenseMatrix right = transposed ? u : v;
+
+        DenseMatrix zMatrix = new DenseMatrix(n, k);
+        zMatrix.copyValuesFrom(left);
+        if (transposed) {
+            base.solveTransposed(zMatrix);
+        } else {
+            base.solve(zMatrix);
+        }
+
+        // w = C right^T (or C^T right^T)
+        double[] w = new double[k * n];
+        for (int i = 0; i < n; i++) {
+            for (int r = 0; r < k; r++) {
+                double s = 0;
+                for (int l = 0; l < k; l++) {
+                    s += (transposed ? c.get(l, r) : c.get(r, l)) * right.get(i, l);
+                }
+                w[i * k + r] = s;
+            }
+        }
+
+        // capacitance = I + w z
+        double[] z = new double[n * k];
+        zMatrix.getBuffer().asDoubleBuffer().get(0, z);
+        DenseMatrix capacitanceMatrix = new DenseMatrix(k, k);
+        for (int col = 0; col < k; col++) {
+            for (int row = 0; row < k; row++) {
+                double s = row == col ? 1 : 0;
+                for (int i = 0; i < n; i++) {
+                    s += w[i * k + row] * z[col * n + i];
+                }
+                capacitanceMatrix.set(row, col, s);
+            }
+        }
+        DenseLUDecomposition capacitance = new DenseLUDecomposition(capacitanceMatrix);
+        capacitance.decompose();
+        return new Correction(z, w, capacitance);
+    }
+
+    private Correction getTransposedCorrection() {
+        Correction tc = transposedCorrection;
+        if (tc == null) {
+            synchronized (this) {
+                tc = transposedCorrection;
+                if (tc == null) {
+                    tc = createCorrection(true);
+                    transposedCorrection = tc;
+                }
+            }
+        }
+        return tc;
+    }
+
+    /**
+     * Apply the correction to the solution x of the base system, stored in b from the given offset.
+     */
+    private void correct(Correction correction, DoubleBuffer b, int offset) {
+        double[] z = correction.z();
+        double[] w = correction.w();
+        double[] t = new double[k];
+        for (int i = 0; i < n; i++) {
+            double xi = b.get(offset + i);
+            if (xi != 0) {
+                for (int r = 0; r < k; r++) {
+                    t[r] += w[i * k + r] * xi;
+                }
+            }
+        }
+        correction.capacitance().solve(t);
+        for (int col = 0; col < k; col++) {
+            double tc = t[col];
+            if (tc != 0) {
+                for (int i = 0; i < n; i++) {
+                    b.put(offset + i, b.get(offset + i) - z[col * n + i] * tc);
+                }
+            }
+        }
+    }
+
+    @Override
+    public int getDimension() {
+        return n;
+    }
+
+    private void checkSize(int size) {
+        if (size != n) {
+            throw new MatrixException("Incorrect right hand side size " + size + ", expected " + n);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * The base decomposition is supposed to have already been updated, only correction terms are computed again.
+     */
+    @Override
+    public void update(boolean allowIncrementalUpdate) {
+        synchronized (this) {
+            transposedCorrection = null;
+            correction = createCorrection(false);
+        }
+    }
+
+    @Override
+    public void solve(double[] b) {
+        checkSize(Objects.requireNonNull(b).length);
+        base.solve(b);
+        correct(correction, DoubleBuffer.wrap(b), 0);
+    }
+
+    @Override
+    public void solveTransposed(double[] b) {
+        checkSize(Objects.requireNonNull(b).length);
+        base.solveTransposed(b);
+        correct(getTransposedCorrection(), DoubleBuffer.wrap(b), 0);
+    }
+
+    private void correct(Correction correction, DenseMatrix b) {
+        DoubleBuffer buffer = b.getBuffer().asDoubleBuffer();
+        for (int col = 0; col < b.getColumnCount(); col++) {
+            correct(correction, buffer, col * n);
+        }
+    }
+
+    @Override
+    public void solve(DenseMatrix b) {
+        checkSize(Objects.requireNonNull(b).getRowCount());
+        base.solve(b);
+        correct(correction, b);
+    }
+
+    @Override
+    public void solveTransposed(DenseMatrix b) {
+        checkSize(Objects.requireNonNull(b).getRowCount());
+        base.solveTransposed(b);
+        correct(getTransposedCorrection(), b);
+    }
+
+    /**
+     * Nothing is released, the base decomposition being owned by the caller.
+     */
+    @Override
+    public void close() {
+        // the base decomposition is not closed
+    }
+}
@@ -2,11 +2,14 @@
  * This package contains utility classes around matrix modelling and LU decomposition. It is based on well known
  * underlying libraries.
  * <ul>
- * <li><a href="Jama https://math.nist.gov/javanumerics/jama/">Jama</a> for dense matrix: only intended to be used for
- * small matrices and unit testing.
+ * <li>a Java implementation for dense matrix, with blocked and multi-threaded products and an LU decomposition
+ * with partial pivoting: only intended to be used for small and medium matrices and unit testing.
  * </li>
  * <li><a href="http://faculty.cse.tamu.edu/davis/suitesparse.html">SuiteSparse KLU</a> for sparse matrix: can be used
  * with large sparse data</li>
+ * <li>a pure Java sparse LU decomposition, which can be selected with {@link com.powsybl.math.matrix.SparseLUBackend},
+ * programmatically or with the {@code powsybl.math.sparse-lu-backend} system property, when the native library cannot
+ * be used</li>
  * </ul>
  */
 package com.powsybl.math.matrix;
@@ -0,0 +1,146 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class BatchLUSolverTest {
+
+    private static final double EPSILON = 1e-12;
+
+    static Stream<Arguments> getMatrixFactories() {
+        return Stream.of(
+                Arguments.of(new DenseMatrixFactory()),
+                Arguments.of(new SparseMatrixFactory()),
+                Arguments.of(new SparseMatrixFactory(SparseLUBackend.JAVA))
+        );
+    }
+
+    /**
+     * Tridiagonal matrix with 4 on the diagonal, -1 above and -2 below.
+     */
+    private static Matrix createMatrix(MatrixFactory factory, int n, int[] diagonalIndices) {
+        Matrix matrix = factory.create(n, n, 3 * n);
+        for (int j = 0; j < n; j++) {
+            if (j > 0) {
+                matrix.set(j - 1, j, -1);
+            }
+            diagonalIndices[j] = matrix.addAndGetIndex(j, j, 4);
+            if (j < n - 1) {
+                matrix.set(j + 1, j, -2);
+            }
+        }
+        return matrix;
+    }
+
+    /**
+     * Right hand sides with a single value on row c % n for column c, except every third column which is empty.
+     */
+    private static SparseMatrix createRhs(int n, int columnCount) {
+        SparseMatrix b = new SparseMatrix(n, columnCount, columnCount);
+        for (int c = 0; c < columnCount; c++) {
+            if (c % 3 != 0) {
+                b.set(c % n, c, c + 1d);
+            }
+        }
+        return b;
+    }
+
+    private static void checkSolutions(Matrix matrix, SparseMatrix b, DenseMatrix x, boolean transposed) {
+        DenseMatrix a = matrix.toDense();
+        DenseMatrix ax = (transposed ? a.transpose() : a).times(x);
+        DenseMatrix denseB = b.toDense();
+        for (int i = 0; i < ax.getRowCount(); i++) {
+            for (int j = 0; j < ax.getColumnCount(); j++) {
+                assertEquals(denseB.get(i, j), ax.get(i, j), EPSILON);
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMatrixFactories")
+    void testSolveWithWorkspace(MatrixFactory factory) {
+        int n = 10;
+        Matrix matrix = createMatrix(factory, n, new int[n]);
+        SparseMatrix b = createRhs(n, 25);
+        DenseMatrix x = new DenseMatrix(n, 25);
+        DenseMatrix xt = new DenseMatrix(n, 25);
+        // initialized to check empty right hand sides give a zero solution
+        for (int i = 0; i < n; i++) {
+            x.set(i, 0, 1);
+        }
+        double[] workspace = new double[n];
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            decomposition.solve(b, x, workspace);
+            decomposition.solveTransposed(b, xt, workspace);
+        }
+        checkSolutions(matrix, b, x, false);
+        checkSolutions(matrix, b, xt, true);
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMatrixFactories")
+    void testBatchSolver(MatrixFactory factory) {
+        int n = 20;
+        int[] diagonalIndices = new int[n];
+        Matrix matrix = createMatrix(factory, n, diagonalIndices);
+        SparseMatrix b = createRhs(n, 500);
+        DenseMatrix x = new DenseMatrix(n, 500);
+        DenseMatrix xt = new DenseMatrix(n, 500);
+        try (BatchLUSolver solver = new BatchLUSolver(matrix, 4, 16)) {
+            assertEquals(4, solver.getDecompositionCount());
+            assertEquals(16, solver.getBlockSize());
+            solver.solve(b, x);
+            solver.solveTransposed(b, xt);
+            checkSolutions(matrix, b, x, false);
+            checkSolutions(matrix, b, xt, true);
+
+            // update all the decompositions
+            for (int index : diagonalIndices) {
+                matrix.setAtIndex(index, 5);
+            }
+            solver.update();
+            solver.solve(b, x);
+            checkSolutions(matrix, b, x, false);
+        }
+    }
+
+    @Test
+    void testErrors() {
+        Matrix matrix = createMatrix(new DenseMatrixFactory(), 3, new int[3]);
+        assertThrows(MatrixException.class, () -> new BatchLUSolver(matrix, 0));
+        assertThrows(MatrixException.class, () -> new BatchLUSolver(matrix, 1, 0));
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            assertEquals(3, decomposition.getDimension());
+            SparseMatrix b = createRhs(3, 2);
+            DenseMatrix x = new DenseMatrix(3, 3);
+            double[] workspace = new double[3];
+            MatrixException e = assertThrows(MatrixException.class, () -> decomposition.solve(b, x, workspace));
+            assertEquals("Right hand sides and solutions column counts differ: 2 != 3", e.getMessage());
+            DenseMatrix x2 = new DenseMatrix(3, 2);
+            double[] workspace2 = new double[2];
+            // dimensions are checked against the decomposed matrix, not against the workspace
+            e = assertThrows(MatrixException.class, () -> decomposition.solve(b, x2, workspace2));
+            assertEquals("Incorrect workspace size 2, expected 3", e.getMessage());
+            SparseMatrix b2 = createRhs(2, 2);
+            DenseMatrix x3 = new DenseMatrix(2, 2);
+            e = assertThrows(MatrixException.class, () -> decomposition.solve(b2, x3, workspace2));
+            assertEquals("Incorrect right hand sides row count 2 or solutions row count 2, expected 3", e.getMessage());
+        }
+    }
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -172,4 +173,66 @@ class DenseMatrixTest extends AbstractMatrixTest {
         assertEquals("Argument epsilonValue should be positive but received -1.0", e.getMessage());
     }
 
+    private static DenseMatrix createRandom(int rowCount, int columnCount, Random random) {
+        DenseMatrix m = new DenseMatrix(rowCount, columnCount);
+        for (int j = 0; j < columnCount; j++) {
+            for (int i = 0; i < rowCount; i++) {
+                m.set(i, j, random.nextDouble() - 0.5);
+            }
+        }
+        return m;
+    }
+
+    @Test
+    void testBlockedMultiplication() {
+        // large enough to use several blocks and to be parallelized
+        Random random = new Random(0);
+        DenseMatrix a = createRandom(300, 200, random);
+        DenseMatrix b = createRandom(200, 130, random);
+        DenseMatrix c = a.times(b, 2);
+        for (int i = 0; i < a.getRowCount(); i++) {
+            for (int j = 0; j < b.getColumnCount(); j++) {
+                double s = 0;
+                for (int k = 0; k < a.getColumnCount(); k++) {
+                    s += a.get(i, k) * b.get(k, j);
+                }
+                // same accumulation order, so same result
+                assertEquals(s * 2, c.get(i, j), 0);
+            }
+        }
+    }
+
+    @Test
+    void testLargeDecompose() {
+        Random random = new Random(1);
+        int n = 200;
+        DenseMatrix a = createRandom(n, n, random);
+        DenseMatrix b = createRandom(n, 120, random);
+        DenseMatrix x = new DenseMatrix(n, 120);
+        DenseMatrix xt = new DenseMatrix(n, 120);
+        x.copyValuesFrom(b);
+        xt.copyValuesFrom(b);
+        try (LUDecomposition decomposition = a.decomposeLU()) {
+            decomposition.solve(x);
+            decomposition.solveTransposed(xt);
+        }
+        DenseMatrix ax = a.times(x);
+        DenseMatrix atxt = a.transpose().times(xt);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < 120; j++) {
+                assertEquals(b.get(i, j), ax.get(i, j), 1e-9);
+                assertEquals(b.get(i, j), atxt.get(i, j), 1e-9);
+            }
+        }
+    }
+
+    @Test
+    void testSingularDecompose() {
+        DenseMatrix a = new DenseMatrix(2, 2, new double[] {1, 2, 2, 4});
+        try (LUDecomposition decomposition = a.decomposeLU()) {
+            double[] b = {1, 1};
+            MatrixException e = assertThrows(MatrixException.class, () -> decomposition.solve(b));
+            assertEquals("Matrix is singular", e.getMessage());
+        }
+    }
 }
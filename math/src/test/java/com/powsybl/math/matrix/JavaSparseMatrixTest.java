@@ -0,0 +1,329 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class JavaSparseMatrixTest extends AbstractMatrixTest {
+
+    private final MatrixFactory matrixFactory = new SparseMatrixFactory(SparseLUBackend.JAVA);
+
+    private final MatrixFactory otherMatrixFactory = new DenseMatrixFactory();
+
+    @Override
+    protected MatrixFactory getMatrixFactory() {
+        return matrixFactory;
+    }
+
+    @Override
+    protected MatrixFactory getOtherMatrixFactory() {
+        return otherMatrixFactory;
+    }
+
+    /**
+     * Same as {@link AbstractMatrixTest#testDecompose()} but the solution after the update is compared to the exact
+     * one, as the rounding errors differ from the KLU ones the reference values were computed with.
+     */
+    @Override
+    @Test
+    void testDecompose() {
+        Matrix matrix = getMatrixFactory().create(5, 5, 12);
+        matrix.set(0, 0, 2);
+        matrix.set(1, 0, 3);
+        matrix.set(0, 1, 3);
+        matrix.set(2, 1, -1);
+        matrix.set(4, 1, 4);
+        matrix.set(1, 2, 4);
+        matrix.set(2, 2, -3);
+        Matrix.Element e = matrix.addAndGetElement(3, 2, 1);
+        matrix.set(4, 2, 2);
+        matrix.set(2, 3, 2);
+        matrix.set(1, 4, 6);
+        matrix.set(4, 4, 1);
+
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            double[] x = {8, 45, -3, 3, 19};
+            decomposition.solve(x);
+            assertArrayEquals(new double[]{1, 2, 3, 4, 5}, x, EPSILON);
+
+            e.set(4);
+            e.add(1);
+            decomposition.update();
+            double[] x2 = {8, 45, -3, 3, 19};
+            decomposition.solve(x2);
+            assertArrayEquals(new double[]{-1d / 95, 254d / 95, 0.6, 70d / 95, 675d / 95}, x2, 10 * EPSILON);
+        }
+    }
+
+    /**
+     * Create a jacobian like matrix of a grid network: each bus is connected to its neighbours, with slightly
+     * unsymmetric values, and some diagonal values are small so that off-diagonal pivots are needed.
+     */
+    private static SparseMatrix createGridMatrix(MatrixFactory factory, int size, Random random) {
+        int n = size * size;
+        SparseMatrix matrix = (SparseMatrix) factory.create(n, n, 5 * n);
+        for (int j = 0; j < n; j++) {
+            int row = j / size;
+            int column = j % size;
+            if (row > 0) {
+                matrix.set(j - size, j, -1 - random.nextDouble());
+            }
+            if (column > 0) {
+                matrix.set(j - 1, j, -1 - random.nextDouble());
+            }
+            matrix.set(j, j, j % 7 == 0 ? 1e-6 : 4 + random.nextDouble());
+            if (column < size - 1) {
+                matrix.set(j + 1, j, -1 - random.nextDouble());
+            }
+            if (row < size - 1) {
+                matrix.set(j + size, j, -1 - random.nextDouble());
+            }
+        }
+        return matrix;
+    }
+
+    private static SparseMatrix copy(SparseMatrix matrix, SparseLUBackend luBackend) {
+        SparseMatrix copy = new SparseMatrix(matrix.getRowCount(), matrix.getColumnCount(), matrix.getColumnStart().clone(),
+                matrix.getRowIndices().clone(), matrix.getValues().clone());
+        copy.setLUBackend(luBackend);
+        return copy;
+    }
+
+    private static double[] createRhs(int n, Random random) {
+        double[] b = new double[n];
+        for (int i = 0; i < n; i++) {
+            b[i] = random.nextDouble() - 0.5;
+        }
+        return b;
+    }
+
+    @Test
+    void testFactory() {
+        assertEquals(SparseLUBackend.KLU, new SparseMatrixFactory().getLUBackend());
+        SparseMatrix matrix = (SparseMatrix) matrixFactory.create(2, 2, 2);
+        assertEquals(SparseLUBackend.JAVA, matrix.getLUBackend());
+        matrix.set(0, 0, 1);
+        matrix.set(1, 1, 1);
+        assertEquals(SparseLUBackend.JAVA, matrix.transpose().getLUBackend());
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            assertInstanceOf(JavaSparseLUDecomposition.class, decomposition);
+        }
+        matrix.setLUBackend(SparseLUBackend.KLU);
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            assertInstanceOf(SparseLUDecomposition.class, decomposition);
+        }
+    }
+
+    @Test
+    void testSameOperationsAsKlu() {
+        Random random = new Random(2);
+        SparseMatrix javaMatrix = createGridMatrix(matrixFactory, 10, random);
+        SparseMatrix kluMatrix = copy(javaMatrix, SparseLUBackend.KLU);
+        SparseMatrix otherJavaMatrix = createGridMatrix(matrixFactory, 10, random);
+        SparseMatrix otherKluMatrix = copy(otherJavaMatrix, SparseLUBackend.KLU);
+        assertSameValues(kluMatrix.transpose(), javaMatrix.transpose());
+        assertSameValues(kluMatrix.times(otherKluMatrix), javaMatrix.times(otherJavaMatrix));
+        assertSameValues(kluMatrix.add(otherKluMatrix, 2, -3), javaMatrix.add(otherJavaMatrix, 2, -3));
+
+        SparseMatrix rectangular = (SparseMatrix) matrixFactory.create(3, 2, 2);
+        rectangular.set(2, 1, 5);
+        assertSameValues(copy(rectangular, SparseLUBackend.KLU).transpose(), rectangular.transpose());
+        assertThrows(MatrixException.class, () -> rectangular.times(rectangular));
+        assertThrows(MatrixException.class, () -> rectangular.add(javaMatrix, 1, 1));
+    }
+
+    private static void assertSameValues(SparseMatrix expected, SparseMatrix actual) {
+        assertEquals(SparseLUBackend.JAVA, actual.getLUBackend());
+        DenseMatrix expectedDense = expected.toDense();
+        DenseMatrix actualDense = actual.toDense();
+        assertEquals(expectedDense.getRowCount(), actualDense.getRowCount());
+        assertEquals(expectedDense.getColumnCount(), actualDense.getColumnCount());
+        for (int i = 0; i < expectedDense.getRowCount(); i++) {
+            for (int j = 0; j < expectedDense.getColumnCount(); j++) {
+                assertEquals(expectedDense.get(i, j), actualDense.get(i, j), 1e-12);
+            }
+        }
+    }
+
+    @Test
+    void testDefaultBackend() {
+        assertEquals(SparseLUBackend.KLU, SparseLUBackend.getDefault());
+        try {
+            System.setProperty(SparseLUBackend.DEFAULT_BACKEND_PROPERTY, "java");
+            assertEquals(SparseLUBackend.JAVA, SparseLUBackend.getDefault());
+            assertEquals(SparseLUBackend.JAVA, new SparseMatrixFactory().getLUBackend());
+            assertEquals(SparseLUBackend.JAVA, new SparseMatrix(1, 1, new int[] {0, 1}, new int[] {0}, new double[] {1}).getLUBackend());
+            System.setProperty(SparseLUBackend.DEFAULT_BACKEND_PROPERTY, "other");
+            assertThrows(MatrixException.class, SparseLUBackend::getDefault);
+        } finally {
+            System.clearProperty(SparseLUBackend.DEFAULT_BACKEND_PROPERTY);
+        }
+    }
+
+    @Test
+    void testSameResultsAsKlu() {
+        Random random = new Random(0);
+        SparseMatrix javaMatrix = createGridMatrix(matrixFactory, 20, random);
+        SparseMatrix kluMatrix = copy(javaMatrix, SparseLUBackend.KLU);
+        int n = javaMatrix.getRowCount();
+        try (LUDecomposition javaDecomposition = javaMatrix.decomposeLU();
+             LUDecomposition kluDecomposition = kluMatrix.decomposeLU()) {
+            double[] b = createRhs(n, random);
+            double[] x1 = b.clone();
+            double[] x2 = b.clone();
+            javaDecomposition.solve(x1);
+            kluDecomposition.solve(x2);
+            assertArrayEquals(x2, x1, 1e-8);
+
+            x1 = b.clone();
+            x2 = b.clone();
+            javaDecomposition.solveTransposed(x1);
+            kluDecomposition.solveTransposed(x2);
+            assertArrayEquals(x2, x1, 1e-8);
+
+            // multiple right hand sides
+            DenseMatrix b1 = new DenseMatrix(n, 3);
+            for (int c = 0; c < 3; c++) {
+                double[] column = createRhs(n, random);
+                for (int i = 0; i < n; i++) {
+                    b1.set(i, c, column[i]);
+                }
+            }
+            DenseMatrix b2 = new DenseMatrix(n, 3);
+            DenseMatrix b3 = new DenseMatrix(n, 3);
+            DenseMatrix b4 = new DenseMatrix(n, 3);
+            b2.copyValuesFrom(b1);
+            b3.copyValuesFrom(b1);
+            b4.copyValuesFrom(b1);
+            javaDecomposition.solve(b1);
+            kluDecomposition.solve(b2);
+            javaDecomposition.solveTransposed(b3);
+            kluDecomposition.solveTransposed(b4);
+            for (int c = 0; c < 3; c++) {
+                for (int i = 0; i < n; i++) {
+                    assertEquals(b2.get(i, c), b1.get(i, c), 1e-8);
+                    assertEquals(b4.get(i, c), b3.get(i, c), 1e-8);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentSolves() {
+        Random random = new Random(2);
+        SparseMatrix matrix = createGridMatrix(matrixFactory, 20, random);
+        int n = matrix.getRowCount();
+        double[][] rhs = new double[64][];
+        double[][] expected = new double[rhs.length][];
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            for (int r = 0; r < rhs.length; r++) {
+                rhs[r] = createRhs(n, random);
+                expected[r] = rhs[r].clone();
+                decomposition.solve(expected[r]);
+            }
+            // solves only read the factors, so they can share the decomposition
+            IntStream.range(0, rhs.length).parallel().forEach(r -> {
+                double[] x = rhs[r].clone();
+                decomposition.solve(x);
+                assertArrayEquals(expected[r], x, 0);
+            });
+        }
+    }
+
+    @Test
+    void testRefactor() {
+        Random random = new Random(1);
+        SparseMatrix matrix = createGridMatrix(matrixFactory, 10, random);
+        int n = matrix.getRowCount();
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            for (boolean allowIncrementalUpdate : new boolean[] {true, false}) {
+                // small change of the values: pivots are kept
+                for (int p = 0; p < matrix.getValueCount(); p++) {
+                    matrix.setAtIndex(p, matrix.getValues()[p] * (1 + 0.1 * random.nextDouble()));
+                }
+                decomposition.update(allowIncrementalUpdate);
+                double[] b = createRhs(n, random);
+                double[] x = b.clone();
+                decomposition.solve(x);
+                try (LUDecomposition reference = copy(matrix, SparseLUBackend.KLU).decomposeLU()) {
+                    reference.solve(b);
+                }
+                assertArrayEquals(b, x, 1e-8);
+            }
+
+            // previous pivot becomes zero: a full factorization is needed
+            matrix.setAtIndex(0, 0);
+            matrix.setAtIndex(1, 0);
+            decomposition.update();
+            double[] b = createRhs(n, random);
+            double[] x = b.clone();
+            decomposition.solve(x);
+            try (LUDecomposition reference = copy(matrix, SparseLUBackend.KLU).decomposeLU()) {
+                reference.solve(b);
+            }
+            assertArrayEquals(b, x, 1e-8);
+        }
+    }
+
+    @Test
+    void testSingular() {
+        SparseMatrix matrix = (SparseMatrix) matrixFactory.create(3, 3, 6);
+        matrix.set(0, 0, 1);
+        matrix.set(1, 0, 2);
+        matrix.set(0, 1, 2);
+        matrix.set(1, 1, 4);
+        matrix.set(2, 2, 1);
+        MatrixException e = assertThrows(MatrixException.class, matrix::decomposeLU);
+        assertEquals("Matrix is singular", e.getMessage());
+    }
+
+    @Test
+    void testWrongRhsSize() {
+        SparseMatrix matrix = (SparseMatrix) matrixFactory.create(2, 2, 2);
+        matrix.set(0, 0, 1);
+        matrix.set(1, 1, 1);
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            double[] b = new double[3];
+            MatrixException e = assertThrows(MatrixException.class, () -> decomposition.solve(b));
+            assertEquals("Incorrect right hand side size 3, expected 2", e.getMessage());
+        }
+    }
+
+    @Test
+    void testOrdering() {
+        // arrow matrix: the dense row and column have to be eliminated last
+        int n = 6;
+        int[] ap = new int[n + 1];
+        int[] ai = new int[3 * n];
+        int nnz = 0;
+        for (int j = 0; j < n; j++) {
+            ap[j] = nnz;
+            if (j == 0) {
+                for (int i = 0; i < n; i++) {
+                    ai[nnz++] = i;
+                }
+            } else {
+                ai[nnz++] = 0;
+                ai[nnz++] = j;
+            }
+        }
+        ap[n] = nnz;
+        int[] order = MinimumDegreeOrdering.compute(n, ap, ai);
+        assertEquals(n, Arrays.stream(order).distinct().count());
+        assertTrue(order[n - 2] == 0 || order[n - 1] == 0);
+    }
+}
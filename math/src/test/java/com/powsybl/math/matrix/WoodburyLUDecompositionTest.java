@@ -0,0 +1,189 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.math.matrix;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class WoodburyLUDecompositionTest {
+
+    private static final double EPSILON = 1e-10;
+
+    private static final int N = 8;
+
+    static Stream<Arguments> getMatrixFactories() {
+        return Stream.of(
+                Arguments.of(new DenseMatrixFactory()),
+                Arguments.of(new SparseMatrixFactory()),
+                Arguments.of(new SparseMatrixFactory(SparseLUBackend.JAVA))
+        );
+    }
+
+    /**
+     * Susceptance matrix like matrix of a ring of N buses with branch susceptances 1 + i, plus a shunt on bus 0 so
+     * that the matrix is not singular.
+     */
+    private static double[][] createValues() {
+        double[][] values = new double[N][N];
+        for (int i = 0; i < N; i++) {
+            int j = (i + 1) % N;
+            double b = 1 + i;
+            values[i][i] += b;
+            values[j][j] += b;
+            values[i][j] -= b;
+            values[j][i] -= b;
+        }
+        values[0][0] += 0.5;
+        // make it unsymmetric to check transposed solves
+        values[1][2] += 0.3;
+        return values;
+    }
+
+    private static Matrix createMatrix(MatrixFactory factory, double[][] values) {
+        Matrix matrix = factory.create(N, N, 3 * N);
+        for (int j = 0; j < N; j++) {
+            for (int i = 0; i < N; i++) {
+                if (values[i][j] != 0) {
+                    matrix.set(i, j, values[i][j]);
+                }
+            }
+        }
+        return matrix;
+    }
+
+    private static double[] createRhs() {
+        return IntStream.range(0, N).mapToDouble(i -> i - 3.5).toArray();
+    }
+
+    @ParameterizedTest
+    @MethodSource("getMatrixFactories")
+    void testBranchOutages(MatrixFactory factory) {
+        double[][] values = createValues();
+        Matrix matrix = createMatrix(factory, values);
+
+        // outage of branch 2-3 and susceptance of branch 5-6 decreased by 2: U = V = [e2 - e3, e5 - e6], C = diag(-3, -2)
+        DenseMatrix u = new DenseMatrix(N, 2);
+        u.set(2, 0, 1);
+        u.set(3, 0, -1);
+        u.set(5, 1, 1);
+        u.set(6, 1, -1);
+        DenseMatrix c = new DenseMatrix(2, 2);
+        c.set(0, 0, -3);
+        c.set(1, 1, -2);
+        double[][] modifiedValues = createValues();
+        modifiedValues[2][2] -= 3;
+        modifiedValues[3][3] -= 3;
+        modifiedValues[2][3] += 3;
+        modifiedValues[3][2] += 3;
+        modifiedValues[5][5] -= 2;
+        modifiedValues[6][6] -= 2;
+        modifiedValues[5][6] += 2;
+        modifiedValues[6][5] += 2;
+        Matrix modifiedMatrix = createMatrix(new DenseMatrixFactory(), modifiedValues);
+
+        try (LUDecomposition decomposition = matrix.decomposeLU();
+             LUDecomposition reference = modifiedMatrix.decomposeLU();
+             LUDecomposition modified = decomposition.withLowRankUpdate(u, c, u)) {
+            double[] x = createRhs();
+            double[] expected = createRhs();
+            modified.solve(x);
+            reference.solve(expected);
+            assertArrayEquals(expected, x, EPSILON);
+
+            x = createRhs();
+            expected = createRhs();
+            modified.solveTransposed(x);
+            reference.solveTransposed(expected);
+            assertArrayEquals(expected, x, EPSILON);
+
+            DenseMatrix xm = new DenseMatrix(N, 2);
+            for (int i = 0; i < N; i++) {
+                xm.set(i, 0, 1);
+                xm.set(i, 1, i);
+            }
+            DenseMatrix expectedMatrix = new DenseMatrix(N, 2);
+            expectedMatrix.copyValuesFrom(xm);
+            modified.solve(xm);
+            reference.solve(expectedMatrix);
+            for (int i = 0; i < N; i++) {
+                assertEquals(expectedMatrix.get(i, 0), xm.get(i, 0), EPSILON);
+                assertEquals(expectedMatrix.get(i, 1), xm.get(i, 1), EPSILON);
+            }
+
+            // base decomposition is not modified
+            double[] baseX = createRhs();
+            decomposition.solve(baseX);
+            DenseMatrix ax = matrix.toDense().times(new DenseMatrix(N, 1, baseX));
+            for (int i = 0; i < N; i++) {
+                assertEquals(createRhs()[i], ax.get(i, 0), EPSILON);
+            }
+        }
+    }
+
+    @Test
+    void testConcurrentViews() {
+        // the Java sparse decomposition supports concurrent solves, unlike the KLU one
+        double[][] values = createValues();
+        Matrix matrix = createMatrix(new SparseMatrixFactory(SparseLUBackend.JAVA), values);
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            // outage of each branch i-(i+1) except the one closing the ring, in parallel
+            IntStream.range(0, N - 1).parallel().forEach(i -> {
+                DenseMatrix u = new DenseMatrix(N, 1);
+                u.set(i, 0, 1);
+                u.set(i + 1, 0, -1);
+                DenseMatrix c = new DenseMatrix(1, 1, new double[] {-(1d + i)});
+                try (LUDecomposition modified = decomposition.withLowRankUpdate(u, c, u)) {
+                    double[] x = createRhs();
+                    modified.solve(x);
+                    double[][] modifiedValues = createValues();
+                    modifiedValues[i][i] -= 1 + i;
+                    modifiedValues[i + 1][i + 1] -= 1 + i;
+                    modifiedValues[i][i + 1] += 1 + i;
+                    modifiedValues[i + 1][i] += 1 + i;
+                    DenseMatrix ax = createMatrix(new DenseMatrixFactory(), modifiedValues).toDense().times(new DenseMatrix(N, 1, x));
+                    for (int r = 0; r < N; r++) {
+                        assertEquals(createRhs()[r], ax.get(r, 0), EPSILON);
+                    }
+                }
+            });
+        }
+    }
+
+    @Test
+    void testErrors() {
+        DenseMatrix matrix = new DenseMatrix(2, 2, new double[] {1, 0, 0, 1});
+        try (LUDecomposition decomposition = matrix.decomposeLU()) {
+            // modified matrix is singular
+            DenseMatrix u = new DenseMatrix(2, 1, new double[] {1, 0});
+            DenseMatrix c = new DenseMatrix(1, 1, new double[] {-1});
+            MatrixException e = assertThrows(MatrixException.class, () -> decomposition.withLowRankUpdate(u, c, u));
+            assertEquals("Matrix is singular", e.getMessage());
+
+            DenseMatrix v = new DenseMatrix(2, 2);
+            e = assertThrows(MatrixException.class, () -> decomposition.withLowRankUpdate(u, c, v));
+            assertEquals("U and V matrices dimensions differ", e.getMessage());
+            DenseMatrix c2 = new DenseMatrix(2, 2);
+            e = assertThrows(MatrixException.class, () -> decomposition.withLowRankUpdate(u, c2, u));
+            assertEquals("C matrix has to be a 1 * 1 matrix", e.getMessage());
+
+            DenseMatrix u3 = new DenseMatrix(3, 1);
+            e = assertThrows(MatrixException.class, () -> decomposition.withLowRankUpdate(u3, c, u3));
+            assertEquals("U and V matrices row count 3 differs from the decomposed matrix dimension 2", e.getMessage());
+        }
+    }
+}
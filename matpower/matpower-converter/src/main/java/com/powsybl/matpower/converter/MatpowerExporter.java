@@ -34,6 +34,8 @@ import java.util.*;
 import java.util.function.DoubleUnaryOperator;
 import java.util.stream.Stream;
 
+import static com.powsybl.matpower.model.MatpowerColumns.*;
+
 /**
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -133,6 +135,9 @@ public class MatpowerExporter implements Exporter {
 
         final Map<String, Integer> mBusesNumbersByIds = new HashMap<>();
 
+        // row of each bus number in the bus table
+        final Map<Integer, Integer> busRowsByNumbers = new HashMap<>();
+
         final List<String> generatorIdsConvertedToLoad = new ArrayList<>();
         final Set<Component> synchronousComponentsToBeExported = new HashSet<>();
         final Map<Integer, List<GenRc>> generatorsToBeExported = new HashMap<>();
@@ -254,30 +259,31 @@ public class MatpowerExporter implements Exporter {
         return context.num;
     }
 
-    private static void createTransformerStarBuses(Network network, MatpowerModel model, Context context) {
+    private static int addBus(MatpowerColumnarModel model, int number, String name, MBus.Type type, double baseVoltage, Context context) {
+        MatpowerTable buses = model.getBuses();
+        int row = buses.addRow();
+        buses.setInt(row, BUS_I, number)
+                .setInt(row, BUS_TYPE, type.getValue())
+                .setInt(row, BUS_AREA, AREA_NUMBER)
+                .setInt(row, ZONE, LOSS_ZONE)
+                .setDouble(row, BASE_KV, baseVoltage);
+        model.setBusName(row, name);
+        context.busRowsByNumbers.put(number, row);
+        return row;
+    }
+
+    private static void createTransformerStarBuses(Network network, MatpowerColumnarModel model, Context context) {
+        MatpowerTable buses = model.getBuses();
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
             Bus bus1 = findBus(twt.getLeg1().getTerminal());
             Bus bus2 = findBus(twt.getLeg2().getTerminal());
             Bus bus3 = findBus(twt.getLeg3().getTerminal());
             if (isExported(bus1, context) && isExported(bus2, context) && isExported(bus3, context)) {
-                MBus mBus = new MBus();
-                mBus.setNumber(findBusNumber(twt.getId(), context));
-                mBus.setName(twt.getNameOrId());
-                mBus.setType(findStarBusType(twt.getLeg1().getTerminal(), twt.getLeg2().getTerminal(), twt.getLeg3().getTerminal()));
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(twt.getRatedU0());
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                mBus.setRealPowerDemand(0d);
-                mBus.setReactivePowerDemand(0d);
-                mBus.setShuntConductance(0d);
-                mBus.setShuntSusceptance(0d);
-                mBus.setVoltageMagnitude(checkAndFixVoltageMagnitude(twt.hasProperty(V_PROP) ? Double.parseDouble(twt.getProperty(V_PROP)) / twt.getRatedU0() : 1d));
-                mBus.setVoltageAngle(checkAndFixVoltageAngle(twt.hasProperty(ANGLE_PROP) ? Double.parseDouble(twt.getProperty(ANGLE_PROP)) : 0d));
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                model.addBus(mBus);
+                int row = addBus(model, findBusNumber(twt.getId(), context), twt.getNameOrId(),
+                        findStarBusType(twt.getLeg1().getTerminal(), twt.getLeg2().getTerminal(), twt.getLeg3().getTerminal()),
+                        twt.getRatedU0(), context);
+                buses.setDouble(row, VM, checkAndFixVoltageMagnitude(twt.hasProperty(V_PROP) ? Double.parseDouble(twt.getProperty(V_PROP)) / twt.getRatedU0() : 1d))
+                        .setDouble(row, VA, checkAndFixVoltageAngle(twt.hasProperty(ANGLE_PROP) ? Double.parseDouble(twt.getProperty(ANGLE_PROP)) : 0d));
             }
         }
     }
@@ -290,45 +296,29 @@ public class MatpowerExporter implements Exporter {
         return getStatus(t1) == DISCONNECTED_STATUS && getStatus(t2) == DISCONNECTED_STATUS && getStatus(t3) == DISCONNECTED_STATUS;
     }
 
-    private static void createBoundaryLineBuses(Network network, MatpowerModel model, Context context) {
+    private static void createBoundaryLineBuses(Network network, MatpowerColumnarModel model, Context context) {
+        MatpowerTable buses = model.getBuses();
         for (BoundaryLine bl : network.getBoundaryLines(BoundaryLineFilter.UNPAIRED)) {
             Terminal t = bl.getTerminal();
             Bus bus = findBus(t);
             if (isExported(bus, context) && getStatus(t) == CONNECTED_STATUS) {
                 VoltageLevel vl = t.getVoltageLevel();
-                MBus mBus = new MBus();
-                mBus.setNumber(findBusNumber(bl.getId(), context));
-                mBus.setName(bl.getNameOrId());
-                mBus.setType(MBus.Type.PQ);
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(bl.getTerminal().getVoltageLevel().getNominalV());
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                mBus.setRealPowerDemand(bl.getP0());
-                mBus.setReactivePowerDemand(bl.getQ0());
-                mBus.setShuntConductance(0d);
-                mBus.setShuntSusceptance(0d);
-                mBus.setVoltageMagnitude(checkAndFixVoltageMagnitude(bl.getBoundary().getV() / vl.getNominalV()));
-                mBus.setVoltageAngle(checkAndFixVoltageAngle(bl.getBoundary().getAngle()));
-                mBus.setMinimumVoltageMagnitude(0d);
-                mBus.setMaximumVoltageMagnitude(0d);
-                model.addBus(mBus);
+                int row = addBus(model, findBusNumber(bl.getId(), context), bl.getNameOrId(), MBus.Type.PQ,
+                        bl.getTerminal().getVoltageLevel().getNominalV(), context);
+                buses.setDouble(row, PD, bl.getP0())
+                        .setDouble(row, QD, bl.getQ0())
+                        .setDouble(row, VM, checkAndFixVoltageMagnitude(bl.getBoundary().getV() / vl.getNominalV()))
+                        .setDouble(row, VA, checkAndFixVoltageAngle(bl.getBoundary().getAngle()));
             }
         }
     }
 
-    private static void createBuses(Network network, MatpowerModel model, Context context) {
+    private static void createBuses(Network network, MatpowerColumnarModel model, Context context) {
+        MatpowerTable buses = model.getBuses();
         for (Bus bus : network.getBusView().getBuses()) {
             if (isExported(bus, context)) {
                 VoltageLevel vl = bus.getVoltageLevel();
-                MBus mBus = new MBus();
-                mBus.setNumber(findBusNumber(bus.getId(), context));
-                mBus.setName(bus.getNameOrId());
-                mBus.setType(getType(bus, context));
-                mBus.setAreaNumber(AREA_NUMBER);
-                mBus.setLossZone(LOSS_ZONE);
-                mBus.setBaseVoltage(vl.getNominalV());
+                int row = addBus(model, findBusNumber(bus.getId(), context), bus.getNameOrId(), getType(bus, context), vl.getNominalV(), context);
                 double pDemand = 0;
                 double qDemand = 0;
                 for (Load l : bus.getLoads()) {
@@ -344,8 +334,6 @@ public class MatpowerExporter implements Exporter {
                     pDemand += HvdcUtils.getConverterStationTargetP(lcc);
                     qDemand += HvdcUtils.getLccConverterStationLoadTargetQ(lcc);
                 }
-                mBus.setRealPowerDemand(pDemand);
-                mBus.setReactivePowerDemand(qDemand);
                 double gSum = 0;
                 double bSum = 0;
                 double zb = vl.getNominalV() * vl.getNominalV() / BASE_MVA;
@@ -353,13 +341,14 @@ public class MatpowerExporter implements Exporter {
                     gSum += sc.getG() * zb * BASE_MVA;
                     bSum += sc.getB() * zb * BASE_MVA;
                 }
-                mBus.setShuntConductance(gSum);
-                mBus.setShuntSusceptance(bSum);
-                mBus.setVoltageMagnitude(checkAndFixVoltageMagnitude(bus.getV() / vl.getNominalV()));
-                mBus.setVoltageAngle(checkAndFixVoltageAngle(bus.getAngle()));
-                mBus.setMinimumVoltageMagnitude(getVoltageLimit(vl.getLowVoltageLimit(), vl.getNominalV()));
-                mBus.setMaximumVoltageMagnitude(getVoltageLimit(vl.getHighVoltageLimit(), vl.getNominalV()));
-                model.addBus(mBus);
+                buses.setDouble(row, PD, pDemand)
+                        .setDouble(row, QD, qDemand)
+                        .setDouble(row, GS, gSum)
+                        .setDouble(row, BS, bSum)
+                        .setDouble(row, VM, checkAndFixVoltageMagnitude(bus.getV() / vl.getNominalV()))
+                        .setDouble(row, VA, checkAndFixVoltageAngle(bus.getAngle()))
+                        .setDouble(row, VMIN, getVoltageLimit(vl.getLowVoltageLimit(), vl.getNominalV()))
+                        .setDouble(row, VMAX, getVoltageLimit(vl.getHighVoltageLimit(), vl.getNominalV()));
             }
         }
 
@@ -394,35 +383,35 @@ public class MatpowerExporter implements Exporter {
         return current * vl.getNominalV() / 1000d;
     }
 
-    private static void createLimits(MBranch mBranch, LoadingLimits limits, DoubleUnaryOperator converter) {
+    private static void createLimits(MatpowerTable branches, int row, LoadingLimits limits, DoubleUnaryOperator converter) {
         // rateA is mapped to permanent limit
         if (!Double.isNaN(limits.getPermanentLimit())) {
-            mBranch.setRateA(converter.applyAsDouble(limits.getPermanentLimit()));
+            branches.setDouble(row, RATE_A, converter.applyAsDouble(limits.getPermanentLimit()));
         }
         // rateB is mapped to the shortest term limit, if not an emergency limit (tempo <= 60s)
         LoadingLimits.TemporaryLimit limitB = findShortTermLimit(limits.getTemporaryLimits().stream())
                 .filter(limit -> !isEmergencyLimit(limit) && limit.getValue() != Double.MAX_VALUE)
                 .orElse(null);
         if (limitB != null) {
-            mBranch.setRateB(converter.applyAsDouble(limitB.getValue()));
+            branches.setDouble(row, RATE_B, converter.applyAsDouble(limitB.getValue()));
         }
         // rateC is mapped to the emergency limit (tempo <= 60s)
         findEmergencyLimit(limits.getTemporaryLimits().stream())
                 .flatMap(limit -> previousLimit(limits.getTemporaryLimits(), limit))
                 .filter(limit -> limitB == null || limit.getAcceptableDuration() != limitB.getAcceptableDuration())
-                .ifPresent(limitC -> mBranch.setRateC(converter.applyAsDouble(limitC.getValue())));
+                .ifPresent(limitC -> branches.setDouble(row, RATE_C, converter.applyAsDouble(limitC.getValue())));
     }
 
-    private static void createLimits(List<FlowsLimitsHolder> limitsHolders, VoltageLevel vl, MBranch mBranch) {
+    private static void createLimits(List<FlowsLimitsHolder> limitsHolders, VoltageLevel vl, MatpowerTable branches, int row) {
         limitsHolders.stream().flatMap(limitsHolder -> Stream.concat(limitsHolder.getApparentPowerLimits().stream(), // apparent power limits first then current limits
                                                                      limitsHolder.getCurrentLimits().stream()))
                 .filter(limits -> !Double.isNaN(limits.getPermanentLimit())) // skip when there is no permanent
                 .max(Comparator.comparingInt(loadingLimit -> loadingLimit.getTemporaryLimits().size())) // many temporary limits first
                 .ifPresent(limits -> {
                     if (limits.getLimitType() == LimitType.CURRENT) {
-                        createLimits(mBranch, limits, current -> toApparentPower(current, vl)); // convert from A to MVA
+                        createLimits(branches, row, limits, current -> toApparentPower(current, vl)); // convert from A to MVA
                     } else {
-                        createLimits(mBranch, limits, DoubleUnaryOperator.identity());
+                        createLimits(branches, row, limits, DoubleUnaryOperator.identity());
                     }
                 });
     }
@@ -569,26 +558,23 @@ public class MatpowerExporter implements Exporter {
         }
     }
 
-    private void createLines(Network network, MatpowerModel model, Context context) {
+    private void createLines(Network network, MatpowerColumnarModel model, Context context) {
         for (Line l : network.getLines()) {
             Terminal t1 = l.getTerminal1();
             Terminal t2 = l.getTerminal2();
-            createBranch(l.getId(), t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
-                    .ifPresent(branch -> {
-                        createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(l, TwoSides.TWO)),
-                                     t1.getVoltageLevel(), branch);
-                        model.addBranch(branch);
-                    });
+            createBranch(l.getId(), t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), model, context)
+                    .ifPresent(row -> createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(l, TwoSides.TWO)),
+                                                   t1.getVoltageLevel(), model.getBranches(), row));
         }
     }
 
-    private void createTransformers2(Network network, MatpowerModel model, Context context) {
+    private void createTransformers2(Network network, MatpowerColumnarModel model, Context context) {
         for (TwoWindingsTransformer twt : network.getTwoWindingsTransformers()) {
             createTransformer(twt, model, context);
         }
     }
 
-    private void createTransformer(TwoWindingsTransformer twt, MatpowerModel model, Context context) {
+    private void createTransformer(TwoWindingsTransformer twt, MatpowerColumnarModel model, Context context) {
         Terminal t1 = twt.getTerminal1();
         Terminal t2 = twt.getTerminal2();
         VoltageLevel vl1 = t1.getVoltageLevel();
@@ -620,27 +606,23 @@ public class MatpowerExporter implements Exporter {
         double xpu = x / zb;
         double bpu = b * zb;
 
-        Optional<MBranch> optionalMBranch = createMBranch(twt.getId(), t1, t2, rpu, xpu, bpu, ratio, phaseShiftAngle, context);
-        optionalMBranch.ifPresent(mBranch -> {
-            createLimits(List.of(new FlowsLimitsHolderBranchAdapter(twt, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(twt, TwoSides.TWO)), t1.getVoltageLevel(), mBranch);
-            model.addBranch(mBranch);
-        });
+        createMBranch(twt.getId(), t1, t2, rpu, xpu, bpu, ratio, phaseShiftAngle, model, context)
+                .ifPresent(row -> createLimits(List.of(new FlowsLimitsHolderBranchAdapter(twt, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(twt, TwoSides.TWO)),
+                                               t1.getVoltageLevel(), model.getBranches(), row));
     }
 
-    private void createTieLines(Network network, MatpowerModel model, Context context) {
+    private void createTieLines(Network network, MatpowerColumnarModel model, Context context) {
         for (TieLine l : network.getTieLines()) {
             Terminal t1 = l.getBoundaryLine1().getTerminal();
             Terminal t2 = l.getBoundaryLine2().getTerminal();
-            createBranch(l.getId(), t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), context)
-                    .ifPresent(branch -> {
-                        createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(l, TwoSides.TWO)),
-                                     t1.getVoltageLevel(), branch);
-                        model.addBranch(branch);
-                    });
+            createBranch(l.getId(), t1, t2, l.getR(), l.getX(), l.getB1(), l.getB2(), model, context)
+                    .ifPresent(row -> createLimits(List.of(new FlowsLimitsHolderBranchAdapter(l, TwoSides.ONE), new FlowsLimitsHolderBranchAdapter(l, TwoSides.TWO)),
+                                                   t1.getVoltageLevel(), model.getBranches(), row));
         }
     }
 
-    private static Optional<MBranch> createBranch(String id, Terminal t1, Terminal t2, double r, double x, double b1, double b2, Context context) {
+    private static OptionalInt createBranch(String id, Terminal t1, Terminal t2, double r, double x, double b1, double b2,
+                                            MatpowerColumnarModel model, Context context) {
         VoltageLevel vl1 = t1.getVoltageLevel();
         VoltageLevel vl2 = t2.getVoltageLevel();
 
@@ -650,33 +632,41 @@ public class MatpowerExporter implements Exporter {
         double b1pu = admittanceEndToPerUnitForLine(ytr.getImaginary(), b1, vl1.getNominalV(), vl2.getNominalV(), BASE_MVA);
         double b2pu = admittanceEndToPerUnitForLine(ytr.getImaginary(), b2, vl2.getNominalV(), vl1.getNominalV(), BASE_MVA);
 
-        return createMBranch(id, t1, t2, rpu, xpu, b1pu + b2pu, 0.0, 0.0, context);
+        return createMBranch(id, t1, t2, rpu, xpu, b1pu + b2pu, 0.0, 0.0, model, context);
     }
 
-    private static Optional<MBranch> createMBranch(String id, Terminal t1, Terminal t2, double rpu, double xpu, double bpu, double ratio, double phaseShiftAngle, Context context) {
+    private static int addBranch(MatpowerColumnarModel model, int from, int to, int status) {
+        MatpowerTable branches = model.getBranches();
+        int row = branches.addRow();
+        branches.setInt(row, F_BUS, from)
+                .setInt(row, T_BUS, to)
+                .setInt(row, BR_STATUS, status);
+        return row;
+    }
+
+    private static OptionalInt createMBranch(String id, Terminal t1, Terminal t2, double rpu, double xpu, double bpu, double ratio, double phaseShiftAngle,
+                                             MatpowerColumnarModel model, Context context) {
         Bus bus1 = findBus(t1);
         Bus bus2 = findBus(t2);
         if (isExported(bus1, context) && isExported(bus2, context)) {
             if (!bus1.getId().equals(bus2.getId())) {
-                MBranch mBranch = new MBranch();
-                mBranch.setFrom(context.mBusesNumbersByIds.get(bus1.getId()));
-                mBranch.setTo(context.mBusesNumbersByIds.get(bus2.getId()));
-                mBranch.setStatus(getStatus(t1, t2));
+                int row = addBranch(model, context.mBusesNumbersByIds.get(bus1.getId()), context.mBusesNumbersByIds.get(bus2.getId()),
+                        getStatus(t1, t2));
 
-                setBranchRX(id, mBranch, rpu, xpu);
-                mBranch.setB(bpu);
-                mBranch.setRatio(ratio);
-                mBranch.setPhaseShiftAngle(phaseShiftAngle);
+                setBranchRX(id, model.getBranches(), row, rpu, xpu);
+                model.getBranches().setDouble(row, BR_B, bpu)
+                        .setDouble(row, TAP, ratio)
+                        .setDouble(row, SHIFT, phaseShiftAngle);
 
                 if (isAntenna(t1, t2)) {
                     context.antennaIds.add(id);
                 }
-                return Optional.of(mBranch);
+                return OptionalInt.of(row);
             } else {
                 LOGGER.warn("Skip branch between connected to same bus '{}' at both sides", bus1.getId());
             }
         }
-        return Optional.empty();
+        return OptionalInt.empty();
     }
 
     // avoid NaN when r and x, both are 0.0
@@ -698,28 +688,26 @@ public class MatpowerExporter implements Exporter {
             + (nominalVoltageAtEnd - nominalVoltageAtOtherEnd) * nominalVoltageAtEnd * transmissionAdmittance) / sBase;
     }
 
-    private void createBoundaryLineBranches(Network network, MatpowerModel model, Context context) {
+    private void createBoundaryLineBranches(Network network, MatpowerColumnarModel model, Context context) {
+        MatpowerTable branches = model.getBranches();
         for (BoundaryLine bl : network.getBoundaryLines(BoundaryLineFilter.UNPAIRED)) {
             Terminal t = bl.getTerminal();
             Bus bus = t.getBusView().getBus();
             if (isExported(bus, context) && context.mBusesNumbersByIds.get(bl.getId()) != null) {
                 VoltageLevel vl = t.getVoltageLevel();
-                MBranch mBranch = new MBranch();
-                mBranch.setFrom(context.mBusesNumbersByIds.get(bus.getId()));
-                mBranch.setTo(context.mBusesNumbersByIds.get(bl.getId()));
-                mBranch.setStatus(getStatus(t)); // Only connected danglingLines are now exported
+                // Only connected danglingLines are now exported
+                int row = addBranch(model, context.mBusesNumbersByIds.get(bus.getId()), context.mBusesNumbersByIds.get(bl.getId()), getStatus(t));
                 double zb = vl.getNominalV() * vl.getNominalV() / BASE_MVA;
                 double rpu = bl.getR() / zb;
                 double xpu = bl.getX() / zb;
-                setBranchRX(bl.getId(), mBranch, rpu, xpu);
-                mBranch.setB(bl.getB() * zb);
-                createLimits(List.of(bl), t.getVoltageLevel(), mBranch);
-                model.addBranch(mBranch);
+                setBranchRX(bl.getId(), branches, row, rpu, xpu);
+                branches.setDouble(row, BR_B, bl.getB() * zb);
+                createLimits(List.of(bl), t.getVoltageLevel(), branches, row);
             }
         }
     }
 
-    private void createTransformerLegs(Network network, MatpowerModel model, Context context) {
+    private void createTransformerLegs(Network network, MatpowerColumnarModel model, Context context) {
         for (ThreeWindingsTransformer twt : network.getThreeWindingsTransformers()) {
             var leg1 = twt.getLeg1();
             var leg2 = twt.getLeg2();
@@ -732,13 +720,13 @@ public class MatpowerExporter implements Exporter {
             Bus bus3 = findBus(t3);
             if (context.mBusesNumbersByIds.get(twt.getId()) != null) {
                 if (isExported(bus1, context)) {
-                    model.addBranch(createTransformerLeg(twt, leg1, bus1, getStatus(t1), context));
+                    createTransformerLeg(twt, leg1, bus1, getStatus(t1), model, context);
                 }
                 if (isExported(bus2, context)) {
-                    model.addBranch(createTransformerLeg(twt, leg2, bus2, getStatus(t2), context));
+                    createTransformerLeg(twt, leg2, bus2, getStatus(t2), model, context);
                 }
                 if (isExported(bus3, context)) {
-                    model.addBranch(createTransformerLeg(twt, leg3, bus3, getStatus(t3), context));
+                    createTransformerLeg(twt, leg3, bus3, getStatus(t3), model, context);
                 }
                 if (isAntenna(t1, t2, t3)) {
                     context.antennaIds.add(twt.getId());
@@ -747,11 +735,10 @@ public class MatpowerExporter implements Exporter {
         }
     }
 
-    private static MBranch createTransformerLeg(ThreeWindingsTransformer twt, ThreeWindingsTransformer.Leg leg, Bus bus, int status, Context context) {
-        MBranch mBranch = new MBranch();
-        mBranch.setFrom(context.mBusesNumbersByIds.get(bus.getId()));
-        mBranch.setTo(context.mBusesNumbersByIds.get(twt.getId()));
-        mBranch.setStatus(status);
+    private static void createTransformerLeg(ThreeWindingsTransformer twt, ThreeWindingsTransformer.Leg leg, Bus bus, int status,
+                                             MatpowerColumnarModel model, Context context) {
+        MatpowerTable branches = model.getBranches();
+        int row = addBranch(model, context.mBusesNumbersByIds.get(bus.getId()), context.mBusesNumbersByIds.get(twt.getId()), status);
         double rho = 1d / (leg.getRatedU() / leg.getTerminal().getVoltageLevel().getNominalV());
         double r = leg.getR();
         double x = leg.getX();
@@ -765,7 +752,7 @@ public class MatpowerExporter implements Exporter {
         }
         var ptc = leg.getPhaseTapChanger();
         if (ptc != null) {
-            mBranch.setPhaseShiftAngle(-ptc.getCurrentStep().getAlpha());
+            branches.setDouble(row, SHIFT, -ptc.getCurrentStep().getAlpha());
             rho *= ptc.getCurrentStep().getRho();
             r *= 1 + ptc.getCurrentStep().getR() / 100;
             x *= 1 + ptc.getCurrentStep().getX() / 100;
@@ -774,15 +761,14 @@ public class MatpowerExporter implements Exporter {
         double zb = Math.pow(twt.getRatedU0(), 2) / BASE_MVA;
         double rpu = r / zb;
         double xpu = x / zb;
-        setBranchRX(twt.getId() + "(leg " + leg.getSide().getNum() + ")", mBranch, rpu, xpu);
-        mBranch.setB(b * zb);
-        mBranch.setRatio(1d / rho);
+        setBranchRX(twt.getId() + "(leg " + leg.getSide().getNum() + ")", branches, row, rpu, xpu);
+        branches.setDouble(row, BR_B, b * zb)
+                .setDouble(row, TAP, 1d / rho);
 
-        createLimits(List.of(leg), leg.getTerminal().getVoltageLevel(), mBranch);
-        return mBranch;
+        createLimits(List.of(leg), leg.getTerminal().getVoltageLevel(), branches, row);
     }
 
-    private static void setBranchRX(String id, MBranch mBranch, double rpu, double xpu) {
+    private static void setBranchRX(String id, MatpowerTable branches, int row, double rpu, double xpu) {
         double zpu = Math.hypot(rpu, xpu);
         double newRpu = rpu;
         double newXpu = xpu;
@@ -791,11 +777,11 @@ public class MatpowerExporter implements Exporter {
             newRpu = 0;
             newXpu = MIN_Z_PU;
         }
-        mBranch.setR(newRpu);
-        mBranch.setX(newXpu);
+        branches.setDouble(row, BR_R, newRpu)
+                .setDouble(row, BR_X, newXpu);
     }
 
-    private void createBranches(Network network, MatpowerModel model, Context context) {
+    private void createBranches(Network network, MatpowerColumnarModel model, Context context) {
         createLines(network, model, context);
         createTieLines(network, model, context);
         createTransformers2(network, model, context);
@@ -886,7 +872,7 @@ public class MatpowerExporter implements Exporter {
         return staticVarCompensator.getVoltageSetpoint() / staticVarCompensator.getRegulatingTerminal().getVoltageLevel().getNominalV();
     }
 
-    private void createDcLines(Network network, MatpowerModel model, Context context) {
+    private void createDcLines(Network network, MatpowerColumnarModel model, Context context) {
 
         for (HvdcLine hvdcLine : network.getHvdcLines()) {
             HvdcConverterStation<?> hvdcConverterStation1 = hvdcLine.getConverterStation1();
@@ -907,7 +893,8 @@ public class MatpowerExporter implements Exporter {
         return vscConverterStation1.isVoltageRegulatorOn() && vscConverterStation2.isVoltageRegulatorOn();
     }
 
-    private static void exportVscHvdcLine(VscConverterStation rectifierVscConverterStation, VscConverterStation inverterVscConverterStation, HvdcLine hvdcLine, MatpowerModel model, Context context) {
+    private static void exportVscHvdcLine(VscConverterStation rectifierVscConverterStation, VscConverterStation inverterVscConverterStation, HvdcLine hvdcLine,
+                                          MatpowerColumnarModel model, Context context) {
         if (isExportedAsDcLine(rectifierVscConverterStation, inverterVscConverterStation)) {
             createDcLine(rectifierVscConverterStation, inverterVscConverterStation, hvdcLine, model, context);
         } else {
@@ -916,49 +903,49 @@ public class MatpowerExporter implements Exporter {
         }
     }
 
-    private static void createDcLine(VscConverterStation rectifierVscConverterStation, VscConverterStation inverterVscConverterStation, HvdcLine hvdcLine, MatpowerModel model, Context context) {
+    private static void createDcLine(VscConverterStation rectifierVscConverterStation, VscConverterStation inverterVscConverterStation, HvdcLine hvdcLine,
+                                     MatpowerColumnarModel model, Context context) {
         Terminal rectifierTerminal = rectifierVscConverterStation.getTerminal();
         Bus rectifierBus = findBus(rectifierTerminal);
         Terminal inverterTerminal = inverterVscConverterStation.getTerminal();
         Bus inverterBus = findBus(inverterTerminal);
 
         if (isExported(rectifierBus, context) && isExported(inverterBus, context)) {
-            MDcLine mdcLine = new MDcLine();
-
-            mdcLine.setFrom(context.mBusesNumbersByIds.get(rectifierBus.getId()));
-            mdcLine.setTo(context.mBusesNumbersByIds.get(inverterBus.getId()));
-            mdcLine.setStatus(getStatus(rectifierTerminal, inverterTerminal));
+            MatpowerTable dcLines = model.getDcLines();
+            int row = dcLines.addRow();
+            dcLines.setInt(row, DC_F_BUS, context.mBusesNumbersByIds.get(rectifierBus.getId()))
+                    .setInt(row, DC_T_BUS, context.mBusesNumbersByIds.get(inverterBus.getId()))
+                    .setInt(row, DC_BR_STATUS, getStatus(rectifierTerminal, inverterTerminal));
 
             double rectifierTargetP = -HvdcUtils.getConverterStationTargetP(rectifierVscConverterStation);
             double inverterTargetP = HvdcUtils.getConverterStationTargetP(inverterVscConverterStation);
 
             double maxP = hvdcLine.getMaxP();
-            mdcLine.setPmin(0.0);
-            mdcLine.setPmax(maxP);
+            dcLines.setDouble(row, DC_PMIN, 0.0)
+                    .setDouble(row, DC_PMAX, maxP);
 
             // equal to the negative of the injection of corresponding dummy generator
-            mdcLine.setPf(rectifierTargetP);
-            mdcLine.setQf(checkAndFixTargetQ(rectifierVscConverterStation.getReactivePowerSetpoint()));
-            mdcLine.setVf(checkAndFixTargetVpu(findTargetVpu(rectifierVscConverterStation)));
+            dcLines.setDouble(row, DC_PF, rectifierTargetP)
+                    .setDouble(row, DC_QF, checkAndFixTargetQ(rectifierVscConverterStation.getReactivePowerSetpoint()))
+                    .setDouble(row, DC_VF, checkAndFixTargetVpu(findTargetVpu(rectifierVscConverterStation)));
             double rectifierMinQ = checkAndFixMinQ(rectifierVscConverterStation.getReactiveLimits().getMinQ(rectifierTargetP));
             double rectifierMaxQ = checkAndFixMaxQ(rectifierVscConverterStation.getReactiveLimits().getMaxQ(rectifierTargetP));
-            mdcLine.setQminf(rectifierMinQ);
-            mdcLine.setQmaxf(rectifierMaxQ);
+            dcLines.setDouble(row, DC_QMINF, rectifierMinQ)
+                    .setDouble(row, DC_QMAXF, rectifierMaxQ);
 
             // equal to the injection of the corresponding generator
-            mdcLine.setPt(inverterTargetP);
-            mdcLine.setQt(checkAndFixTargetQ(inverterVscConverterStation.getReactivePowerSetpoint()));
-            mdcLine.setVt(checkAndFixTargetVpu(findTargetVpu(inverterVscConverterStation)));
+            dcLines.setDouble(row, DC_PT, inverterTargetP)
+                    .setDouble(row, DC_QT, checkAndFixTargetQ(inverterVscConverterStation.getReactivePowerSetpoint()))
+                    .setDouble(row, DC_VT, checkAndFixTargetVpu(findTargetVpu(inverterVscConverterStation)));
             double inverterMinQ = checkAndFixMinQ(inverterVscConverterStation.getReactiveLimits().getMinQ(inverterTargetP));
             double inverterMaxQ = checkAndFixMaxQ(inverterVscConverterStation.getReactiveLimits().getMaxQ(inverterTargetP));
-            mdcLine.setQmint(inverterMinQ);
-            mdcLine.setQmaxt(inverterMaxQ);
+            dcLines.setDouble(row, DC_QMINT, inverterMinQ)
+                    .setDouble(row, DC_QMAXT, inverterMaxQ);
 
             double losses = rectifierTargetP - inverterTargetP;
             double l0 = calculateL0(rectifierVscConverterStation.getLossFactor(), rectifierTargetP, losses);
-            mdcLine.setLoss0(l0);
-            mdcLine.setLoss1(calculateL1(l0, losses, rectifierTargetP));
-            model.addDcLine(mdcLine);
+            dcLines.setDouble(row, DC_LOSS0, l0)
+                    .setDouble(row, DC_LOSS1, calculateL1(l0, losses, rectifierTargetP));
         }
     }
 
@@ -1065,58 +1052,58 @@ public class MatpowerExporter implements Exporter {
 
     // Matpower power flow does not support bus with multiple generators that do not have the same voltage regulation status.
     // If the bus has PV type, all of its generator must have a valid voltage set point.
-    private static void createGeneratorsAndDefinePVBuses(MatpowerModel model, Context context) {
+    private static void createGeneratorsAndDefinePVBuses(MatpowerColumnarModel model, Context context) {
         context.generatorsToBeExported.keySet().stream().sorted().forEach(busNumber -> createGeneratorAndDefinePVBuses(model, context, busNumber));
     }
 
-    private static void createGeneratorAndDefinePVBuses(MatpowerModel model, Context context, int busNumber) {
+    private static void createGeneratorAndDefinePVBuses(MatpowerColumnarModel model, Context context, int busNumber) {
         List<Context.GenRc> genRcs = context.generatorsToBeExported.get(busNumber);
-        MBus mBus = model.getBusByNum(busNumber);
+        MatpowerTable buses = model.getBuses();
+        Integer busRow = context.busRowsByNumbers.get(busNumber);
         List<Context.GenRc> connectedGenRcsWithRegulationOn = genRcs.stream().filter(genRc -> genRc.isValidVoltageRegulation && genRc.status == CONNECTED_STATUS).toList();
         List<Context.GenRc> disconnectedGenRcsWithRegulationOn = genRcs.stream().filter(genRc -> genRc.isValidVoltageRegulation && genRc.status == DISCONNECTED_STATUS).toList();
         List<Context.GenRc> connectedGenRcsWithRegulationOff = genRcs.stream().filter(genRc -> !genRc.isValidVoltageRegulation && genRc.status == CONNECTED_STATUS).toList();
         // disconnectedGenRcsWithRegulationOff are ignored as in this version are considered as loads
         if (connectedGenRcsWithRegulationOn.isEmpty()) {
             connectedGenRcsWithRegulationOff.forEach(genRc -> {
-                MGen mGen = createMGen(model, busNumber, genRc, context);
+                int genRow = createMGen(model, busNumber, genRc, context);
                 // we can safely set voltage setpoint to zero, because a PQ bus never go back to PV even if reactive limits
                 // are activated in Matpower power flow
-                mGen.setVoltageMagnitudeSetpoint(0);
+                model.getGenerators().setDouble(genRow, VG, 0);
             });
         } else {
-            if (mBus.getType().equals(MBus.Type.PQ)) {
-                mBus.setType(MBus.Type.PV);
+            if (buses.getInt(busRow, BUS_TYPE) == MBus.Type.PQ.getValue()) {
+                buses.setInt(busRow, BUS_TYPE, MBus.Type.PV.getValue());
             }
             connectedGenRcsWithRegulationOn.forEach(genRc -> createMGen(model, busNumber, genRc, context));
 
             connectedGenRcsWithRegulationOff.forEach(genRc -> {
-                mBus.setRealPowerDemand(mBus.getRealPowerDemand() - genRc.targetP);
-                mBus.setReactivePowerDemand(mBus.getReactivePowerDemand() - genRc.targetQ);
+                buses.setDouble(busRow, PD, buses.getDouble(busRow, PD) - genRc.targetP)
+                        .setDouble(busRow, QD, buses.getDouble(busRow, QD) - genRc.targetQ);
                 context.generatorIdsConvertedToLoad.add(genRc.id);
             });
         }
         disconnectedGenRcsWithRegulationOn.forEach(genRc -> createMGen(model, busNumber, genRc, context));
     }
 
-    private static MGen createMGen(MatpowerModel model, int busNumber, Context.GenRc genRc, Context context) {
-        MGen mGen = new MGen();
-        mGen.setNumber(busNumber);
-        mGen.setStatus(genRc.status);
-        mGen.setRealPowerOutput(genRc.targetP);
-        mGen.setReactivePowerOutput(Double.isNaN(genRc.targetQ) ? 0 : genRc.targetQ);
-        mGen.setVoltageMagnitudeSetpoint(genRc.targetVpu);
-
-        mGen.setMinimumRealPowerOutput(Math.max(genRc.minP, -context.maxGeneratorActivePowerLimit));
-        mGen.setMaximumRealPowerOutput(Math.min(genRc.maxP, context.maxGeneratorActivePowerLimit));
-        mGen.setMinimumReactivePowerOutput(Math.max(genRc.minQ, -context.maxGeneratorReactivePowerLimit));
-        mGen.setMaximumReactivePowerOutput(Math.min(genRc.maxQ, context.maxGeneratorReactivePowerLimit));
-        mGen.setTotalMbase(Double.isNaN(genRc.ratedS) ? 0 : genRc.ratedS);
-        model.addGenerator(mGen);
+    private static int createMGen(MatpowerColumnarModel model, int busNumber, Context.GenRc genRc, Context context) {
+        MatpowerTable gens = model.getGenerators();
+        int row = gens.addRow();
+        gens.setInt(row, GEN_BUS, busNumber)
+                .setInt(row, GEN_STATUS, genRc.status)
+                .setDouble(row, PG, genRc.targetP)
+                .setDouble(row, QG, Double.isNaN(genRc.targetQ) ? 0 : genRc.targetQ)
+                .setDouble(row, VG, genRc.targetVpu)
+                .setDouble(row, PMIN, Math.max(genRc.minP, -context.maxGeneratorActivePowerLimit))
+                .setDouble(row, PMAX, Math.min(genRc.maxP, context.maxGeneratorActivePowerLimit))
+                .setDouble(row, QMIN, Math.max(genRc.minQ, -context.maxGeneratorReactivePowerLimit))
+                .setDouble(row, QMAX, Math.min(genRc.maxQ, context.maxGeneratorReactivePowerLimit))
+                .setDouble(row, MBASE, Double.isNaN(genRc.ratedS) ? 0 : genRc.ratedS);
 
         if (genRc.isRemoteRegulation) {
             LOGGER.warn("Generator remote voltage control not supported in Matpower model, control has been localized {}", genRc.id);
         }
-        return mGen;
+        return row;
     }
 
     private static boolean isValidVoltageRegulation(boolean voltageRegulation, Bus regulatedBus) {
@@ -1194,7 +1181,8 @@ public class MatpowerExporter implements Exporter {
         double maxGeneratorActivePower = Parameter.readDouble(getFormat(), parameters, MAX_GENERATOR_ACTIVE_POWER_LIMIT_PARAMETER, defaultValueConfig);
         double maxGeneratorReactivePower = Parameter.readDouble(getFormat(), parameters, MAX_GENERATOR_REACTIVE_POWER_LIMIT_PARAMETER, defaultValueConfig);
 
-        MatpowerModel model = new MatpowerModel(network.getId());
+        // the network is written directly into the columns of the MATPOWER matrices, without any object per row
+        MatpowerColumnarModel model = new MatpowerColumnarModel(network.getId());
         model.setBaseMva(BASE_MVA);
         model.setVersion(MatpowerFormatVersion.V2);
 
@@ -31,8 +31,9 @@ import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.time.ZonedDateTime;
 import java.util.*;
-import java.util.function.Function;
-import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static com.powsybl.matpower.model.MatpowerColumns.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -67,6 +68,13 @@ public class MatpowerImporter implements Importer {
 
         private final List<Bus> slackBuses = new ArrayList<>();
 
+        // row of each bus number in the bus table
+        private final Map<Integer, Integer> busRowsByNum = new HashMap<>();
+
+        // rows of the generators of each bus, in the order of the generator table
+        private int[] generatorRowsStart;
+        private int[] generatorRows;
+
         private Context(double baseMva, boolean ignoreBaseMva) {
             this.baseMva = baseMva;
             this.ignoreBaseMva = ignoreBaseMva;
@@ -85,20 +93,59 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static boolean isLine(MatpowerModel model, MBranch branch) {
-        if (branch.getPhaseShiftAngle() != 0) {
+    private static void indexBuses(MatpowerColumnarModel model, Context context) {
+        MatpowerTable buses = model.getBuses();
+        for (int row = 0; row < buses.getRowCount(); row++) {
+            context.busRowsByNum.put(buses.getInt(row, BUS_I), row);
+        }
+
+        // generators are grouped by bus row, as a compressed sparse row index
+        MatpowerTable generators = model.getGenerators();
+        int[] generatorBusRows = new int[generators.getRowCount()];
+        context.generatorRowsStart = new int[buses.getRowCount() + 1];
+        for (int row = 0; row < generators.getRowCount(); row++) {
+            Integer busRow = context.busRowsByNum.get(generators.getInt(row, GEN_BUS));
+            generatorBusRows[row] = busRow != null ? busRow : -1;
+            if (busRow != null) {
+                context.generatorRowsStart[busRow + 1]++;
+            }
+        }
+        for (int busRow = 0; busRow < buses.getRowCount(); busRow++) {
+            context.generatorRowsStart[busRow + 1] += context.generatorRowsStart[busRow];
+        }
+        context.generatorRows = new int[context.generatorRowsStart[buses.getRowCount()]];
+        int[] next = Arrays.copyOf(context.generatorRowsStart, buses.getRowCount());
+        for (int row = 0; row < generators.getRowCount(); row++) {
+            if (generatorBusRows[row] != -1) {
+                context.generatorRows[next[generatorBusRows[row]]++] = row;
+            }
+        }
+    }
+
+    private static int getBusRow(int busNum, Context context) {
+        Integer row = context.busRowsByNum.get(busNum);
+        if (row == null) { // never should happen
+            throw new PowsyblException("busId without MBus" + busNum);
+        }
+        return row;
+    }
+
+    private static boolean isLine(MatpowerColumnarModel model, int branchRow, Context context) {
+        MatpowerTable branches = model.getBranches();
+        if (branches.getDouble(branchRow, SHIFT) != 0) {
             return false;
         }
-        if (branch.getRatio() == 0) {
+        double ratio = branches.getDouble(branchRow, TAP);
+        if (ratio == 0) {
             return true;
         }
-        MBus from = model.getBusByNum(branch.getFrom());
-        MBus to = model.getBusByNum(branch.getTo());
-        return branch.getRatio() == 1 && from.getBaseVoltage() == to.getBaseVoltage();
+        int fromRow = getBusRow(branches.getInt(branchRow, F_BUS), context);
+        int toRow = getBusRow(branches.getInt(branchRow, T_BUS), context);
+        return ratio == 1 && model.getBuses().getDouble(fromRow, BASE_KV) == model.getBuses().getDouble(toRow, BASE_KV);
     }
 
-    private static boolean isTransformer(MatpowerModel model, MBranch branch) {
-        return !isLine(model, branch);
+    private static boolean isTransformer(MatpowerColumnarModel model, int branchRow, Context context) {
+        return !isLine(model, branchRow, context);
     }
 
     private static String getId(String prefix, int num) {
@@ -109,35 +156,36 @@ public class MatpowerImporter implements Importer {
         return prefix + "-" + from + "-" + to;
     }
 
-    private static void createBuses(MatpowerModel model, ContainersMapping containerMapping, Network network, Context context) {
+    private static void createBuses(MatpowerColumnarModel model, ContainersMapping containerMapping, Network network, Context context) {
         Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId = new HashMap<>();
-        for (MBus mBus : model.getBuses()) {
-            String voltageLevelId = containerMapping.getVoltageLevelId(mBus.getNumber());
+        MatpowerTable buses = model.getBuses();
+        for (int row = 0; row < buses.getRowCount(); row++) {
+            String voltageLevelId = containerMapping.getVoltageLevelId(buses.getInt(row, BUS_I));
             String substationId = containerMapping.getSubstationId(voltageLevelId);
 
             // create substation
             Substation substation = createSubstation(network, substationId);
 
             // create voltage level
-            VoltageLevel voltageLevel = createVoltageLevel(mBus, voltageLevelId, substation, network, context);
+            VoltageLevel voltageLevel = createVoltageLevel(buses, row, voltageLevelId, substation, network, context);
 
             // create bus
-            Bus bus = createBus(mBus, voltageLevel);
-            if (mBus.getType() == MBus.Type.REF) {
+            Bus bus = createBus(model, row, voltageLevel);
+            if (MBus.Type.fromInt(buses.getInt(row, BUS_TYPE)) == MBus.Type.REF) {
                 context.getSlackBuses().add(bus);
             }
 
             // create voltage limits
-            createVoltageLimits(mBus, voltageLevel, voltageLimitsByVoltageLevelId);
+            createVoltageLimits(buses, row, voltageLevel, voltageLimitsByVoltageLevelId);
 
             // create load
-            createLoad(mBus, voltageLevel);
+            createLoad(buses, row, voltageLevel);
 
             // create shunt compensator
-            createShuntCompensator(mBus, voltageLevel, context);
+            createShuntCompensator(buses, row, voltageLevel, context);
 
             // create generators
-            createGenerators(model, mBus, voltageLevel);
+            createGenerators(model, row, voltageLevel, context);
         }
 
         // set voltage limits
@@ -171,72 +219,79 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static void createVoltageLimits(MBus mBus, VoltageLevel voltageLevel, Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId) {
+    private static void createVoltageLimits(MatpowerTable buses, int row, VoltageLevel voltageLevel, Map<String, Pair<Double, Double>> voltageLimitsByVoltageLevelId) {
         // as in IIDM, we only have one min and one max voltage level by voltage level we keep only the most severe ones
         Pair<Double, Double> voltageLimits = voltageLimitsByVoltageLevelId.computeIfAbsent(voltageLevel.getId(), k -> Pair.of(Double.NaN, Double.NaN));
-        if (mBus.getMinimumVoltageMagnitude() != 0) {
-            double lowVoltageLimit = mBus.getMinimumVoltageMagnitude() * voltageLevel.getNominalV();
+        double minimumVoltageMagnitude = buses.getDouble(row, VMIN);
+        double maximumVoltageMagnitude = buses.getDouble(row, VMAX);
+        if (minimumVoltageMagnitude != 0) {
+            double lowVoltageLimit = minimumVoltageMagnitude * voltageLevel.getNominalV();
             if (Double.isNaN(voltageLimits.getFirst()) || lowVoltageLimit > voltageLimits.getFirst()) {
                 voltageLimits.setFirst(lowVoltageLimit);
             }
         }
-        if (mBus.getMaximumVoltageMagnitude() != 0) {
-            double highVoltageLimit = mBus.getMaximumVoltageMagnitude() * voltageLevel.getNominalV();
+        if (maximumVoltageMagnitude != 0) {
+            double highVoltageLimit = maximumVoltageMagnitude * voltageLevel.getNominalV();
             if (Double.isNaN(voltageLimits.getSecond()) || highVoltageLimit < voltageLimits.getSecond()) {
                 voltageLimits.setSecond(highVoltageLimit);
             }
         }
     }
 
-    private static void createGenerators(MatpowerModel model, MBus mBus, VoltageLevel voltageLevel) {
-        for (MGen mGen : model.getGeneratorsByBusNum(mBus.getNumber())) {
-            String busId = getId(BUS_PREFIX, mGen.getNumber());
-            String genId = getId(GENERATOR_PREFIX, mGen.getNumber());
+    private static void createGenerators(MatpowerColumnarModel model, int busRow, VoltageLevel voltageLevel, Context context) {
+        MatpowerTable gens = model.getGenerators();
+        for (int i = context.generatorRowsStart[busRow]; i < context.generatorRowsStart[busRow + 1]; i++) {
+            int row = context.generatorRows[i];
+            String busId = getId(BUS_PREFIX, gens.getInt(row, GEN_BUS));
+            String genId = getId(GENERATOR_PREFIX, gens.getInt(row, GEN_BUS));
+            double voltageMagnitudeSetpoint = gens.getDouble(row, VG);
+            double totalMbase = gens.getDouble(row, MBASE);
             Generator generator = voltageLevel.newGenerator()
                     .setId(genId)
                     .setEnsureIdUnicity(true)
                     .setConnectableBus(busId)
-                    .setBus(isInService(mGen) ? busId : null)
-                    .setTargetV(mGen.getVoltageMagnitudeSetpoint() * voltageLevel.getNominalV())
-                    .setTargetP(mGen.getRealPowerOutput())
-                    .setTargetQ(mGen.getReactivePowerOutput())
-                    .setVoltageRegulatorOn(mGen.getVoltageMagnitudeSetpoint() != 0)
-                    .setMaxP(mGen.getMaximumRealPowerOutput())
-                    .setMinP(mGen.getMinimumRealPowerOutput())
-                    .setRatedS(mGen.getTotalMbase() != 0 ? mGen.getTotalMbase() : Double.NaN)
+                    .setBus(gens.getInt(row, GEN_STATUS) > 0 ? busId : null)
+                    .setTargetV(voltageMagnitudeSetpoint * voltageLevel.getNominalV())
+                    .setTargetP(gens.getDouble(row, PG))
+                    .setTargetQ(gens.getDouble(row, QG))
+                    .setVoltageRegulatorOn(voltageMagnitudeSetpoint != 0)
+                    .setMaxP(gens.getDouble(row, PMAX))
+                    .setMinP(gens.getDouble(row, PMIN))
+                    .setRatedS(totalMbase != 0 ? totalMbase : Double.NaN)
                     .add();
 
-            if (mGen.getPc1() != 0 || mGen.getPc2() != 0) {
+            if (gens.getDouble(row, PC1) != 0 || gens.getDouble(row, PC2) != 0) {
                 generator.newReactiveCapabilityCurve()
                         .beginPoint()
-                        .setP(mGen.getPc1())
-                        .setMaxQ(mGen.getQc1Max())
-                        .setMinQ(mGen.getQc1Min())
+                        .setP(gens.getDouble(row, PC1))
+                        .setMaxQ(gens.getDouble(row, QC1MAX))
+                        .setMinQ(gens.getDouble(row, QC1MIN))
                         .endPoint()
                         .beginPoint()
-                        .setP(mGen.getPc2())
-                        .setMaxQ(mGen.getQc2Max())
-                        .setMinQ(mGen.getQc2Min())
+                        .setP(gens.getDouble(row, PC2))
+                        .setMaxQ(gens.getDouble(row, QC2MAX))
+                        .setMinQ(gens.getDouble(row, QC2MIN))
                         .endPoint()
                         .add();
             } else {
                 generator.newMinMaxReactiveLimits()
-                        .setMinQ(mGen.getMinimumReactivePowerOutput())
-                        .setMaxQ(mGen.getMaximumReactivePowerOutput())
+                        .setMinQ(gens.getDouble(row, QMIN))
+                        .setMaxQ(gens.getDouble(row, QMAX))
                         .add();
             }
             LOGGER.trace("Created generator {}", generator.getId());
         }
     }
 
-    private static Bus createBus(MBus mBus, VoltageLevel voltageLevel) {
-        String busId = getId(BUS_PREFIX, mBus.getNumber());
+    private static Bus createBus(MatpowerColumnarModel model, int row, VoltageLevel voltageLevel) {
+        MatpowerTable buses = model.getBuses();
+        String busId = getId(BUS_PREFIX, buses.getInt(row, BUS_I));
         Bus bus = voltageLevel.getBusBreakerView().newBus()
                 .setId(busId)
-                .setName(mBus.getName())
+                .setName(model.getBusName(row))
                 .add();
-        bus.setV(mBus.getVoltageMagnitude() * voltageLevel.getNominalV())
-                .setAngle(mBus.getVoltageAngle());
+        bus.setV(buses.getDouble(row, VM) * voltageLevel.getNominalV())
+                .setAngle(buses.getDouble(row, VA));
         LOGGER.trace("Created bus {}", bus.getId());
         return bus;
     }
@@ -252,12 +307,13 @@ public class MatpowerImporter implements Importer {
         return substation;
     }
 
-    private static double getNominalV(MBus mBus, boolean ignoreBaseVoltage) {
-        return ignoreBaseVoltage || mBus.getBaseVoltage() == 0 ? 1 : mBus.getBaseVoltage();
+    private static double getNominalV(MatpowerTable buses, int row, boolean ignoreBaseVoltage) {
+        double baseVoltage = buses.getDouble(row, BASE_KV);
+        return ignoreBaseVoltage || baseVoltage == 0 ? 1 : baseVoltage;
     }
 
-    private static VoltageLevel createVoltageLevel(MBus mBus, String voltageLevelId, Substation substation, Network network, Context context) {
-        double nominalV = getNominalV(mBus, context.isIgnoreBaseMva());
+    private static VoltageLevel createVoltageLevel(MatpowerTable buses, int row, String voltageLevelId, Substation substation, Network network, Context context) {
+        double nominalV = getNominalV(buses, row, context.isIgnoreBaseMva());
         VoltageLevel voltageLevel = network.getVoltageLevel(voltageLevelId);
         if (voltageLevel == null) {
             voltageLevel = substation.newVoltageLevel()
@@ -270,25 +326,27 @@ public class MatpowerImporter implements Importer {
         return voltageLevel;
     }
 
-    private static void createLoad(MBus mBus, VoltageLevel voltageLevel) {
-        if (mBus.getRealPowerDemand() != 0 || mBus.getReactivePowerDemand() != 0) {
-            String busId = getId(BUS_PREFIX, mBus.getNumber());
-            String loadId = getId(LOAD_PREFIX, mBus.getNumber());
+    private static void createLoad(MatpowerTable buses, int row, VoltageLevel voltageLevel) {
+        double realPowerDemand = buses.getDouble(row, PD);
+        double reactivePowerDemand = buses.getDouble(row, QD);
+        if (realPowerDemand != 0 || reactivePowerDemand != 0) {
+            String busId = getId(BUS_PREFIX, buses.getInt(row, BUS_I));
+            String loadId = getId(LOAD_PREFIX, buses.getInt(row, BUS_I));
             Load newLoad = voltageLevel.newLoad()
                 .setId(loadId)
                 .setConnectableBus(busId)
                 .setBus(busId)
-                .setP0(mBus.getRealPowerDemand())
-                .setQ0(mBus.getReactivePowerDemand())
+                .setP0(realPowerDemand)
+                .setQ0(reactivePowerDemand)
                 .add();
             LOGGER.trace("Created load {}", newLoad.getId());
         }
     }
 
-    private static void createShuntCompensator(MBus mBus, VoltageLevel voltageLevel, Context context) {
-        if (mBus.getShuntSusceptance() != 0) {
-            String busId = getId(BUS_PREFIX, mBus.getNumber());
-            String shuntId = getId(SHUNT_PREFIX, mBus.getNumber());
+    private static void createShuntCompensator(MatpowerTable buses, int row, VoltageLevel voltageLevel, Context context) {
+        if (buses.getDouble(row, BS) != 0) {
+            String busId = getId(BUS_PREFIX, buses.getInt(row, BUS_I));
+            String shuntId = getId(SHUNT_PREFIX, buses.getInt(row, BUS_I));
             double zb = voltageLevel.getNominalV() * voltageLevel.getNominalV() / context.getBaseMva();
             ShuntCompensatorAdder adder = voltageLevel.newShuntCompensator()
                     .setId(shuntId)
@@ -297,8 +355,8 @@ public class MatpowerImporter implements Importer {
                     .setVoltageRegulatorOn(false)
                     .setSectionCount(1);
             adder.newLinearModel()
-                    .setGPerSection(mBus.getShuntConductance() / context.getBaseMva() / zb)
-                    .setBPerSection(mBus.getShuntSusceptance() / context.getBaseMva() / zb)
+                    .setGPerSection(buses.getDouble(row, GS) / context.getBaseMva() / zb)
+                    .setBPerSection(buses.getDouble(row, BS) / context.getBaseMva() / zb)
                     .setMaximumSectionCount(1)
                     .add();
             ShuntCompensator newShunt = adder.add();
@@ -306,67 +364,56 @@ public class MatpowerImporter implements Importer {
         }
     }
 
-    private static boolean isInService(MBranch branch) {
-        return Math.abs(branch.getStatus()) > 0;
-    }
-
-    private static boolean isInService(MDcLine dcLine) {
-        return Math.abs(dcLine.getStatus()) > 0;
-    }
-
-    private static boolean isInService(MGen generator) {
-        return generator.getStatus() > 0;
-    }
-
-    private static void createApparentPowerLimits(MBranch mBranch, ApparentPowerLimitsAdder limitsAdder) {
-        limitsAdder.setPermanentLimit(mBranch.getRateA()); // long term rating
-        if (mBranch.getRateB() != 0) {
+    private static void createApparentPowerLimits(MatpowerTable branches, int row, ApparentPowerLimitsAdder limitsAdder) {
+        limitsAdder.setPermanentLimit(branches.getDouble(row, RATE_A)); // long term rating
+        if (branches.getDouble(row, RATE_B) != 0) {
             limitsAdder.beginTemporaryLimit()
                     .setName("RateB")
-                    .setValue(mBranch.getRateB())
+                    .setValue(branches.getDouble(row, RATE_B))
                     .setAcceptableDuration(60 * 20) // 20' for short term rating
                     .endTemporaryLimit();
         }
-        if (mBranch.getRateC() != 0) {
+        if (branches.getDouble(row, RATE_C) != 0) {
             limitsAdder.beginTemporaryLimit()
                     .setName("RateC")
-                    .setValue(mBranch.getRateC())
+                    .setValue(branches.getDouble(row, RATE_C))
                     .setAcceptableDuration(60) // 1' for emergency rating
                     .endTemporaryLimit();
         }
         limitsAdder.add();
     }
 
-    private static void createBranches(MatpowerModel model, ContainersMapping containerMapping, Network network, Context context) {
-        for (MBranch mBranch : model.getBranches()) {
+    private static void createBranches(MatpowerColumnarModel model, ContainersMapping containerMapping, Network network, Context context) {
+        MatpowerTable branches = model.getBranches();
+        for (int row = 0; row < branches.getRowCount(); row++) {
 
-            String connectableBus1 = getId(BUS_PREFIX, mBranch.getFrom());
-            String connectableBus2 = getId(BUS_PREFIX, mBranch.getTo());
-            String voltageLevel1Id = containerMapping.getVoltageLevelId(mBranch.getFrom());
-            String voltageLevel2Id = containerMapping.getVoltageLevelId(mBranch.getTo());
+            String connectableBus1 = getId(BUS_PREFIX, branches.getInt(row, F_BUS));
+            String connectableBus2 = getId(BUS_PREFIX, branches.getInt(row, T_BUS));
+            String voltageLevel1Id = containerMapping.getVoltageLevelId(branches.getInt(row, F_BUS));
+            String voltageLevel2Id = containerMapping.getVoltageLevelId(branches.getInt(row, T_BUS));
             VoltageLevel voltageLevel1 = network.getVoltageLevel(voltageLevel1Id);
             VoltageLevel voltageLevel2 = network.getVoltageLevel(voltageLevel2Id);
             double zb = voltageLevel2.getNominalV() * voltageLevel2.getNominalV() / context.getBaseMva();
-            boolean isInService = isInService(mBranch);
+            boolean isInService = Math.abs(branches.getInt(row, BR_STATUS)) > 0;
 
             Branch<?> branch;
-            if (isTransformer(model, mBranch)) {
-                branch = createTransformer(mBranch, voltageLevel1, connectableBus1, voltageLevel2, connectableBus2, isInService, zb);
+            if (isTransformer(model, row, context)) {
+                branch = createTransformer(branches, row, voltageLevel1, connectableBus1, voltageLevel2, connectableBus2, isInService, zb);
             } else {
-                branch = createLine(network, context, mBranch, voltageLevel1, connectableBus1, voltageLevel2, connectableBus2, isInService);
+                branch = createLine(network, context, branches, row, voltageLevel1, connectableBus1, voltageLevel2, connectableBus2, isInService);
             }
-            if (mBranch.getRateA() != 0) {
+            if (branches.getDouble(row, RATE_A) != 0) {
                 // we create the apparent power limit arbitrary on both sides
                 // there is probably something to fix on IIDM API to not have sided apparent
                 // power limits. Apparent power does not depend on voltage so it does not make
                 // sens to associate the limit to a branch side.
-                createApparentPowerLimits(mBranch, branch.getOrCreateSelectedOperationalLimitsGroup1().newApparentPowerLimits());
-                createApparentPowerLimits(mBranch, branch.getOrCreateSelectedOperationalLimitsGroup2().newApparentPowerLimits());
+                createApparentPowerLimits(branches, row, branch.getOrCreateSelectedOperationalLimitsGroup1().newApparentPowerLimits());
+                createApparentPowerLimits(branches, row, branch.getOrCreateSelectedOperationalLimitsGroup2().newApparentPowerLimits());
             }
         }
     }
 
-    private static Branch<?> createLine(Network network, Context context, MBranch mBranch,
+    private static Branch<?> createLine(Network network, Context context, MatpowerTable branches, int row,
                                         VoltageLevel voltageLevel1, String connectableBus1,
                                         VoltageLevel voltageLevel2, String connectableBus2,
                                         boolean isInService) {
@@ -376,16 +423,16 @@ public class MatpowerImporter implements Importer {
         double nominalV1 = voltageLevel1.getNominalV();
         double nominalV2 = voltageLevel2.getNominalV();
         double sBase = context.getBaseMva();
-        double r = impedanceToEngineeringUnitsForLine(mBranch.getR(), nominalV1, nominalV2, sBase);
-        double x = impedanceToEngineeringUnitsForLine(mBranch.getX(), nominalV1, nominalV2, sBase);
+        double r = impedanceToEngineeringUnitsForLine(branches.getDouble(row, BR_R), nominalV1, nominalV2, sBase);
+        double x = impedanceToEngineeringUnitsForLine(branches.getDouble(row, BR_X), nominalV1, nominalV2, sBase);
         Complex ytr = impedanceToAdmittance(r, x);
         double g1 = admittanceEndToEngineeringUnitsForLine(ytr.getReal(), 0.0, nominalV1, nominalV2, sBase);
-        double b1 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), mBranch.getB() * 0.5, nominalV1, nominalV2, sBase);
+        double b1 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), branches.getDouble(row, BR_B) * 0.5, nominalV1, nominalV2, sBase);
         double g2 = admittanceEndToEngineeringUnitsForLine(ytr.getReal(), 0.0, nominalV2, nominalV1, sBase);
-        double b2 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), mBranch.getB() * 0.5, nominalV2, nominalV1, sBase);
+        double b2 = admittanceEndToEngineeringUnitsForLine(ytr.getImaginary(), branches.getDouble(row, BR_B) * 0.5, nominalV2, nominalV1, sBase);
 
         branch = network.newLine()
-                .setId(getId(LINE_PREFIX, mBranch.getFrom(), mBranch.getTo()))
+                .setId(getId(LINE_PREFIX, branches.getInt(row, F_BUS), branches.getInt(row, T_BUS)))
                 .setEnsureIdUnicity(true)
                 .setBus1(bus1)
                 .setConnectableBus1(connectableBus1)
@@ -404,7 +451,7 @@ public class MatpowerImporter implements Importer {
         return branch;
     }
 
-    private static Branch<?> createTransformer(MBranch mBranch,
+    private static Branch<?> createTransformer(MatpowerTable branches, int row,
                                                VoltageLevel voltageLevel1, String connectableBus1,
                                                VoltageLevel voltageLevel2, String connectableBus2,
                                                boolean isInService, double zb) {
@@ -413,11 +460,12 @@ public class MatpowerImporter implements Importer {
         String bus2 = isInService ? connectableBus2 : null;
         // we might have a matpower branch with a phase shift and a 0 ratio (0 in matpower just means undefined)
         // we need to create an IIDM transformer but we just in that case fix the ratio to 1
-        double ratio = mBranch.getRatio() == 0 ? 1 : mBranch.getRatio();
+        double ratio = branches.getDouble(row, TAP) == 0 ? 1 : branches.getDouble(row, TAP);
+        double phaseShiftAngle = branches.getDouble(row, SHIFT);
         TwoWindingsTransformer newTwt = voltageLevel2.getSubstation()
                 .orElseThrow(() -> new PowsyblException("Substation null! Transformer must be within a substation"))
                 .newTwoWindingsTransformer()
-                .setId(getId(TRANSFORMER_PREFIX, mBranch.getFrom(), mBranch.getTo()))
+                .setId(getId(TRANSFORMER_PREFIX, branches.getInt(row, F_BUS), branches.getInt(row, T_BUS)))
                 .setEnsureIdUnicity(true)
                 .setBus1(bus1)
                 .setConnectableBus1(connectableBus1)
@@ -427,17 +475,17 @@ public class MatpowerImporter implements Importer {
                 .setVoltageLevel2(voltageLevel2.getId())
                 .setRatedU1(voltageLevel1.getNominalV() * ratio)
                 .setRatedU2(voltageLevel2.getNominalV())
-                .setR(mBranch.getR() * zb)
-                .setX(mBranch.getX() * zb)
+                .setR(branches.getDouble(row, BR_R) * zb)
+                .setX(branches.getDouble(row, BR_X) * zb)
                 .setG(0)
-                .setB(mBranch.getB() / zb)
+                .setB(branches.getDouble(row, BR_B) / zb)
                 .add();
-        if (mBranch.getPhaseShiftAngle() != 0) {
+        if (phaseShiftAngle != 0) {
             newTwt.newPhaseTapChanger()
                     .setTapPosition(0)
                     .beginStep()
                     .setRho(1)
-                    .setAlpha(-mBranch.getPhaseShiftAngle())
+                    .setAlpha(-phaseShiftAngle)
                     .setR(0)
                     .setX(0)
                     .setG(0)
@@ -468,36 +516,41 @@ public class MatpowerImporter implements Importer {
         return shuntAdmittanceAtEnd * sBase / (nominalVoltageAtEnd * nominalVoltageAtEnd) - (1 - nominalVoltageAtOtherEnd / nominalVoltageAtEnd) * transmissionAdmittance;
     }
 
-    private static void createDcLines(MatpowerModel model, ContainersMapping containerMapping, Network network) {
-        for (MDcLine mDcLine : model.getDcLines()) {
-            String id = getId(HVDC_LINE_PREFIX, mDcLine.getFrom(), mDcLine.getTo());
-            String bus1Id = getId(BUS_PREFIX, mDcLine.getFrom());
-            String bus2Id = getId(BUS_PREFIX, mDcLine.getTo());
-            String voltageLevel1Id = containerMapping.getVoltageLevelId(mDcLine.getFrom());
-            String voltageLevel2Id = containerMapping.getVoltageLevelId(mDcLine.getTo());
+    private static void createDcLines(MatpowerColumnarModel model, ContainersMapping containerMapping, Network network) {
+        MatpowerTable dcLines = model.getDcLines();
+        for (int row = 0; row < dcLines.getRowCount(); row++) {
+            int from = dcLines.getInt(row, DC_F_BUS);
+            int to = dcLines.getInt(row, DC_T_BUS);
+            String id = getId(HVDC_LINE_PREFIX, from, to);
+            String bus1Id = getId(BUS_PREFIX, from);
+            String bus2Id = getId(BUS_PREFIX, to);
+            String voltageLevel1Id = containerMapping.getVoltageLevelId(from);
+            String voltageLevel2Id = containerMapping.getVoltageLevelId(to);
             VoltageLevel voltageLevel1 = network.getVoltageLevel(voltageLevel1Id);
             VoltageLevel voltageLevel2 = network.getVoltageLevel(voltageLevel2Id);
-            boolean isInService = isInService(mDcLine);
+            boolean isInService = Math.abs(dcLines.getInt(row, DC_BR_STATUS)) > 0;
             String connectedBus1Id = isInService ? bus1Id : null;
             String connectedBus2Id = isInService ? bus2Id : null;
-            String csId1 = getId(CONVERTER_STATION_1_PREFIX, mDcLine.getFrom(), mDcLine.getTo());
-            String csId2 = getId(CONVERTER_STATION_2_PREFIX, mDcLine.getFrom(), mDcLine.getTo());
-            double losses = mDcLine.getLoss0() + mDcLine.getLoss1() * mDcLine.getPf();
+            String csId1 = getId(CONVERTER_STATION_1_PREFIX, from, to);
+            String csId2 = getId(CONVERTER_STATION_2_PREFIX, from, to);
+            double pf = dcLines.getDouble(row, DC_PF);
+            double loss0 = dcLines.getDouble(row, DC_LOSS0);
+            double losses = loss0 + dcLines.getDouble(row, DC_LOSS1) * pf;
             VscConverterStation vsc1 = voltageLevel1.newVscConverterStation()
                     .setId(csId1)
                     .setBus(connectedBus1Id)
                     .setConnectableBus(bus1Id)
                     .setVoltageRegulatorOn(true)
-                    .setVoltageSetpoint(mDcLine.getVf() * voltageLevel1.getNominalV())
-                    .setLossFactor((float) computeLossFactor1(mDcLine.getPf(), mDcLine.getLoss0())) // To guarantee the round-trip
+                    .setVoltageSetpoint(dcLines.getDouble(row, DC_VF) * voltageLevel1.getNominalV())
+                    .setLossFactor((float) computeLossFactor1(pf, loss0)) // To guarantee the round-trip
                     .add();
             VscConverterStation vsc2 = voltageLevel2.newVscConverterStation()
                     .setId(csId2)
                     .setBus(connectedBus2Id)
                     .setConnectableBus(bus2Id)
                     .setVoltageRegulatorOn(true)
-                    .setVoltageSetpoint(mDcLine.getVt() * voltageLevel2.getNominalV())
-                    .setLossFactor((float) computeLossFactor2(mDcLine.getPf(), mDcLine.getLoss0(), losses - mDcLine.getLoss0()))
+                    .setVoltageSetpoint(dcLines.getDouble(row, DC_VT) * voltageLevel2.getNominalV())
+                    .setLossFactor((float) computeLossFactor2(pf, loss0, losses - loss0))
                     .add();
             network.newHvdcLine()
                     .setId(id)
@@ -505,17 +558,19 @@ public class MatpowerImporter implements Importer {
                     .setConverterStationId2(csId2)
                     .setR(0)
                     .setConvertersMode(HvdcLine.ConvertersMode.SIDE_1_RECTIFIER_SIDE_2_INVERTER)
-                    .setActivePowerSetpoint(mDcLine.getPf())
+                    .setActivePowerSetpoint(pf)
                     .setNominalV(voltageLevel1.getNominalV())
-                    .setMaxP(mDcLine.getPmax())
+                    .setMaxP(dcLines.getDouble(row, DC_PMAX))
                     .add();
 
-            if (reactiveLimitsAreOk(mDcLine.getQminf(), mDcLine.getQmaxf())) {
-                vsc1.newMinMaxReactiveLimits().setMinQ(mDcLine.getQminf()).setMaxQ(mDcLine.getQmaxf()).add();
-            }
-            if (reactiveLimitsAreOk(mDcLine.getQmint(), mDcLine.getQmaxt())) {
-                vsc2.newMinMaxReactiveLimits().setMinQ(mDcLine.getQmint()).setMaxQ(mDcLine.getQmaxt()).add();
-            }
+            createReactiveLimits(vsc1, dcLines.getDouble(row, DC_QMINF), dcLines.getDouble(row, DC_QMAXF));
+            createReactiveLimits(vsc2, dcLines.getDouble(row, DC_QMINT), dcLines.getDouble(row, DC_QMAXT));
+        }
+    }
+
+    private static void createReactiveLimits(VscConverterStation vsc, double minQ, double maxQ) {
+        if (reactiveLimitsAreOk(minQ, maxQ)) {
+            vsc.newMinMaxReactiveLimits().setMinQ(minQ).setMaxQ(maxQ).add();
         }
     }
 
@@ -591,27 +646,31 @@ public class MatpowerImporter implements Importer {
         try {
             try (InputStream iStream = dataSource.newInputStream(null, MatpowerConstants.EXT)) {
 
-                MatpowerModel model = MatpowerReader.read(iStream, dataSource.getBaseName());
+                MatpowerColumnarModel model = MatpowerReader.readColumnar(iStream, dataSource.getBaseName());
                 LOGGER.debug("MATPOWER model '{}'", model.getCaseName());
 
                 boolean ignoreBaseVoltage = Parameter.readBoolean(MatpowerConstants.FORMAT, parameters, IGNORE_BASE_VOLTAGE_PARAMETER,
                     ParameterDefaultValueConfig.INSTANCE);
 
-                Map<Integer, MBus> busNumToMBus = model.getBuses().stream().collect(Collectors.toMap(MBus::getNumber, Function.identity()));
-
-                ContainersMapping containerMapping = ContainersMapping.create(model.getBuses(), model.getBranches(),
-                    MBus::getNumber,
-                    MBranch::getFrom,
-                    MBranch::getTo,
-                    branch -> branch.getR() == 0.0 && branch.getX() == 0.0,
-                    branch -> isTransformer(model, branch),
-                    busNumber -> getNominalVFromBusNumber(busNumToMBus, busNumber, ignoreBaseVoltage),
+                Context context = new Context(model.getBaseMva(), ignoreBaseVoltage);
+                indexBuses(model, context);
+
+                // buses and branches are given to the mapping by their row in the tables
+                MatpowerTable buses = model.getBuses();
+                MatpowerTable branches = model.getBranches();
+                ContainersMapping containerMapping = ContainersMapping.create(
+                    IntStream.range(0, buses.getRowCount()).boxed().toList(),
+                    IntStream.range(0, branches.getRowCount()).boxed().toList(),
+                    row -> buses.getInt(row, BUS_I),
+                    row -> branches.getInt(row, F_BUS),
+                    row -> branches.getInt(row, T_BUS),
+                    row -> branches.getDouble(row, BR_R) == 0.0 && branches.getDouble(row, BR_X) == 0.0,
+                    row -> isTransformer(model, row, context),
+                    busNumber -> getNominalV(buses, getBusRow(busNumber, context), ignoreBaseVoltage),
                     busNumber -> 0,
                     busNums -> getId(VOLTAGE_LEVEL_PREFIX, busNums.stream().sorted().findFirst().orElseThrow(() -> new PowsyblException("Unexpected empty busNums"))),
                     substationNums -> getId(SUBSTATION_PREFIX, substationNums.stream().sorted().findFirst().orElseThrow(() -> new PowsyblException("Unexpected empty substationNums"))));
 
-                Context context = new Context(model.getBaseMva(), ignoreBaseVoltage);
-
                 createBuses(model, containerMapping, network, context);
 
                 createBranches(model, containerMapping, network, context);
@@ -628,11 +687,4 @@ public class MatpowerImporter implements Importer {
 
         return network;
     }
-
-    private double getNominalVFromBusNumber(Map<Integer, MBus> busNumToMBus, int busNumber, boolean ignoreBaseVoltage) {
-        if (!busNumToMBus.containsKey(busNumber)) { // never should happen
-            throw new PowsyblException("busId without MBus" + busNumber);
-        }
-        return getNominalV(busNumToMBus.get(busNumber), ignoreBaseVoltage);
-    }
 }
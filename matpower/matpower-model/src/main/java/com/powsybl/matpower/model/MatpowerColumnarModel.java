@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.matpower.model;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A MATPOWER case whose bus, gen, branch and dcline matrices are stored column by column in {@link MatpowerTable}s,
+ * indexed with the {@link MatpowerColumns} constants. Unlike {@link MatpowerModel}, it does not create any object per
+ * row, so that very large cases can be read, converted and written with a memory footprint close to the one of the
+ * MAT file.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public class MatpowerColumnarModel {
+
+    private String caseName;
+    private double baseMva;
+    private MatpowerFormatVersion version = MatpowerReader.MATPOWER_SUPPORTED_VERSION;
+
+    private final MatpowerTable buses;
+
+    private final List<String> busNames;
+
+    private final MatpowerTable generators;
+
+    private final MatpowerTable branches;
+
+    private final MatpowerTable dcLines;
+
+    public MatpowerColumnarModel(String caseName) {
+        this(caseName,
+                new MatpowerTable(MatpowerReader.MATPOWER_BUSES_COLUMNS),
+                new ArrayList<>(),
+                new MatpowerTable(MatpowerFormatVersion.V2.getGeneratorColumns()),
+                new MatpowerTable(MatpowerReader.MATPOWER_BRANCHES_COLUMNS),
+                new MatpowerTable(MatpowerReader.MATPOWER_DCLINES_COLUMNS));
+    }
+
+    MatpowerColumnarModel(String caseName, MatpowerTable buses, List<String> busNames, MatpowerTable generators,
+                          MatpowerTable branches, MatpowerTable dcLines) {
+        this.caseName = Objects.requireNonNull(caseName);
+        this.buses = Objects.requireNonNull(buses);
+        this.busNames = Objects.requireNonNull(busNames);
+        this.generators = Objects.requireNonNull(generators);
+        this.branches = Objects.requireNonNull(branches);
+        this.dcLines = Objects.requireNonNull(dcLines);
+    }
+
+    public String getCaseName() {
+        return caseName;
+    }
+
+    public void setCaseName(String caseName) {
+        this.caseName = Objects.requireNonNull(caseName);
+    }
+
+    public double getBaseMva() {
+        return baseMva;
+    }
+
+    public void setBaseMva(double baseMva) {
+        this.baseMva = baseMva;
+    }
+
+    public MatpowerFormatVersion getVersion() {
+        return version;
+    }
+
+    public void setVersion(MatpowerFormatVersion version) {
+        this.version = Objects.requireNonNull(version);
+    }
+
+    public MatpowerTable getBuses() {
+        return buses;
+    }
+
+    /**
+     * Get the name of a bus, or null if the bus has no name.
+     */
+    public String getBusName(int row) {
+        return row < busNames.size() ? busNames.get(row) : null;
+    }
+
+    public void setBusName(int row, String name) {
+        if (row < 0 || row >= buses.getRowCount()) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + buses.getRowCount() + " buses");
+        }
+        while (busNames.size() <= row) {
+            busNames.add(null);
+        }
+        busNames.set(row, name);
+    }
+
+    public MatpowerTable getGenerators() {
+        return generators;
+    }
+
+    public MatpowerTable getBranches() {
+        return branches;
+    }
+
+    public MatpowerTable getDcLines() {
+        return dcLines;
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.matpower.model;
+
+/**
+ * Column indices of the MATPOWER bus, gen, branch and dcline matrices, named after the MATPOWER idx_bus, idx_gen,
+ * idx_brch and idx_dcline functions (the dcline ones are prefixed with {@code DC_}).
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class MatpowerColumns {
+
+    // bus
+    public static final int BUS_I = 0;
+    public static final int BUS_TYPE = 1;
+    public static final int PD = 2;
+    public static final int QD = 3;
+    public static final int GS = 4;
+    public static final int BS = 5;
+    public static final int BUS_AREA = 6;
+    public static final int VM = 7;
+    public static final int VA = 8;
+    public static final int BASE_KV = 9;
+    public static final int ZONE = 10;
+    public static final int VMAX = 11;
+    public static final int VMIN = 12;
+
+    // gen
+    public static final int GEN_BUS = 0;
+    public static final int PG = 1;
+    public static final int QG = 2;
+    public static final int QMAX = 3;
+    public static final int QMIN = 4;
+    public static final int VG = 5;
+    public static final int MBASE = 6;
+    public static final int GEN_STATUS = 7;
+    public static final int PMAX = 8;
+    public static final int PMIN = 9;
+    public static final int PC1 = 10;
+    public static final int PC2 = 11;
+    public static final int QC1MIN = 12;
+    public static final int QC1MAX = 13;
+    public static final int QC2MIN = 14;
+    public static final int QC2MAX = 15;
+    public static final int RAMP_AGC = 16;
+    public static final int RAMP_10 = 17;
+    public static final int RAMP_30 = 18;
+    public static final int RAMP_Q = 19;
+    public static final int APF = 20;
+
+    // branch
+    public static final int F_BUS = 0;
+    public static final int T_BUS = 1;
+    public static final int BR_R = 2;
+    public static final int BR_X = 3;
+    public static final int BR_B = 4;
+    public static final int RATE_A = 5;
+    public static final int RATE_B = 6;
+    public static final int RATE_C = 7;
+    public static final int TAP = 8;
+    public static final int SHIFT = 9;
+    public static final int BR_STATUS = 10;
+    public static final int ANGMIN = 11;
+    public static final int ANGMAX = 12;
+
+    // dcline
+    public static final int DC_F_BUS = 0;
+    public static final int DC_T_BUS = 1;
+    public static final int DC_BR_STATUS = 2;
+    public static final int DC_PF = 3;
+    public static final int DC_PT = 4;
+    public static final int DC_QF = 5;
+    public static final int DC_QT = 6;
+    public static final int DC_VF = 7;
+    public static final int DC_VT = 8;
+    public static final int DC_PMIN = 9;
+    public static final int DC_PMAX = 10;
+    public static final int DC_QMINF = 11;
+    public static final int DC_QMAXF = 12;
+    public static final int DC_QMINT = 13;
+    public static final int DC_QMAXT = 14;
+    public static final int DC_LOSS0 = 15;
+    public static final int DC_LOSS1 = 16;
+
+    private MatpowerColumns() {
+    }
+}
@@ -16,11 +16,10 @@ import us.hebi.matlab.mat.types.*;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
+import java.util.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -39,16 +38,57 @@ public final class MatpowerReader {
     }
 
     public static MatpowerModel read(Path file, String caseName) throws IOException {
+        return read(file, caseName, MatpowerReader::createModel);
+    }
+
+    public static MatpowerModel read(InputStream iStream, String caseName) throws IOException {
+        return read(iStream, caseName, MatpowerReader::createModel);
+    }
+
+    /**
+     * Read a MATPOWER file into primitive columns, without creating any object per bus, generator or branch.
+     */
+    public static MatpowerColumnarModel readColumnar(Path file, String caseName) throws IOException {
+        return read(file, caseName, MatpowerReader::createColumnarModel);
+    }
+
+    /**
+     * Read a MATPOWER file into primitive columns, without creating any object per bus, generator or branch.
+     */
+    public static MatpowerColumnarModel readColumnar(InputStream iStream, String caseName) throws IOException {
+        return read(iStream, caseName, MatpowerReader::createColumnarModel);
+    }
+
+    @FunctionalInterface
+    private interface ModelFactory<T> {
+
+        T create(MatpowerStruct struct, String caseName);
+    }
+
+    private record MatpowerStruct(MatpowerFormatVersion version, double baseMva, Matrix buses, Cell busesNames,
+                                  Matrix generators, Matrix branches, Matrix dcLines, VersionToRead versionToRead) {
+    }
+
+    private static <T> T read(Path file, String caseName, ModelFactory<T> factory) throws IOException {
+        Objects.requireNonNull(file);
+        if (file.getFileSystem() == FileSystems.getDefault()) {
+            // the file is read from a memory mapped buffer, without being copied through a stream
+            try (Source source = Sources.openFile(file.toFile())) {
+                return read(source, caseName, factory);
+            }
+        }
         try (InputStream stream = Files.newInputStream(file)) {
-            return read(stream, caseName);
+            return read(stream, caseName, factory);
         }
     }
 
-    public static MatpowerModel read(InputStream iStream, String caseName) throws IOException {
+    private static <T> T read(InputStream iStream, String caseName, ModelFactory<T> factory) throws IOException {
         Objects.requireNonNull(iStream);
+        return read(Sources.wrapInputStream(iStream), caseName, factory);
+    }
 
-        MatpowerModel model = null;
-        try (MatFile mat = Mat5.newReader(Sources.wrapInputStream(iStream)).setEntryFilter(entry -> entry.getName().equals(MATPOWER_STRUCT_NAME)).readMat()) {
+    private static <T> T read(Source source, String caseName, ModelFactory<T> factory) throws IOException {
+        try (MatFile mat = Mat5.newReader(source).setEntryFilter(entry -> entry.getName().equals(MATPOWER_STRUCT_NAME)).readMat()) {
             if (mat.getNumEntries() == 0) {
                 throw new IllegalStateException("no MATPOWER data: expected structure named '" + MATPOWER_STRUCT_NAME + "' not found.");
             }
@@ -82,19 +122,55 @@ public final class MatpowerReader {
             Integer dcLineColumns = dcLines != null ? dcLines.getDimensions()[1] : null;
             VersionToRead versionToRead = checkNumberOfColumns(busColumns, generatorColumns, branchColumns, dcLineColumns);
 
-            model = new MatpowerModel(caseName);
-            model.setVersion(version);
-            model.setBaseMva(baseMVA);
-
-            readBuses(buses, busesNames, model);
-            readGenerators(generators, versionToRead.generatorVersion, model);
-            readBranches(branches, model);
-            readDcLines(dcLines, model);
+            return factory.create(new MatpowerStruct(version, baseMVA, buses, busesNames, generators, branches, dcLines, versionToRead), caseName);
         }
+    }
+
+    private static MatpowerModel createModel(MatpowerStruct struct, String caseName) {
+        MatpowerModel model = new MatpowerModel(caseName);
+        model.setVersion(struct.version());
+        model.setBaseMva(struct.baseMva());
+
+        readBuses(struct.buses(), struct.busesNames(), model);
+        readGenerators(struct.generators(), struct.versionToRead().generatorVersion, model);
+        readBranches(struct.branches(), model);
+        readDcLines(struct.dcLines(), model);
+        return model;
+    }
 
+    private static MatpowerColumnarModel createColumnarModel(MatpowerStruct struct, String caseName) {
+        MatpowerTable buses = readTable(struct.buses(), MATPOWER_BUSES_COLUMNS, MATPOWER_BUSES_COLUMNS);
+        List<String> busNames = new ArrayList<>();
+        if (struct.busesNames() != null) {
+            for (int row = 0; row < buses.getRowCount(); row++) {
+                busNames.add(getBusName(struct.busesNames(), row));
+            }
+        }
+        // columns of a version 1 file which are missing for version 2 are set to 0, as in MGen
+        MatpowerTable generators = readTable(struct.generators(), struct.versionToRead().generatorVersion.getGeneratorColumns(),
+                MatpowerFormatVersion.V2.getGeneratorColumns());
+        MatpowerTable branches = readTable(struct.branches(), MATPOWER_BRANCHES_COLUMNS, MATPOWER_BRANCHES_COLUMNS);
+        MatpowerTable dcLines = struct.dcLines() != null
+                ? readTable(struct.dcLines(), MATPOWER_DCLINES_COLUMNS, MATPOWER_DCLINES_COLUMNS)
+                : new MatpowerTable(MATPOWER_DCLINES_COLUMNS);
+        MatpowerColumnarModel model = new MatpowerColumnarModel(caseName, buses, busNames, generators, branches, dcLines);
+        model.setVersion(struct.version());
+        model.setBaseMva(struct.baseMva());
         return model;
     }
 
+    private static MatpowerTable readTable(Matrix matrix, int columnsToRead, int columnCount) {
+        int rowCount = matrix.getDimensions()[0];
+        MatpowerTable table = new MatpowerTable(columnCount, rowCount, rowCount);
+        for (int column = 0; column < columnsToRead; column++) {
+            double[] values = table.getColumn(column);
+            for (int row = 0; row < rowCount; row++) {
+                values[row] = matrix.getDouble(row, column);
+            }
+        }
+        return table;
+    }
+
     record VersionToRead(MatpowerFormatVersion generatorVersion) {
     }
 
@@ -122,13 +198,17 @@ public final class MatpowerReader {
         return new VersionToRead(generatorVersionToRead);
     }
 
+    private static String getBusName(Cell busesNames, int row) {
+        // the name of a bus without name is left empty by the writer
+        return busesNames.get(row) instanceof Char name ? name.getString() : null;
+    }
+
     private static void readBuses(Matrix buses, Cell busesNames, MatpowerModel model) {
         for (int row = 0; row < buses.getDimensions()[0]; row++) {
             MBus bus = new MBus();
             bus.setNumber(buses.getInt(row, 0));
             if (busesNames != null) {
-                String name = busesNames.getChar(row).getString();
-                bus.setName(name);
+                bus.setName(getBusName(busesNames, row));
             }
             bus.setType(MBus.Type.fromInt(buses.getInt(row, 1)));
             bus.setRealPowerDemand(buses.getDouble(row, 2));
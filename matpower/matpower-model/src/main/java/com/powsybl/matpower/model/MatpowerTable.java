@@ -0,0 +1,93 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.matpower.model;
+
+import java.util.Arrays;
+
+/**
+ * A MATPOWER matrix (bus, gen, branch or dcline) stored column by column in primitive arrays, without any object per
+ * row. Rows are added at the end of the table with all their values set to 0.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class MatpowerTable {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    private final double[][] columns;
+
+    private int rowCount;
+
+    public MatpowerTable(int columnCount) {
+        this(columnCount, 0, DEFAULT_CAPACITY);
+    }
+
+    MatpowerTable(int columnCount, int rowCount, int capacity) {
+        if (columnCount <= 0) {
+            throw new IllegalArgumentException("Invalid column count: " + columnCount);
+        }
+        columns = new double[columnCount][Math.max(rowCount, capacity)];
+        this.rowCount = rowCount;
+    }
+
+    public int getRowCount() {
+        return rowCount;
+    }
+
+    public int getColumnCount() {
+        return columns.length;
+    }
+
+    /**
+     * Add a row whose values are all 0.
+     *
+     * @return the index of the new row
+     */
+    public int addRow() {
+        if (rowCount == columns[0].length) {
+            int capacity = Math.max(DEFAULT_CAPACITY, rowCount + (rowCount >> 1));
+            for (int column = 0; column < columns.length; column++) {
+                columns[column] = Arrays.copyOf(columns[column], capacity);
+            }
+        }
+        return rowCount++;
+    }
+
+    private void checkRow(int row) {
+        if (row < 0 || row >= rowCount) {
+            throw new IndexOutOfBoundsException("Row " + row + " out of bounds for " + rowCount + " rows");
+        }
+    }
+
+    public double getDouble(int row, int column) {
+        checkRow(row);
+        return columns[column][row];
+    }
+
+    public int getInt(int row, int column) {
+        return (int) getDouble(row, column);
+    }
+
+    public MatpowerTable setDouble(int row, int column, double value) {
+        checkRow(row);
+        columns[column][row] = value;
+        return this;
+    }
+
+    public MatpowerTable setInt(int row, int column, int value) {
+        return setDouble(row, column, value);
+    }
+
+    /**
+     * Get the values of a column. The returned array is the storage of the table, its length may be greater than the
+     * number of rows and it must not be modified.
+     */
+    double[] getColumn(int column) {
+        return columns[column];
+    }
+}
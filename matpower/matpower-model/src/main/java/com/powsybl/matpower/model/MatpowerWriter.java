@@ -9,17 +9,16 @@ package com.powsybl.matpower.model;
 
 import us.hebi.matlab.mat.format.Mat5;
 import us.hebi.matlab.mat.types.*;
-import us.hebi.matlab.mat.util.Casts;
 
-import java.io.*;
-import java.nio.ByteBuffer;
-import java.nio.ByteOrder;
-import java.nio.channels.Channels;
-import java.nio.channels.WritableByteChannel;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.FileSystems;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -83,18 +82,22 @@ public final class MatpowerWriter {
                     if (busesNames == null) {
                         busesNames = Mat5.newCell(buses.size(), 1);
                     }
-                    char[] chars = bus.getName().toCharArray();
-                    Char mChar = Mat5.newChar(1, chars.length);
-                    for (int i = 0; i < chars.length; i++) {
-                        mChar.setChar(i, chars[i]);
-                    }
-                    busesNames.set(row, 0, mChar);
+                    busesNames.set(row, 0, newChar(bus.getName()));
                 }
             }
         }
         return busesNames;
     }
 
+    private static Char newChar(String name) {
+        char[] chars = name.toCharArray();
+        Char mChar = Mat5.newChar(1, chars.length);
+        for (int i = 0; i < chars.length; i++) {
+            mChar.setChar(i, chars[i]);
+        }
+        return mChar;
+    }
+
     private static Matrix fillGeneratorsMatrix(List<MGen> gens, MatpowerFormatVersion version) {
         Matrix gensM = Mat5.newMatrix(gens.size(), version.getGeneratorColumns());
 
@@ -174,30 +177,163 @@ public final class MatpowerWriter {
         return dcLinesM;
     }
 
-    public static void write(MatpowerModel model, OutputStream oStream, boolean withBusNames) throws IOException {
-        Objects.requireNonNull(model);
-        Objects.requireNonNull(oStream);
-        try (WritableByteChannel channel = Channels.newChannel(oStream)) {
-            try (Struct struct = fillMatStruct(Mat5.newStruct(), model, withBusNames)) {
-                try (MatFile matFile = Mat5.newMatFile()) {
-                    matFile.addArray(MatpowerReader.MATPOWER_STRUCT_NAME, struct);
-                    channel.write(getByteBuffer(matFile));
+    private static Struct fillMatStruct(Struct struct, MatpowerColumnarModel model, boolean withBusNames) {
+        Matrix busesM = fillMatrix(model.getBuses(), MatpowerReader.MATPOWER_BUSES_COLUMNS);
+        Cell busesNames = fillBusesNames(model, withBusNames);
+        Matrix gensM = fillMatrix(model.getGenerators(), model.getVersion().getGeneratorColumns());
+        Matrix branchesM = fillMatrix(model.getBranches(), MatpowerReader.MATPOWER_BRANCHES_COLUMNS);
+
+        struct.set("version", Mat5.newString(model.getVersion().toString()))
+                .set("baseMVA", Mat5.newScalar(model.getBaseMva()))
+                .set("bus", busesM)
+                .set("gen", gensM)
+                .set("branch", branchesM);
+        if (model.getDcLines().getRowCount() > 0) {
+            struct.set("dcline", fillMatrix(model.getDcLines(), MatpowerReader.MATPOWER_DCLINES_COLUMNS));
+        }
+        if (busesNames != null) {
+            struct.set("bus_name", busesNames);
+        }
+        return struct;
+    }
+
+    private static Matrix fillMatrix(MatpowerTable table, int columnCount) {
+        int rowCount = table.getRowCount();
+        Matrix matrix = Mat5.newMatrix(rowCount, columnCount);
+        for (int column = 0; column < columnCount; column++) {
+            double[] values = table.getColumn(column);
+            for (int row = 0; row < rowCount; row++) {
+                matrix.setDouble(row, column, values[row]);
+            }
+        }
+        return matrix;
+    }
+
+    private static Cell fillBusesNames(MatpowerColumnarModel model, boolean withBusNames) {
+        Cell busesNames = null;
+        if (withBusNames) {
+            int busCount = model.getBuses().getRowCount();
+            for (int row = 0; row < busCount; row++) {
+                String name = model.getBusName(row);
+                if (name != null) {
+                    if (busesNames == null) {
+                        busesNames = Mat5.newCell(busCount, 1);
+                    }
+                    busesNames.set(row, 0, newChar(name));
                 }
             }
         }
+        return busesNames;
+    }
+
+    public static void write(MatpowerModel model, OutputStream oStream, boolean withBusNames) throws IOException {
+        Objects.requireNonNull(model);
+        write(struct -> fillMatStruct(struct, model, withBusNames), oStream);
     }
 
     public static void write(MatpowerModel model, Path pFile, boolean withBusNames) throws IOException {
+        Objects.requireNonNull(model);
+        write(struct -> fillMatStruct(struct, model, withBusNames), pFile);
+    }
+
+    /**
+     * Write a MATPOWER file from primitive columns, without creating any object per bus, generator or branch.
+     */
+    public static void write(MatpowerColumnarModel model, OutputStream oStream, boolean withBusNames) throws IOException {
+        Objects.requireNonNull(model);
+        write(struct -> fillMatStruct(struct, model, withBusNames), oStream);
+    }
+
+    /**
+     * Write a MATPOWER file from primitive columns, without creating any object per bus, generator or branch.
+     */
+    public static void write(MatpowerColumnarModel model, Path pFile, boolean withBusNames) throws IOException {
+        Objects.requireNonNull(model);
+        write(struct -> fillMatStruct(struct, model, withBusNames), pFile);
+    }
+
+    private static void write(UnaryOperator<Struct> structFiller, OutputStream oStream) throws IOException {
+        Objects.requireNonNull(oStream);
+        // the struct is deflated into a heap buffer, which only grows to the compressed size, and can be seeked back
+        // to write that size before being copied to the output
+        try (HeapSink sink = new HeapSink()) {
+            write(structFiller, sink);
+            sink.writeTo(oStream);
+        }
+    }
+
+    private static void write(UnaryOperator<Struct> structFiller, Path pFile) throws IOException {
         Objects.requireNonNull(pFile);
-        write(model, Files.newOutputStream(pFile), withBusNames);
+        if (pFile.getFileSystem() == FileSystems.getDefault()) {
+            // the struct is deflated directly into the file, which is seeked back to write its compressed size
+            try (Sink sink = Sinks.newStreamingFile(pFile.toFile())) {
+                write(structFiller, sink);
+            }
+        } else {
+            try (OutputStream oStream = Files.newOutputStream(pFile)) {
+                write(structFiller, oStream);
+            }
+        }
     }
 
-    private static ByteBuffer getByteBuffer(MatFile matFile) throws IOException {
-        int bufferSize = Casts.sint32(matFile.getUncompressedSerializedSize());
-        ByteBuffer buffer = ByteBuffer.allocate(bufferSize);
-        buffer.order(ByteOrder.nativeOrder());
-        matFile.writeTo(Sinks.wrap(buffer));
-        buffer.flip();
-        return buffer;
+    private static void write(UnaryOperator<Struct> structFiller, Sink sink) throws IOException {
+        try (Struct struct = structFiller.apply(Mat5.newStruct());
+             MatFile matFile = Mat5.newMatFile()) {
+            matFile.addArray(MatpowerReader.MATPOWER_STRUCT_NAME, struct);
+            Mat5.newWriter(sink.nativeOrder())
+                    .writeMat(matFile)
+                    .flush();
+        }
+    }
+
+    /**
+     * Seekable sink backed by a byte array growing with the written data.
+     */
+    private static final class HeapSink extends AbstractSink {
+
+        private static final int INITIAL_CAPACITY = 64 * 1024;
+
+        private byte[] data = new byte[INITIAL_CAPACITY];
+
+        private int position;
+
+        private int size;
+
+        private HeapSink() {
+            super(512);
+        }
+
+        @Override
+        public long position() {
+            return position;
+        }
+
+        @Override
+        public void position(long position) {
+            if (position < 0 || position > size) {
+                throw new IllegalArgumentException("Invalid position " + position + ", size is " + size);
+            }
+            this.position = (int) position;
+        }
+
+        @Override
+        public void writeBytes(byte[] buffer, int offset, int length) {
+            int end = Math.addExact(position, length);
+            if (end > data.length) {
+                data = Arrays.copyOf(data, Math.max(end, (int) Math.min(2L * data.length, Integer.MAX_VALUE - 8)));
+            }
+            System.arraycopy(buffer, offset, data, position, length);
+            position = end;
+            size = Math.max(size, end);
+        }
+
+        private void writeTo(OutputStream oStream) throws IOException {
+            oStream.write(data, 0, size);
+        }
+
+        @Override
+        public void close() {
+            // nothing to release, the buffer is garbage collected
+        }
     }
 }
@@ -15,14 +15,18 @@ import com.powsybl.commons.PowsyblException;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.nio.file.FileSystem;
+import java.nio.file.Files;
 import java.nio.file.Path;
 
 import static com.powsybl.matpower.model.MatpowerReader.*;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.eu>}
@@ -132,4 +136,158 @@ class MatpowerReaderWriterTest {
         e = assertThrows(PowsyblException.class, () -> MatpowerReader.checkNumberOfColumns(MATPOWER_BUSES_COLUMNS, generatorV2Columns, MATPOWER_BRANCHES_COLUMNS, 13));
         assertEquals("Unexpected number of columns for DC lines, expected at least 17 columns, but got 13", e.getMessage());
     }
+
+    private static MatpowerModel createLargeModel(int busCount) {
+        MatpowerModel model = new MatpowerModel("large");
+        model.setVersion(MatpowerFormatVersion.V2);
+        model.setBaseMva(100);
+        for (int num = 1; num <= busCount; num++) {
+            MBus bus = new MBus();
+            bus.setNumber(num);
+            bus.setName("BUS " + num);
+            bus.setType(num == 1 ? MBus.Type.REF : MBus.Type.PQ);
+            bus.setRealPowerDemand(num % 7 * 1.5);
+            bus.setReactivePowerDemand(num % 5 * 0.25);
+            bus.setAreaNumber(1);
+            bus.setVoltageMagnitude(1 + num % 11 * 0.001);
+            bus.setVoltageAngle(-num % 13 * 0.1);
+            bus.setBaseVoltage(380);
+            bus.setLossZone(1);
+            bus.setMaximumVoltageMagnitude(1.1);
+            bus.setMinimumVoltageMagnitude(0.9);
+            model.addBus(bus);
+            if (num % 10 == 1) {
+                MGen gen = new MGen();
+                gen.setNumber(num);
+                gen.setRealPowerOutput(100 + num % 3);
+                gen.setMaximumReactivePowerOutput(200);
+                gen.setMinimumReactivePowerOutput(-200.0);
+                gen.setVoltageMagnitudeSetpoint(1.02);
+                gen.setStatus(1);
+                gen.setMaximumRealPowerOutput(500);
+                model.addGenerator(gen);
+            }
+            if (num > 1) {
+                MBranch branch = new MBranch();
+                branch.setFrom(num - 1);
+                branch.setTo(num);
+                branch.setR(0.001 * (num % 3 + 1));
+                branch.setX(0.01 * (num % 4 + 1));
+                branch.setRateA(1000);
+                branch.setStatus(1);
+                model.addBranch(branch);
+            }
+        }
+        return model;
+    }
+
+    @Test
+    void testLargeCaseOnDefaultFileSystem(@TempDir Path tempDir) throws IOException {
+        MatpowerModel model = createLargeModel(20_000);
+
+        // the file is read from a mapped buffer on the default file system
+        Path file = tempDir.resolve("large.mat");
+        MatpowerWriter.write(model, file, true);
+        MatpowerModel model2 = MatpowerReader.read(file, model.getCaseName());
+        assertEquals(mapper.writeValueAsString(model), mapper.writeValueAsString(model2));
+
+        // the same file is written to a stream
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        MatpowerWriter.write(model, os, true);
+        MatpowerModel model3;
+        try (InputStream is = Files.newInputStream(file)) {
+            model3 = MatpowerReader.read(is, model.getCaseName());
+        }
+        assertEquals(Files.size(file), os.size());
+        assertEquals(mapper.writeValueAsString(model), mapper.writeValueAsString(model3));
+    }
+
+    private void testColumnarMatpowerFile(MatpowerModel model) throws IOException {
+        Path file = fileSystem.getPath("/work/model.mat");
+        MatpowerWriter.write(model, file, true);
+
+        // the columns read from the file are written back to the same content
+        MatpowerColumnarModel columnarModel = MatpowerReader.readColumnar(file, model.getCaseName());
+        assertEquals(model.getBuses().size(), columnarModel.getBuses().getRowCount());
+        assertEquals(model.getGenerators().size(), columnarModel.getGenerators().getRowCount());
+        assertEquals(model.getBranches().size(), columnarModel.getBranches().getRowCount());
+        assertEquals(model.getDcLines().size(), columnarModel.getDcLines().getRowCount());
+        Path file2 = fileSystem.getPath("/work/columnar-model.mat");
+        MatpowerWriter.write(columnarModel, file2, true);
+        assertEquals(Files.size(file), Files.size(file2));
+        assertEquals(mapper.writeValueAsString(model), mapper.writeValueAsString(MatpowerReader.read(file2, model.getCaseName())));
+    }
+
+    @Test
+    void testColumnarCase14() throws IOException {
+        testColumnarMatpowerFile(MatpowerModelFactory.create14());
+    }
+
+    @Test
+    void testColumnarCase9DcLine() throws IOException {
+        testColumnarMatpowerFile(MatpowerModelFactory.create9Dcline());
+    }
+
+    @Test
+    void testColumnarLargeCase(@TempDir Path tempDir) throws IOException {
+        MatpowerModel model = createLargeModel(20_000);
+        Path file = tempDir.resolve("large.mat");
+        MatpowerWriter.write(model, file, true);
+
+        MatpowerColumnarModel columnarModel = MatpowerReader.readColumnar(file, model.getCaseName());
+        assertEquals(MatpowerFormatVersion.V2, columnarModel.getVersion());
+        assertEquals(100, columnarModel.getBaseMva(), 0);
+        MatpowerTable buses = columnarModel.getBuses();
+        assertEquals(20_000, buses.getRowCount());
+        MBus bus = model.getBuses().get(1234);
+        assertEquals(bus.getNumber(), buses.getInt(1234, MatpowerColumns.BUS_I));
+        assertEquals(bus.getType().getValue(), buses.getInt(1234, MatpowerColumns.BUS_TYPE));
+        assertEquals(bus.getRealPowerDemand(), buses.getDouble(1234, MatpowerColumns.PD), 0);
+        assertEquals(bus.getVoltageAngle(), buses.getDouble(1234, MatpowerColumns.VA), 0);
+        assertEquals(bus.getName(), columnarModel.getBusName(1234));
+        MGen gen = model.getGenerators().get(100);
+        assertEquals(gen.getNumber(), columnarModel.getGenerators().getInt(100, MatpowerColumns.GEN_BUS));
+        assertEquals(gen.getRealPowerOutput(), columnarModel.getGenerators().getDouble(100, MatpowerColumns.PG), 0);
+        MBranch branch = model.getBranches().get(5678);
+        assertEquals(branch.getTo(), columnarModel.getBranches().getInt(5678, MatpowerColumns.T_BUS));
+        assertEquals(branch.getX(), columnarModel.getBranches().getDouble(5678, MatpowerColumns.BR_X), 0);
+
+        // written back to a stream, the content is unchanged
+        ByteArrayOutputStream os = new ByteArrayOutputStream();
+        MatpowerWriter.write(columnarModel, os, true);
+        assertEquals(Files.size(file), os.size());
+        assertEquals(mapper.writeValueAsString(model),
+                mapper.writeValueAsString(MatpowerReader.read(new ByteArrayInputStream(os.toByteArray()), model.getCaseName())));
+    }
+
+    @Test
+    void testColumnarModelCreation() throws IOException {
+        MatpowerColumnarModel columnarModel = new MatpowerColumnarModel("created");
+        columnarModel.setBaseMva(100);
+        MatpowerTable buses = columnarModel.getBuses();
+        for (int num = 1; num <= 100; num++) {
+            int row = buses.addRow();
+            buses.setInt(row, MatpowerColumns.BUS_I, num)
+                    .setInt(row, MatpowerColumns.BUS_TYPE, num == 1 ? MBus.Type.REF.getValue() : MBus.Type.PQ.getValue())
+                    .setDouble(row, MatpowerColumns.VM, 1)
+                    .setDouble(row, MatpowerColumns.BASE_KV, 225);
+        }
+        columnarModel.setBusName(99, "LAST");
+        int genRow = columnarModel.getGenerators().addRow();
+        columnarModel.getGenerators().setInt(genRow, MatpowerColumns.GEN_BUS, 1)
+                .setDouble(genRow, MatpowerColumns.PG, 50);
+        assertThrows(IndexOutOfBoundsException.class, () -> buses.getDouble(100, MatpowerColumns.VM));
+        assertThrows(IndexOutOfBoundsException.class, () -> columnarModel.setBusName(100, "OUT"));
+
+        Path file = fileSystem.getPath("/work/created.mat");
+        MatpowerWriter.write(columnarModel, file, true);
+        MatpowerModel model = MatpowerReader.read(file, columnarModel.getCaseName());
+        assertEquals(100, model.getBuses().size());
+        assertEquals(MBus.Type.REF, model.getBuses().get(0).getType());
+        assertEquals(225, model.getBusByNum(42).getBaseVoltage(), 0);
+        assertNull(model.getBusByNum(99).getName());
+        assertEquals("LAST", model.getBusByNum(100).getName());
+        assertEquals(50, model.getGeneratorsByBusNum(1).get(0).getRealPowerOutput(), 0);
+        assertTrue(model.getDcLines().isEmpty());
+    }
 }
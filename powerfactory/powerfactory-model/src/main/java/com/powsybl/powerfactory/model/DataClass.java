@@ -15,6 +15,9 @@ import java.io.IOException;
 import java.util.*;
 
 /**
+ * A PowerFactory class. The attribute values of the {@link DataObject objects} of the class are stored in columns
+ * shared by all these objects, see {@link DataObject} for the thread-safety consequences.
+ *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 public class DataClass {
@@ -23,7 +26,9 @@ public class DataClass {
 
     private final List<DataAttribute> attributes = new ArrayList<>();
 
-    private final Map<String, DataAttribute> attributesByName = new HashMap<>();
+    private final Map<String, Integer> attributeIndexesByName = new HashMap<>();
+
+    private final DataClassColumns columns = new DataClassColumns(this);
 
     public DataClass(String name) {
         this(name, Collections.emptyList());
@@ -42,11 +47,11 @@ public class DataClass {
 
     public DataClass addAttribute(DataAttribute attribute) {
         Objects.requireNonNull(attribute);
-        if (attributesByName.containsKey(attribute.getName())) {
+        if (attributeIndexesByName.containsKey(attribute.getName())) {
             throw new PowerFactoryException("Class '" + name + "' already has an attribute named '" + attribute.getName() + "'");
         }
+        attributeIndexesByName.put(attribute.getName(), attributes.size());
         attributes.add(attribute);
-        attributesByName.put(attribute.getName(), attribute);
         return this;
     }
 
@@ -55,8 +60,21 @@ public class DataClass {
     }
 
     public DataAttribute getAttributeByName(String name) {
+        int attributeIndex = getAttributeIndex(name);
+        return attributeIndex != -1 ? attributes.get(attributeIndex) : null;
+    }
+
+    /**
+     * Get the index of an attribute in the attribute list of the class, or -1 if the class has no such attribute.
+     */
+    int getAttributeIndex(String name) {
         Objects.requireNonNull(name);
-        return attributesByName.get(name);
+        Integer attributeIndex = attributeIndexesByName.get(name);
+        return attributeIndex != null ? attributeIndex : -1;
+    }
+
+    DataClassColumns getColumns() {
+        return columns;
     }
 
     static class ParsingContext {
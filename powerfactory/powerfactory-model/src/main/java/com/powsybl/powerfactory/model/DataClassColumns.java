@@ -0,0 +1,313 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.powerfactory.model;
+
+import java.util.*;
+
+/**
+ * Attribute values of all the objects of a class, stored by column: one column per attribute and one row per object.
+ *
+ * <p>Columns of integer, long, float and double attributes are primitive arrays, so that scalar values are not boxed.
+ * A value of another type (for instance a float value of a double attribute, as allowed for the C++ API) is kept
+ * aside as is, so that it is read back unchanged.
+ *
+ * <p>The columns are shared by all the objects of the class and are not thread-safe: objects of a class must not be
+ * created, and their attribute values must not be set, while other threads create or read objects of the same class.
+ * Reading attribute values concurrently is safe once the objects are loaded.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+final class DataClassColumns {
+
+    private static final int MIN_CAPACITY = 16;
+
+    abstract static class AbstractColumn {
+
+        private final BitSet rows = new BitSet();
+
+        private Map<Integer, Object> otherValues;
+
+        boolean isSet(int row) {
+            return rows.get(row);
+        }
+
+        /**
+         * True if the value of the row is set and stored in the primitive array of the column.
+         */
+        boolean isPrimitive(int row) {
+            return rows.get(row) && (otherValues == null || !otherValues.containsKey(row));
+        }
+
+        Object get(int row) {
+            if (!rows.get(row)) {
+                return null;
+            }
+            if (otherValues != null && otherValues.containsKey(row)) {
+                return otherValues.get(row);
+            }
+            return getValue(row);
+        }
+
+        void set(int row, Object value) {
+            if (setValue(row, value)) {
+                setPrimitive(row);
+            } else {
+                if (otherValues == null) {
+                    otherValues = new HashMap<>();
+                }
+                otherValues.put(row, value);
+                rows.set(row);
+            }
+        }
+
+        /**
+         * Mark the value of the row as set in the primitive array of the column.
+         */
+        protected void setPrimitive(int row) {
+            if (otherValues != null) {
+                otherValues.remove(row);
+            }
+            rows.set(row);
+        }
+
+        void clear(int row) {
+            rows.clear(row);
+            if (otherValues != null) {
+                otherValues.remove(row);
+            }
+        }
+
+        protected static int grow(int length, int row) {
+            return Math.max(row + 1, Math.max(MIN_CAPACITY, length * 2));
+        }
+
+        protected abstract Object getValue(int row);
+
+        /**
+         * Store the value in the primitive array of the column, or return false if it has not the type of the column.
+         */
+        protected abstract boolean setValue(int row, Object value);
+    }
+
+    static final class IntColumn extends AbstractColumn {
+
+        private int[] values = new int[0];
+
+        int getInt(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected boolean setValue(int row, Object value) {
+            if (value instanceof Integer intValue) {
+                store(row, intValue);
+                return true;
+            }
+            return false;
+        }
+
+        void setInt(int row, int value) {
+            store(row, value);
+            setPrimitive(row);
+        }
+
+        private void store(int row, int value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+        }
+    }
+
+    static final class LongColumn extends AbstractColumn {
+
+        private long[] values = new long[0];
+
+        long getLong(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected boolean setValue(int row, Object value) {
+            if (value instanceof Long longValue) {
+                store(row, longValue);
+                return true;
+            }
+            return false;
+        }
+
+        void setLong(int row, long value) {
+            store(row, value);
+            setPrimitive(row);
+        }
+
+        private void store(int row, long value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+        }
+    }
+
+    static final class FloatColumn extends AbstractColumn {
+
+        private float[] values = new float[0];
+
+        float getFloat(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected boolean setValue(int row, Object value) {
+            if (value instanceof Float floatValue) {
+                store(row, floatValue);
+                return true;
+            }
+            return false;
+        }
+
+        void setFloat(int row, float value) {
+            store(row, value);
+            setPrimitive(row);
+        }
+
+        private void store(int row, float value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+        }
+    }
+
+    static final class DoubleColumn extends AbstractColumn {
+
+        private double[] values = new double[0];
+
+        double getDouble(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected boolean setValue(int row, Object value) {
+            if (value instanceof Double doubleValue) {
+                store(row, doubleValue);
+                return true;
+            }
+            return false;
+        }
+
+        void setDouble(int row, double value) {
+            store(row, value);
+            setPrimitive(row);
+        }
+
+        private void store(int row, double value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+        }
+    }
+
+    static final class ObjectColumn extends AbstractColumn {
+
+        private Object[] values = new Object[0];
+
+        @Override
+        protected Object getValue(int row) {
+            return values[row];
+        }
+
+        @Override
+        protected boolean setValue(int row, Object value) {
+            if (row >= values.length) {
+                values = Arrays.copyOf(values, grow(values.length, row));
+            }
+            values[row] = value;
+            return true;
+        }
+
+        @Override
+        void clear(int row) {
+            super.clear(row);
+            if (row < values.length) {
+                values[row] = null;
+            }
+        }
+    }
+
+    private final DataClass dataClass;
+
+    private final List<AbstractColumn> columns = new ArrayList<>();
+
+    private int rowCount = 0;
+
+    DataClassColumns(DataClass dataClass) {
+        this.dataClass = Objects.requireNonNull(dataClass);
+    }
+
+    int addRow() {
+        return rowCount++;
+    }
+
+    int getRowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Get the column of an attribute, or null if no value has been set for this attribute.
+     */
+    AbstractColumn findColumn(int attributeIndex) {
+        return attributeIndex < columns.size() ? columns.get(attributeIndex) : null;
+    }
+
+    /**
+     * Get the column of an attribute, created on first use as attributes can be added to the class after its objects.
+     */
+    AbstractColumn getColumn(int attributeIndex) {
+        while (columns.size() <= attributeIndex) {
+            columns.add(null);
+        }
+        AbstractColumn column = columns.get(attributeIndex);
+        if (column == null) {
+            column = createColumn(dataClass.getAttributes().get(attributeIndex).getType());
+            columns.set(attributeIndex, column);
+        }
+        return column;
+    }
+
+    private static AbstractColumn createColumn(DataAttributeType type) {
+        return switch (type) {
+            case INTEGER -> new IntColumn();
+            case INTEGER64 -> new LongColumn();
+            case FLOAT -> new FloatColumn();
+            case DOUBLE -> new DoubleColumn();
+            default -> new ObjectColumn();
+        };
+    }
+}
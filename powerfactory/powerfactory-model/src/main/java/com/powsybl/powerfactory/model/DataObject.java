@@ -23,6 +23,13 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
+ * A PowerFactory object.
+ *
+ * <p>Unless they are given a map, objects store their attribute values in columns shared by all the objects of their
+ * {@link DataClass class}. Objects are therefore not thread-safe, even if they are distinct: objects of a class must
+ * not be created or modified while other threads create, modify or read objects of the same class. Reading attribute
+ * values concurrently is safe once the objects are loaded.
+ *
  * @author Geoffroy Jamgotchian
  *         {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
@@ -34,24 +41,215 @@ public class DataObject {
 
     private final List<DataObject> children = new ArrayList<>();
 
+    private final List<DataObject> childrenView = new ChildrenView();
+
+    /**
+     * Children indexed by class name, built on first search by class.
+     */
+    private Map<String, List<DataObject>> childrenByClassName;
+
+    /**
+     * Modifiable view of the children, which invalidates the index by class name when it is modified.
+     */
+    private final class ChildrenView extends AbstractList<DataObject> implements RandomAccess {
+
+        @Override
+        public DataObject get(int i) {
+            return children.get(i);
+        }
+
+        @Override
+        public int size() {
+            return children.size();
+        }
+
+        @Override
+        public DataObject set(int i, DataObject child) {
+            childrenByClassName = null;
+            return children.set(i, child);
+        }
+
+        @Override
+        public void add(int i, DataObject child) {
+            childrenByClassName = null;
+            modCount++;
+            children.add(i, child);
+        }
+
+        @Override
+        public DataObject remove(int i) {
+            childrenByClassName = null;
+            modCount++;
+            return children.remove(i);
+        }
+    }
+
     private final DataClass dataClass;
 
     private final DataObjectIndex index;
 
+    /**
+     * Row of the object in the columns of its class, or -1 if attribute values are stored in a map.
+     */
+    private final int row;
+
     private final Map<String, Object> attributeValues;
 
+    /**
+     * Indexes of the attributes of the class whose value is set, in the order they have been set, when attribute
+     * values are stored in the columns of the class.
+     */
+    private int[] setAttributeIndexes = new int[0];
+
+    private int setAttributeCount = 0;
+
+    /**
+     * Create an object whose attribute values are stored in the columns of its class.
+     */
     public DataObject(long id, DataClass dataClass, DataObjectIndex index) {
-        this(id, dataClass, index, new LinkedHashMap<>());
+        this.id = id;
+        this.dataClass = Objects.requireNonNull(dataClass);
+        this.index = Objects.requireNonNull(index);
+        row = dataClass.getColumns().addRow();
+        attributeValues = new ColumnAttributeValues();
+        index.addDataObject(this);
     }
 
+    /**
+     * Create an object whose attribute values are stored in the given map.
+     */
     public DataObject(long id, DataClass dataClass, DataObjectIndex index, Map<String, Object> attributeValues) {
         this.id = id;
         this.dataClass = Objects.requireNonNull(dataClass);
         this.index = Objects.requireNonNull(index);
+        row = -1;
         this.attributeValues = attributeValues;
         index.addDataObject(this);
     }
 
+    /**
+     * Live view of the attribute values stored in the columns of the class, ordered as they have been set.
+     */
+    private final class ColumnAttributeValues extends AbstractMap<String, Object> {
+
+        private final class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+
+            private int next = 0;
+
+            private boolean removable = false;
+
+            @Override
+            public boolean hasNext() {
+                return next < setAttributeCount;
+            }
+
+            @Override
+            public Map.Entry<String, Object> next() {
+                if (next >= setAttributeCount) {
+                    throw new NoSuchElementException();
+                }
+                int attributeIndex = setAttributeIndexes[next++];
+                removable = true;
+                return new SimpleImmutableEntry<>(dataClass.getAttributes().get(attributeIndex).getName(),
+                        getValue(attributeIndex, null));
+            }
+
+            @Override
+            public void remove() {
+                if (!removable) {
+                    throw new IllegalStateException();
+                }
+                clearValue(setAttributeIndexes[--next]);
+                removable = false;
+            }
+        }
+
+        private int getAttributeIndex(Object key) {
+            return key instanceof String name ? dataClass.getAttributeIndex(name) : -1;
+        }
+
+        @Override
+        public Object get(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            return attributeIndex != -1 ? getValue(attributeIndex, null) : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            if (attributeIndex == -1) {
+                return false;
+            }
+            DataClassColumns.AbstractColumn column = dataClass.getColumns().findColumn(attributeIndex);
+            return column != null && column.isSet(row);
+        }
+
+        @Override
+        public Object put(String key, Object value) {
+            int attributeIndex = dataClass.getAttributeIndex(key);
+            if (attributeIndex == -1) {
+                throw createAttributeNotFoundException(key);
+            }
+            Object oldValue = getValue(attributeIndex, null);
+            getColumnToSet(attributeIndex).set(row, value);
+            return oldValue;
+        }
+
+        @Override
+        public Object remove(Object key) {
+            int attributeIndex = getAttributeIndex(key);
+            if (attributeIndex == -1) {
+                return null;
+            }
+            Object oldValue = getValue(attributeIndex, null);
+            clearValue(attributeIndex);
+            return oldValue;
+        }
+
+        @Override
+        public Set<Map.Entry<String, Object>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public Iterator<Map.Entry<String, Object>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return setAttributeCount;
+                }
+            };
+        }
+    }
+
+    /**
+     * Get the column of an attribute to set its value, and keep track of the order in which values are set.
+     */
+    private DataClassColumns.AbstractColumn getColumnToSet(int attributeIndex) {
+        DataClassColumns.AbstractColumn column = dataClass.getColumns().getColumn(attributeIndex);
+        if (!column.isSet(row)) {
+            if (setAttributeCount == setAttributeIndexes.length) {
+                setAttributeIndexes = Arrays.copyOf(setAttributeIndexes, Math.max(4, setAttributeCount * 2));
+            }
+            setAttributeIndexes[setAttributeCount++] = attributeIndex;
+        }
+        return column;
+    }
+
+    private void clearValue(int attributeIndex) {
+        DataClassColumns.AbstractColumn column = dataClass.getColumns().findColumn(attributeIndex);
+        if (column != null && column.isSet(row)) {
+            column.clear(row);
+            for (int i = 0; i < setAttributeCount; i++) {
+                if (setAttributeIndexes[i] == attributeIndex) {
+                    System.arraycopy(setAttributeIndexes, i + 1, setAttributeIndexes, i, setAttributeCount - i - 1);
+                    setAttributeCount--;
+                    break;
+                }
+            }
+        }
+    }
+
     public long getId() {
         return id;
     }
@@ -67,24 +265,53 @@ public class DataObject {
 
     public DataObject setParent(DataObject parent) {
         if (this.parent != null) {
-            this.parent.getChildren().remove(this);
+            this.parent.removeChild(this);
         }
         if (parent != null) {
-            parent.getChildren().add(this);
+            parent.addChild(this);
         }
         this.parent = parent;
         return this;
     }
 
+    private void addChild(DataObject child) {
+        children.add(child);
+        if (childrenByClassName != null) {
+            childrenByClassName.computeIfAbsent(child.getDataClassName(), k -> new ArrayList<>()).add(child);
+        }
+    }
+
+    private void removeChild(DataObject child) {
+        children.remove(child);
+        if (childrenByClassName != null) {
+            List<DataObject> classChildren = childrenByClassName.get(child.getDataClassName());
+            if (classChildren != null) {
+                classChildren.remove(child);
+            }
+        }
+    }
+
+    private List<DataObject> findChildrenByClass(String className) {
+        Objects.requireNonNull(className);
+        if (childrenByClassName == null) {
+            childrenByClassName = new HashMap<>();
+            for (DataObject child : children) {
+                childrenByClassName.computeIfAbsent(child.getDataClassName(), k -> new ArrayList<>()).add(child);
+            }
+        }
+        return childrenByClassName.getOrDefault(className, Collections.emptyList());
+    }
+
+    /**
+     * Get the children of the object. Children are added and removed by {@link #setParent(DataObject)}. The returned
+     * list can still be modified, but the parent of the added or removed children is then not updated.
+     */
     public List<DataObject> getChildren() {
-        return children;
+        return childrenView;
     }
 
     public List<DataObject> getChildrenByClass(String className) {
-        Objects.requireNonNull(className);
-        return children.stream()
-                .filter(child -> child.getDataClass().getName().equals(className))
-                .collect(Collectors.toList());
+        return new ArrayList<>(findChildrenByClass(className));
     }
 
     public Optional<DataObject> getChild(String name) {
@@ -105,10 +332,8 @@ public class DataObject {
     }
 
     public Optional<DataObject> findFirstChildByClass(String className) {
-        Objects.requireNonNull(className);
-        return children.stream()
-                .filter(child -> child.getDataClass().getName().equals(className))
-                .findFirst();
+        List<DataObject> classChildren = findChildrenByClass(className);
+        return classChildren.isEmpty() ? Optional.empty() : Optional.of(classChildren.get(0));
     }
 
     public DataClass getDataClass() {
@@ -158,26 +383,72 @@ public class DataObject {
                 + dataClass.getName() + ", id: " + getId() + ")");
     }
 
-    private <T> void setGenericAttributeValue(String name, DataAttributeType type, T value) {
+    /**
+     * Get the index of an attribute after checking its type, or -1 if the class has no such attribute.
+     */
+    private int findAttributeIndex(String name, DataAttributeType type) {
         Objects.requireNonNull(name);
         Objects.requireNonNull(type);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = dataClass.getAttributeIndex(name);
+        if (attributeIndex != -1) {
+            checkAttributeType(dataClass.getAttributes().get(attributeIndex), type);
+        }
+        return attributeIndex;
+    }
+
+    private int getAttributeIndex(String name, DataAttributeType type) {
+        int attributeIndex = findAttributeIndex(name, type);
+        if (attributeIndex == -1) {
             throw createAttributeNotFoundException(name);
         }
-        checkAttributeType(attribute, type);
-        attributeValues.put(name, value);
+        return attributeIndex;
+    }
+
+    private Object getValue(int attributeIndex, String name) {
+        if (row == -1) {
+            return attributeValues.get(name);
+        }
+        DataClassColumns.AbstractColumn column = dataClass.getColumns().findColumn(attributeIndex);
+        return column != null ? column.get(row) : null;
+    }
+
+    /**
+     * Get the column of an attribute if the value of the object is stored in its primitive array.
+     */
+    private DataClassColumns.AbstractColumn findPrimitiveColumn(int attributeIndex) {
+        if (row == -1) {
+            return null;
+        }
+        DataClassColumns.AbstractColumn column = dataClass.getColumns().findColumn(attributeIndex);
+        return column != null && column.isPrimitive(row) ? column : null;
+    }
+
+    private void setValue(int attributeIndex, String name, Object value) {
+        if (row == -1) {
+            attributeValues.put(name, value);
+        } else {
+            getColumnToSet(attributeIndex).set(row, value);
+        }
+    }
+
+    /**
+     * Get the column of an attribute if the values of the object are stored by column.
+     */
+    private DataClassColumns.AbstractColumn findColumnToSet(int attributeIndex) {
+        return row != -1 ? getColumnToSet(attributeIndex) : null;
+    }
+
+    private <T> void setGenericAttributeValue(String name, DataAttributeType type, T value) {
+        int attributeIndex = getAttributeIndex(name, type);
+        setValue(attributeIndex, name, value);
     }
 
     private <T> Optional<T> findGenericAttributeValue(String name, DataAttributeType type) {
-        Objects.requireNonNull(name);
-        Objects.requireNonNull(type);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = findAttributeIndex(name, type);
+        if (attributeIndex == -1) {
             return Optional.empty();
         }
-        checkAttributeType(attribute, type);
-        T value = (T) attributeValues.get(name);
+        T value = (T) getValue(attributeIndex, name);
         return Optional.ofNullable(value);
     }
 
@@ -229,8 +500,17 @@ public class DataObject {
     }
 
     public Optional<Float> findFloatAttributeValue(String name) {
-        return this.<Number>findGenericAttributeValue(name, DataAttributeType.FLOAT)
-                .map(Number::floatValue);
+        int attributeIndex = findAttributeIndex(name, DataAttributeType.FLOAT);
+        if (attributeIndex == -1) {
+            return Optional.empty();
+        }
+        DataClassColumns.AbstractColumn column = findPrimitiveColumn(attributeIndex);
+        if (column instanceof DataClassColumns.FloatColumn floatColumn) {
+            return Optional.of(floatColumn.getFloat(row));
+        } else if (column instanceof DataClassColumns.DoubleColumn doubleColumn) {
+            return Optional.of((float) doubleColumn.getDouble(row));
+        }
+        return Optional.ofNullable((Number) getValue(attributeIndex, name)).map(Number::floatValue);
     }
 
     public float getFloatAttributeValue(String name) {
@@ -238,7 +518,15 @@ public class DataObject {
     }
 
     public DataObject setFloatAttributeValue(String name, float value) {
-        setGenericAttributeValue(name, DataAttributeType.FLOAT, value);
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.FLOAT);
+        DataClassColumns.AbstractColumn column = findColumnToSet(attributeIndex);
+        if (column instanceof DataClassColumns.FloatColumn floatColumn) {
+            floatColumn.setFloat(row, value);
+        } else if (column != null) {
+            column.set(row, value);
+        } else {
+            attributeValues.put(name, value);
+        }
         return this;
     }
 
@@ -313,13 +601,14 @@ public class DataObject {
     }
 
     public OptionalInt findIntAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = findAttributeIndex(name, DataAttributeType.INTEGER);
+        if (attributeIndex == -1) {
             return OptionalInt.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.INTEGER);
-        Integer value = (Integer) attributeValues.get(name);
+        if (findPrimitiveColumn(attributeIndex) instanceof DataClassColumns.IntColumn intColumn) {
+            return OptionalInt.of(intColumn.getInt(row));
+        }
+        Integer value = (Integer) getValue(attributeIndex, name);
         if (value == null) {
             return OptionalInt.empty();
         }
@@ -331,18 +620,30 @@ public class DataObject {
     }
 
     public DataObject setIntAttributeValue(String name, int value) {
-        setGenericAttributeValue(name, DataAttributeType.INTEGER, value);
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.INTEGER);
+        DataClassColumns.AbstractColumn column = findColumnToSet(attributeIndex);
+        if (column instanceof DataClassColumns.IntColumn intColumn) {
+            intColumn.setInt(row, value);
+        } else if (column != null) {
+            column.set(row, value);
+        } else {
+            attributeValues.put(name, value);
+        }
         return this;
     }
 
     public OptionalLong findLongAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = findAttributeIndex(name, DataAttributeType.INTEGER64);
+        if (attributeIndex == -1) {
             return OptionalLong.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.INTEGER64);
-        Number value = (Number) attributeValues.get(name);
+        DataClassColumns.AbstractColumn column = findPrimitiveColumn(attributeIndex);
+        if (column instanceof DataClassColumns.LongColumn longColumn) {
+            return OptionalLong.of(longColumn.getLong(row));
+        } else if (column instanceof DataClassColumns.IntColumn intColumn) {
+            return OptionalLong.of(intColumn.getInt(row));
+        }
+        Number value = (Number) getValue(attributeIndex, name);
         if (value == null) {
             return OptionalLong.empty();
         }
@@ -354,18 +655,27 @@ public class DataObject {
     }
 
     public DataObject setLongAttributeValue(String name, long value) {
-        setGenericAttributeValue(name, DataAttributeType.INTEGER64, value);
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.INTEGER64);
+        DataClassColumns.AbstractColumn column = findColumnToSet(attributeIndex);
+        if (column instanceof DataClassColumns.LongColumn longColumn) {
+            longColumn.setLong(row, value);
+        } else if (column != null) {
+            column.set(row, value);
+        } else {
+            attributeValues.put(name, value);
+        }
         return this;
     }
 
     public OptionalDouble findDoubleAttributeValue(String name) {
-        Objects.requireNonNull(name);
-        DataAttribute attribute = dataClass.getAttributeByName(name);
-        if (attribute == null) {
+        int attributeIndex = findAttributeIndex(name, DataAttributeType.DOUBLE);
+        if (attributeIndex == -1) {
             return OptionalDouble.empty();
         }
-        checkAttributeType(attribute, DataAttributeType.DOUBLE);
-        Double value = (Double) attributeValues.get(name);
+        if (findPrimitiveColumn(attributeIndex) instanceof DataClassColumns.DoubleColumn doubleColumn) {
+            return OptionalDouble.of(doubleColumn.getDouble(row));
+        }
+        Double value = (Double) getValue(attributeIndex, name);
         if (value == null) {
             return OptionalDouble.empty();
         }
@@ -377,7 +687,15 @@ public class DataObject {
     }
 
     public DataObject setDoubleAttributeValue(String name, double value) {
-        setGenericAttributeValue(name, DataAttributeType.DOUBLE, value);
+        int attributeIndex = getAttributeIndex(name, DataAttributeType.DOUBLE);
+        DataClassColumns.AbstractColumn column = findColumnToSet(attributeIndex);
+        if (column instanceof DataClassColumns.DoubleColumn doubleColumn) {
+            doubleColumn.setDouble(row, value);
+        } else if (column != null) {
+            column.set(row, value);
+        } else {
+            attributeValues.put(name, value);
+        }
         return this;
     }
 
@@ -563,8 +881,8 @@ public class DataObject {
         Objects.requireNonNull(scheme);
         ParsingContext context = new ParsingContext();
         JsonUtil.parseObject(parser, fieldName -> parseField(parser, index, scheme, context, fieldName));
-        DataObject object = new DataObject(context.id, scheme.getClassByName(context.className), index,
-            context.attributeValues);
+        DataObject object = new DataObject(context.id, scheme.getClassByName(context.className), index);
+        object.attributeValues.putAll(context.attributeValues);
         for (DataObject child : context.children) {
             child.setParent(object);
         }
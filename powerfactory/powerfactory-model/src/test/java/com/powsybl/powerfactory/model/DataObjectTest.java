@@ -219,4 +219,89 @@ class DataObjectTest {
         assertThrows(PowerFactoryException.class, () -> objFoo.getDoubleMatrixAttributeValue("mm"));
         assertEquals(new BlockRealMatrix(2, 2), objFoo.getDoubleMatrixAttributeValue("m"));
     }
+
+    @Test
+    void testColumnStorage() {
+        DataObjectIndex index = new DataObjectIndex();
+        DataClass clsFoo = createFooClass();
+        DataObject objFoo1 = new DataObject(0L, clsFoo, index)
+                .setLocName("foo1")
+                .setDoubleAttributeValue("d", 1.5)
+                .setIntAttributeValue("i", 2);
+        DataObject objFoo2 = new DataObject(1L, clsFoo, index)
+                .setIntAttributeValue("i", 3)
+                .setLocName("foo2")
+                .setFloatAttributeValue("d", 2.5f)
+                .setLongAttributeValue("l", 4L);
+        assertEquals(2, clsFoo.getColumns().getRowCount());
+
+        // values are ordered as they have been set
+        assertEquals(List.of(DataAttribute.LOC_NAME, "d", "i"), List.copyOf(objFoo1.getAttributeValues().keySet()));
+        assertEquals(Map.of(DataAttribute.LOC_NAME, "foo1", "i", 2, "d", 1.5), objFoo1.getAttributeValues());
+        assertEquals(1.5, objFoo1.getDoubleAttributeValue("d"), 0);
+        assertEquals(2, objFoo1.getIntAttributeValue("i"));
+
+        // a float value of a double attribute is kept as a float
+        assertEquals(2.5f, objFoo2.getAttributeValue("d"));
+        assertEquals(2.5f, objFoo2.getFloatAttributeValue("d"), 0f);
+        assertEquals(Map.of(DataAttribute.LOC_NAME, "foo2", "i", 3, "d", 2.5f, "l", 4L), objFoo2.getAttributeValues());
+        objFoo2.setDoubleAttributeValue("d", 3.5);
+        assertEquals(3.5, objFoo2.getAttributeValue("d"));
+        assertEquals(3.5, objFoo2.getDoubleAttributeValue("d"), 0);
+
+        // the attribute values map is a live view of the columns
+        Map<String, Object> values = objFoo2.getAttributeValues();
+        assertEquals(3, values.put("i", 5));
+        assertEquals(5, objFoo2.getIntAttributeValue("i"));
+        assertEquals(5, values.remove("i"));
+        assertFalse(objFoo2.findIntAttributeValue("i").isPresent());
+        assertFalse(values.containsKey("i"));
+        assertTrue(values.containsKey("l"));
+        values.keySet().removeIf(name -> name.equals("l"));
+        assertEquals(2, values.size());
+        assertEquals(List.of(DataAttribute.LOC_NAME, "d"), List.copyOf(values.keySet()));
+        objFoo2.setIntAttributeValue("i", 6);
+        assertEquals(List.of(DataAttribute.LOC_NAME, "d", "i"), List.copyOf(values.keySet()));
+        assertThrows(PowerFactoryException.class, () -> values.put("unknown", 1));
+
+        // attributes can be added to the class after its objects
+        clsFoo.addAttribute(new DataAttribute("s", DataAttributeType.STRING));
+        objFoo1.setStringAttributeValue("s", "hello");
+        assertEquals("hello", objFoo1.getStringAttributeValue("s"));
+        assertTrue(objFoo2.findStringAttributeValue("s").isEmpty());
+    }
+
+    @Test
+    void testChildrenByClass() {
+        DataObjectIndex index = new DataObjectIndex();
+        DataClass clsFoo = createFooClass();
+        DataClass clsBar = DataClass.init("ElmBar");
+        DataObject parent1 = new DataObject(0L, clsBar, index).setLocName("parent1");
+        DataObject parent2 = new DataObject(1L, clsBar, index).setLocName("parent2");
+        DataObject foo1 = new DataObject(2L, clsFoo, index).setLocName("foo1").setParent(parent1);
+        DataObject bar = new DataObject(3L, clsBar, index).setLocName("bar").setParent(parent1);
+        assertEquals(List.of(foo1), parent1.getChildrenByClass("ElmFoo"));
+        assertEquals(List.of(bar), parent1.getChildrenByClass("ElmBar"));
+
+        // the index is kept up to date when children are added and moved
+        DataObject foo2 = new DataObject(4L, clsFoo, index).setLocName("foo2").setParent(parent1);
+        assertEquals(List.of(foo1, foo2), parent1.getChildrenByClass("ElmFoo"));
+        foo1.setParent(parent2);
+        assertEquals(List.of(foo2), parent1.getChildrenByClass("ElmFoo"));
+        assertSame(foo2, parent1.findFirstChildByClass("ElmFoo").orElseThrow());
+        assertEquals(List.of(foo1), parent2.getChildrenByClass("ElmFoo"));
+        bar.setParent(null);
+        assertTrue(parent1.findFirstChildByClass("ElmBar").isEmpty());
+        assertEquals(List.of(foo2), parent1.getChildren());
+
+        // the children list can still be modified directly
+        List<DataObject> children = parent1.getChildren();
+        children.add(bar);
+        assertEquals(List.of(foo2, bar), parent1.getChildren());
+        assertSame(bar, parent1.findFirstChildByClass("ElmBar").orElseThrow());
+        children.removeIf(child -> child == foo2);
+        assertTrue(parent1.getChildrenByClass("ElmFoo").isEmpty());
+        children.clear();
+        assertTrue(parent1.findFirstChildByClass("ElmBar").isEmpty());
+    }
 }
@@ -60,6 +60,10 @@ public class PsseImporter implements Importer {
             ParameterType.BOOLEAN,
             "Ignore the node breaker topology specified in the substation data of the file",
             Boolean.FALSE);
+    private static final Parameter PARALLEL_PARSING_PARAMETER = new Parameter("psse.import.parallel-parsing",
+            ParameterType.BOOLEAN,
+            "Parse the records of each data block in parallel",
+            Boolean.FALSE);
 
     @Override
     public String getFormat() {
@@ -75,7 +79,8 @@ public class PsseImporter implements Importer {
     public List<Parameter> getParameters() {
         List<Parameter> parameterList = List.of(
                 IGNORE_BASE_VOLTAGE_PARAMETER,
-                IGNORE_NODE_BREAKER_TOPOLOGY_PARAMETER);
+                IGNORE_NODE_BREAKER_TOPOLOGY_PARAMETER,
+                PARALLEL_PARSING_PARAMETER);
         return ConfiguredParameter.load(parameterList, getFormat(), ParameterDefaultValueConfig.INSTANCE);
     }
 
@@ -147,7 +152,8 @@ public class PsseImporter implements Importer {
                         String.join("|", EXTENSIONS)));
             }
             PsseVersion version = PowerFlowDataFactory.create(ext).readVersion(dataSource, ext);
-            Context context = new Context();
+            Context context = new Context()
+                    .setParallelParsing(Parameter.readBoolean(FORMAT, parameters, PARALLEL_PARSING_PARAMETER, ParameterDefaultValueConfig.INSTANCE));
             PssePowerFlowModel pssePowerFlowModel = PowerFlowDataFactory.create(ext, version).read(dataSource, ext, context);
             pssePowerFlowModel.getCaseIdentification().validate();
 
@@ -46,9 +46,10 @@ class PsseImporterTest extends AbstractSerDeTest {
         assertEquals("PSS/E", importer.getFormat());
         assertEquals("PSS/E Format to IIDM converter", importer.getComment());
         assertEquals(List.of("raw", "RAW", "rawx", "RAWX"), importer.getSupportedExtensions());
-        assertEquals(2, importer.getParameters().size());
+        assertEquals(3, importer.getParameters().size());
         assertEquals("psse.import.ignore-base-voltage", importer.getParameters().get(0).getName());
         assertEquals("psse.import.ignore-node-breaker-topology", importer.getParameters().get(1).getName());
+        assertEquals("psse.import.parallel-parsing", importer.getParameters().get(2).getName());
     }
 
     private void testNetwork(Network network) throws IOException {
@@ -122,6 +123,14 @@ class PsseImporterTest extends AbstractSerDeTest {
         importTest("IEEE_118_bus", "IEEE_118_bus.raw", false);
     }
 
+    @Test
+    void importTest118ParallelParsing() throws IOException {
+        Properties properties = new Properties();
+        properties.put("psse.import.parallel-parsing", "true");
+        ReadOnlyDataSource dataSource = new ResourceDataSource("IEEE_118_bus", new ResourceSet("/", "IEEE_118_bus.raw"));
+        testNetwork(new PsseImporter().importData(dataSource, new NetworkFactoryImpl(), properties));
+    }
+
     @Test
     void importTestT3W() throws IOException {
         importTest("ThreeMIB_T3W_modified", "ThreeMIB_T3W_modified.raw", false);
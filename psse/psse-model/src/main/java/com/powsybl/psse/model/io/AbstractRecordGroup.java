@@ -286,8 +286,6 @@ public abstract class AbstractRecordGroup<T> {
             return List.of();
         }
 
-        // Initialize the output
-        List<T> beans = new ArrayList<>(expectedCount);
         context.resetCurrentRecordGroup();
 
         // Reconstruct a string block
@@ -295,32 +293,49 @@ public abstract class AbstractRecordGroup<T> {
         String[] headersToUse = makeRecordsConsistents(sb, records, headers, context);
 
         // Parse
+        List<CsvRecord> csvRecords;
         try (CsvReader<CsvRecord> reader = context.createCsvReaderBuilder()
             .ofCsvRecord(new StringReader(sb.toString()))) {
-            // Get the corresponding mapper
-            MapperFrom<T> mapper = (MapperFrom<T>) MAPPERS_FROM_RECORD.get(psseTypeClass());
-            if (mapper == null) {
-                throw new IllegalArgumentException("Unsupported class: " + psseTypeClass());
-            }
-
-            // Parse the records
-            reader.stream().forEach(rec -> {
-                try {
-                    beans.add(mapper.apply(rec, headersToUse));
-                    context.setCurrentRecordNumFields(rec.getFieldCount());
-                } catch (Exception e) {
-                    throw new PsseException("Parsing error", e);
-                }
-            });
+            csvRecords = reader.stream().toList();
         } catch (IOException e) {
             throw new PsseException("Parsing error");
         }
+
+        // Get the corresponding mapper
+        MapperFrom<T> mapper = (MapperFrom<T>) MAPPERS_FROM_RECORD.get(psseTypeClass());
+        if (mapper == null) {
+            throw new IllegalArgumentException("Unsupported class: " + psseTypeClass());
+        }
+
+        // Parse the records, mappers only create new objects and can be applied concurrently
+        List<T> beans;
+        if (context.isParallelParsing()) {
+            beans = csvRecords.parallelStream()
+                .map(rec -> mapRecord(mapper, rec, headersToUse))
+                .collect(Collectors.toCollection(ArrayList::new));
+        } else {
+            beans = new ArrayList<>(expectedCount);
+            for (CsvRecord rec : csvRecords) {
+                beans.add(mapRecord(mapper, rec, headersToUse));
+            }
+        }
+        for (CsvRecord rec : csvRecords) {
+            context.setCurrentRecordNumFields(rec.getFieldCount());
+        }
         if (beans.size() != expectedCount) {
             throw new PsseException("Parsing error");
         }
         return beans;
     }
 
+    private static <T> T mapRecord(MapperFrom<T> mapper, CsvRecord rec, String[] headers) {
+        try {
+            return mapper.apply(rec, headers);
+        } catch (Exception e) {
+            throw new PsseException("Parsing error", e);
+        }
+    }
+
     private String[] makeRecordsConsistents(StringBuilder sb, List<String> records, String[] headers, Context context) {
         if (records.stream().anyMatch(Objects::isNull)) {
             throw new PsseException("Parsing error");
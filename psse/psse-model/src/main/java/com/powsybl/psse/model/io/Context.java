@@ -40,6 +40,7 @@ public class Context {
     private char quote = LEGACY_TEXT.getQuote();
     private PsseVersion version;
     private int currentRecordGroupMaxNumFields;
+    private boolean parallelParsing = false;
     private JsonGenerator jsonGenerator;
     private JsonNode networkNode;
 
@@ -139,6 +140,18 @@ public class Context {
         return fieldNames.get(recordGroup.getUniqueName());
     }
 
+    public boolean isParallelParsing() {
+        return parallelParsing;
+    }
+
+    /**
+     * If true, the records of a record group are parsed in parallel, once all the lines of the group have been read.
+     */
+    public Context setParallelParsing(boolean parallelParsing) {
+        this.parallelParsing = parallelParsing;
+        return this;
+    }
+
     void resetCurrentRecordGroup() {
         currentRecordGroupMaxNumFields = 0;
     }
@@ -7,8 +7,6 @@
  */
 package com.powsybl.psse.model.io;
 
-import com.google.re2j.Matcher;
-import com.google.re2j.Pattern;
 import com.powsybl.psse.model.PsseException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,6 +25,7 @@ import static com.powsybl.psse.model.io.FileFormat.LEGACY_TEXT;
  */
 public class LegacyTextReader {
     private static final Logger LOG = LoggerFactory.getLogger(LegacyTextReader.class);
+    private static final char QUOTE = LEGACY_TEXT.getQuote();
     private final BufferedReader reader;
     private boolean qRecordFound;
 
@@ -112,23 +111,25 @@ public class LegacyTextReader {
         if (isRecordLineDefiningTheAttributeFields(line)) {
             return ""; // an empty line must be returned
         }
-        StringBuilder newLine = new StringBuilder();
-        Matcher m = FileFormat.LEGACY_TEXT_QUOTED_OR_WHITESPACE.matcher(processText(removeComment(line)));
-        while (m.find()) {
-            // If current group is quoted, keep it as it is
-            if (m.group().indexOf(LEGACY_TEXT.getQuote()) >= 0) {
-                m.appendReplacement(newLine, replaceSpecialCharacters(m.group()));
+        return processText(line, commentStart(line)).trim();
+    }
+
+    // Position of the "/" starting the comment of the line, or the length of the line if there is no comment.
+    // A "/" is part of a quoted text if it is between two quotes, a quote without a closing quote is not a delimiter
+    private static int commentStart(String line) {
+        int i = 0;
+        while (i < line.length()) {
+            char c = line.charAt(i);
+            if (c == QUOTE) {
+                int closingQuote = line.indexOf(QUOTE, i + 1);
+                i = closingQuote >= 0 ? closingQuote + 1 : i + 1;
+            } else if (c == '/') {
+                return i;
             } else {
-                // current group is whitespace, keep a single whitespace
-                m.appendReplacement(newLine, " ");
+                i++;
             }
         }
-        m.appendTail(newLine);
-        return newLine.toString().trim();
-    }
-
-    private static String removeComment(String line) {
-        return line.replaceAll(FileFormat.REMOVE_COMMENT_REGEX, "$1$2");
+        return line.length();
     }
 
     // Compact spaces, remove spaces before the comma, and replace space with comma outside quoted text
@@ -136,33 +137,72 @@ public class LegacyTextReader {
         if (line == null || line.isEmpty()) {
             return line;
         }
+        return processText(line, line.length());
+    }
 
-        StringBuilder result = new StringBuilder();
-        Pattern pattern = FileFormat.LEGACY_QUOTED_OR_NON_QUOTED_TEXT;
-        Matcher matcher = pattern.matcher(line.trim());
+    // Single pass on the characters of the line before the end position:
+    // quoted texts are kept as they are, a quote without a closing quote is removed,
+    // and outside quotes, a whitespace run is removed if it is next to a comma, else replaced by a comma
+    private static String processText(String line, int end) {
+        int begin = 0;
+        int last = end;
+        while (begin < last && line.charAt(begin) <= ' ') {
+            begin++;
+        }
+        while (last > begin && line.charAt(last - 1) <= ' ') {
+            last--;
+        }
+        StringBuilder result = new StringBuilder(last - begin);
+        int segmentStart = begin;
+        int i = begin;
+        while (i < last) {
+            char c = line.charAt(i);
+            if (c == QUOTE) {
+                appendNonQuotedText(line, segmentStart, i, result);
+                int closingQuote = line.indexOf(QUOTE, i + 1);
+                if (closingQuote >= 0 && closingQuote < last) {
+                    result.append(line, i, closingQuote + 1);
+                    i = closingQuote + 1;
+                } else {
+                    i++;
+                }
+                segmentStart = i;
+            } else {
+                i++;
+            }
+        }
+        appendNonQuotedText(line, segmentStart, last, result);
+        return result.toString();
+    }
 
-        while (matcher.find()) {
-            String part = matcher.group();
-            if (part.startsWith("'") && part.endsWith("'")) {
-                result.append(part);
+    private static void appendNonQuotedText(String line, int begin, int end, StringBuilder result) {
+        int i = begin;
+        while (i < end) {
+            char c = line.charAt(i);
+            if (isWhitespace(c)) {
+                int runEnd = i + 1;
+                while (runEnd < end && isWhitespace(line.charAt(runEnd))) {
+                    runEnd++;
+                }
+                boolean nextToComma = i > begin && line.charAt(i - 1) == ',' || runEnd < end && line.charAt(runEnd) == ',';
+                if (!nextToComma) {
+                    result.append(',');
+                }
+                i = runEnd;
             } else {
-                // Outside quotes: process the txt
-                // On the next line: "(?<=\S|^)" = backtracking protection. The previous char should be a non-white char or a line start.
-                result.append(part.replaceAll("(?<=\\S|^)\\s+,", ",") // see comment above
-                        .replaceAll(",\\s+", ",")
-                        .replaceAll("\\s+", ","));
+                result.append(c);
+                i++;
             }
         }
+    }
 
-        return result.toString();
+    // Same whitespace characters as \s in regular expressions
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == '\u000B' || c == '\f' || c == '\r';
     }
 
     // all the lines beginning with "@!" are record lines defining the attribute fields
     private static boolean isRecordLineDefiningTheAttributeFields(String line) {
         return line.startsWith("@!");
     }
-
-    private static String replaceSpecialCharacters(String line) {
-        return line.replace("\\", "\\\\").replace("$", "\\$");
-    }
 }
@@ -15,7 +15,9 @@ import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
@@ -30,6 +32,15 @@ public final class Util {
 
     private static final BinaryOperator<String> DEFAULT_SUFFIX_ADDER = (header, suffix) -> header + suffix;
 
+    /**
+     * Maximum number of cached field binders. The binders of the records of all the supported versions fit in the
+     * cache; it is only cleared when many files with different headers are read, so that it does not grow without
+     * bound in a long-running process.
+     */
+    private static final int MAX_FIELD_BINDERS = 1024;
+
+    private static final Map<FieldBinderKey, FieldBinder<?>> FIELD_BINDERS = new ConcurrentHashMap<>();
+
     private Util() {
     }
 
@@ -134,21 +145,7 @@ public final class Util {
                                    Supplier<T> instanceSupplier, String headerSuffix) {
         try {
             T obj = instanceSupplier.get();
-
-            Map<String, PsseFieldDefinition<T, ?>> fieldsWithSuffix = fields.entrySet().stream()
-                .collect(Collectors.toMap(
-                    entry -> entry.getValue().suffixAdder().apply(entry.getKey(), headerSuffix),
-                    Map.Entry::getValue));
-
-            for (String header : headers) {
-                PsseFieldDefinition<T, ?> fieldDefinition = fieldsWithSuffix.get(header);
-                if (fieldDefinition != null) {
-                    Object value = parseValue(fieldDefinition.defaultValue(), fieldDefinition.hasDefaultValue(),
-                        fieldDefinition.classType(), rec, headers, header);
-                    applySetter(obj, fieldDefinition, value);
-                }
-            }
-
+            fieldBinder(headers, fields, headerSuffix).bind(obj, rec);
             return obj;
 
         } catch (Exception e) {
@@ -156,6 +153,21 @@ public final class Util {
         }
     }
 
+    // Casting is safe here, the binder has been created for the same fields
+    @SuppressWarnings("unchecked")
+    private static <T> FieldBinder<T> fieldBinder(String[] headers, Map<String, PsseFieldDefinition<T, ?>> fields, String headerSuffix) {
+        FieldBinder<T> binder = (FieldBinder<T>) FIELD_BINDERS.get(new FieldBinderKey(fields, headerSuffix, headers));
+        if (binder == null) {
+            binder = new FieldBinder<>(headers, fields, headerSuffix);
+            if (FIELD_BINDERS.size() >= MAX_FIELD_BINDERS) {
+                FIELD_BINDERS.clear();
+            }
+            // the headers are copied as the key is kept
+            FIELD_BINDERS.putIfAbsent(new FieldBinderKey(fields, headerSuffix, headers.clone()), binder);
+        }
+        return binder;
+    }
+
     public static <T> T fromRecord(List<String> rec, String[] headers, Map<String, PsseFieldDefinition<T, ?>> fields,
                                    Supplier<T> instanceSupplier) {
         return fromRecord(rec, headers, fields, instanceSupplier, "");
@@ -163,8 +175,13 @@ public final class Util {
 
     public static Double parseDoubleFromRecord(List<String> rec, Double defaultValue, String[] headers, String header,
                                                boolean hasDefaultValue) {
+        return parseDoubleFromRecord(rec, defaultValue, ArrayUtils.indexOf(headers, header), header, hasDefaultValue);
+    }
+
+    private static Double parseDoubleFromRecord(List<String> rec, Double defaultValue, int index, String header,
+                                                boolean hasDefaultValue) {
         // Parse the value from the record
-        String value = manageNumericalNullValues(parseValueFromRecord(rec, headers, header));
+        String value = manageNumericalNullValues(parseValueFromRecord(rec, index));
 
         // Manage null values
         if (value != null) {
@@ -179,8 +196,13 @@ public final class Util {
 
     public static Float parseFloatFromRecord(List<String> rec, Float defaultValue, String[] headers, String header,
                                              boolean hasDefaultValue) {
+        return parseFloatFromRecord(rec, defaultValue, ArrayUtils.indexOf(headers, header), header, hasDefaultValue);
+    }
+
+    private static Float parseFloatFromRecord(List<String> rec, Float defaultValue, int index, String header,
+                                              boolean hasDefaultValue) {
         // Parse the value from the record
-        String value = manageNumericalNullValues(parseValueFromRecord(rec, headers, header));
+        String value = manageNumericalNullValues(parseValueFromRecord(rec, index));
 
         // Manage null values
         if (value != null) {
@@ -195,8 +217,13 @@ public final class Util {
 
     public static Integer parseIntFromRecord(List<String> rec, Integer defaultValue, String[] headers, String header,
                                              boolean hasDefaultValue) {
+        return parseIntFromRecord(rec, defaultValue, ArrayUtils.indexOf(headers, header), header, hasDefaultValue);
+    }
+
+    private static Integer parseIntFromRecord(List<String> rec, Integer defaultValue, int index, String header,
+                                              boolean hasDefaultValue) {
         // Parse the value from the record
-        String value = manageNumericalNullValues(parseValueFromRecord(rec, headers, header));
+        String value = manageNumericalNullValues(parseValueFromRecord(rec, index));
 
         // Manage null values
         if (value != null) {
@@ -211,8 +238,13 @@ public final class Util {
 
     public static String parseStringFromRecord(List<String> rec, String defaultValue, String[] headers, String header,
                                                boolean hasDefaultValue) {
+        return parseStringFromRecord(rec, defaultValue, ArrayUtils.indexOf(headers, header), header, hasDefaultValue);
+    }
+
+    private static String parseStringFromRecord(List<String> rec, String defaultValue, int index, String header,
+                                                boolean hasDefaultValue) {
         // Parse the value from the record
-        String value = parseValueFromRecord(rec, headers, header);
+        String value = parseValueFromRecord(rec, index);
 
         // Manage null values
         if (value != null && (!value.isEmpty() || !hasDefaultValue)) {
@@ -267,10 +299,8 @@ public final class Util {
         }
     }
 
-    private static String parseValueFromRecord(List<String> rec, String[] headers, String header) {
-        // Parse the value from the record
-        int index = ArrayUtils.indexOf(headers, header);
-        return index >= 0 && index < rec.size() ? rec.get(ArrayUtils.indexOf(headers, header)) : null;
+    private static String parseValueFromRecord(List<String> rec, int index) {
+        return index >= 0 && index < rec.size() ? rec.get(index) : null;
     }
 
     private static String manageNumericalNullValues(String value) {
@@ -321,22 +351,6 @@ public final class Util {
         return newHeaders;
     }
 
-    @SuppressWarnings("unchecked")
-    private static <T, V> void applySetter(T obj, PsseFieldDefinition<T, V> def, Object value) {
-        def.setter().accept(obj, (V) value);
-    }
-
-    private static Object parseValue(Object defaultValue, boolean hasDefaultValue, Class<?> type, List<String> rec,
-                                     String[] headers, String header) {
-        return switch (type.getSimpleName()) {
-            case "Double" -> parseDoubleFromRecord(rec, (Double) defaultValue, headers, header, hasDefaultValue);
-            case "Float" -> parseFloatFromRecord(rec, (Float) defaultValue, headers, header, hasDefaultValue);
-            case "Integer" -> parseIntFromRecord(rec, (Integer) defaultValue, headers, header, hasDefaultValue);
-            case "String" -> parseStringFromRecord(rec, (String) defaultValue, headers, header, hasDefaultValue);
-            default -> throw new PsseException("Unexpected Type: " + type);
-        };
-    }
-
     private static <T, V> String formatField(PsseFieldDefinition<T, V> fieldDefinition, T obj) {
         V value = fieldDefinition.getter().apply(obj);
         if (fieldDefinition.formatter() != null) {
@@ -344,4 +358,98 @@ public final class Util {
         }
         return String.valueOf(value);
     }
+
+    private enum FieldType {
+        DOUBLE,
+        FLOAT,
+        INTEGER,
+        STRING;
+
+        static FieldType of(Class<?> type) {
+            if (type == Double.class) {
+                return DOUBLE;
+            } else if (type == Float.class) {
+                return FLOAT;
+            } else if (type == Integer.class) {
+                return INTEGER;
+            } else if (type == String.class) {
+                return STRING;
+            }
+            throw new PsseException("Unexpected Type: " + type);
+        }
+    }
+
+    private record FieldBinding<T>(PsseFieldDefinition<T, ?> definition, FieldType type, int index, String header) {
+
+        // Casting is safe here, the value has been parsed according to the class type of the field
+        @SuppressWarnings("unchecked")
+        private <V> void bind(T obj, List<String> rec) {
+            PsseFieldDefinition<T, V> def = (PsseFieldDefinition<T, V>) definition;
+            Object value = switch (type) {
+                case DOUBLE -> parseDoubleFromRecord(rec, (Double) def.defaultValue(), index, header, def.hasDefaultValue());
+                case FLOAT -> parseFloatFromRecord(rec, (Float) def.defaultValue(), index, header, def.hasDefaultValue());
+                case INTEGER -> parseIntFromRecord(rec, (Integer) def.defaultValue(), index, header, def.hasDefaultValue());
+                case STRING -> parseStringFromRecord(rec, (String) def.defaultValue(), index, header, def.hasDefaultValue());
+            };
+            def.setter().accept(obj, (V) value);
+        }
+    }
+
+    /**
+     * Fields of a record group bound to the columns of a given header, in the header order.
+     * It is created once for each header and field definitions, instead of looking up each column of each record.
+     */
+    private static final class FieldBinder<T> {
+
+        private final List<FieldBinding<T>> bindings = new ArrayList<>();
+
+        private FieldBinder(String[] headers, Map<String, PsseFieldDefinition<T, ?>> fields, String headerSuffix) {
+            Map<String, PsseFieldDefinition<T, ?>> fieldsWithSuffix = fields.entrySet().stream()
+                .collect(Collectors.toMap(
+                    entry -> entry.getValue().suffixAdder().apply(entry.getKey(), headerSuffix),
+                    Map.Entry::getValue));
+            for (String header : headers) {
+                PsseFieldDefinition<T, ?> fieldDefinition = fieldsWithSuffix.get(header);
+                if (fieldDefinition != null) {
+                    bindings.add(new FieldBinding<>(fieldDefinition, FieldType.of(fieldDefinition.classType()),
+                        ArrayUtils.indexOf(headers, header), header));
+                }
+            }
+        }
+
+        private void bind(T obj, List<String> rec) {
+            for (FieldBinding<T> binding : bindings) {
+                binding.bind(obj, rec);
+            }
+        }
+    }
+
+    /**
+     * Field definitions are compared by identity, as they are constants of the PSS/E classes.
+     */
+    private static final class FieldBinderKey {
+
+        private final Map<String, ?> fields;
+        private final String headerSuffix;
+        private final String[] headers;
+        private final int hashCode;
+
+        private FieldBinderKey(Map<String, ?> fields, String headerSuffix, String[] headers) {
+            this.fields = fields;
+            this.headerSuffix = headerSuffix;
+            this.headers = headers;
+            this.hashCode = 31 * (31 * System.identityHashCode(fields) + Objects.hashCode(headerSuffix)) + Arrays.hashCode(headers);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof FieldBinderKey other && fields == other.fields && Objects.equals(headerSuffix, other.headerSuffix)
+                && Arrays.equals(headers, other.headers);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
 }
@@ -7,9 +7,20 @@
  */
 package com.powsybl.psse.model.io;
 
+import com.google.re2j.Matcher;
+import com.google.re2j.Pattern;
 import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Test;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -31,4 +42,81 @@ class LegacyTextReaderTest {
         }
     }
 
+    // Previous implementation, based on regular expressions
+    private static String referenceRecordLine(String line) {
+        String withoutComment = line.replaceAll(FileFormat.REMOVE_COMMENT_REGEX, "$1$2");
+        String text = withoutComment.isEmpty() ? withoutComment : referenceProcessText(withoutComment);
+        StringBuilder newLine = new StringBuilder();
+        Matcher m = FileFormat.LEGACY_TEXT_QUOTED_OR_WHITESPACE.matcher(text);
+        while (m.find()) {
+            if (m.group().indexOf('\'') >= 0) {
+                m.appendReplacement(newLine, m.group().replace("\\", "\\\\").replace("$", "\\$"));
+            } else {
+                m.appendReplacement(newLine, " ");
+            }
+        }
+        m.appendTail(newLine);
+        return newLine.toString().trim();
+    }
+
+    private static String referenceProcessText(String line) {
+        StringBuilder result = new StringBuilder();
+        Matcher matcher = Pattern.compile("'[^']*'|[^']+").matcher(line.trim());
+        while (matcher.find()) {
+            String part = matcher.group();
+            if (part.startsWith("'") && part.endsWith("'")) {
+                result.append(part);
+            } else {
+                result.append(part.replaceAll("(?<=\\S|^)\\s+,", ",")
+                        .replaceAll(",\\s+", ",")
+                        .replaceAll("\\s+", ","));
+            }
+        }
+        return result.toString();
+    }
+
+    private static String readRecordLine(String line) throws IOException {
+        return new LegacyTextReader(new BufferedReader(new StringReader(line))).readRecordLine();
+    }
+
+    @Test
+    void recordLineTest() throws IOException {
+        assertEquals("1,'BUS 1',138.0,3", readRecordLine("   1 ,'BUS 1'   ,  138.0 3  / comment, with 'quotes'"));
+        assertEquals("1,'A/B',2", readRecordLine("1 'A/B' 2 /"));
+        assertEquals("1,,2", readRecordLine("1 ,, 2"));
+        assertEquals("a,b", readRecordLine("a 'b / c"));
+        assertEquals("", readRecordLine("@!   I,'NAME'"));
+        assertEquals("", readRecordLine("/ only a comment"));
+        assertEquals("0", readRecordLine("0 / END OF BUS DATA, BEGIN LOAD DATA"));
+        assertEquals("Q", readRecordLine(""));
+    }
+
+    @Test
+    void sameRecordLinesAsRegularExpressionsTest() throws IOException {
+        for (String resource : List.of("/IEEE_14_bus.raw", "/IEEE_14_bus_rev35.raw", "/IEEE_14_bus_nodeBreaker_rev35.raw",
+                "/ExampleVersion32.raw", "/five_bus_nodeBreaker_rev35.raw", "/IEEE_24_bus.raw")) {
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    Objects.requireNonNull(getClass().getResourceAsStream(resource)), StandardCharsets.UTF_8))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (!line.isEmpty() && !line.startsWith("@!")) {
+                        assertEquals(referenceRecordLine(line), readRecordLine(line), line);
+                    }
+                }
+            }
+        }
+
+        char[] chars = {' ', ' ', '\t', ',', ',', '\'', '/', 'a', '1', '.', '-', '\u0001'};
+        Random random = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            char[] line = new char[1 + random.nextInt(20)];
+            for (int j = 0; j < line.length; j++) {
+                line[j] = chars[random.nextInt(chars.length)];
+            }
+            String s = new String(line);
+            String expected = referenceRecordLine(s);
+            assertEquals(expected, readRecordLine(s), () -> "[" + s + "]");
+            assertEquals(referenceProcessText(s), LegacyTextReader.processText(s), () -> "[" + s + "]");
+        }
+    }
 }
@@ -11,6 +11,8 @@ import com.powsybl.commons.PowsyblException;
 import com.powsybl.commons.Versionable;
 import com.powsybl.commons.config.PlatformConfig;
 import com.powsybl.commons.config.PlatformConfigNamedProvider;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
@@ -51,7 +53,12 @@ public final class SecurityAnalysis {
             Objects.requireNonNull(workingStateId, "WorkingVariantId should not be null");
             Objects.requireNonNull(contingenciesProvider, "Contingencies provider should not be null");
             Objects.requireNonNull(runParameters, "SecurityAnalysisRunParameters should not be null");
-            return provider.run(network, workingStateId, contingenciesProvider, runParameters);
+            Timer.Sample sample = Metrics.timer("security-analysis.run." + provider.getName()).start();
+            CompletableFuture<SecurityAnalysisReport> result = provider.run(network, workingStateId, contingenciesProvider, runParameters);
+            if (result != null) {
+                result.whenComplete((r, t) -> sample.close());
+            }
+            return result;
         }
 
         public CompletableFuture<SecurityAnalysisReport> runAsync(Network network, List<Contingency> contingencies, SecurityAnalysisRunParameters runParameters) {
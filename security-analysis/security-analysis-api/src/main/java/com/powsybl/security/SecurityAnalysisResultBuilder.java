@@ -8,6 +8,8 @@
 package com.powsybl.security;
 
 import com.google.common.collect.ImmutableList;
+import com.powsybl.commons.metrics.Metrics;
+import com.powsybl.commons.metrics.Timer;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.contingency.strategy.OperatorStrategy;
 import com.powsybl.contingency.violations.LimitViolation;
@@ -29,6 +31,11 @@ import java.util.*;
  */
 public class SecurityAnalysisResultBuilder {
 
+    // time spent in endContingency to filter the violations, notify the interceptors and store the result of a
+    // contingency, not the time spent by the provider to simulate the contingency
+    private static final String CONTINGENCY_RESULT_BUILD_METRIC = "security-analysis.contingency-result-build";
+    private static final String CONTINGENCY_VIOLATIONS_METRIC = "security-analysis.contingency-result.violations";
+
     private final LimitViolationFilter filter;
     private final SecurityAnalysisResultContext context;
     private final List<SecurityAnalysisInterceptor> interceptors;
@@ -280,17 +287,20 @@ public class SecurityAnalysisResultBuilder {
          * @return the parent {@link SecurityAnalysisResultBuilder} instance.
          */
         public SecurityAnalysisResultBuilder endContingency() {
-            List<LimitViolation> filteredViolations = filter.apply(violations, context.getNetwork());
-            PostContingencyResult res = new PostContingencyResult(
-                contingency,
-                status,
-                new LimitViolationsResult(filteredViolations, Collections.emptyList()),
-                new NetworkResult(branchResults, busResults, threeWindingsTransformerResults),
-                connectivityResult,
-                distributedActivePower
-            );
-            interceptors.forEach(i -> i.onPostContingencyResult(res, resultContext));
-            addPostContingencyResult(res);
+            try (Timer.Sample sample = Metrics.timer(CONTINGENCY_RESULT_BUILD_METRIC).start()) {
+                List<LimitViolation> filteredViolations = filter.apply(violations, context.getNetwork());
+                PostContingencyResult res = new PostContingencyResult(
+                    contingency,
+                    status,
+                    new LimitViolationsResult(filteredViolations, Collections.emptyList()),
+                    new NetworkResult(branchResults, busResults, threeWindingsTransformerResults),
+                    connectivityResult,
+                    distributedActivePower
+                );
+                interceptors.forEach(i -> i.onPostContingencyResult(res, resultContext));
+                addPostContingencyResult(res);
+                Metrics.histogram(CONTINGENCY_VIOLATIONS_METRIC).record(filteredViolations.size());
+            }
 
             return SecurityAnalysisResultBuilder.this;
         }
@@ -0,0 +1,393 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.detectors;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LimitViolationType;
+import com.powsybl.contingency.violations.LoadingLimitType;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.iidm.network.limitmodification.result.AbstractDistinctLimitsContainer;
+import com.powsybl.iidm.network.limitmodification.result.LimitsContainer;
+import com.powsybl.security.LimitViolationDetection;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * <p>Dense, read-only table of the loading limits of a set of monitored elements, for a given {@link LimitType}.</p>
+ * <p>The limits of each (element, side) row are resolved once through a {@link LimitsComputer} when the table is
+ * compiled: reduced and original thresholds of all the selected {@link OperationalLimitsGroup}s are stored in primitive
+ * arrays. Checking a value is then a loop over these arrays, and objects are only allocated when a violation is found.</p>
+ * <p>The detected violations are the same, and reported in the same order, as the ones of
+ * {@link LimitViolationDetection#checkLimitViolation(Branch, TwoSides, double, LimitType, Set, LimitsComputer, Consumer)}.
+ * The table is a snapshot: it must be compiled again when the limits, the selected groups or the limit reductions change.
+ * Once compiled, it can safely be shared between threads.</p>
+ *
+ * @author agent {@literal <agent at local>}
+ */
+public final class CompiledLimitsTable {
+
+    private static final String[] EMPTY_STRINGS = new String[0];
+    private static final int NO_OVERLOAD = Integer.MIN_VALUE;
+
+    private final LimitViolationType violationType;
+    private final boolean checkTemporary;
+    private final boolean checkPermanent;
+
+    // rows: one per (element, side)
+    private final String[] elementIds;
+    private final String[] elementNames;
+    private final ThreeSides[] sides;
+    private final int[] rowGroupStart;
+    private final Map<String, Integer> firstRowByElementId;
+
+    // operational limits groups
+    private final String[] groupIds;
+    private final boolean[] highDetection;
+    private final double[] permanentLimits;
+    private final double[] originalPermanentLimits;
+    private final double[] permanentLimitReductions;
+    private final String[] permanentLimitNames;
+    private final int[] groupTemporaryStart;
+
+    // temporary limits, in ascending order of value inside a group
+    private final double[] temporaryLimits;
+    private final double[] originalTemporaryLimits;
+    private final double[] temporaryLimitReductions;
+    private final String[] temporaryLimitNames;
+    private final int[] acceptableDurations;
+
+    private CompiledLimitsTable(Builder builder) {
+        this.violationType = LimitViolationDetection.toLimitViolationType(builder.limitType);
+        this.checkTemporary = builder.currentLimitTypes.contains(LoadingLimitType.TATL);
+        this.checkPermanent = builder.currentLimitTypes.contains(LoadingLimitType.PATL);
+        this.elementIds = builder.elementIds.toArray(EMPTY_STRINGS);
+        this.elementNames = builder.elementNames.toArray(EMPTY_STRINGS);
+        this.sides = builder.sides.toArray(new ThreeSides[0]);
+        this.rowGroupStart = builder.rowGroupStart.toArray();
+        this.firstRowByElementId = Map.copyOf(builder.firstRowByElementId);
+        this.groupIds = builder.groupIds.toArray(EMPTY_STRINGS);
+        this.highDetection = new boolean[groupIds.length];
+        for (int g = 0; g < groupIds.length; g++) {
+            highDetection[g] = builder.highDetection.get(g);
+        }
+        this.permanentLimits = builder.permanentLimits.toArray();
+        this.originalPermanentLimits = builder.originalPermanentLimits.toArray();
+        this.permanentLimitReductions = builder.permanentLimitReductions.toArray();
+        this.permanentLimitNames = builder.permanentLimitNames.toArray(EMPTY_STRINGS);
+        this.groupTemporaryStart = builder.groupTemporaryStart.toArray();
+        this.temporaryLimits = builder.temporaryLimits.toArray();
+        this.originalTemporaryLimits = builder.originalTemporaryLimits.toArray();
+        this.temporaryLimitReductions = builder.temporaryLimitReductions.toArray();
+        this.temporaryLimitNames = builder.temporaryLimitNames.toArray(EMPTY_STRINGS);
+        this.acceptableDurations = builder.acceptableDurations.toArray();
+    }
+
+    /**
+     * Compile the limits of all the branches and three windings transformers of <code>network</code>.
+     * Rows are ordered as {@link Network#getBranchStream()} then {@link Network#getThreeWindingsTransformerStream()},
+     * with one row per side.
+     */
+    public static CompiledLimitsTable compile(Network network, LimitType limitType, Set<LoadingLimitType> currentLimitTypes,
+                                              LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+        Objects.requireNonNull(network);
+        Builder builder = builder(limitType, currentLimitTypes, limitsComputer);
+        network.getBranchStream().forEach(builder::add);
+        network.getThreeWindingsTransformerStream().forEach(builder::add);
+        return builder.build();
+    }
+
+    public static Builder builder(LimitType limitType, Set<LoadingLimitType> currentLimitTypes,
+                                  LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+        return new Builder(limitType, currentLimitTypes, limitsComputer);
+    }
+
+    /**
+     * @return the number of (element, side) rows of the table
+     */
+    public int size() {
+        return elementIds.length;
+    }
+
+    public String getElementId(int row) {
+        return elementIds[row];
+    }
+
+    public ThreeSides getSide(int row) {
+        return sides[row];
+    }
+
+    /**
+     * @return the row of the given side of the given element, or -1 if it is not part of the table
+     */
+    public int getRow(String elementId, ThreeSides side) {
+        Integer firstRow = firstRowByElementId.get(Objects.requireNonNull(elementId));
+        if (firstRow == null) {
+            return -1;
+        }
+        for (int row = firstRow; row < elementIds.length && elementIds[row].equals(elementId); row++) {
+            if (sides[row] == side) {
+                return row;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Check the values of all rows: <code>values[row]</code> is checked against the limits of <code>row</code>.
+     * Rows with a NaN value are ignored.
+     */
+    public void checkAll(double[] values, Consumer<LimitViolation> consumer) {
+        Objects.requireNonNull(values);
+        if (values.length != elementIds.length) {
+            throw new IllegalArgumentException("Values array length (" + values.length + ") does not match table size (" + elementIds.length + ")");
+        }
+        for (int row = 0; row < values.length; row++) {
+            check(row, values[row], consumer);
+        }
+    }
+
+    /**
+     * Check <code>value</code> against the limits of <code>row</code> and feed <code>consumer</code> with the detected violations.
+     */
+    public void check(int row, double value, Consumer<LimitViolation> consumer) {
+        if (Double.isNaN(value)) {
+            return;
+        }
+        int groupStart = rowGroupStart[row];
+        int groupEnd = rowGroupStart[row + 1];
+        if (checkTemporary) {
+            for (int g = groupStart; g < groupEnd; g++) {
+                int t = findTemporaryOverload(g, value);
+                if (t != NO_OVERLOAD) {
+                    consumer.accept(createTemporaryViolation(row, g, t, value));
+                }
+            }
+        }
+        if (checkPermanent) {
+            for (int g = groupStart; g < groupEnd; g++) {
+                if (highDetection[g] && !Double.isNaN(permanentLimits[g]) && value >= permanentLimits[g]
+                        && !hasTemporaryOverload(groupStart, groupEnd, groupIds[g], value)) {
+                    consumer.accept(new LimitViolation(elementIds[row], elementNames[row], groupIds[g], violationType,
+                            permanentLimitNames[g], Integer.MAX_VALUE, originalPermanentLimits[g], permanentLimitReductions[g],
+                            value, sides[row], null));
+                }
+            }
+        }
+    }
+
+    private boolean hasTemporaryOverload(int groupStart, int groupEnd, String groupId, double value) {
+        if (!checkTemporary) {
+            return false;
+        }
+        for (int g = groupStart; g < groupEnd; g++) {
+            if (groupIds[g].equals(groupId) && findTemporaryOverload(g, value) != NO_OVERLOAD) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Encoding of the result:
+     * <ul>
+     *     <li>{@link #NO_OVERLOAD} if no temporary overload is detected</li>
+     *     <li>-1 if the value is between the permanent limit and the first temporary limit</li>
+     *     <li>the index of the temporary limit which has been crossed otherwise</li>
+     * </ul>
+     */
+    private int findTemporaryOverload(int g, double value) {
+        int start = groupTemporaryStart[g];
+        int end = groupTemporaryStart[g + 1];
+        if (highDetection[g]) {
+            double previousLimit = permanentLimits[g];
+            if (Double.isNaN(previousLimit)) {
+                return NO_OVERLOAD;
+            }
+            for (int t = start; t < end; t++) {
+                if (value >= previousLimit && value < temporaryLimits[t]) {
+                    return t == start ? -1 : t - 1;
+                }
+                previousLimit = temporaryLimits[t];
+            }
+            return end > start && value >= temporaryLimits[end - 1] ? end - 1 : NO_OVERLOAD;
+        }
+        int crossed = NO_OVERLOAD;
+        for (int t = start; t < end && value >= temporaryLimits[t]; t++) {
+            crossed = t;
+        }
+        return crossed;
+    }
+
+    private LimitViolation createTemporaryViolation(int row, int g, int t, double value) {
+        String limitName;
+        double limit;
+        double reduction;
+        int acceptableDuration;
+        if (t == -1) {
+            // between the permanent limit and the first temporary limit
+            limitName = permanentLimitNames[g];
+            limit = originalPermanentLimits[g];
+            reduction = permanentLimitReductions[g];
+            acceptableDuration = acceptableDurations[groupTemporaryStart[g]];
+        } else {
+            limitName = temporaryLimitNames[t];
+            limit = originalTemporaryLimits[t];
+            reduction = temporaryLimitReductions[t];
+            if (!highDetection[g]) {
+                acceptableDuration = acceptableDurations[t];
+            } else {
+                // the overload duration is the one of the next temporary limit, or 0 when all of them are crossed
+                acceptableDuration = t + 1 < groupTemporaryStart[g + 1] ? acceptableDurations[t + 1] : 0;
+            }
+        }
+        return new LimitViolation(elementIds[row], elementNames[row], groupIds[g], violationType, limitName,
+                acceptableDuration, limit, reduction, value, sides[row], null);
+    }
+
+    /**
+     * Builder collecting the limits of the monitored elements, row by row.
+     */
+    public static final class Builder {
+
+        private final LimitType limitType;
+        private final Set<LoadingLimitType> currentLimitTypes;
+        private final LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer;
+
+        private final List<String> elementIds = new ArrayList<>();
+        private final List<String> elementNames = new ArrayList<>();
+        private final List<ThreeSides> sides = new ArrayList<>();
+        private final IntArrayBuilder rowGroupStart = new IntArrayBuilder();
+        private final Map<String, Integer> firstRowByElementId = new HashMap<>();
+
+        private final List<String> groupIds = new ArrayList<>();
+        private final List<Boolean> highDetection = new ArrayList<>();
+        private final DoubleArrayBuilder permanentLimits = new DoubleArrayBuilder();
+        private final DoubleArrayBuilder originalPermanentLimits = new DoubleArrayBuilder();
+        private final DoubleArrayBuilder permanentLimitReductions = new DoubleArrayBuilder();
+        private final List<String> permanentLimitNames = new ArrayList<>();
+        private final IntArrayBuilder groupTemporaryStart = new IntArrayBuilder();
+
+        private final DoubleArrayBuilder temporaryLimits = new DoubleArrayBuilder();
+        private final DoubleArrayBuilder originalTemporaryLimits = new DoubleArrayBuilder();
+        private final DoubleArrayBuilder temporaryLimitReductions = new DoubleArrayBuilder();
+        private final List<String> temporaryLimitNames = new ArrayList<>();
+        private final IntArrayBuilder acceptableDurations = new IntArrayBuilder();
+
+        private Builder(LimitType limitType, Set<LoadingLimitType> currentLimitTypes,
+                        LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+            this.limitType = Objects.requireNonNull(limitType);
+            this.currentLimitTypes = EnumSet.noneOf(LoadingLimitType.class);
+            this.currentLimitTypes.addAll(Objects.requireNonNull(currentLimitTypes));
+            this.limitsComputer = Objects.requireNonNull(limitsComputer);
+            rowGroupStart.add(0);
+            groupTemporaryStart.add(0);
+        }
+
+        public Builder add(Branch<?> branch) {
+            startElement(branch);
+            addRow(branch, ThreeSides.ONE);
+            addRow(branch, ThreeSides.TWO);
+            return this;
+        }
+
+        public Builder add(ThreeWindingsTransformer transformer) {
+            startElement(transformer);
+            addRow(transformer, ThreeSides.ONE);
+            addRow(transformer, ThreeSides.TWO);
+            addRow(transformer, ThreeSides.THREE);
+            return this;
+        }
+
+        private void startElement(Identifiable<?> identifiable) {
+            if (firstRowByElementId.putIfAbsent(identifiable.getId(), elementIds.size()) != null) {
+                throw new IllegalArgumentException("Element '" + identifiable.getId() + "' has already been added");
+            }
+        }
+
+        private void addRow(Identifiable<?> identifiable, ThreeSides side) {
+            elementIds.add(identifiable.getId());
+            elementNames.add(identifiable.getOptionalName().orElse(null));
+            sides.add(side);
+            for (LimitsContainer<LoadingLimits> container : limitsComputer.computeLimits(identifiable, limitType, side, false)) {
+                addGroup(container);
+            }
+            rowGroupStart.add(groupIds.size());
+        }
+
+        private void addGroup(LimitsContainer<LoadingLimits> container) {
+            LoadingLimits limits = container.getLimits();
+            AbstractDistinctLimitsContainer<?, ?> distinct = container.isDistinct()
+                    ? (AbstractDistinctLimitsContainer<?, ?>) container : null;
+            groupIds.add(container.getOperationalLimitsGroupId());
+            highDetection.add(container.getOriginalLimits().getDetectionKind() == DetectionKind.HIGH);
+            permanentLimits.add(limits.getPermanentLimit());
+            originalPermanentLimits.add(container.getOriginalLimits().getPermanentLimit());
+            permanentLimitReductions.add(distinct != null ? distinct.getPermanentLimitReduction() : 1);
+            permanentLimitNames.add(limits.getPermanentLimitName());
+            for (LoadingLimits.TemporaryLimit tl : limits.getTemporaryLimits()) {
+                temporaryLimits.add(tl.getValue());
+                if (distinct != null) {
+                    Double originalLimit = distinct.getOriginalTemporaryLimit(tl.getAcceptableDuration());
+                    Double reduction = distinct.getTemporaryLimitReduction(tl.getAcceptableDuration());
+                    originalTemporaryLimits.add(originalLimit != null ? originalLimit : Double.NaN);
+                    temporaryLimitReductions.add(reduction != null ? reduction : Double.NaN);
+                } else {
+                    originalTemporaryLimits.add(tl.getValue());
+                    temporaryLimitReductions.add(1);
+                }
+                temporaryLimitNames.add(tl.getName());
+                acceptableDurations.add(tl.getAcceptableDuration());
+            }
+            groupTemporaryStart.add(temporaryLimits.size());
+        }
+
+        public CompiledLimitsTable build() {
+            return new CompiledLimitsTable(this);
+        }
+    }
+
+    private static final class DoubleArrayBuilder {
+
+        private double[] values = new double[16];
+        private int size = 0;
+
+        void add(double value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int size() {
+            return size;
+        }
+
+        double[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+
+    private static final class IntArrayBuilder {
+
+        private int[] values = new int[16];
+        private int size = 0;
+
+        void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -149,6 +149,16 @@ public class DefaultLimitViolationDetector extends AbstractContingencyBlindDetec
             });
     }
 
+    /**
+     * Compile the limits of all the branches and three windings transformers of <code>network</code> for the given
+     * <code>type</code>, with the limit reduction and limit types of this detector.
+     * The resulting table detects the same violations as {@link #checkLimitViolation(Branch, TwoSides, double, Consumer, LimitType)}
+     * without resolving the limits again for each checked value.
+     */
+    public CompiledLimitsTable compileLimitsTable(Network network, LimitType type) {
+        return CompiledLimitsTable.compile(network, type, currentLimitTypes, limitsComputer);
+    }
+
     public void checkLimitViolation(Branch branch, TwoSides side, double value, Consumer<LimitViolation> consumer, LimitType type) {
         LimitViolationDetection.checkLimitViolation(branch, side, value, type, currentLimitTypes, limitsComputer, consumer);
     }
@@ -12,9 +12,8 @@ import com.powsybl.contingency.ContingenciesProvider;
 import com.powsybl.contingency.Contingency;
 import com.powsybl.iidm.network.Network;
 
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Objects;
+import java.util.stream.Stream;
 
 /**
  * A contingencies provider which provides a subset of another provider,
@@ -28,21 +27,20 @@ import java.util.Objects;
  */
 public class SubContingenciesProvider implements ContingenciesProvider {
 
-    private final ContingenciesProvider delegate;
-    private final Partition partition;
+    private final com.powsybl.contingency.SubContingenciesProvider delegate;
 
     public SubContingenciesProvider(ContingenciesProvider delegate, Partition partition) {
-        this.delegate = Objects.requireNonNull(delegate);
-        this.partition = Objects.requireNonNull(partition);
+        this.delegate = new com.powsybl.contingency.SubContingenciesProvider(delegate, partition);
     }
 
     @Override
     public List<Contingency> getContingencies(Network network) {
-        List<Contingency> fullList = delegate.getContingencies(network);
-        int fullSize = fullList.size();
-        int start = partition.startIndex(fullSize);
-        int end = partition.endIndex(fullSize);
-        return new ArrayList<>(fullList.subList(start, end));
+        return delegate.getContingencies(network);
+    }
+
+    @Override
+    public Stream<Contingency> getContingencyStream(Network network) {
+        return delegate.getContingencyStream(network);
     }
 
 }
@@ -0,0 +1,140 @@
+/**
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.security.detectors;
+
+import com.powsybl.contingency.violations.LimitViolation;
+import com.powsybl.contingency.violations.LoadingLimitType;
+import com.powsybl.iidm.network.*;
+import com.powsybl.iidm.network.limitmodification.LimitsComputer;
+import com.powsybl.iidm.network.test.EurostagTutorialExample1Factory;
+import com.powsybl.security.limitreduction.SimpleLimitsComputer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the common detection tests through a {@link CompiledLimitsTable}, to ensure it detects the same violations
+ * as {@link DefaultLimitViolationDetector}.
+ *
+ * @author agent {@literal <agent at local>}
+ */
+class CompiledLimitsTableTest extends AbstractLimitViolationDetectionTest {
+
+    private static final Set<LoadingLimitType> ALL_LIMIT_TYPES = EnumSet.allOf(LoadingLimitType.class);
+
+    private DefaultLimitViolationDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        detector = new DefaultLimitViolationDetector();
+        violationsCollector = new ArrayList<>();
+    }
+
+    private static void check(Branch<?> branch, TwoSides side, double value, Consumer<LimitViolation> consumer,
+                              LimitType limitType, LimitsComputer<Identifiable<?>, LoadingLimits> limitsComputer) {
+        CompiledLimitsTable table = CompiledLimitsTable.builder(limitType, ALL_LIMIT_TYPES, limitsComputer)
+                .add(branch)
+                .build();
+        table.check(table.getRow(branch.getId(), side.toThreeSides()), value, consumer);
+    }
+
+    private static void check(ThreeWindingsTransformer transformer, ThreeSides side, double value, Consumer<LimitViolation> consumer,
+                              LimitType limitType) {
+        CompiledLimitsTable table = CompiledLimitsTable.builder(limitType, ALL_LIMIT_TYPES, new SimpleLimitsComputer(1.0))
+                .add(transformer)
+                .build();
+        table.check(table.getRow(transformer.getId(), side), value, consumer);
+    }
+
+    @Override
+    protected void checkLimitViolation(Branch<?> branch, TwoSides side, double currentValue, Consumer<LimitViolation> consumer,
+                                       LimitType limitType, double limitReduction) {
+        check(branch, side, currentValue, consumer, limitType, new SimpleLimitsComputer(limitReduction));
+    }
+
+    @Override
+    protected void checkCurrent(Branch<?> branch, TwoSides side, double currentValue, Consumer<LimitViolation> consumer) {
+        check(branch, side, currentValue, consumer, LimitType.CURRENT, new SimpleLimitsComputer(1.0));
+    }
+
+    @Override
+    protected void checkCurrent(ThreeWindingsTransformer transfo, ThreeSides side, double currentValue, Consumer<LimitViolation> consumer) {
+        check(transfo, side, currentValue, consumer, LimitType.CURRENT);
+    }
+
+    @Override
+    protected void checkActivePower(Branch<?> branch, TwoSides side, double value, Consumer<LimitViolation> consumer) {
+        check(branch, side, value, consumer, LimitType.ACTIVE_POWER, new SimpleLimitsComputer(1.0));
+    }
+
+    @Override
+    protected void checkActivePower(ThreeWindingsTransformer transfo, ThreeSides side, double value, Consumer<LimitViolation> consumer) {
+        check(transfo, side, value, consumer, LimitType.ACTIVE_POWER);
+    }
+
+    @Override
+    protected void checkApparentPower(Branch<?> branch, TwoSides side, double value, Consumer<LimitViolation> consumer) {
+        check(branch, side, value, consumer, LimitType.APPARENT_POWER, new SimpleLimitsComputer(1.0));
+    }
+
+    @Override
+    protected void checkApparentPower(ThreeWindingsTransformer transfo, ThreeSides side, double value, Consumer<LimitViolation> consumer) {
+        check(transfo, side, value, consumer, LimitType.APPARENT_POWER);
+    }
+
+    @Override
+    protected void checkVoltage(Bus b, int voltageValue, Consumer<LimitViolation> consumer) {
+        detector.checkVoltage(b, voltageValue, consumer);
+    }
+
+    @Override
+    protected void checkVoltageAngle(VoltageAngleLimit voltageAngleLimit, double voltageAngleDifference, Consumer<LimitViolation> consumer) {
+        detector.checkVoltageAngle(voltageAngleLimit, voltageAngleDifference, consumer);
+    }
+
+    @Test
+    void checkAllSameAsDetector() {
+        Network network = EurostagTutorialExample1Factory.createWithFixedCurrentLimits();
+        DefaultLimitViolationDetector reducedDetector = new DefaultLimitViolationDetector(0.9, ALL_LIMIT_TYPES);
+        CompiledLimitsTable table = reducedDetector.compileLimitsTable(network, LimitType.CURRENT);
+        assertEquals(2 * network.getBranchCount() + 3 * network.getThreeWindingsTransformerCount(), table.size());
+
+        double[] values = new double[table.size()];
+        List<LimitViolation> expected = new ArrayList<>();
+        for (int row = 0; row < table.size(); row++) {
+            values[row] = 1000 + 100 * row;
+            Branch<?> branch = network.getBranch(table.getElementId(row));
+            reducedDetector.checkLimitViolation(branch, table.getSide(row).toTwoSides(), values[row], expected::add, LimitType.CURRENT);
+        }
+        List<LimitViolation> actual = new ArrayList<>();
+        table.checkAll(values, actual::add);
+
+        assertFalse(expected.isEmpty());
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            LimitViolation e = expected.get(i);
+            LimitViolation a = actual.get(i);
+            assertEquals(e.getSubjectId(), a.getSubjectId());
+            assertEquals(e.getSide(), a.getSide());
+            assertEquals(e.getLimitName(), a.getLimitName());
+            assertEquals(e.getAcceptableDuration(), a.getAcceptableDuration());
+            assertEquals(e.getLimit(), a.getLimit(), 0d);
+            assertEquals(e.getLimitReduction(), a.getLimitReduction(), 0d);
+            assertEquals(e.getValue(), a.getValue(), 0d);
+        }
+
+        assertEquals(-1, table.getRow("UNKNOWN", ThreeSides.ONE));
+        assertEquals(-1, table.getRow("NHV1_NHV2_1", ThreeSides.THREE));
+        double[] wrongSizeValues = new double[1];
+        assertThrows(IllegalArgumentException.class, () -> table.checkAll(wrongSizeValues, actual::add));
+    }
+}
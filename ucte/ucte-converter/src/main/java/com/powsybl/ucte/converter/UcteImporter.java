@@ -33,6 +33,8 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
 import java.util.*;
 import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
@@ -54,6 +56,7 @@ public class UcteImporter implements Importer {
     public static final String COMBINE_PHASE_ANGLE_REGULATION = "ucte.import.combine-phase-angle-regulation";
     public static final String CREATE_AREAS = "ucte.import.create-areas";
     public static final String AREAS_DC_XNODES = "ucte.import.areas-dc-xnodes";
+    public static final String PARALLEL_PARSING = "ucte.import.parallel-parsing";
     public static final String UNEXPECTED_UCTE_ELEMENT_STATUS = "Unexpected UcteElementStatus value: ";
     public static final String X_NODE = "_XNode";
 
@@ -64,11 +67,14 @@ public class UcteImporter implements Importer {
             = new Parameter(CREATE_AREAS, ParameterType.BOOLEAN, "Create Areas", true);
     private static final Parameter AREAS_DC_XNODES_PARAMETER
             = new Parameter(AREAS_DC_XNODES, ParameterType.STRING_LIST, "X-Nodes to be considered as DC when creating area boundaries", List.of());
+    private static final Parameter PARALLEL_PARSING_PARAMETER
+            = new Parameter(PARALLEL_PARSING, ParameterType.BOOLEAN, "Parse the records of the file in parallel", false);
 
     private static final List<Parameter> PARAMETERS = List.of(
             COMBINE_PHASE_ANGLE_REGULATION_PARAMETER,
             CREATE_AREAS_PARAMETER,
-            AREAS_DC_XNODES_PARAMETER
+            AREAS_DC_XNODES_PARAMETER,
+            PARALLEL_PARSING_PARAMETER
     );
 
     private final ParameterDefaultValueConfig defaultValueConfig;
@@ -1008,7 +1014,7 @@ public class UcteImporter implements Importer {
     public Network importData(ReadOnlyDataSource dataSource, NetworkFactory networkFactory, Properties parameters, ReportNode reportNode) {
         try {
             String ext = findExtension(dataSource, true);
-            try (BufferedReader reader = new BufferedReader(new InputStreamReader(dataSource.newInputStream(null, ext)))) {
+            try (InputStream is = dataSource.newInputStream(null, ext)) {
 
                 Stopwatch stopwatch = Stopwatch.createStarted();
 
@@ -1016,7 +1022,11 @@ public class UcteImporter implements Importer {
                 boolean createAreas = Parameter.readBoolean(getFormat(), parameters, CREATE_AREAS_PARAMETER, defaultValueConfig);
                 Set<String> areaDcXnodes = Parameter.readStringList(getFormat(), parameters, AREAS_DC_XNODES_PARAMETER, defaultValueConfig).stream().collect(Collectors.toUnmodifiableSet());
 
-                UcteNetworkExt ucteNetwork = new UcteNetworkExt(new UcteReader().read(reader, reportNode), LINE_MIN_Z);
+                boolean parallelParsing = Parameter.readBoolean(getFormat(), parameters, PARALLEL_PARSING_PARAMETER, defaultValueConfig);
+
+                // the file is parsed from its bytes, decoded with the default charset like the header in exists()
+                UcteNetwork ucteFile = new UcteReader(parallelParsing).read(ByteBuffer.wrap(is.readAllBytes()), Charset.defaultCharset(), reportNode);
+                UcteNetworkExt ucteNetwork = new UcteNetworkExt(ucteFile, LINE_MIN_Z);
                 String fileName = dataSource.getBaseName();
 
                 EntsoeFileName ucteFileName = EntsoeFileName.parse(fileName);
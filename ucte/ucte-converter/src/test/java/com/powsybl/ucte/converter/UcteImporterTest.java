@@ -350,6 +350,27 @@ class UcteImporterTest {
         assertEquals(0, network.getAreaCount());
     }
 
+    @Test
+    void testParallelParsing() {
+        ResourceDataSource dataSource = new ResourceDataSource("uxTestGridForMerging", new ResourceSet("/", "uxTestGridForMerging.uct"));
+        Network expected = new UcteImporter().importData(dataSource, new NetworkFactoryImpl(), null);
+        Properties parameters = new Properties();
+        parameters.put("ucte.import.parallel-parsing", "true");
+        Network network = new UcteImporter().importData(dataSource, new NetworkFactoryImpl(), parameters);
+        assertEquals(expected.getBusBreakerView().getBusStream().map(Identifiable::getId).toList(),
+                network.getBusBreakerView().getBusStream().map(Identifiable::getId).toList());
+        assertEquals(expected.getLineCount(), network.getLineCount());
+        for (Line line : expected.getLines()) {
+            assertEquals(line.getX(), network.getLine(line.getId()).getX(), 0);
+        }
+        for (TwoWindingsTransformer transformer : expected.getTwoWindingsTransformers()) {
+            assertEquals(transformer.getR(), network.getTwoWindingsTransformer(transformer.getId()).getR(), 0);
+        }
+        for (Generator generator : expected.getGenerators()) {
+            assertEquals(generator.getTargetP(), network.getGenerator(generator.getId()).getTargetP(), 0);
+        }
+    }
+
     @Test
     void testMetaInfos() throws IOException {
         try (var fs = Jimfs.newFileSystem(Configuration.unix())) {
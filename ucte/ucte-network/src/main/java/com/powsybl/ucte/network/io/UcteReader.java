@@ -16,6 +16,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.IntStream;
 
 /**
  *
@@ -25,8 +38,27 @@ public class UcteReader {
 
     private static final Logger LOGGER = LoggerFactory.getLogger(UcteReader.class);
 
+    /**
+     * Number of records parsed by a task when records of a block are parsed in parallel.
+     */
+    private static final int RECORDS_PER_TASK = 1024;
+
+    private final boolean parallel;
+
     private boolean firstCommendBlockRead = false;
 
+    public UcteReader() {
+        this(false);
+    }
+
+    /**
+     * @param parallel if true, records of a block read from a {@link ByteBuffer} are parsed in parallel before being
+     *                 added to the network in the order of the file
+     */
+    public UcteReader(boolean parallel) {
+        this.parallel = parallel;
+    }
+
     private void readCommentBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
         LOGGER.trace("Reading comment block");
         if (!firstCommendBlockRead && parser.getParsedRecordTypes().size() > 1) {
@@ -59,7 +91,7 @@ public class UcteReader {
         return new UcteNodeCode(ucteCountryCode, geographicalSpot, voltageLevelCode, busbar);
     }
 
-    private void parseNode(UcteRecordParser parser, UcteNetwork network) {
+    private static UcteNode parseNode(UcteRecordParser parser) {
         UcteNodeCode id = parseNodeCode(parser, 0);
         String geographicalName = parser.parseString(9, 21).trim();
         UcteNodeStatus status = parser.parseEnumOrdinal(22, UcteNodeStatus.class);
@@ -79,32 +111,26 @@ public class UcteReader {
         double xrRatio = parser.parseDouble(119, 126);
         UctePowerPlantType powerPlantType = parser.parseEnumValue(127, UctePowerPlantType.class);
 
-        UcteNode node = new UcteNode(id, geographicalName, status, typeCode, voltageReference,
+        return new UcteNode(id, geographicalName, status, typeCode, voltageReference,
                                      activeLoad, reactiveLoad, activePowerGeneration,
                                      reactivePowerGeneration, minimumPermissibleActivePowerGeneration,
                                      maximumPermissibleActivePowerGeneration, minimumPermissibleReactivePowerGeneration,
                                      maximumPermissibleReactivePowerGeneration, staticOfPrimaryControl,
                                      nominalPowerPrimaryControl, threePhaseShortCircuitPower, xrRatio, powerPlantType);
-        network.addNode(node);
+    }
+
+    private static UcteNode parseNodeOutsideZContext(UcteRecordParser parser) {
+        throw new UcteIoException("A node must be define in a ##Z context");
     }
 
     private void readNodeBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
         LOGGER.trace("Reading node block");
-        String countryIsoCode = null;
-        while (parser.nextLine()) {
-            UcteRecordType recordType = parser.scanRecordType();
-            if (recordType != null) {
-                if (recordType == UcteRecordType.Z) {
-                    countryIsoCode = parser.parseString(3, 5);
-                } else {
-                    parseRecords(parser, network, reportNode);
-                }
-            } else {
-                if (countryIsoCode == null) {
-                    throw new UcteIoException("A node must be define in a ##Z context");
-                }
-                parseNode(parser, network);
-            }
+        boolean recordTypeFound = readRecords(parser, UcteReader::parseNodeOutsideZContext, network::addNode);
+        while (recordTypeFound && parser.scanRecordType() == UcteRecordType.Z) {
+            recordTypeFound = readRecords(parser, UcteReader::parseNode, network::addNode);
+        }
+        if (recordTypeFound) {
+            parseRecords(parser, network, reportNode);
         }
     }
 
@@ -113,7 +139,7 @@ public class UcteReader {
         return UcteElementId.parseUcteElementId(elementId).orElseThrow(() -> new UcteIoException("Invalid element ID: " + elementId));
     }
 
-    private void parseLine(UcteRecordParser parser, UcteNetwork network) {
+    private static UcteLine parseLine(UcteRecordParser parser) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         double resistance = parser.parseDouble(22, 28);
@@ -122,22 +148,17 @@ public class UcteReader {
         Integer currentLimit = parser.parseInt(45, 51);
         String elementName = parser.parseString(52, 64);
 
-        UcteLine l = new UcteLine(id, status, resistance, reactance, susceptance, currentLimit, elementName);
-        network.addLine(l);
+        return new UcteLine(id, status, resistance, reactance, susceptance, currentLimit, elementName);
     }
 
     private void readLineBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
         LOGGER.trace("Reading line block");
-        while (parser.nextLine()) {
-            if (parser.scanRecordType() != null) {
-                parseRecords(parser, network, reportNode);
-            } else {
-                parseLine(parser, network);
-            }
+        if (readRecords(parser, UcteReader::parseLine, network::addLine)) {
+            parseRecords(parser, network, reportNode);
         }
     }
 
-    private void parseTransformer(UcteRecordParser parser, UcteNetwork network) {
+    private static UcteTransformer parseTransformer(UcteRecordParser parser) {
         UcteElementId id = parseElementId(parser);
         UcteElementStatus status = UcteElementStatus.fromCode(parser.parseInt(20));
         double ratedVoltage1 = parser.parseDouble(22, 27);
@@ -150,23 +171,18 @@ public class UcteReader {
         Integer currentLimit = parser.parseInt(70, 76);
         String elementName = parser.parseString(77, 89);
 
-        UcteTransformer transfo = new UcteTransformer(id, status, resistance, reactance, susceptance, currentLimit, elementName,
-                                                      ratedVoltage1, ratedVoltage2, nominalPower, conductance);
-        network.addTransformer(transfo);
+        return new UcteTransformer(id, status, resistance, reactance, susceptance, currentLimit, elementName,
+                                   ratedVoltage1, ratedVoltage2, nominalPower, conductance);
     }
 
     private void readTransformerBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
         LOGGER.trace("Reading transformer block");
-        while (parser.nextLine()) {
-            if (parser.scanRecordType() != null) {
-                parseRecords(parser, network, reportNode);
-            } else {
-                parseTransformer(parser, network);
-            }
+        if (readRecords(parser, UcteReader::parseTransformer, network::addTransformer)) {
+            parseRecords(parser, network, reportNode);
         }
     }
 
-    private UctePhaseRegulation parsePhaseRegulation(UcteRecordParser parser) {
+    private static UctePhaseRegulation parsePhaseRegulation(UcteRecordParser parser) {
         double du = parser.parseDouble(20, 25);
         Integer n = parser.parseInt(26, 28);
         Integer np = parser.parseInt(29, 32);
@@ -177,7 +193,7 @@ public class UcteReader {
         return null;
     }
 
-    private UcteAngleRegulation parseAngleRegulation(UcteRecordParser parser) {
+    private static UcteAngleRegulation parseAngleRegulation(UcteRecordParser parser) {
         double du = parser.parseDouble(39, 44);
         double theta = parser.parseDouble(45, 50);
         Integer n = parser.parseInt(51, 53);
@@ -190,23 +206,81 @@ public class UcteReader {
         return null;
     }
 
-    private void parseRegulation(UcteRecordParser parser, UcteNetwork network) {
+    private static UcteRegulation parseRegulation(UcteRecordParser parser) {
         UcteElementId transfoId = parseElementId(parser);
         UctePhaseRegulation phaseRegulation = parsePhaseRegulation(parser);
         UcteAngleRegulation angleRegulation = parseAngleRegulation(parser);
-        UcteRegulation regulation = new UcteRegulation(transfoId, phaseRegulation, angleRegulation);
-        network.addRegulation(regulation);
+        return new UcteRegulation(transfoId, phaseRegulation, angleRegulation);
     }
 
     private void readRegulationBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
         LOGGER.trace("Reading regulation block");
+        if (readRecords(parser, UcteReader::parseRegulation, network::addRegulation)) {
+            parseRecords(parser, network, reportNode);
+        }
+    }
+
+    /**
+     * Parse the records following the current line, up to the next record type line or the end of the file, and give
+     * them to the consumer in the order of the file.
+     *
+     * @return true if the parser stopped on a record type line, false if the end of the file has been reached
+     */
+    private <T> boolean readRecords(UcteRecordParser parser, Function<UcteRecordParser, T> recordParser,
+                                    Consumer<T> recordConsumer) throws IOException {
+        if (parallel && parser.isBuffered()) {
+            return readRecordsInParallel(parser, recordParser, recordConsumer);
+        }
         while (parser.nextLine()) {
             if (parser.scanRecordType() != null) {
-                parseRecords(parser, network, reportNode);
-            } else {
-                parseRegulation(parser, network);
+                return true;
             }
+            recordConsumer.accept(recordParser.apply(parser));
         }
+        return false;
+    }
+
+    private static <T> boolean readRecordsInParallel(UcteRecordParser parser, Function<UcteRecordParser, T> recordParser,
+                                                     Consumer<T> recordConsumer) throws IOException {
+        // first find the position of the records in the buffer
+        int[] starts = new int[RECORDS_PER_TASK];
+        int[] ends = new int[RECORDS_PER_TASK];
+        int count = 0;
+        boolean recordTypeFound = false;
+        while (parser.nextLine()) {
+            if (parser.scanRecordType() != null) {
+                recordTypeFound = true;
+                break;
+            }
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count * 2);
+                ends = Arrays.copyOf(ends, count * 2);
+            }
+            starts[count] = parser.getLineStart();
+            ends[count] = parser.getLineEnd();
+            count++;
+        }
+
+        // then parse them by chunks, each with its own parser
+        int[] recordStarts = starts;
+        int[] recordEnds = ends;
+        int recordCount = count;
+        int taskCount = (recordCount + RECORDS_PER_TASK - 1) / RECORDS_PER_TASK;
+        IntStream.range(0, taskCount)
+                .parallel()
+                .mapToObj(task -> {
+                    UcteRecordParser taskParser = parser.copy();
+                    int end = Math.min(recordCount, (task + 1) * RECORDS_PER_TASK);
+                    List<T> records = new ArrayList<>(end - task * RECORDS_PER_TASK);
+                    for (int i = task * RECORDS_PER_TASK; i < end; i++) {
+                        taskParser.setLine(recordStarts[i], recordEnds[i]);
+                        records.add(recordParser.apply(taskParser));
+                    }
+                    return records;
+                })
+                .toList()
+                .forEach(records -> records.forEach(recordConsumer));
+        return recordTypeFound;
     }
 
     private void readTtBlock(UcteRecordParser parser, UcteNetwork network, ReportNode reportNode) throws IOException {
@@ -268,10 +342,37 @@ public class UcteReader {
     }
 
     public UcteNetwork read(BufferedReader reader, ReportNode reportNode) throws IOException {
+        return read(new UcteRecordParser(reader), reportNode);
+    }
+
+    /**
+     * Read a UCTE network from the bytes of the buffer, from its position to its limit. ASCII lines, which are the
+     * vast majority of the lines of a UCTE file, are parsed without being decoded.
+     *
+     * @param buffer the content of a UCTE file
+     * @param charset the charset of the file, used to decode lines containing non ASCII characters
+     */
+    public UcteNetwork read(ByteBuffer buffer, Charset charset, ReportNode reportNode) throws IOException {
+        return read(new UcteRecordParser(buffer, charset), reportNode);
+    }
+
+    /**
+     * Read a UCTE network from a file, which is mapped in memory if it is on the default file system.
+     */
+    public UcteNetwork read(Path file, Charset charset, ReportNode reportNode) throws IOException {
+        if (file.getFileSystem() != FileSystems.getDefault()) {
+            return read(ByteBuffer.wrap(Files.readAllBytes(file)), charset, reportNode);
+        }
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            return read(buffer, charset, reportNode);
+        }
+    }
+
+    private UcteNetwork read(UcteRecordParser parser, ReportNode reportNode) throws IOException {
         ReportNode readReportNode = UcteReports.readUcteNetworkFile(reportNode);
         long start = System.currentTimeMillis();
         UcteNetwork network = new UcteNetworkImpl();
-        UcteRecordParser parser = new UcteRecordParser(reader);
         parseRecords(parser, network, readReportNode);
         LOGGER.debug("UCTE file read in {} ms", System.currentTimeMillis() - start);
 
@@ -9,41 +9,215 @@ package com.powsybl.ucte.network.io;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.EnumSet;
+import java.util.Objects;
 import java.util.Set;
 
 /**
+ * Parser of the fixed-width fields of the current line of a UCTE file.
+ *
+ * <p>Lines are either read from a {@link BufferedReader}, or directly from a {@link ByteBuffer}. In the latter case,
+ * lines only made of ASCII characters are not decoded: fields are read from the buffer and numbers are parsed without
+ * creating any string. Other lines are decoded with the charset of the file, so that fields are at the same character
+ * positions as with a reader.
  *
  * @author Geoffroy Jamgotchian {@literal <geoffroy.jamgotchian at rte-france.com>}
  */
 class UcteRecordParser {
 
+    private static final double[] POWERS_OF_TEN = {
+        1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19,
+        1e20, 1e21, 1e22
+    };
+
+    /**
+     * Maximum number of significant digits of a decimal number parsed without {@link Double#parseDouble(String)}: the
+     * mantissa is then lower than 2^53 and exactly represented by a double.
+     */
+    private static final int MAX_SIGNIFICANT_DIGITS = 15;
+
+    private static final int MAX_INT_DIGITS = 9;
+
+    /**
+     * An ASCII line of the buffer, seen as a sequence of characters without being copied.
+     */
+    private final class BufferLine implements CharSequence {
+
+        private int start;
+
+        private int length;
+
+        @Override
+        public int length() {
+            return length;
+        }
+
+        @Override
+        public char charAt(int index) {
+            return (char) buffer.get(start + index);
+        }
+
+        @Override
+        public CharSequence subSequence(int beginIndex, int endIndex) {
+            return substring(beginIndex, endIndex);
+        }
+
+        private String substring(int beginIndex, int endIndex) {
+            byte[] bytes = new byte[endIndex - beginIndex];
+            buffer.get(start + beginIndex, bytes);
+            return new String(bytes, StandardCharsets.ISO_8859_1);
+        }
+
+        @Override
+        public String toString() {
+            return substring(0, length);
+        }
+    }
+
     private final BufferedReader reader;
 
-    private String line;
+    private final ByteBuffer buffer;
+
+    private final Charset charset;
+
+    private final BufferLine bufferLine;
+
+    private int position;
+
+    private CharSequence line;
+
+    private int lineStart;
+
+    private int lineEnd;
 
     private final Set<UcteRecordType> parsedRecordTypes = EnumSet.noneOf(UcteRecordType.class);
 
     UcteRecordParser(BufferedReader reader) throws IOException {
-        this.reader = reader;
+        this.reader = Objects.requireNonNull(reader);
+        buffer = null;
+        charset = null;
+        bufferLine = null;
         nextLine();
     }
 
+    /**
+     * Create a parser reading the lines of the buffer, from its current position to its limit. The buffer is only
+     * accessed with absolute methods, so that it can be shared by several parsers.
+     */
+    UcteRecordParser(ByteBuffer buffer, Charset charset) {
+        this(buffer, charset, buffer.position());
+        nextBufferLine();
+    }
+
+    private UcteRecordParser(ByteBuffer buffer, Charset charset, int position) {
+        reader = null;
+        this.buffer = Objects.requireNonNull(buffer);
+        this.charset = Objects.requireNonNull(charset);
+        bufferLine = new BufferLine();
+        this.position = position;
+    }
+
+    boolean isBuffered() {
+        return buffer != null;
+    }
+
+    /**
+     * Create a parser of the same buffer, to parse lines identified by their position in another thread.
+     */
+    UcteRecordParser copy() {
+        if (buffer == null) {
+            throw new IllegalStateException("Only a parser of a buffer can be copied");
+        }
+        return new UcteRecordParser(buffer, charset, position);
+    }
+
     String getLine() {
-        return line;
+        return line == null ? null : line.toString();
+    }
+
+    /**
+     * Start position in the buffer of the current line.
+     */
+    int getLineStart() {
+        return lineStart;
+    }
+
+    /**
+     * End position in the buffer of the current line, excluding its terminator.
+     */
+    int getLineEnd() {
+        return lineEnd;
     }
 
     boolean nextLine() throws IOException {
+        if (buffer != null) {
+            return nextBufferLine();
+        }
+        String str;
         do {
-            line = reader.readLine();
-        } while (line != null && line.trim().isEmpty()); // skip empty lines
+            str = reader.readLine();
+        } while (str != null && str.trim().isEmpty()); // skip empty lines
+        line = str;
         return line != null;
     }
 
+    private boolean nextBufferLine() {
+        int limit = buffer.limit();
+        while (position < limit) {
+            int start = position;
+            int end = start;
+            boolean blank = true;
+            byte b = 0;
+            while (end < limit && (b = buffer.get(end)) != '\n' && b != '\r') {
+                // non ASCII bytes are negative, and not blank
+                blank &= b >= 0 && b <= ' ';
+                end++;
+            }
+            // line terminators are the ones of BufferedReader.readLine
+            position = end;
+            if (position < limit) {
+                position++;
+                if (b == '\r' && position < limit && buffer.get(position) == '\n') {
+                    position++;
+                }
+            }
+            if (!blank) { // skip empty lines
+                setLine(start, end);
+                return true;
+            }
+        }
+        line = null;
+        return false;
+    }
+
+    /**
+     * Set the current line from its position in the buffer. Its end is the position of its terminator.
+     */
+    void setLine(int start, int end) {
+        lineStart = start;
+        lineEnd = end;
+        boolean ascii = true;
+        for (int i = start; i < end && ascii; i++) {
+            ascii = buffer.get(i) >= 0;
+        }
+        if (ascii) {
+            bufferLine.start = start;
+            bufferLine.length = end - start;
+            line = bufferLine;
+        } else {
+            byte[] bytes = new byte[end - start];
+            buffer.get(start, bytes);
+            line = new String(bytes, charset);
+        }
+    }
+
     UcteRecordType scanRecordType() {
-        if (line != null && line.startsWith("##") && line.length() >= 3) {
+        if (line != null && line.length() >= 3 && line.charAt(0) == '#' && line.charAt(1) == '#') {
             for (UcteRecordType recordType : UcteRecordType.values()) {
-                if (line.startsWith("##" + recordType)) {
+                if (startsWith(recordType.name())) {
                     parsedRecordTypes.add(recordType);
                     return recordType;
                 }
@@ -52,6 +226,18 @@ class UcteRecordParser {
         return null;
     }
 
+    private boolean startsWith(String recordType) {
+        if (line.length() < recordType.length() + 2) {
+            return false;
+        }
+        for (int i = 0; i < recordType.length(); i++) {
+            if (line.charAt(i + 2) != recordType.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
     Set<UcteRecordType> getParsedRecordTypes() {
         return parsedRecordTypes;
     }
@@ -69,27 +255,123 @@ class UcteRecordParser {
         if (lastIndex < beginIndex) {
             return null;
         }
-        String untrimmed = line.substring(beginIndex, lastIndex);
-        return trim ? untrimmed.trim() : untrimmed;
+        int begin = beginIndex;
+        int end = lastIndex;
+        if (trim) {
+            while (begin < end && line.charAt(begin) <= ' ') {
+                begin++;
+            }
+            while (end > begin && line.charAt(end - 1) <= ' ') {
+                end--;
+            }
+        }
+        return line == bufferLine ? bufferLine.substring(begin, end) : line.subSequence(begin, end).toString();
     }
 
     Character parseChar(int index) {
         return line == null || index >= line.length() ? null : line.charAt(index);
     }
 
+    /**
+     * Index of the first non blank character of the field, or -1 if the field is blank or out of the line.
+     */
+    private int firstNonBlank(int beginIndex, int lastIndex) {
+        for (int i = beginIndex; i < lastIndex; i++) {
+            if (line.charAt(i) > ' ') {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private int lastNonBlank(int firstIndex, int lastIndex) {
+        int end = lastIndex;
+        while (end > firstIndex && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        return end;
+    }
+
     Integer parseInt(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? null : Integer.valueOf(str);
+        if (line == null) {
+            return null;
+        }
+        int lastIndex = Math.min(endIndex, line.length());
+        int begin = firstNonBlank(beginIndex, lastIndex);
+        if (begin < 0) {
+            return null;
+        }
+        int end = lastNonBlank(begin, lastIndex);
+        boolean negative = line.charAt(begin) == '-';
+        int i = negative || line.charAt(begin) == '+' ? begin + 1 : begin;
+        if (i == end || end - i > MAX_INT_DIGITS) {
+            return Integer.valueOf(parseString(beginIndex, endIndex));
+        }
+        int value = 0;
+        for (; i < end; i++) {
+            char c = line.charAt(i);
+            if (c < '0' || c > '9') {
+                // let Integer.valueOf report the error
+                return Integer.valueOf(parseString(beginIndex, endIndex));
+            }
+            value = value * 10 + (c - '0');
+        }
+        return negative ? -value : value;
     }
 
     Integer parseInt(int index) {
         Character c = parseChar(index);
-        return c == null || c == ' ' ? null : Integer.valueOf(Character.toString(c));
+        if (c == null || c == ' ') {
+            return null;
+        }
+        return c >= '0' && c <= '9' ? c - '0' : Integer.valueOf(Character.toString(c));
     }
 
+    /**
+     * Parse a decimal number. Numbers made of at most 15 significant digits, with at most 22 decimals, are computed
+     * as an exact long divided by an exact power of ten, which is correctly rounded as by
+     * {@link Double#parseDouble(String)}. Other numbers, like the ones in scientific notation, are parsed by
+     * {@link Double#parseDouble(String)}.
+     */
     double parseDouble(int beginIndex, int endIndex) {
-        String str = parseString(beginIndex, endIndex);
-        return str == null || str.trim().isEmpty() ? Double.NaN : Double.valueOf(str);
+        if (line == null) {
+            return Double.NaN;
+        }
+        int lastIndex = Math.min(endIndex, line.length());
+        int begin = firstNonBlank(beginIndex, lastIndex);
+        if (begin < 0) {
+            return Double.NaN;
+        }
+        int end = lastNonBlank(begin, lastIndex);
+        boolean negative = line.charAt(begin) == '-';
+        int i = negative || line.charAt(begin) == '+' ? begin + 1 : begin;
+        long mantissa = 0;
+        int significantDigits = 0;
+        int decimals = 0;
+        boolean digit = false;
+        boolean point = false;
+        for (; i < end; i++) {
+            char c = line.charAt(i);
+            if (c >= '0' && c <= '9') {
+                digit = true;
+                if (mantissa != 0 || c != '0') {
+                    significantDigits++;
+                }
+                mantissa = mantissa * 10 + (c - '0');
+                if (point) {
+                    decimals++;
+                }
+            } else if (c == '.' && !point) {
+                point = true;
+            } else {
+                break;
+            }
+        }
+        if (i < end || !digit || significantDigits > MAX_SIGNIFICANT_DIGITS || decimals >= POWERS_OF_TEN.length) {
+            return Double.parseDouble(line.subSequence(begin, end).toString());
+        }
+        double value = mantissa / POWERS_OF_TEN[decimals];
+        return negative ? -value : value;
     }
 
     <E extends Enum<E>> E parseEnumOrdinal(int index, Class<E> clazz) {
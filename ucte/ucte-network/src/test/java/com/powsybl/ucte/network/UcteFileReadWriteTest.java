@@ -14,9 +14,13 @@ import com.powsybl.ucte.network.io.UcteWriter;
 import org.junit.jupiter.api.Test;
 
 import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
 /**
  * @author Christian Biasuzzi {@literal <christian.biasuzzi@techrain.it>}
  * @author Mathieu Bague {@literal <mathieu.bague at rte-france.com>}
@@ -54,4 +58,38 @@ class UcteFileReadWriteTest extends AbstractSerDeTest {
         roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::read, REFERENCE);
     }
 
+    private static UcteNetwork readMapped(Path file) {
+        try {
+            return new UcteReader().read(file, StandardCharsets.UTF_8, ReportNode.NO_OP);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toString(UcteNetwork network) throws IOException {
+        StringWriter writer = new StringWriter();
+        try (BufferedWriter bw = new BufferedWriter(writer)) {
+            new UcteWriter(network).write(bw);
+        }
+        return writer.toString();
+    }
+
+    @Test
+    void roundTripMappedFileTest() throws IOException {
+        roundTripTest(create(), UcteFileReadWriteTest::write, UcteFileReadWriteTest::readMapped, REFERENCE);
+    }
+
+    @Test
+    void readBufferTest() throws IOException {
+        String expected = toString(create());
+        byte[] bytes;
+        try (InputStream is = UcteFileReadWriteTest.class.getResourceAsStream(REFERENCE)) {
+            bytes = is.readAllBytes();
+        }
+        for (boolean parallel : new boolean[] {false, true}) {
+            UcteNetwork network = new UcteReader(parallel).read(ByteBuffer.wrap(bytes), StandardCharsets.UTF_8, ReportNode.NO_OP);
+            assertEquals(expected, toString(network));
+        }
+    }
+
 }
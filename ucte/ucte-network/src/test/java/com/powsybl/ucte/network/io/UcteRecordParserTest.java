@@ -0,0 +1,128 @@
+/*
+ * Copyright (c) 2026, RTE (http://www.rte-france.com)
+ * This Source Code Form is subject to the terms of the Mozilla Public
+ * License, v. 2.0. If a copy of the MPL was not distributed with this
+ * file, You can obtain one at http://mozilla.org/MPL/2.0/.
+ * SPDX-License-Identifier: MPL-2.0
+ */
+package com.powsybl.ucte.network.io;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * @author agent {@literal <agent at local>}
+ */
+class UcteRecordParserTest {
+
+    private static UcteRecordParser bufferParser(String content, Charset charset) {
+        return new UcteRecordParser(ByteBuffer.wrap(content.getBytes(charset)), charset);
+    }
+
+    private static UcteRecordParser readerParser(String content) throws IOException {
+        return new UcteRecordParser(new BufferedReader(new StringReader(content)));
+    }
+
+    @Test
+    void testLines() throws IOException {
+        String content = "##C 2007.05.01\r\n\r\n   \nline 1\rline 2\r\n\n##N\nlast";
+        UcteRecordParser reader = readerParser(content);
+        UcteRecordParser buffer = bufferParser(content, StandardCharsets.UTF_8);
+        assertTrue(buffer.isBuffered());
+        assertFalse(reader.isBuffered());
+        do {
+            assertEquals(reader.getLine(), buffer.getLine());
+            assertEquals(reader.scanRecordType(), buffer.scanRecordType());
+            assertEquals(reader.nextLine(), buffer.nextLine());
+        } while (reader.getLine() != null);
+        assertNull(buffer.getLine());
+        assertEquals(reader.getParsedRecordTypes(), buffer.getParsedRecordTypes());
+        assertThrows(IllegalStateException.class, reader::copy);
+    }
+
+    @Test
+    void testFields() {
+        UcteRecordParser parser = bufferParser("FFNGEN71 FNGEN__   12 -3 +7 x 1.5e3  -0.0", StandardCharsets.UTF_8);
+        assertEquals("FFNGEN71", parser.parseString(0, 8));
+        assertEquals(" FNGEN__", parser.parseString(8, 16, false));
+        assertEquals(12, parser.parseInt(16, 21));
+        assertEquals(-3, parser.parseInt(21, 24));
+        assertEquals(7, parser.parseInt(24, 27));
+        assertEquals(1, parser.parseInt(7));
+        assertNull(parser.parseInt(8));
+        assertNull(parser.parseInt(100));
+        assertNull(parser.parseInt(8, 9));
+        assertNull(parser.parseString(100, 108));
+        assertThrows(NumberFormatException.class, () -> parser.parseInt(27, 29));
+        assertThrows(NumberFormatException.class, () -> parser.parseInt(28));
+        assertEquals(1500, parser.parseDouble(29, 36), 0);
+        assertEquals(Double.doubleToLongBits(-0.0), Double.doubleToLongBits(parser.parseDouble(36, 50)));
+        assertTrue(Double.isNaN(parser.parseDouble(8, 9)));
+        assertTrue(Double.isNaN(parser.parseDouble(100, 108)));
+        assertThrows(NumberFormatException.class, () -> parser.parseDouble(0, 8));
+    }
+
+    @Test
+    void testSameDoubles() throws IOException {
+        Random random = new Random(42);
+        StringBuilder content = new StringBuilder();
+        int count = 100_000;
+        String[] values = new String[count];
+        for (int i = 0; i < count; i++) {
+            double value = (random.nextBoolean() ? 1 : -1) * Math.pow(10, random.nextDouble() * 12 - 6);
+            values[i] = switch (i % 4) {
+                case 0 -> String.format(Locale.US, "%.4f", value);
+                case 1 -> String.format(Locale.US, "%.8g", value);
+                case 2 -> Double.toString(value);
+                default -> String.format(Locale.US, "%.20f", value);
+            };
+            content.append(' ').append(values[i]).append('\n');
+        }
+        UcteRecordParser parser = bufferParser(content.toString(), StandardCharsets.UTF_8);
+        for (String value : values) {
+            assertEquals(Double.parseDouble(value), parser.parseDouble(0, 40), () -> "value " + value);
+            parser.nextLine();
+        }
+    }
+
+    @Test
+    void testNonAsciiLine() throws IOException {
+        // decoded line, so that fields are at the same positions as with a reader
+        UcteRecordParser parser = bufferParser("XÉÈ12345 éé 42 1.25\nFFNGEN71", StandardCharsets.UTF_8);
+        assertEquals("XÉÈ12345", parser.parseString(0, 8));
+        assertEquals("éé", parser.parseString(8, 12));
+        assertEquals(42, parser.parseInt(12, 14));
+        assertEquals(1.25, parser.parseDouble(14, 19), 0);
+        parser.nextLine();
+        assertEquals("FFNGEN71", parser.getLine());
+
+        parser = bufferParser("XÉÈ12345", StandardCharsets.ISO_8859_1);
+        assertEquals("XÉÈ12345", parser.getLine());
+    }
+
+    @Test
+    void testCopy() throws IOException {
+        UcteRecordParser parser = bufferParser("##N\nFFNGEN71 1.5\nFFNHV111 2.5\n", StandardCharsets.UTF_8);
+        parser.nextLine();
+        int start = parser.getLineStart();
+        int end = parser.getLineEnd();
+        assertEquals("FFNGEN71 1.5", parser.getLine());
+        parser.nextLine();
+
+        UcteRecordParser copy = parser.copy();
+        copy.setLine(start, end);
+        assertEquals("FFNGEN71", copy.parseString(0, 8));
+        assertEquals(1.5, copy.parseDouble(8, 12), 0);
+        assertEquals("FFNHV111 2.5", parser.getLine());
+    }
+}